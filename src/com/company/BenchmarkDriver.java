@@ -0,0 +1,1265 @@
+package com.company;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: BenchmarkDriver
+    Purpose: The purpose of BenchmarkDriver is to be a starting point for measuring the performance of the application.
+    The first argument selects the benchmark to run and the remaining arguments configure it. Each benchmark warms up
+    the code being measured before timing it and prints its results to standard output.
+    - Variables:
+    - Functions:
+    1. main(args: String[]): void
+    2. parseBenchmark(iterations: int): void
+    3. distinctBenchmark(rows: int, budget: long): void
+    4. contentionBenchmark(writers: int, transactions: int): void
+    5. lockBenchmark(threads: int, operations: int): void
+    6. lockThroughput(threads: int, operations: int, hot: boolean): long
+    7. sessionBenchmark(maxSessions: int, statements: int): void
+    8. serverBenchmark(clients: int, requests: int): void
+    9. serverLoad(port: int, clients: int, requests: int, depth: int, latencies: ArrayList<Long>): double
+    10. silence(): PrintStream
+    11. optimisticBenchmark(threads: int, transactions: int): void
+    12. isolationRun(isolation: String, threads: int, transactions: int, seats: int): void
+    13. commitBenchmark(maxCommitters: int, commits: int): void
+    14. commitRun(committers: int, commits: int): void
+    15. renderBenchmark(rows: int): void
+    16. copyBenchmark(rows: int): void
+    17. scanBenchmark(rows: int): void
+    18. exportBenchmark(rows: int): void
+    19. partitionBenchmark(rows: int, partitions: int): void
+    20. shardBenchmark(maxShards: int, rows: int): void
+    21. replicaBenchmark(maxReplicas: int, rows: int): void
+    22. memoryBenchmark(rows: int): void
+*/
+public class BenchmarkDriver {
+
+  private static final String[] statements = {
+      "select * from Flights;",
+      "SELECT name, price FROM Product WHERE pid != 2;",
+      "insert into Product values(3, 'SingleTouch, large', 149.99);",
+      "update Flights set status = 1 where seat = 22;",
+      "delete from Product where price > 150;",
+      "select * from Employee E left outer join Sales S on E.id = S.employeeID;"
+  };
+
+  /*
+  Function: main
+  Purpose: The purpose of main() is to run the benchmark named by the first argument. The parse benchmark takes an
+  optional number of iterations, the distinct benchmark takes an optional number of rows and memory budget and the
+  contention and locks benchmarks take an optional number of threads and transactions per thread and the sessions
+  benchmark takes an optional largest number of sessions and total number of statements. The server benchmark takes
+  an optional number of clients and requests per client and the optimistic benchmark an optional number of threads and
+  transactions per thread. The commit benchmark takes an optional largest number of committers and total number of
+  commits. The render, copy, scan and export benchmarks take an optional number of rows. The partition benchmark takes
+  an optional number of rows and partitions and the shards benchmark an optional largest number of shards and rows.
+  The replicas benchmark takes an optional largest number of replicas and rows and the memory benchmark an optional
+  number of rows.
+  - Parameters:
+  1. args: String[]
+  - Return Type: void
+   */
+  public static void main(String[] args) throws Exception {
+    String benchmark = args.length > 0 ? args[0] : "parse";
+    switch (benchmark) {
+      case "parse": {
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200000;
+        parseBenchmark(iterations);
+        break;
+      }
+      case "distinct": {
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        long budget = args.length > 2 ? Long.parseLong(args[2]) : 64 * 1024;
+        distinctBenchmark(rows, budget);
+        break;
+      }
+      case "contention": {
+        int writers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int transactions = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        contentionBenchmark(writers, transactions);
+        break;
+      }
+      case "locks": {
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int operations = args.length > 2 ? Integer.parseInt(args[2]) : 200000;
+        lockBenchmark(threads, operations);
+        break;
+      }
+      case "sessions": {
+        int maxSessions = args.length > 1 ? Integer.parseInt(args[1]) : 1024;
+        int statements = args.length > 2 ? Integer.parseInt(args[2]) : 20000;
+        sessionBenchmark(maxSessions, statements);
+        break;
+      }
+      case "server": {
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        serverBenchmark(clients, requests);
+        break;
+      }
+      case "optimistic": {
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int transactions = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        optimisticBenchmark(threads, transactions);
+        break;
+      }
+      case "commit": {
+        int maxCommitters = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int commits = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        commitBenchmark(maxCommitters, commits);
+        break;
+      }
+      case "render": {
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 200000;
+        renderBenchmark(rows);
+        break;
+      }
+      case "copy": {
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+        copyBenchmark(rows);
+        break;
+      }
+      case "scan": {
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+        scanBenchmark(rows);
+        break;
+      }
+      case "export": {
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+        exportBenchmark(rows);
+        break;
+      }
+      case "partition": {
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+        int partitions = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        partitionBenchmark(rows, partitions);
+        break;
+      }
+      case "shards": {
+        int maxShards = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int rows = args.length > 2 ? Integer.parseInt(args[2]) : 200000;
+        shardBenchmark(maxShards, rows);
+        break;
+      }
+      case "replicas": {
+        int maxReplicas = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int rows = args.length > 2 ? Integer.parseInt(args[2]) : 10000;
+        replicaBenchmark(maxReplicas, rows);
+        break;
+      }
+      case "memory": {
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 200000;
+        memoryBenchmark(rows);
+        break;
+      }
+      default: {
+        System.out.println("!Unknown benchmark " + benchmark + ".");
+      }
+    }
+  }
+
+  /*
+  Function: parseBenchmark
+  Purpose: The purpose of parseBenchmark() is to measure the throughput of the Lexer and Parser and to compare the
+  cost of parsing with the cost of executing a short statement. Parsing is measured on a mix of statements bypassing
+  the statement cache. Execution is measured on a point update of a two row table through the Database System, with
+  parsing bypassed through a prepared command, so the share of parsing in the latency of a short statement can be
+  reported.
+  - Parameters:
+  1. iterations: int
+  - Return Type: void
+   */
+  private static void parseBenchmark(int iterations) throws Exception {
+    long checksum = 0;
+    for (int warmup = 0; warmup < iterations; warmup++) {
+      checksum += Parser.parse(statements[warmup % statements.length]).kind.ordinal();
+    }
+    long start = System.nanoTime();
+    for (int iteration = 0; iteration < iterations; iteration++) {
+      checksum += Parser.parse(statements[iteration % statements.length]).kind.ordinal();
+    }
+    long parse_nanoseconds = System.nanoTime() - start;
+    double parse_average = (double) parse_nanoseconds / iterations;
+
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_parse;");
+    database.execute("USE benchmark_parse;");
+    database.execute("DROP TABLE Flights;");
+    database.execute("CREATE TABLE Flights (seat int, status int);");
+    database.execute("insert into Flights values (22, 0);");
+    database.execute("insert into Flights values (23, 1);");
+    PreparedCommand update = database.prepare("update Flights set status = ? where seat = ?;");
+    int executions = Math.max(1, iterations / 100);
+    for (int execution = 0; execution < executions; execution++) {
+      update.setValue(1, String.valueOf(execution % 2));
+      update.setValue(2, "22");
+      update.execute();
+    }
+    start = System.nanoTime();
+    for (int execution = 0; execution < executions; execution++) {
+      update.setValue(1, String.valueOf(execution % 2));
+      update.setValue(2, "22");
+      update.execute();
+    }
+    long execute_nanoseconds = System.nanoTime() - start;
+    System.setOut(standardOutput);
+    double execute_average = (double) execute_nanoseconds / executions;
+
+    System.out.println("Parsed " + iterations + " statements in " + parse_nanoseconds / 1000000 + " ms.");
+    System.out.printf("Parse throughput: %.0f statements/sec (%.0f ns/statement).%n",
+        1e9 / parse_average, parse_average);
+    System.out.printf("Execute latency of a short update: %.0f ns/statement.%n", execute_average);
+    System.out.printf("Parsing share of short statement latency: %.2f%%.%n",
+        100.0 * parse_average / (parse_average + execute_average));
+    System.out.println("Checksum " + checksum + ".");
+  }
+
+  /*
+  Function: distinctBenchmark
+  Purpose: The purpose of distinctBenchmark() is to compare SELECT DISTINCT when every key fits in memory with SELECT
+  DISTINCT forced to spill by a small memory budget. A table where every value appears twice is deduplicated both
+  ways and the number of rows produced by each run is checked to be the same.
+  - Parameters:
+  1. rows: int
+  2. budget: long
+  - Return Type: void
+   */
+  private static void distinctBenchmark(int rows, long budget) throws Exception {
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_distinct;");
+    database.execute("USE benchmark_distinct;");
+    database.execute("DROP TABLE Readings;");
+    database.execute("CREATE TABLE Readings (sensor int, reading varchar(20));");
+    PreparedCommand insert = database.prepare("insert into Readings values (?, ?);");
+    for (int row = 0; row < rows; row++) {
+      insert.setValue(1, String.valueOf(row % (rows / 2)));
+      insert.setValue(2, "'reading " + row % (rows / 2) + "'");
+      insert.execute();
+    }
+    System.setOut(standardOutput);
+
+    long defaultBudget = Planner.distinctMemoryBudget;
+    long[] counts = new long[2];
+    long[] nanoseconds = new long[2];
+    for (int run = 0; run < 2; run++) {
+      Planner.distinctMemoryBudget = run == 0 ? defaultBudget : budget;
+      DatabaseAbstraction databaseAbstraction = new DatabaseAbstraction();
+      databaseAbstraction.setCurrentDatabase("benchmark_distinct");
+      PlanNode plan = new Planner(databaseAbstraction, new String[0])
+          .plan((SyntaxTree.Select) Parser.parse("select distinct * from Readings;"));
+      long start = System.nanoTime();
+      plan.open();
+      while (plan.next() != null) {
+        counts[run]++;
+      }
+      plan.close();
+      nanoseconds[run] = System.nanoTime() - start;
+    }
+    Planner.distinctMemoryBudget = defaultBudget;
+
+    System.out.println("Deduplicated " + rows + " rows into " + counts[0] + " distinct rows.");
+    System.out.printf("In memory: %.3f ms.%n", nanoseconds[0] / 1e6);
+    System.out.printf("Spilling with a budget of %d bytes: %.3f ms (%d distinct rows).%n", budget,
+        nanoseconds[1] / 1e6, counts[1]);
+    System.out.println(counts[0] == counts[1] ? "Results match." : "!Results differ.");
+  }
+
+  /*
+  Function: contentionBenchmark
+  Purpose: The purpose of contentionBenchmark() is to measure transactions booking seats under write contention. Each
+  writer runs its own Database Abstraction layer, as a separate process would, and repeatedly books a random seat of a
+  small table within a transaction while a reader repeatedly reads the whole table within a transaction. The abort
+  rate of the writers and the latency percentiles of the reader are reported.
+  - Parameters:
+  1. writers: int
+  2. transactions: int
+  - Return Type: void
+   */
+  private static void contentionBenchmark(int writers, int transactions) throws Exception {
+    int seats = 50;
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_contention;");
+    database.execute("USE benchmark_contention;");
+    database.execute("DROP TABLE Flights;");
+    database.execute("CREATE TABLE Flights (seat int, status int);");
+    for (int seat = 0; seat < seats; seat++) {
+      database.execute("insert into Flights values (" + seat + ", 0);");
+    }
+    System.setOut(standardOutput);
+
+    AtomicLong commits = new AtomicLong();
+    AtomicLong aborts = new AtomicLong();
+    AtomicBoolean writing = new AtomicBoolean(true);
+    ArrayList<Long> readLatencies = new ArrayList<>();
+    Thread reader = new Thread(() -> {
+      DatabaseAbstraction session = new DatabaseAbstraction();
+      session.setCurrentDatabase("benchmark_contention");
+      try {
+        while (writing.get()) {
+          long start = System.nanoTime();
+          session.beginTransaction();
+          try (BufferedReader rows = session.openTable("Flights")) {
+            while (rows.readLine() != null) {
+            }
+          }
+          session.commitTransaction();
+          readLatencies.add(System.nanoTime() - start);
+        }
+      } catch (Exception exception) {
+        exception.printStackTrace();
+      }
+    });
+    ArrayList<Thread> threads = new ArrayList<>();
+    for (int writer = 0; writer < writers; writer++) {
+      int seed = writer;
+      threads.add(new Thread(() -> {
+        DatabaseAbstraction session = new DatabaseAbstraction();
+        session.setCurrentDatabase("benchmark_contention");
+        Random random = new Random(seed);
+        for (int transaction = 0; transaction < transactions; transaction++) {
+          session.beginTransaction();
+          session.updateTable_equality("Flights", "seat", String.valueOf(random.nextInt(seats)), "status",
+              String.valueOf(seed + 1));
+          if (session.commitTransaction()) {
+            commits.incrementAndGet();
+          } else {
+            aborts.incrementAndGet();
+          }
+        }
+      }));
+    }
+    long start = System.nanoTime();
+    reader.start();
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    writing.set(false);
+    reader.join();
+    long nanoseconds = System.nanoTime() - start;
+
+    Collections.sort(readLatencies);
+    long total = commits.get() + aborts.get();
+    System.out.println(writers + " writers ran " + total + " transactions over " + seats + " seats in "
+        + nanoseconds / 1000000 + " ms.");
+    System.out.printf("Committed %d, aborted %d (abort rate %.2f%%).%n", commits.get(), aborts.get(),
+        100.0 * aborts.get() / Math.max(1, total));
+    if (!readLatencies.isEmpty()) {
+      System.out.printf("Snapshot reads: %d, p50 %.3f ms, p99 %.3f ms.%n", readLatencies.size(),
+          readLatencies.get(readLatencies.size() / 2) / 1e6,
+          readLatencies.get(readLatencies.size() * 99 / 100) / 1e6);
+    }
+  }
+
+  /*
+  Function: optimisticBenchmark
+  Purpose: The purpose of optimisticBenchmark() is to compare transactions locking the rows they change with
+  optimistic transactions validated when they commit. Each thread runs its own Database Abstraction layer and books
+  two random seats per transaction, retrying a transaction until it commits, over a large table where transactions
+  rarely touch the same seats and over a small table where they often do.
+  - Parameters:
+  1. threads: int
+  2. transactions: int
+  - Return Type: void
+   */
+  private static void optimisticBenchmark(int threads, int transactions) throws Exception {
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_optimistic;");
+    System.setOut(standardOutput);
+    isolationRun("snapshot", threads, transactions / 4, 200);
+    isolationRun("optimistic", threads, transactions / 4, 200);
+    for (int seats : new int[]{200, 8}) {
+      for (String isolation : new String[]{"snapshot", "optimistic"}) {
+        isolationRun(isolation, threads, transactions, seats);
+      }
+    }
+  }
+
+  /*
+  Function: isolationRun
+  Purpose: The purpose of isolationRun() is to run the seat booking transactions of optimisticBenchmark() under one
+  isolation setting over a table of the given number of seats. The throughput and the number of commits, aborts and
+  retries counted by the version store while running are printed.
+  - Parameters:
+  1. isolation: String
+  2. threads: int
+  3. transactions: int
+  4. seats: int
+  - Return Type: void
+   */
+  private static void isolationRun(String isolation, int threads, int transactions, int seats) throws Exception {
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("USE benchmark_optimistic;");
+    database.execute("DROP TABLE Flights;");
+    database.execute("CREATE TABLE Flights (seat int, status int);");
+    for (int seat = 0; seat < seats; seat++) {
+      database.execute("insert into Flights values (" + seat + ", 0);");
+    }
+    System.setOut(standardOutput);
+
+    long commits = VersionStore.commitCount.get();
+    long aborts = VersionStore.abortCount.get();
+    long retries = VersionStore.retryCount.get();
+    ArrayList<Thread> workers = new ArrayList<>();
+    for (int worker = 0; worker < threads; worker++) {
+      int seed = worker;
+      workers.add(new Thread(() -> {
+        DatabaseAbstraction session = new DatabaseAbstraction();
+        session.setCurrentDatabase("benchmark_optimistic");
+        session.setOption("isolation", isolation);
+        session.setOption("lock_timeout", "50");
+        Random random = new Random(seed);
+        for (int transaction = 0; transaction < transactions; transaction++) {
+          String first = String.valueOf(random.nextInt(seats));
+          String second = String.valueOf(random.nextInt(seats));
+          do {
+            session.beginTransaction();
+            session.updateTable_equality("Flights", "seat", first, "status", String.valueOf(seed + 1));
+            session.updateTable_equality("Flights", "seat", second, "status", String.valueOf(seed + 1));
+          } while (!session.commitTransaction());
+        }
+      }));
+    }
+    long start = System.nanoTime();
+    for (Thread thread : workers) {
+      thread.start();
+    }
+    for (Thread thread : workers) {
+      thread.join();
+    }
+    long nanoseconds = System.nanoTime() - start;
+    System.out.printf("%s, %d threads over %d seats: %.0f transactions/s, %d commits, %d aborts, %d retries.%n",
+        isolation, threads, seats, 1e9 * threads * transactions / nanoseconds,
+        VersionStore.commitCount.get() - commits, VersionStore.abortCount.get() - aborts,
+        VersionStore.retryCount.get() - retries);
+  }
+
+  /*
+  Function: commitBenchmark
+  Purpose: The purpose of commitBenchmark() is to measure durable commits under concurrency. Committers each running
+  their own Database Abstraction layer insert rows into the same table, every insert being its own commit, with the
+  number of committers doubling from 1 up to the given largest number. Each run then repeats with the largest number
+  of committers and a delay for the group commit to gather larger batches.
+  - Parameters:
+  1. maxCommitters: int
+  2. commits: int
+  - Return Type: void
+   */
+  private static void commitBenchmark(int maxCommitters, int commits) throws Exception {
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_commit;");
+    database.execute("USE benchmark_commit;");
+    database.execute("DROP TABLE Events;");
+    database.execute("CREATE TABLE Events (id int, committer int);");
+    System.setOut(standardOutput);
+    commitRun(1, commits / 10);
+    for (int committers = 1; committers <= maxCommitters; committers *= 2) {
+      commitRun(committers, commits);
+    }
+    long defaultDelay = GroupCommit.maxDelay;
+    GroupCommit.maxDelay = 200;
+    commitRun(maxCommitters, commits);
+    GroupCommit.maxDelay = defaultDelay;
+  }
+
+  /*
+  Function: commitRun
+  Purpose: The purpose of commitRun() is to run the inserts of commitBenchmark() with a number of committers. The
+  throughput, the number of commits per force and the commit latency percentiles recorded by the group commit are
+  printed.
+  - Parameters:
+  1. committers: int
+  2. commits: int
+  - Return Type: void
+   */
+  private static void commitRun(int committers, int commits) throws Exception {
+    GroupCommit groupCommit = GroupCommit.of("databases/benchmark_commit/");
+    groupCommit.reset();
+    ArrayList<Thread> threads = new ArrayList<>();
+    for (int committer = 0; committer < committers; committer++) {
+      int id = committer;
+      threads.add(new Thread(() -> {
+        DatabaseAbstraction session = new DatabaseAbstraction();
+        session.setCurrentDatabase("benchmark_commit");
+        for (int commit = id; commit < commits; commit += committers) {
+          session.appendRow("Events", new String[]{String.valueOf(commit), String.valueOf(id)});
+        }
+      }));
+    }
+    long start = System.nanoTime();
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    long nanoseconds = System.nanoTime() - start;
+    long[] latencies = groupCommit.latencies();
+    System.out.printf("%d committers, delay %d us: %.0f commits/s, %.1f commits/force, p50 %.3f ms, p99 %.3f ms.%n",
+        committers, GroupCommit.maxDelay, 1e9 * commits / nanoseconds,
+        (double) groupCommit.getCommits() / Math.max(1, groupCommit.getBatches()),
+        latencies[latencies.length / 2] / 1e6, latencies[latencies.length * 99 / 100] / 1e6);
+  }
+
+  /*
+  Function: lockBenchmark
+  Purpose: The purpose of lockBenchmark() is to measure the Lock Manager. Each thread repeatedly locks a table in IX
+  mode and a row of the table in X mode and releases both, as a transaction updating a row does. The throughput is
+  measured with every thread locking its own rows and with every thread locking the same hot row. Two transactions
+  then lock two rows in opposite order to show the deadlock being detected rather than waited out.
+  - Parameters:
+  1. threads: int
+  2. operations: int
+  - Return Type: void
+   */
+  private static void lockBenchmark(int threads, int operations) throws Exception {
+    lockThroughput(threads, operations / 10, false);
+    lockThroughput(threads, operations / 10, true);
+    long disjoint = lockThroughput(threads, operations, false);
+    long hot = lockThroughput(threads, operations, true);
+    System.out.printf("%d threads, disjoint rows: %.0f locks/s.%n", threads, 1e9 * threads * operations / disjoint);
+    System.out.printf("%d threads, one hot row: %.0f locks/s.%n", threads, 1e9 * threads * operations / hot);
+
+    LockManager locks = new LockManager(64);
+    Object first = new Object();
+    Object second = new Object();
+    locks.lock(first, "Flights\u001F1", LockManager.Mode.X, 1000);
+    locks.lock(second, "Flights\u001F2", LockManager.Mode.X, 1000);
+    Thread waiting = new Thread(() -> {
+      try {
+        locks.lock(first, "Flights\u001F2", LockManager.Mode.X, 10000);
+      } catch (Exception exception) {
+        System.out.println(exception.getMessage());
+      }
+    });
+    waiting.start();
+    Thread.sleep(100);
+    long start = System.nanoTime();
+    try {
+      locks.lock(second, "Flights\u001F1", LockManager.Mode.X, 10000);
+    } catch (Exception exception) {
+      System.out.printf("Deadlock reported after %.3f ms: %s%n", (System.nanoTime() - start) / 1e6,
+          exception.getMessage());
+    }
+    locks.releaseAll(second);
+    waiting.join();
+    locks.releaseAll(first);
+  }
+
+  private static long lockThroughput(int threads, int operations, boolean hot) throws Exception {
+    LockManager locks = new LockManager(64);
+    ArrayList<Thread> workers = new ArrayList<>();
+    for (int thread = 0; thread < threads; thread++) {
+      String row = "Flights\u001F" + (hot ? "hot" : "row" + thread);
+      workers.add(new Thread(() -> {
+        try {
+          for (int operation = 0; operation < operations; operation++) {
+            Object owner = new Object();
+            locks.lock(owner, "Flights", LockManager.Mode.IX, 10000);
+            locks.lock(owner, row, LockManager.Mode.X, 10000);
+            locks.releaseAll(owner);
+          }
+        } catch (Exception exception) {
+          exception.printStackTrace();
+        }
+      }));
+    }
+    long start = System.nanoTime();
+    for (Thread worker : workers) {
+      worker.start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    return System.nanoTime() - start;
+  }
+
+  /*
+  Function: sessionBenchmark
+  Purpose: The purpose of sessionBenchmark() is to measure how the throughput of an Engine scales with the number of
+  sessions sharing it. For each number of sessions, doubling from one up to the largest number, the same total number
+  of point queries is split between the sessions and each session runs its share on a virtual thread of its own, after
+  a warm up run of the same queries. The throughput of each run is reported along with its speedup over a single
+  session.
+  - Parameters:
+  1. maxSessions: int
+  2. statements: int
+  - Return Type: void
+   */
+  private static void sessionBenchmark(int maxSessions, int statements) throws Exception {
+    int seats = 50;
+    DatabaseSystem database = new Engine().openSession(silence());
+    database.execute("CREATE DATABASE benchmark_sessions;");
+    database.execute("USE benchmark_sessions;");
+    database.execute("DROP TABLE Flights;");
+    database.execute("CREATE TABLE Flights (seat int, status int);");
+    for (int seat = 0; seat < seats; seat++) {
+      database.execute("insert into Flights values (" + seat + ", 0);");
+    }
+    for (int statement = 0; statement < statements; statement++) {
+      database.execute("select * from Flights where seat = " + statement % seats + ";");
+    }
+
+    double single = 0;
+    for (int sessions = 1; sessions <= maxSessions; sessions *= 2) {
+      try (Engine engine = new Engine()) {
+        int share = Math.max(1, statements / sessions);
+        ArrayList<Future<Integer>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int session = 0; session < sessions; session++) {
+          int seed = session;
+          results.add(engine.submit(() -> {
+            DatabaseSystem connection = engine.openSession(silence());
+            connection.execute("USE benchmark_sessions;");
+            for (int statement = 0; statement < share; statement++) {
+              connection.execute("select * from Flights where seat = " + (seed + statement) % seats + ";");
+            }
+            return share;
+          }));
+        }
+        long total = 0;
+        for (Future<Integer> result : results) {
+          total += result.get();
+        }
+        double throughput = total / ((System.nanoTime() - start) / 1e9);
+        if (sessions == 1) {
+          single = throughput;
+        }
+        System.out.printf("%5d sessions: %8.0f statements/s (%.2fx).%n", sessions, throughput,
+            throughput / single);
+      }
+    }
+  }
+
+  /*
+  Function: serverBenchmark
+  Purpose: The purpose of serverBenchmark() is to load test the Server over the loopback interface. A server is started
+  within this process on a free port and the clients each connect and run point queries, first waiting for every
+  response before sending the next query and then pipelining up to 16 queries ahead of their responses. The
+  throughput and the latency percentiles of the queries are reported for each pipeline depth, after a warm up run.
+  - Parameters:
+  1. clients: int
+  2. requests: int
+  - Return Type: void
+   */
+  private static void serverBenchmark(int clients, int requests) throws Exception {
+    try (Engine engine = new Engine(); Server server = new Server(engine, 0)) {
+      server.start();
+      try (Client client = new Client(server.getPort())) {
+        client.send("CREATE DATABASE benchmark_server;");
+        client.send("USE benchmark_server;");
+        client.send("DROP TABLE Flights;");
+        client.send("CREATE TABLE Flights (seat int, status int);");
+        for (int seat = 0; seat < 50; seat++) {
+          client.send("insert into Flights values (" + seat + ", 0);");
+        }
+        while (client.getPending() > 0) {
+          client.receive();
+        }
+      }
+      serverLoad(server.getPort(), clients, requests / 4, 16, new ArrayList<>());
+      for (int depth : new int[]{1, 16}) {
+        ArrayList<Long> latencies = new ArrayList<>();
+        double throughput = serverLoad(server.getPort(), clients, requests, depth, latencies);
+        Collections.sort(latencies);
+        System.out.printf("%d clients, pipeline depth %2d: %8.0f requests/s, p50 %.3f ms, p99 %.3f ms.%n", clients,
+            depth, throughput, latencies.get(latencies.size() / 2) / 1e6,
+            latencies.get(latencies.size() * 99 / 100) / 1e6);
+      }
+    }
+  }
+
+  private static double serverLoad(int port, int clients, int requests, int depth, ArrayList<Long> latencies)
+      throws Exception {
+    ArrayList<Thread> threads = new ArrayList<>();
+    for (int client = 0; client < clients; client++) {
+      int seed = client;
+      threads.add(Thread.ofVirtual().unstarted(() -> {
+        long[] sent = new long[requests];
+        long[] measured = new long[requests];
+        try (Client connection = new Client(port)) {
+          connection.execute("USE benchmark_server;");
+          int received = 0;
+          for (int request = 0; request < requests; request++) {
+            sent[request] = System.nanoTime();
+            connection.send("select * from Flights where seat = " + (seed + request) % 50 + ";");
+            if (connection.getPending() >= depth) {
+              connection.receive(OutputStream.nullOutputStream());
+              measured[received] = System.nanoTime() - sent[received];
+              received++;
+            }
+          }
+          while (connection.getPending() > 0) {
+            connection.receive(OutputStream.nullOutputStream());
+            measured[received] = System.nanoTime() - sent[received];
+            received++;
+          }
+        } catch (Exception exception) {
+          exception.printStackTrace();
+        }
+        synchronized (latencies) {
+          for (long latency : measured) {
+            latencies.add(latency);
+          }
+        }
+      }));
+    }
+    long start = System.nanoTime();
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    return (double) clients * requests / ((System.nanoTime() - start) / 1e9);
+  }
+
+  /*
+  Function: renderBenchmark
+  Purpose: The purpose of renderBenchmark() is to measure how fast query results are written. Rows of four columns are
+  printed to a file once with a print call per value, as rows were printed before result sinks, and once with each
+  format of ResultSink. The file is written through a print stream buffered as standard output is.
+  - Parameters:
+  1. rows: int
+  - Return Type: void
+   */
+  private static void renderBenchmark(int rows) throws Exception {
+    String[] heading = {"seat int", "price float", "name varchar(20)", "status int"};
+    String[][] table = new String[rows][];
+    Random random = new Random(42);
+    for (int row = 0; row < rows; row++) {
+      table[row] = new String[]{String.valueOf(row), String.valueOf(random.nextInt(100000) / 100.0),
+          "Passenger " + random.nextInt(1000), String.valueOf(random.nextInt(2))};
+    }
+    File file = File.createTempFile("render", ".out");
+    file.deleteOnExit();
+    ArrayList<String> formats = new ArrayList<>();
+    formats.add("print");
+    Collections.addAll(formats, ResultSink.formats);
+    for (int round = 0; round < 3; round++) {
+      for (String format : formats) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(file), 8192));
+        long start = System.nanoTime();
+        if (format.equals("print")) {
+          for (int row = -1; row < rows; row++) {
+            String[] values = row < 0 ? heading : table[row];
+            for (int column = 0; column < values.length; column++) {
+              out.print(values[column]);
+              if (column < values.length - 1) {
+                out.print("|");
+              }
+            }
+            out.println();
+          }
+          out.flush();
+        } else {
+          ResultSink sink = ResultSink.of(format, out);
+          sink.heading(heading);
+          for (String[] row : table) {
+            sink.row(row);
+          }
+          sink.finish();
+        }
+        long nanoseconds = System.nanoTime() - start;
+        out.close();
+        if (round == 2) {
+          System.out.printf("%s: %.0f rows/s, %.1f MB/s.%n", format, 1e9 * rows / nanoseconds,
+              file.length() / (nanoseconds / 1e3));
+        }
+      }
+    }
+  }
+
+  /*
+  Function: copyBenchmark
+  Purpose: The purpose of copyBenchmark() is to measure loading a table in bulk. A CSV file of the given number of
+  rows is loaded with COPY three times, the last two being timed, and a hundredth of the rows are inserted with one
+  INSERT statement each for comparison.
+  - Parameters:
+  1. rows: int
+  - Return Type: void
+   */
+  private static void copyBenchmark(int rows) throws Exception {
+    File file = File.createTempFile("copy", ".csv");
+    file.deleteOnExit();
+    Random random = new Random(42);
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+      for (int row = 0; row < rows; row++) {
+        writer.write(row + "," + random.nextInt(100000) / 100.0 + ",\"Passenger " + random.nextInt(1000) + "\"\n");
+      }
+    }
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_copy;");
+    database.execute("USE benchmark_copy;");
+    database.execute("DROP TABLE Passengers;");
+    database.execute("CREATE TABLE Passengers (seat int, price float, name varchar(20));");
+    long[] nanoseconds = new long[3];
+    for (int round = 0; round < nanoseconds.length; round++) {
+      long start = System.nanoTime();
+      database.execute("COPY Passengers FROM '" + file.getPath() + "';");
+      nanoseconds[round] = System.nanoTime() - start;
+    }
+    long start = System.nanoTime();
+    for (int row = 0; row < rows / 100; row++) {
+      database.execute("INSERT INTO Passengers VALUES (" + row + ", 1.5, 'Passenger');");
+    }
+    long insertNanoseconds = System.nanoTime() - start;
+    database.execute("DROP TABLE Passengers;");
+    database.execute("DROP DATABASE benchmark_copy;");
+    System.setOut(standardOutput);
+    System.out.printf("COPY: %.0f rows/s, INSERT: %.0f rows/s.%n", 2e9 * rows / (nanoseconds[1] + nanoseconds[2]),
+        1e9 * (rows / 100) / insertNanoseconds);
+  }
+
+  /*
+  Function: scanBenchmark
+  Purpose: The purpose of scanBenchmark() is to measure sequential scans at several prefetch depths. A table of the
+  given number of rows is loaded with COPY and scanned by a query returning no rows, so the time is spent reading and
+  decoding the table, three times at each depth with the last two being timed.
+  - Parameters:
+  1. rows: int
+  - Return Type: void
+   */
+  private static void scanBenchmark(int rows) throws Exception {
+    File file = File.createTempFile("scan", ".csv");
+    file.deleteOnExit();
+    Random random = new Random(42);
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+      for (int row = 0; row < rows; row++) {
+        writer.write(row + "," + random.nextInt(100000) / 100.0 + ",\"Passenger " + random.nextInt(1000) + "\"\n");
+      }
+    }
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_scan;");
+    database.execute("USE benchmark_scan;");
+    database.execute("DROP TABLE Passengers;");
+    database.execute("CREATE TABLE Passengers (seat int, price float, name varchar(20));");
+    database.execute("COPY Passengers FROM '" + file.getPath() + "';");
+    StringBuilder results = new StringBuilder();
+    for (int depth : new int[]{0, 1, 4, 16}) {
+      database.execute("SET prefetch_depth = " + depth + ";");
+      long[] nanoseconds = new long[3];
+      for (int round = 0; round < nanoseconds.length; round++) {
+        long start = System.nanoTime();
+        database.execute("SELECT seat FROM Passengers WHERE seat < 0;");
+        nanoseconds[round] = System.nanoTime() - start;
+      }
+      results.append(String.format("depth %d: %.0f rows/s.%n", depth, 2e9 * rows / (nanoseconds[1] + nanoseconds[2])));
+    }
+    database.execute("DROP TABLE Passengers;");
+    database.execute("DROP DATABASE benchmark_scan;");
+    System.setOut(standardOutput);
+    System.out.print(results);
+  }
+
+  /*
+  Function: exportBenchmark
+  Purpose: The purpose of exportBenchmark() is to measure exporting a table of the given number of rows loaded with
+  COPY. The table is exported in the native format, which transfers the file, and as CSV, which encodes every row,
+  and is selected in full with its rows discarded for comparison. Each is run three times with the last two timed.
+  - Parameters:
+  1. rows: int
+  - Return Type: void
+   */
+  private static void exportBenchmark(int rows) throws Exception {
+    File source = File.createTempFile("export", ".csv");
+    File target = File.createTempFile("export", ".out");
+    source.deleteOnExit();
+    target.deleteOnExit();
+    Random random = new Random(42);
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(source))) {
+      for (int row = 0; row < rows; row++) {
+        writer.write(row + "," + random.nextInt(100000) / 100.0 + ",\"Passenger " + random.nextInt(1000) + "\"\n");
+      }
+    }
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_export;");
+    database.execute("USE benchmark_export;");
+    database.execute("DROP TABLE Passengers;");
+    database.execute("CREATE TABLE Passengers (seat int, price float, name varchar(20));");
+    database.execute("COPY Passengers FROM '" + source.getPath() + "';");
+    String[] exports = {
+        "EXPORT TABLE Passengers TO '" + target.getPath() + "';",
+        "EXPORT TABLE Passengers TO '" + target.getPath() + "' FORMAT csv;",
+        "SELECT * FROM Passengers;"
+    };
+    String[] names = {"EXPORT native", "EXPORT csv", "SELECT *"};
+    StringBuilder results = new StringBuilder();
+    for (int statement = 0; statement < exports.length; statement++) {
+      long[] nanoseconds = new long[3];
+      for (int round = 0; round < nanoseconds.length; round++) {
+        long start = System.nanoTime();
+        database.execute(exports[statement]);
+        nanoseconds[round] = System.nanoTime() - start;
+      }
+      results.append(String.format("%s: %.0f rows/s.%n", names[statement],
+          2e9 * rows / (nanoseconds[1] + nanoseconds[2])));
+    }
+    database.execute("DROP TABLE Passengers;");
+    database.execute("DROP DATABASE benchmark_export;");
+    System.setOut(standardOutput);
+    System.out.print(results);
+  }
+
+  /*
+  Function: partitionBenchmark
+  Purpose: The purpose of partitionBenchmark() is to measure queries on the most recent rows of a time series table
+  of the given number of rows, loaded with COPY both as a single table and as a table partitioned by RANGE on its
+  time column into the given number of partitions. A SELECT of the last percent of the rows and a DELETE of a single
+  recent row are timed on each table, running three times with the last two timed.
+  - Parameters:
+  1. rows: int
+  2. partitions: int
+  - Return Type: void
+   */
+  private static void partitionBenchmark(int rows, int partitions) throws Exception {
+    File source = File.createTempFile("partition", ".csv");
+    source.deleteOnExit();
+    Random random = new Random(42);
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(source))) {
+      for (int row = 0; row < rows; row++) {
+        writer.write(row + "," + random.nextInt(100000) / 100.0 + "\n");
+      }
+    }
+    StringBuilder bounds = new StringBuilder();
+    for (int partition = 1; partition < partitions; partition++) {
+      bounds.append(partition == 1 ? "" : ", ").append((long) rows * partition / partitions);
+    }
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_partition;");
+    database.execute("USE benchmark_partition;");
+    database.execute("DROP TABLE Plain;");
+    database.execute("DROP TABLE Ranged;");
+    database.execute("CREATE TABLE Plain (ts int, reading float);");
+    database.execute("CREATE TABLE Ranged (ts int, reading float) PARTITION BY RANGE(ts) PARTITIONS " + partitions
+        + (partitions > 1 ? " VALUES (" + bounds + ");" : ";"));
+    database.execute("COPY Plain FROM '" + source.getPath() + "';");
+    database.execute("COPY Ranged FROM '" + source.getPath() + "';");
+    StringBuilder results = new StringBuilder();
+    for (String table : new String[]{"Plain", "Ranged"}) {
+      String[] queries = {
+          "SELECT * FROM " + table + " WHERE ts >= " + (rows - rows / 100) + ";",
+          "DELETE FROM " + table + " WHERE ts = " + (rows - 1) + ";"
+      };
+      String[] names = {"recent SELECT", "recent DELETE"};
+      for (int query = 0; query < queries.length; query++) {
+        long[] nanoseconds = new long[3];
+        for (int round = 0; round < nanoseconds.length; round++) {
+          long start = System.nanoTime();
+          database.execute(queries[query]);
+          nanoseconds[round] = System.nanoTime() - start;
+        }
+        results.append(String.format("%s %s: %.3f ms.%n", table, names[query],
+            (nanoseconds[1] + nanoseconds[2]) / 2e6));
+      }
+    }
+    database.execute("DROP TABLE Plain;");
+    database.execute("DROP TABLE Ranged;");
+    database.execute("DROP DATABASE benchmark_partition;");
+    System.setOut(standardOutput);
+    System.out.print(results);
+  }
+
+  /*
+  Function: shardBenchmark
+  Purpose: The purpose of shardBenchmark() is to measure how a table spread over a Cluster of shards scales with the
+  number of shards, doubling from one shard up to the given number. A table of the given number of rows is loaded
+  with COPY through a Coordinator, then a filtered SELECT sent to every shard is timed three times with the last two
+  averaged, and four sessions, each its own Coordinator, run point UPDATEs sent to a single shard concurrently.
+  - Parameters:
+  1. maxShards: int
+  2. rows: int
+  - Return Type: void
+   */
+  private static void shardBenchmark(int maxShards, int rows) throws Exception {
+    File source = File.createTempFile("shards", ".csv");
+    source.deleteOnExit();
+    Random random = new Random(42);
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(source))) {
+      for (int row = 0; row < rows; row++) {
+        writer.write(row + "," + random.nextInt(100000) / 100.0 + "\n");
+      }
+    }
+    int sessions = 4;
+    int updates = 10;
+    for (int shards = 1; shards <= maxShards; shards *= 2) {
+      try (Coordinator.Cluster cluster = Coordinator.Cluster.start(shards, "databases/benchmark_shards" + shards);
+           Coordinator coordinator = new Coordinator(cluster, silence())) {
+        coordinator.execute("CREATE DATABASE benchmark_shards;");
+        coordinator.execute("USE benchmark_shards;");
+        coordinator.execute("DROP TABLE Readings;");
+        coordinator.execute("CREATE TABLE Readings (id int, reading float);");
+        long start = System.nanoTime();
+        coordinator.execute("COPY Readings FROM '" + source.getPath() + "';");
+        double copy = (System.nanoTime() - start) / 1e6;
+        long[] nanoseconds = new long[3];
+        for (int round = 0; round < nanoseconds.length; round++) {
+          start = System.nanoTime();
+          coordinator.execute("SELECT * FROM Readings WHERE reading > 990;");
+          nanoseconds[round] = System.nanoTime() - start;
+        }
+        ArrayList<Thread> threads = new ArrayList<>();
+        for (int session = 0; session < sessions; session++) {
+          int seed = session;
+          threads.add(Thread.ofVirtual().unstarted(() -> {
+            Random keys = new Random(seed);
+            try (Coordinator client = new Coordinator(cluster, silence())) {
+              client.execute("USE benchmark_shards;");
+              for (int update = 0; update < updates; update++) {
+                client.execute("UPDATE Readings SET reading = 1.0 WHERE id = " + keys.nextInt(rows) + ";");
+              }
+            } catch (Exception exception) {
+              exception.printStackTrace();
+            }
+          }));
+        }
+        start = System.nanoTime();
+        for (Thread thread : threads) {
+          thread.start();
+        }
+        for (Thread thread : threads) {
+          thread.join();
+        }
+        double throughput = sessions * updates / ((System.nanoTime() - start) / 1e9);
+        coordinator.execute("DROP TABLE Readings;");
+        System.out.printf("%d shards: COPY %.0f ms, scatter SELECT %.3f ms, point UPDATE %.1f statements/s.%n",
+            shards, copy, (nanoseconds[1] + nanoseconds[2]) / 2e6, throughput);
+      }
+    }
+  }
+
+  /*
+  Function: replicaBenchmark
+  Purpose: The purpose of replicaBenchmark() is to measure how the read throughput of a primary grows with read-only
+  replicas, adding one replica at a time up to the given number. The primary and every replica are served from this
+  process, each replica following the primary through its own directory. For every number of replicas, four sessions
+  connected through a Routing Client run point SELECTs on a table of the given number of rows while a writer updates
+  another table on the primary, and the highest replication lag seen while the sessions run is reported.
+  - Parameters:
+  1. maxReplicas: int
+  2. rows: int
+  - Return Type: void
+   */
+  private static void replicaBenchmark(int maxReplicas, int rows) throws Exception {
+    Engine primary = new Engine("databases/benchmark_primary/");
+    Server primaryServer = new Server(primary, 0);
+    primaryServer.start();
+    try (Client client = new Client(primaryServer.getPort())) {
+      client.execute("CREATE DATABASE benchmark_replicas;");
+      client.execute("USE benchmark_replicas;");
+      client.execute("DROP TABLE Readings;");
+      client.execute("DROP TABLE Counter;");
+      client.execute("CREATE TABLE Readings (id int, reading float);");
+      client.execute("CREATE TABLE Counter (id int, value int);");
+      client.execute("INSERT INTO Counter VALUES (1, 0);");
+      StringBuilder insert = new StringBuilder("INSERT INTO Readings VALUES ");
+      for (int row = 0; row < rows; row++) {
+        insert.append(row == 0 ? "" : ", ").append("(").append(row).append(", ").append(row % 1000 / 10.0).append(")");
+      }
+      client.execute(insert.append(";").toString());
+    }
+    int sessions = 4;
+    int queries = 200;
+    ArrayList<Replica> replicas = new ArrayList<>();
+    ArrayList<Server> replicaServers = new ArrayList<>();
+    for (int replicaCount = 0; replicaCount <= maxReplicas; replicaCount++) {
+      if (replicaCount > 0) {
+        Engine engine = new Engine("databases/benchmark_replica" + replicaCount + "/");
+        Replica replica = new Replica(primary.databasesDirectory, engine.databasesDirectory);
+        replica.start();
+        engine.replica = replica;
+        Server server = new Server(engine, 0);
+        server.start();
+        replicas.add(replica);
+        replicaServers.add(server);
+      }
+      int[] ports = new int[replicaCount];
+      for (int replica = 0; replica < replicaCount; replica++) {
+        ports[replica] = replicaServers.get(replica).getPort();
+      }
+      AtomicBoolean running = new AtomicBoolean(true);
+      AtomicLong maxLag = new AtomicLong();
+      Thread writer = Thread.ofVirtual().start(() -> {
+        try (Client client = new Client(primaryServer.getPort())) {
+          client.execute("USE benchmark_replicas;");
+          for (int value = 1; running.get(); value++) {
+            client.execute("UPDATE Counter SET value = " + value + " WHERE id = 1;");
+            for (Replica replica : replicas) {
+              maxLag.accumulateAndGet(replica.lag(), Math::max);
+            }
+          }
+        } catch (Exception exception) {
+          exception.printStackTrace();
+        }
+      });
+      ArrayList<Thread> threads = new ArrayList<>();
+      for (int session = 0; session < sessions; session++) {
+        int seed = session;
+        threads.add(Thread.ofVirtual().unstarted(() -> {
+          Random keys = new Random(seed);
+          try (RoutingClient client = new RoutingClient(primaryServer.getPort(), ports)) {
+            client.execute("USE benchmark_replicas;");
+            for (int query = 0; query < queries; query++) {
+              client.execute("SELECT * FROM Readings WHERE id = " + keys.nextInt(rows) + ";");
+            }
+          } catch (Exception exception) {
+            exception.printStackTrace();
+          }
+        }));
+      }
+      long start = System.nanoTime();
+      for (Thread thread : threads) {
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      double throughput = sessions * queries / ((System.nanoTime() - start) / 1e9);
+      running.set(false);
+      writer.join();
+      System.out.printf("%d replicas: point SELECT %.1f statements/s, highest replication lag %d ms.%n",
+          replicaCount, throughput, maxLag.get());
+    }
+    for (int replica = 0; replica < replicas.size(); replica++) {
+      replicaServers.get(replica).close();
+      replicas.get(replica).close();
+    }
+    primaryServer.close();
+  }
+
+  /*
+  Function: memoryBenchmark
+  Purpose: The purpose of memoryBenchmark() is to compare a table file with a memory table holding the same rows. The
+  rows are loaded with COPY into each table in turn and the heap and direct memory kept once the load is finished are
+  measured after a garbage collection. A filtered SELECT and a point UPDATE are then timed three times on each table
+  with the last two averaged, and the garbage collections run while the statements ran are counted.
+  - Parameters:
+  1. rows: int
+  - Return Type: void
+   */
+  private static void memoryBenchmark(int rows) throws Exception {
+    File source = File.createTempFile("memory", ".csv");
+    source.deleteOnExit();
+    Random random = new Random(42);
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(source))) {
+      for (int row = 0; row < rows; row++) {
+        writer.write(row + "," + random.nextInt(100000) / 100.0 + ",sensor" + row % 100 + "\n");
+      }
+    }
+    PrintStream standardOutput = System.out;
+    System.setOut(silence());
+    DatabaseSystem database = new DatabaseSystem();
+    database.execute("CREATE DATABASE benchmark_memory;");
+    database.execute("USE benchmark_memory;");
+    database.execute("DROP TABLE Plain;");
+    database.execute("DROP TABLE Memory;");
+    database.execute("CREATE TABLE Plain (id int, reading float, name varchar(16));");
+    database.execute("CREATE TABLE Memory (id int, reading float, name varchar(16)) ENGINE = MEMORY;");
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    BufferPoolMXBean direct = null;
+    for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+      if (pool.getName().equals("direct")) {
+        direct = pool;
+      }
+    }
+    StringBuilder results = new StringBuilder();
+    for (String table : new String[]{"Plain", "Memory"}) {
+      System.gc();
+      long heap = memory.getHeapMemoryUsage().getUsed();
+      long offHeap = direct == null ? 0 : direct.getMemoryUsed();
+      database.execute("COPY " + table + " FROM '" + source.getPath() + "';");
+      System.gc();
+      results.append(String.format("%s: %.1f MB heap and %.1f MB direct memory kept after COPY.%n", table,
+          (memory.getHeapMemoryUsage().getUsed() - heap) / 1e6,
+          ((direct == null ? 0 : direct.getMemoryUsed()) - offHeap) / 1e6));
+      String[] queries = {
+          "SELECT * FROM " + table + " WHERE reading > 990;",
+          "UPDATE " + table + " SET reading = 1.0 WHERE id = " + rows / 2 + ";"
+      };
+      String[] names = {"filtered SELECT", "point UPDATE"};
+      for (int query = 0; query < queries.length; query++) {
+        long collections = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+          collections -= collector.getCollectionCount();
+        }
+        long[] nanoseconds = new long[3];
+        for (int round = 0; round < nanoseconds.length; round++) {
+          long start = System.nanoTime();
+          database.execute(queries[query]);
+          nanoseconds[round] = System.nanoTime() - start;
+        }
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+          collections += collector.getCollectionCount();
+        }
+        results.append(String.format("%s %s: %.3f ms, %d collections.%n", table, names[query],
+            (nanoseconds[1] + nanoseconds[2]) / 2e6, collections));
+      }
+    }
+    database.execute("DROP TABLE Plain;");
+    database.execute("DROP TABLE Memory;");
+    database.execute("DROP DATABASE benchmark_memory;");
+    System.setOut(standardOutput);
+    System.out.print(results);
+  }
+
+  /*
+  Function: silence
+  Purpose: The purpose of silence() is to create a print stream that discards everything written to it. It is used to
+  keep the messages printed by the Database System out of benchmark timings.
+  - Parameters:
+  - Return Type: PrintStream
+   */
+  static PrintStream silence() {
+    return new PrintStream(new OutputStream() {
+      @Override
+      public void write(int character) {
+      }
+
+      @Override
+      public void write(byte[] bytes, int offset, int length) {
+      }
+    });
+  }
+}
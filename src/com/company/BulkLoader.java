@@ -0,0 +1,358 @@
+package com.company;
+
+import java.io.File;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: BulkLoader
+    Purpose: The purpose of BulkLoader is to turn the records of a CSV or TSV file, or the rows of an INSERT statement,
+    into rows of a table. The schema of the table is read once when the loader is created rather than once per row.
+    The file is streamed through a channel in large blocks and split into records by a single reader, which hands
+    them on in batches of batchSize records. Each batch is split into values, checked against the schema and encoded
+    as the lines of the table file by a pool of workers, one per processor, and the encoded batches are passed on to
+    be written in the order of the file, so a table file is written a whole batch at a time. CSV files follow RFC
+    4180, where quoted values may hold commas, quotes written twice and line breaks. TSV files escape tabs, line
+    breaks and backslashes with a backslash as written by the TSV result sink. Blank records are skipped and the first
+    record is skipped when the file has a header. Since the table file cannot hold a tab or line break within a value,
+    such values are read but rejected, and a row failing the schema fails the whole load.
+    - Variables:
+    1. batchSize: int
+       Purpose: The variable batchSize is the number of records encoded and written at once.
+    2. blockSize: int
+       Purpose: The variable blockSize is the number of characters read from the file at once.
+    3. labels: String[]
+       Purpose: The variable labels stores the label of each column of the table.
+    4. types: String[]
+       Purpose: The variable types stores the type of each column being "int", "float" or "varchar".
+    5. lengths: int[]
+       Purpose: The variable lengths stores the largest length of each varchar column.
+    6. csv: boolean
+       Purpose: The variable csv is used to define if the file is CSV rather than TSV.
+    7. header: boolean
+       Purpose: The variable header is used to define if the first record of the file is a header.
+    8. workers: int
+       Purpose: The variable workers is the number of threads encoding batches.
+    - Functions:
+    1. load(source: File, writer: BatchWriter): long
+    2. readBatch(reader: Reader): ArrayList<String>
+    3. encode(records: ArrayList<String>, firstRow: long): Batch
+    4. encodeRows(values: ArrayList<String[]>, firstRow: long): Batch
+    5. split(record: String): ArrayList<String>
+    6. value(value: String, column: int, row: long): String
+*/
+public class BulkLoader {
+
+  static final int batchSize = 4096;
+  private static final int blockSize = 1 << 20;
+
+  private final String[] labels;
+  private final String[] types;
+  private final int[] lengths;
+  private final boolean csv;
+  private final boolean header;
+  private final int workers = Runtime.getRuntime().availableProcessors();
+
+  // NOTE: Reader state, only used by the thread calling load().
+  private char[] block = null;
+  private int blockLength = 0;
+  private int blockPosition = 0;
+
+  /*
+      Class: Batch
+      Purpose: The purpose of Batch is to hold a batch of encoded rows. The rows are kept both as their values and as
+      the lines appended to the table file, each line starting with a line break.
+  */
+  static class Batch {
+    final ArrayList<String[]> rows;
+    final String lines;
+
+    Batch(ArrayList<String[]> rows, String lines) {
+      this.rows = rows;
+      this.lines = lines;
+    }
+  }
+
+  interface BatchWriter {
+    void write(Batch batch) throws Exception;
+  }
+
+  BulkLoader(String[] headings, String format, boolean header) throws Exception {
+    if (!format.equals("csv") && !format.equals("tsv")) {
+      throw new Exception("USER EXCEPTION - BulkLoader: format " + format + " is not csv or tsv.");
+    }
+    this.csv = format.equals("csv");
+    this.header = header;
+    labels = new String[headings.length];
+    types = new String[headings.length];
+    lengths = new int[headings.length];
+    for (int column = 0; column < headings.length; column++) {
+      String[] heading = headings[column].trim().split(" ");
+      labels[column] = heading[0];
+      String type = heading.length > 1 ? heading[1].toLowerCase() : "";
+      if (type.equals("int") || type.equals("float")) {
+        types[column] = type;
+      } else if (type.matches("varchar\\([0-9]+\\)")) {
+        types[column] = "varchar";
+        lengths[column] = Integer.parseInt(type.substring(8, type.length() - 1));
+      } else {
+        throw new Exception("USER EXCEPTION - BulkLoader: type not recognized.");
+      }
+    }
+  }
+
+  /*
+  Function: load
+  Purpose: The purpose of load() is to read every record of the file and hand the encoded rows to the writer a batch at
+  a time in the order of the file. Up to two batches per worker are encoded ahead of the writer, which bounds the
+  memory used however large the file is. With a single processor, batches are encoded by the calling thread. The
+  number of rows loaded is returned.
+  - Parameters:
+  1. source: File
+  2. writer: BatchWriter
+  - Return Type: long
+   */
+  long load(File source, BatchWriter writer) throws Exception {
+    ExecutorService pool = workers > 1 ? Executors.newFixedThreadPool(workers) : null;
+    ArrayDeque<Future<Batch>> pending = new ArrayDeque<>();
+    long rows = 0;
+    try (FileChannel channel = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+        Reader reader = Channels.newReader(channel, StandardCharsets.UTF_8)) {
+      block = block == null ? new char[blockSize] : block;
+      blockLength = 0;
+      blockPosition = 0;
+      boolean first = true;
+      for (ArrayList<String> records = readBatch(reader); !records.isEmpty(); records = readBatch(reader)) {
+        if (first && header) {
+          records.remove(0);
+        }
+        first = false;
+        long firstRow = rows + 1;
+        rows += records.size();
+        if (pool == null) {
+          writer.write(encode(records, firstRow));
+          continue;
+        }
+        ArrayList<String> batch = records;
+        pending.add(pool.submit(() -> encode(batch, firstRow)));
+        while (pending.size() > 2 * workers) {
+          writer.write(pending.poll().get());
+        }
+      }
+      while (!pending.isEmpty()) {
+        writer.write(pending.poll().get());
+      }
+    } catch (ExecutionException exception) {
+      throw exception.getCause() instanceof Exception ? (Exception) exception.getCause() : exception;
+    } finally {
+      if (pool != null) {
+        pool.shutdownNow();
+      }
+    }
+    return rows;
+  }
+
+  /*
+  Function: readBatch
+  Purpose: The purpose of readBatch() is to read the next batch of records from the file. A record ends at a line
+  break, except within a quoted CSV value, and a carriage return before the line break is dropped. An empty list is
+  returned at the end of the file.
+  - Parameters:
+  1. reader: Reader
+  - Return Type: ArrayList<String>
+   */
+  private ArrayList<String> readBatch(Reader reader) throws Exception {
+    ArrayList<String> records = new ArrayList<>(batchSize);
+    StringBuilder record = new StringBuilder();
+    boolean quoted = false;
+    while (records.size() < batchSize) {
+      if (blockPosition == blockLength) {
+        blockLength = Math.max(0, reader.read(block, 0, block.length));
+        blockPosition = 0;
+        if (blockLength == 0) {
+          if (!record.toString().isBlank()) {
+            records.add(record.toString());
+          }
+          return records;
+        }
+      }
+      // NOTE: Copies the run of characters up to the next record end at once rather than a character at a time.
+      int start = blockPosition;
+      while (blockPosition < blockLength) {
+        char character = block[blockPosition];
+        if (character == '"' && csv) {
+          quoted = !quoted;
+        } else if (character == '\n' && !quoted) {
+          break;
+        }
+        blockPosition++;
+      }
+      record.append(block, start, blockPosition - start);
+      if (blockPosition < blockLength) {
+        blockPosition++;
+        int length = record.length();
+        if (length > 0 && record.charAt(length - 1) == '\r') {
+          record.setLength(length - 1);
+        }
+        if (record.length() > 0) {
+          records.add(record.toString());
+        }
+        record.setLength(0);
+      }
+    }
+    return records;
+  }
+
+  /*
+  Function: encode
+  Purpose: The purpose of encode() is to split a batch of records into values, check the values against the schema
+  and encode them as lines of the table file. Numbers are written as the INSERT statement writes them. Rows are
+  numbered from the first data record of the file for the errors.
+  - Parameters:
+  1. records: ArrayList<String>
+  2. firstRow: long
+  - Return Type: Batch
+   */
+  private Batch encode(ArrayList<String> records, long firstRow) throws Exception {
+    ArrayList<String[]> values = new ArrayList<>(records.size());
+    for (String record : records) {
+      values.add(split(record).toArray(new String[0]));
+    }
+    return encodeRows(values, firstRow);
+  }
+
+  /*
+  Function: encodeRows
+  Purpose: The purpose of encodeRows() is to check rows given as their values against the schema and encode them as
+  lines of the table file. It is used for the records of files as well as the rows of INSERT statements.
+  - Parameters:
+  1. values: ArrayList<String[]>
+  2. firstRow: long
+  - Return Type: Batch
+   */
+  Batch encodeRows(ArrayList<String[]> values, long firstRow) throws Exception {
+    ArrayList<String[]> rows = new ArrayList<>(values.size());
+    StringBuilder lines = new StringBuilder(values.size() * 32);
+    String separator = System.lineSeparator();
+    for (int index = 0; index < values.size(); index++) {
+      long number = firstRow + index;
+      String[] given = values.get(index);
+      if (given.length != types.length) {
+        throw new Exception("USER EXCEPTION - BulkLoader: row " + number + " has " + given.length
+            + " values but the table has " + types.length + " columns.");
+      }
+      String[] row = new String[types.length];
+      lines.append(separator);
+      for (int column = 0; column < types.length; column++) {
+        row[column] = value(given[column], column, number);
+        lines.append(row[column]).append('\t');
+      }
+      rows.add(row);
+    }
+    return new Batch(rows, lines.toString());
+  }
+
+  /*
+  Function: split
+  Purpose: The purpose of split() is to split a record into its values, removing the quotes of CSV values and the
+  escapes of TSV values.
+  - Parameters:
+  1. record: String
+  - Return Type: ArrayList<String>
+   */
+  private ArrayList<String> split(String record) throws Exception {
+    ArrayList<String> values = new ArrayList<>(types.length);
+    StringBuilder value = new StringBuilder();
+    int length = record.length();
+    if (!csv) {
+      for (int index = 0; index < length; index++) {
+        char character = record.charAt(index);
+        if (character == '\t') {
+          values.add(value.toString());
+          value.setLength(0);
+        } else if (character == '\\' && index + 1 < length) {
+          char escaped = record.charAt(++index);
+          value.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        } else {
+          value.append(character);
+        }
+      }
+      values.add(value.toString());
+      return values;
+    }
+    boolean quoted = false;
+    for (int index = 0; index < length; index++) {
+      char character = record.charAt(index);
+      if (quoted) {
+        if (character != '"') {
+          value.append(character);
+        } else if (index + 1 < length && record.charAt(index + 1) == '"') {
+          value.append('"');
+          index++;
+        } else {
+          quoted = false;
+        }
+      } else if (character == ',') {
+        values.add(value.toString());
+        value.setLength(0);
+      } else if (character == '"') {
+        quoted = true;
+      } else {
+        value.append(character);
+      }
+    }
+    values.add(value.toString());
+    return values;
+  }
+
+  /*
+  Function: value
+  Purpose: The purpose of value() is to check a value against the type of its column and return it as stored. Values
+  holding a tab or line break are rejected since they separate the values and rows of the table file.
+  - Parameters:
+  1. value: String
+  2. column: int
+  3. row: long
+  - Return Type: String
+   */
+  private String value(String value, int column, long row) throws Exception {
+    if (value == null) {
+      throw new Exception("USER EXCEPTION - BulkLoader: row " + row + " has no value for column " + labels[column]
+          + ".");
+    }
+    try {
+      switch (types[column]) {
+        case "int":
+          return Integer.toString(Integer.parseInt(value.trim()));
+        case "float":
+          return Float.toString(Float.parseFloat(value.trim()));
+        default:
+          break;
+      }
+    } catch (NumberFormatException exception) {
+      throw new Exception("USER EXCEPTION - BulkLoader: row " + row + " has \"" + value + "\" for " + types[column]
+          + " column " + labels[column] + ".");
+    }
+    if (value.length() > lengths[column]) {
+      throw new Exception("USER EXCEPTION - BulkLoader: row " + row + " does not satisfy varchar(" + lengths[column]
+          + ") of column " + labels[column] + ".");
+    }
+    if (value.indexOf('\t') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+      throw new Exception("USER EXCEPTION - BulkLoader: row " + row + " has a tab or line break in column "
+          + labels[column] + ".");
+    }
+    return value;
+  }
+}
@@ -0,0 +1,170 @@
+package com.company;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Client
+    Purpose: The purpose of Client is to connect to a Server on the loopback interface and run statements within the
+    session of the connection. Statements may be sent one at a time with execute() or pipelined by sending several
+    with send() before reading their responses, in the same order, with receive().
+    - Variables:
+    1. window: int
+       Purpose: The variable window is the number of statements the command line client sends ahead of their responses.
+    2. socket: Socket
+       Purpose: The variable socket is the connection to the server.
+    3. in: DataInputStream
+       Purpose: The variable in reads the frames sent by the server.
+    4. out: DataOutputStream
+       Purpose: The variable out buffers the frames sent to the server until a response is read.
+    5. pending: int
+       Purpose: The variable pending is the number of statements sent whose responses have not been read.
+    - Functions:
+    1. main(args: String[]): void
+    2. send(statement: String): void
+    3. receive(sink: OutputStream): void
+    4. receive(): String
+    5. execute(statement: String): String
+    6. getPending(): int
+    7. close(): void
+*/
+public class Client implements AutoCloseable {
+
+  private static final int window = 64;
+
+  private final Socket socket;
+  private final DataInputStream in;
+  private final DataOutputStream out;
+  private int pending = 0;
+
+  public Client(int port) throws IOException {
+    socket = new Socket(InetAddress.getLoopbackAddress(), port);
+    socket.setTcpNoDelay(true);
+    in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), Server.batchSize + 5));
+    out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+  }
+
+  /*
+  Function: main
+  Purpose: The purpose of main() is to run the statements of a file, or of standard input, against the server
+  listening on the port given as the first argument and print their output. Statements are read as the Test Driver
+  reads them and are pipelined up to the window ahead of their responses.
+  - Parameters:
+  1. args: String[]
+  - Return Type: void
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.out.println("!Usage: Client <port> [file]");
+      return;
+    }
+    BufferedReader reader = args.length > 1 ? new BufferedReader(new FileReader(args[1]))
+        : new BufferedReader(new InputStreamReader(System.in));
+    try (Client client = new Client(Integer.parseInt(args[0]))) {
+      StringBuilder statement = new StringBuilder();
+      for (String line; (line = reader.readLine()) != null; ) {
+        if (line.contains("--")) {
+          continue;
+        }
+        if (line.equalsIgnoreCase(".exit")) {
+          break;
+        }
+        statement.append(line);
+        if (line.contains(";")) {
+          client.send(statement.toString());
+          statement.setLength(0);
+          if (client.getPending() >= window) {
+            client.receive(System.out);
+          }
+        }
+      }
+      while (client.getPending() > 0) {
+        client.receive(System.out);
+      }
+    }
+    System.out.flush();
+  }
+
+  /*
+  Function: send
+  Purpose: The purpose of send() is to send a statement without waiting for its response. Statements are buffered
+  until a response is read so pipelined statements share packets.
+  - Parameters:
+  1. statement: String
+  - Return Type: void
+   */
+  public void send(String statement) throws IOException {
+    byte[] payload = statement.getBytes(StandardCharsets.UTF_8);
+    Server.writeFrame(out, Server.QUERY, payload, payload.length);
+    pending++;
+  }
+
+  /*
+  Function: receive
+  Purpose: The purpose of receive() is to read the response to the oldest statement sent and write its output to the
+  sink as its batches arrive, so a large result never has to be held at once. If no statement is waiting for its
+  response, an exception is thrown.
+  - Parameters:
+  1. sink: OutputStream
+  - Return Type: void
+   */
+  public void receive(OutputStream sink) throws IOException {
+    if (pending == 0) {
+      throw new IOException("USER EXCEPTION - receive: no statement is waiting for its response.");
+    }
+    out.flush();
+    while (true) {
+      byte[] frame = Server.readFrame(in);
+      if (frame[0] == Server.DONE) {
+        break;
+      }
+      sink.write(frame, 1, frame.length - 1);
+    }
+    pending--;
+  }
+
+  public String receive() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    receive(output);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  /*
+  Function: execute
+  Purpose: The purpose of execute() is to run a statement and return its output. Responses to statements pipelined
+  before it are read and discarded first.
+  - Parameters:
+  1. statement: String
+  - Return Type: String
+   */
+  public String execute(String statement) throws IOException {
+    send(statement);
+    while (pending > 1) {
+      receive(OutputStream.nullOutputStream());
+    }
+    return receive();
+  }
+
+  public int getPending() {
+    return pending;
+  }
+
+  @Override
+  public void close() throws IOException {
+    socket.close();
+  }
+}
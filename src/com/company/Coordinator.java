@@ -0,0 +1,1020 @@
+package com.company;
+
+import com.company.SyntaxTree.Backup;
+import com.company.SyntaxTree.ColumnReference;
+import com.company.SyntaxTree.Condition;
+import com.company.SyntaxTree.Copy;
+import com.company.SyntaxTree.Delete;
+import com.company.SyntaxTree.Explain;
+import com.company.SyntaxTree.Export;
+import com.company.SyntaxTree.Expression;
+import com.company.SyntaxTree.Insert;
+import com.company.SyntaxTree.Kind;
+import com.company.SyntaxTree.NamedStatement;
+import com.company.SyntaxTree.Select;
+import com.company.SyntaxTree.Setting;
+import com.company.SyntaxTree.Statement;
+import com.company.SyntaxTree.SubqueryCondition;
+import com.company.SyntaxTree.TableReference;
+import com.company.SyntaxTree.Update;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Coordinator
+    Purpose: The purpose of Coordinator is to run the statements of a session over a Cluster of engine processes, each
+    serving its own databases' directory, as if they were a single database. Every table exists on every shard and
+    each of its rows is stored on the shard given by the hash of its first column, the shard key, hashed as HASH
+    partitioning does. Statements are sent to the shards as text over a Client of each shard and the shards answer
+    SELECTs in the binary format, which the coordinator decodes and writes to its own sink. Sending a statement to
+    several shards before reading any response lets the shards run it in parallel.
+    INSERTs and COPYs send every row to its shard, and UPDATEs, DELETEs and SELECTs comparing the shard key to a
+    constant are sent to its shard alone, while the others are sent to every shard and their counts summed. A SELECT
+    over one table, or joining two tables on their shard keys, is answered by each shard on its own rows and the
+    results are appended, removing duplicates across shards for DISTINCT and UNION. Every other SELECT is gathered:
+    the tables it reads are exported by the shards, loaded into a local session of the coordinator and queried there.
+    Statements without rows, such as USE, CREATE TABLE or BEGIN, are sent to every shard. Transactions are run by every
+    shard on its own, so a COMMIT is not atomic across shards.
+    - Variables:
+    1. insertBatch: int
+       Purpose: The variable insertBatch is the number of rows sent to a shard by each INSERT.
+    2. cluster: Cluster
+       Purpose: The variable cluster is the cluster of shards the statements are run on.
+    3. out: PrintStream
+       Purpose: The variable out is the stream the messages and rows of the statements are printed to.
+    4. clients: Client[]
+       Purpose: The variable clients stores the connection to every shard.
+    5. catalog: DatabaseAbstraction
+       Purpose: The variable catalog reads the schemas of the tables from the directory of the first shard.
+    6. localEngine: Engine
+       Purpose: The variable localEngine is the engine of the coordinator, holding the tables gathered from the shards.
+    7. localOutput: ByteArrayOutputStream
+       Purpose: The variable localOutput holds the messages printed by the local session.
+    8. local: DatabaseSystem
+       Purpose: The variable local is the session of the coordinator that gathered queries are run in.
+    9. sink: ResultSink
+       Purpose: The variable sink is the sink the rows of SELECTs are written to.
+    - Functions:
+    1. execute(command: String): void
+    2. executeSelect(select: Select, text: String, target: ResultSink): boolean
+    3. executeInsert(insert: Insert, text: String): void
+    4. executeModify(table: String, column: String, where: Condition, text: String): void
+    5. executeCopy(copy: Copy, text: String): void
+    6. executeExplain(explain: Explain, text: String): void
+    7. indent(plan: String): String
+    8. route(select: Select): int[]
+    9. shardOf(table: String, where: Condition, tables: ArrayList<TableReference>): int
+    10. colocated(select: Select): boolean
+    11. resolve(reference: Expression, tables: ArrayList<TableReference>): int
+    12. gather(select: Select): boolean
+    13. request(shards: int[], statements: String[]): String[]
+    14. merge(outputs: String[]): String
+    15. tablesOf(select: Select, tables: LinkedHashSet<String>): LinkedHashSet<String>
+    16. distinct(select: Select): boolean
+    17. shardKey(table: String): String
+    18. values(row: String[]): String
+    19. local(statement: String): String
+    20. close(): void
+*/
+public class Coordinator implements AutoCloseable {
+
+  private static final int insertBatch = 1000;
+  private static final Pattern count = Pattern.compile(
+      "([0-9]+) ((?:new )?records? (?:inserted|deleted|modified|copied))\\.\\R?");
+
+  private final Cluster cluster;
+  private final PrintStream out;
+  private final Client[] clients;
+  private final DatabaseAbstraction catalog;
+  private final Engine localEngine;
+  private final ByteArrayOutputStream localOutput = new ByteArrayOutputStream();
+  private final DatabaseSystem local;
+  private ResultSink sink;
+
+  public Coordinator(Cluster cluster, PrintStream out) throws IOException {
+    this.cluster = cluster;
+    this.out = out;
+    clients = new Client[cluster.size()];
+    for (int shard = 0; shard < clients.length; shard++) {
+      clients[shard] = new Client(cluster.getPort(shard));
+    }
+    request(cluster.all(), new String[]{"SET output = binary;"});
+    catalog = new DatabaseAbstraction(cluster.directory(0));
+    new File(cluster.root + "coordinator/").mkdirs();
+    localEngine = new Engine(cluster.root + "coordinator/");
+    local = localEngine.openSession(new PrintStream(localOutput, true, StandardCharsets.UTF_8));
+    sink = ResultSink.of("pipe", out);
+  }
+
+  /*
+  Function: execute
+  Purpose: The purpose of execute() is to be the entry point for SQL statements entered by the user. The statement is
+  parsed and run on the shards it concerns. Statements that do not follow the grammar are reported and not executed,
+  as are statements with placeholders, PREPARE, EXECUTE and DEALLOCATE, which the coordinator does not support.
+  - Parameters:
+  1. command: String
+  - Return Type: void
+   */
+  public void execute(String command) {
+    Statement statement;
+    try {
+      statement = Parser.parse(command);
+    } catch (Exception exception) {
+      out.println("!Failed to parse statement because " + exception.getMessage());
+      return;
+    }
+    if (statement == null) {
+      return;
+    }
+    try {
+      if (statement.parameterCount > 0 || statement.kind == Kind.PREPARE || statement.kind == Kind.EXECUTE
+          || statement.kind == Kind.DEALLOCATE) {
+        throw new Exception("USER EXCEPTION - execute: prepared statements are not supported by the coordinator.");
+      }
+      switch (statement.kind) {
+        case SELECT:
+          executeSelect((Select) statement, command, sink);
+          return;
+        case INSERT:
+          executeInsert((Insert) statement, command);
+          return;
+        case UPDATE: {
+          Update update = (Update) statement;
+          executeModify(update.table, update.column, update.where, command);
+          return;
+        }
+        case DELETE: {
+          Delete delete = (Delete) statement;
+          executeModify(delete.table, null, delete.where, command);
+          return;
+        }
+        case COPY:
+          executeCopy((Copy) statement, command);
+          return;
+        case EXPORT: {
+          Select select = new Select();
+          select.tables.add(new TableReference(((Export) statement).table, null));
+          if (!catalog.tableExists(select.tables.get(0).table)) {
+            out.print(request(new int[]{0}, new String[]{command})[0]);
+          } else if (gather(select)) {
+            out.print(local(command));
+          }
+          return;
+        }
+        case EXPLAIN:
+          executeExplain((Explain) statement, command);
+          return;
+        case SET: {
+          Setting setting = (Setting) statement;
+          String value = setting.value.evaluate(new String[0]);
+          // NOTE: The shards always answer in the binary format, so only the sink of the coordinator changes.
+          if (setting.name.equalsIgnoreCase("output")) {
+            if (ResultSink.of(value, out) != null) {
+              sink = ResultSink.of(value, out);
+              out.println("Setting " + setting.name + " = " + value + ".");
+            } else {
+              out.println("!Failed to set " + setting.name + " because " + value + " is not a valid value.");
+            }
+            return;
+          }
+          break;
+        }
+        case BACKUP: {
+          Backup backup = (Backup) statement;
+          String directory = backup.directory.evaluate(new String[0]);
+          String[] statements = new String[clients.length];
+          for (int shard = 0; shard < clients.length; shard++) {
+            statements[shard] = "BACKUP DATABASE " + backup.database + " TO '"
+                + (directory + "/shard" + shard).replace("'", "''") + "';";
+          }
+          String merged = merge(request(cluster.all(), statements));
+          out.print(merged.startsWith("!") ? merged
+              : "Database " + backup.database + " backed up to " + directory + "." + System.lineSeparator());
+          return;
+        }
+        default:
+          break;
+      }
+      String merged = merge(request(cluster.all(), new String[]{command}));
+      out.print(merged);
+      // NOTE: The local session follows the current database so gathered tables are loaded into a database of the
+      // same name.
+      if (statement.kind == Kind.USE && merged.startsWith("Using database")) {
+        String database = ((NamedStatement) statement).name;
+        catalog.setCurrentDatabase(database);
+        local("CREATE DATABASE " + database + ";");
+        local("USE " + database + ";");
+      } else if (statement.kind == Kind.DROP_DATABASE) {
+        local(command);
+      }
+    } catch (Exception exception) {
+      out.println("!Failed to execute statement because " + exception.getMessage());
+    }
+  }
+
+  /*
+  Function: executeSelect
+  Purpose: The purpose of executeSelect() is to run a SELECT statement and write its rows to the target sink. A
+  SELECT the shards can answer on their own is sent to the shards chosen by route() and their results are decoded
+  and written to the target as they arrive, keeping the first heading and, for DISTINCT and UNION, the first of each
+  row across shards. The first message of a shard that fails is printed instead. Any other SELECT is gathered and run
+  by the local session. The function returns false if the SELECT failed.
+  - Parameters:
+  1. select: Select
+  2. text: String
+  3. target: ResultSink
+  - Return Type: boolean
+   */
+  private boolean executeSelect(Select select, String text, ResultSink target) throws Exception {
+    for (String table : tablesOf(select, new LinkedHashSet<>())) {
+      if (!catalog.tableExists(table)) {
+        out.println("!Failed to query table " + table + " because it does not exist");
+        return false;
+      }
+    }
+    int[] shards = route(select);
+    if (shards == null) {
+      if (!gather(select)) {
+        return false;
+      }
+      PlanNode plan = local.query(select, new String[0]);
+      plan.open();
+      try {
+        target.heading(plan.heading());
+        for (String[] row = plan.next(); row != null; row = plan.next()) {
+          target.row(row);
+        }
+      } finally {
+        try {
+          target.finish();
+        } finally {
+          plan.close();
+        }
+      }
+      return true;
+    }
+    for (int shard : shards) {
+      clients[shard].send(text);
+    }
+    HashSet<List<String>> seen = distinct(select) ? new HashSet<>() : null;
+    boolean headed = false;
+    String message = "";
+    for (int shard : shards) {
+      RowDecoder decoder = new RowDecoder(target, seen, !headed);
+      clients[shard].receive(decoder);
+      headed |= decoder.heading != null;
+      if (message.isEmpty()) {
+        message = decoder.text.toString(StandardCharsets.UTF_8);
+      }
+    }
+    if (headed) {
+      target.finish();
+    }
+    out.print(message);
+    return headed;
+  }
+
+  /*
+  Function: executeInsert
+  Purpose: The purpose of executeInsert() is to insert the rows of an INSERT statement into the shards of their shard
+  keys. The rows of an INSERT SELECT are the rows of its SELECT, run as any other SELECT. Each shard is sent its rows
+  in INSERTs of up to insertBatch rows and the numbers of inserted records are summed. If the table does not exist,
+  the statement is sent to the first shard to report it.
+  - Parameters:
+  1. insert: Insert
+  2. text: String
+  - Return Type: void
+   */
+  private void executeInsert(Insert insert, String text) throws Exception {
+    if (!catalog.tableExists(insert.table)) {
+      out.print(request(new int[]{0}, new String[]{text})[0]);
+      return;
+    }
+    ArrayList<String[]> rows = new ArrayList<>();
+    if (insert.select != null) {
+      Matcher keyword = Pattern.compile("(?i)\\bselect\\b").matcher(text);
+      keyword.find();
+      ResultSink collector = new ResultSink(OutputStream.nullOutputStream()) {
+        @Override
+        void row(String[] row) {
+          rows.add(row.clone());
+        }
+      };
+      if (!executeSelect(insert.select, text.substring(keyword.start()), collector)) {
+        return;
+      }
+    } else {
+      for (ArrayList<Expression> values : insert.rows) {
+        String[] row = new String[values.size()];
+        for (int column = 0; column < row.length; column++) {
+          row[column] = values.get(column).evaluate(new String[0]);
+        }
+        rows.add(row);
+      }
+    }
+    ArrayList<ArrayList<String[]>> shardRows = new ArrayList<>();
+    for (int shard = 0; shard < clients.length; shard++) {
+      shardRows.add(new ArrayList<>());
+    }
+    for (String[] row : rows) {
+      shardRows.get(cluster.shardOf(row.length == 0 ? null : row[0])).add(row);
+    }
+    ArrayList<Integer> shards = new ArrayList<>();
+    ArrayList<String> statements = new ArrayList<>();
+    for (int shard = 0; shard < clients.length; shard++) {
+      ArrayList<String[]> batch = shardRows.get(shard);
+      for (int start = 0; start < batch.size(); start += insertBatch) {
+        StringBuilder statement = new StringBuilder("INSERT INTO ").append(insert.table).append(" VALUES ");
+        for (int index = start; index < Math.min(batch.size(), start + insertBatch); index++) {
+          statement.append(index == start ? "" : ", ").append(values(batch.get(index)));
+        }
+        shards.add(shard);
+        statements.add(statement.append(";").toString());
+      }
+    }
+    if (statements.isEmpty()) {
+      out.println("0 new records inserted.");
+      return;
+    }
+    out.print(merge(request(shards.stream().mapToInt(Integer::intValue).toArray(), statements.toArray(new String[0]))));
+  }
+
+  /*
+  Function: executeModify
+  Purpose: The purpose of executeModify() is to run an UPDATE or DELETE statement. A statement comparing the shard key
+  to a constant is sent to the shard of the constant and any other is sent to every shard, summing the numbers of
+  records changed. Updating the shard key would move rows between shards, and a subquery would only see the rows of
+  its own shard, so both are refused.
+  - Parameters:
+  1. table: String
+  2. column: String
+  3. where: Condition
+  4. text: String
+  - Return Type: void
+   */
+  private void executeModify(String table, String column, Condition where, String text) throws Exception {
+    if (!catalog.tableExists(table)) {
+      out.print(request(new int[]{0}, new String[]{text})[0]);
+      return;
+    }
+    if (column != null && column.equalsIgnoreCase(shardKey(table))) {
+      throw new Exception("USER EXCEPTION - executeModify: the shard key " + column + " cannot be updated.");
+    }
+    if (where instanceof SubqueryCondition) {
+      throw new Exception("USER EXCEPTION - executeModify: subqueries are not supported by the coordinator.");
+    }
+    ArrayList<TableReference> tables = new ArrayList<>(List.of(new TableReference(table, null)));
+    int shard = shardOf(table, where, tables);
+    out.print(merge(request(shard < 0 ? cluster.all() : new int[]{shard}, new String[]{text})));
+  }
+
+  /*
+  Function: executeCopy
+  Purpose: The purpose of executeCopy() is to load a CSV or TSV file into the shards. The file is read by a Bulk
+  Loader, which checks every record against the schema, and each row is written to a TSV file of the shard of its
+  shard key, so nothing is loaded when any record is rejected. The files are then copied into the shards in parallel
+  and removed. If the table or the file does not exist, the statement is sent to the first shard to report it.
+  - Parameters:
+  1. copy: Copy
+  2. text: String
+  - Return Type: void
+   */
+  private void executeCopy(Copy copy, String text) throws Exception {
+    String file = copy.file.evaluate(new String[0]);
+    if (!catalog.tableExists(copy.table) || !new File(file).isFile()) {
+      out.print(request(new int[]{0}, new String[]{text})[0]);
+      return;
+    }
+    String[] paths = new String[clients.length];
+    String[] statements = new String[clients.length];
+    BufferedWriter[] writers = new BufferedWriter[clients.length];
+    try {
+      for (int shard = 0; shard < clients.length; shard++) {
+        paths[shard] = cluster.root + "coordinator/" + copy.table.toLowerCase() + ".shard" + shard + ".tsv";
+        writers[shard] = new BufferedWriter(new FileWriter(paths[shard], StandardCharsets.UTF_8));
+        statements[shard] = "COPY " + copy.table + " FROM '" + paths[shard].replace("'", "''") + "' FORMAT tsv;";
+      }
+      try {
+        BulkLoader loader = new BulkLoader(catalog.getHeadings(copy.table), copy.format, copy.header);
+        loader.load(new File(file), batch -> {
+          for (String[] row : batch.rows) {
+            BufferedWriter writer = writers[cluster.shardOf(row[0])];
+            for (int column = 0; column < row.length; column++) {
+              writer.write(column == 0 ? "" : "\t");
+              writer.write(row[column] == null ? "" : row[column].replace("\\", "\\\\").replace("\t", "\\t")
+                  .replace("\n", "\\n").replace("\r", "\\r"));
+            }
+            writer.write("\n");
+          }
+        });
+      } catch (Exception exception) {
+        out.println("!Failed to copy " + file + " into " + copy.table + " because " + exception.getMessage());
+        return;
+      } finally {
+        for (BufferedWriter writer : writers) {
+          if (writer != null) {
+            writer.close();
+          }
+        }
+      }
+      out.print(merge(request(cluster.all(), statements)));
+    } finally {
+      for (String path : paths) {
+        if (path != null) {
+          new File(path).delete();
+        }
+      }
+    }
+  }
+
+  /*
+  Function: executeExplain
+  Purpose: The purpose of executeExplain() is to print how a statement is distributed over the shards followed by the
+  plan run on the shards, or by the local plan for a gathered SELECT. The plan of the first shard the statement is
+  sent to stands for every shard. EXPLAIN ANALYZE runs the statement on each of these shards, so it is refused for an
+  INSERT, whose rows would not be sent to their shards.
+  - Parameters:
+  1. explain: Explain
+  2. text: String
+  - Return Type: void
+   */
+  private void executeExplain(Explain explain, String text) throws Exception {
+    Statement statement = explain.statement;
+    int[] shards = cluster.all();
+    String operator = "Scatter Gather";
+    if (statement.kind == Kind.SELECT) {
+      Select select = (Select) statement;
+      for (String table : tablesOf(select, new LinkedHashSet<>())) {
+        if (!catalog.tableExists(table)) {
+          out.println("!Failed to query table " + table + " because it does not exist");
+          return;
+        }
+      }
+      shards = route(select);
+      if (shards == null) {
+        if (gather(select)) {
+          String plan = local(text);
+          out.print(plan.startsWith("!") ? plan : "Gather on Coordinator (" + String.join(", ",
+              tablesOf(select, new LinkedHashSet<>())) + " from " + clients.length + " shards)"
+              + System.lineSeparator() + indent(plan));
+        }
+        return;
+      }
+      if (distinct(select)) {
+        operator += " with Hash Distinct";
+      }
+    } else if (statement.kind == Kind.UPDATE || statement.kind == Kind.DELETE) {
+      String table = statement.kind == Kind.UPDATE ? ((Update) statement).table : ((Delete) statement).table;
+      Condition where = statement.kind == Kind.UPDATE ? ((Update) statement).where : ((Delete) statement).where;
+      if (catalog.tableExists(table)) {
+        int shard = shardOf(table, where, new ArrayList<>(List.of(new TableReference(table, null))));
+        shards = shard < 0 ? shards : new int[]{shard};
+      }
+    } else if (explain.analyze) {
+      throw new Exception("USER EXCEPTION - executeExplain: EXPLAIN ANALYZE of " + statement.kind
+          + " is not supported by the coordinator.");
+    } else {
+      shards = new int[]{0};
+    }
+    String[] outputs = request(shards, new String[]{text});
+    if (outputs[0].startsWith("!")) {
+      out.print(outputs[0]);
+      return;
+    }
+    StringBuilder names = new StringBuilder();
+    for (int shard : shards) {
+      names.append(names.length() == 0 ? "" : ", ").append("s").append(shard);
+    }
+    out.println(operator + " (" + shards.length + " of " + clients.length + " shards: " + names + ")");
+    out.print(indent(outputs[0]));
+  }
+
+  /*
+  Function: indent
+  Purpose: The purpose of indent() is to place a plan below the operator of the coordinator, as EXPLAIN places the
+  inputs of an operator below it. The planning time and the lines following it are left as they are.
+  - Parameters:
+  1. plan: String
+  - Return Type: String
+   */
+  private static String indent(String plan) {
+    StringBuilder indented = new StringBuilder();
+    boolean first = true;
+    boolean body = true;
+    for (String line : plan.split("\\R")) {
+      body &= !line.startsWith("Planning time") && !line.startsWith("Execution time");
+      indented.append(!body ? "" : first ? "  ->  " : "      ").append(line).append(System.lineSeparator());
+      first = false;
+    }
+    return indented.toString();
+  }
+
+  /*
+  Function: route
+  Purpose: The purpose of route() is to choose the shards a SELECT is sent to, or to return null when the shards
+  cannot answer it on their own. Every branch of its UNIONs must read one table, or join two tables on their shard
+  keys, without a subquery, and its UNIONs must either all keep or all remove duplicates, unless no duplicates are
+  removed at all. A SELECT of one table comparing the shard key to a constant is sent to the shard of the constant and
+  any other SELECT to every shard.
+  - Parameters:
+  1. select: Select
+  - Return Type: int[]
+   */
+  private int[] route(Select select) throws Exception {
+    boolean keeps = false;
+    boolean removes = select.distinct;
+    for (Select branch = select; branch != null; branch = branch.union) {
+      if (branch.where instanceof SubqueryCondition || branch.on instanceof SubqueryCondition) {
+        return null;
+      }
+      if (branch.tables.size() == 2 && !colocated(branch) || branch.tables.size() > 2) {
+        return null;
+      }
+      removes |= branch.distinct || branch.union != null && !branch.unionAll;
+      keeps |= branch.union != null && branch.unionAll;
+    }
+    if (keeps && removes) {
+      return null;
+    }
+    if (select.union == null && select.tables.size() == 1) {
+      int shard = shardOf(select.tables.get(0).table, select.where, select.tables);
+      if (shard >= 0) {
+        return new int[]{shard};
+      }
+    }
+    return cluster.all();
+  }
+
+  /*
+  Function: shardOf
+  Purpose: The purpose of shardOf() is to return the shard holding every row of a table matching a condition, being
+  the shard of the constant when the condition is an equality of the shard key with a constant, or -1 otherwise.
+  - Parameters:
+  1. table: String
+  2. where: Condition
+  3. tables: ArrayList<TableReference>
+  - Return Type: int
+   */
+  private int shardOf(String table, Condition where, ArrayList<TableReference> tables) throws Exception {
+    if (where == null || where instanceof SubqueryCondition || !where.operator.equals("=")) {
+      return -1;
+    }
+    Expression column = where.left instanceof ColumnReference ? where.left : where.right;
+    Expression constant = column == where.left ? where.right : where.left;
+    if (constant instanceof ColumnReference || resolve(column, tables) != 0) {
+      return -1;
+    }
+    return ((ColumnReference) column).column.equalsIgnoreCase(shardKey(table))
+        ? cluster.shardOf(constant.evaluate(new String[0])) : -1;
+  }
+
+  /*
+  Function: colocated
+  Purpose: The purpose of colocated() is to check if a SELECT of two tables joins them on the equality of their
+  shard keys, in which case every pair of joined rows is stored on the same shard. The condition of an INNER or LEFT
+  OUTER join is its ON condition and the condition of a list of tables is its WHERE condition.
+  - Parameters:
+  1. select: Select
+  - Return Type: boolean
+   */
+  private boolean colocated(Select select) throws Exception {
+    Condition condition = select.on != null ? select.on : select.where;
+    if (condition == null || !condition.operator.equals("=")) {
+      return false;
+    }
+    int left = resolve(condition.left, select.tables);
+    int right = resolve(condition.right, select.tables);
+    if (left < 0 || right < 0 || left == right) {
+      return false;
+    }
+    return ((ColumnReference) condition.left).column.equalsIgnoreCase(shardKey(select.tables.get(left).table))
+        && ((ColumnReference) condition.right).column.equalsIgnoreCase(shardKey(select.tables.get(right).table));
+  }
+
+  /*
+  Function: resolve
+  Purpose: The purpose of resolve() is to return the position of the table a column belongs to, found by its
+  qualifier or otherwise by the first table holding a column of its label, or -1 when the expression is not a column
+  of the tables.
+  - Parameters:
+  1. reference: Expression
+  2. tables: ArrayList<TableReference>
+  - Return Type: int
+   */
+  private int resolve(Expression reference, ArrayList<TableReference> tables) throws Exception {
+    if (!(reference instanceof ColumnReference)) {
+      return -1;
+    }
+    ColumnReference column = (ColumnReference) reference;
+    for (int index = 0; index < tables.size(); index++) {
+      if (column.qualifier != null) {
+        if (tables.get(index).matches(column.qualifier)) {
+          return index;
+        }
+        continue;
+      }
+      for (String heading : catalog.getHeadings(tables.get(index).table)) {
+        if (ResultSink.label(heading).equalsIgnoreCase(column.column)) {
+          return index;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /*
+  Function: gather
+  Purpose: The purpose of gather() is to copy every row of the tables read by a SELECT into the local session. Each
+  shard exports its rows of every table to a TSV file, the shards exporting in parallel, and each table is created
+  again locally with the schema of the shards and loaded from the files, which are then removed. If a shard or the
+  local session fails, its message is printed and false is returned.
+  - Parameters:
+  1. select: Select
+  - Return Type: boolean
+   */
+  private boolean gather(Select select) throws Exception {
+    ArrayList<String> files = new ArrayList<>();
+    try {
+      for (String table : tablesOf(select, new LinkedHashSet<>())) {
+        if (!catalog.tableExists(table)) {
+          out.println("!Failed to query table " + table + " because it does not exist");
+          return false;
+        }
+        String[] statements = new String[clients.length];
+        for (int shard = 0; shard < clients.length; shard++) {
+          files.add(cluster.root + "coordinator/" + table.toLowerCase() + ".gather" + shard + ".tsv");
+          statements[shard] = "EXPORT TABLE " + table + " TO '" + files.get(files.size() - 1).replace("'", "''")
+              + "' FORMAT tsv;";
+        }
+        String merged = merge(request(cluster.all(), statements));
+        if (merged.startsWith("!")) {
+          out.print(merged);
+          return false;
+        }
+        local("DROP TABLE " + table + ";");
+        StringBuilder create = new StringBuilder("CREATE TABLE ").append(table).append(" (");
+        String[] headings = catalog.getHeadings(table);
+        for (int column = 0; column < headings.length; column++) {
+          create.append(column == 0 ? "" : ", ").append(headings[column].trim());
+        }
+        local(create.append(");").toString());
+        for (int shard = 0; shard < clients.length; shard++) {
+          String output = local("COPY " + table + " FROM '" + files.get(files.size() - clients.length + shard)
+              .replace("'", "''") + "' FORMAT tsv HEADER;");
+          if (output.startsWith("!")) {
+            out.print(output);
+            return false;
+          }
+        }
+      }
+      return true;
+    } finally {
+      for (String file : files) {
+        new File(file).delete();
+      }
+    }
+  }
+
+  /*
+  Function: request
+  Purpose: The purpose of request() is to run statements on shards and return their outputs, the statement at each
+  position being run on the shard at the same position. A single statement is run on every shard given. Every
+  statement is sent before any response is read, so the shards run them in parallel.
+  - Parameters:
+  1. shards: int[]
+  2. statements: String[]
+  - Return Type: String[]
+   */
+  private String[] request(int[] shards, String[] statements) throws IOException {
+    for (int index = 0; index < shards.length; index++) {
+      clients[shards[index]].send(statements.length == 1 ? statements[0] : statements[index]);
+    }
+    String[] outputs = new String[shards.length];
+    for (int index = 0; index < shards.length; index++) {
+      outputs[index] = clients[shards[index]].receive();
+    }
+    return outputs;
+  }
+
+  /*
+  Function: merge
+  Purpose: The purpose of merge() is to combine the outputs of a statement run on several shards into the output of
+  the statement run on a single database. The first failure, including an aborted COMMIT, is the output, counts of
+  records are summed and otherwise the output of the first shard stands for every shard.
+  - Parameters:
+  1. outputs: String[]
+  - Return Type: String
+   */
+  private static String merge(String[] outputs) {
+    for (String output : outputs) {
+      if (output.startsWith("!") || output.startsWith("Error") || output.startsWith("Transaction abort")) {
+        return output;
+      }
+    }
+    if (outputs.length > 1 && count.matcher(outputs[0]).matches()) {
+      long records = 0;
+      String counted = null;
+      for (String output : outputs) {
+        Matcher matcher = count.matcher(output);
+        if (!matcher.matches()) {
+          return outputs[0];
+        }
+        records += Long.parseLong(matcher.group(1));
+        counted = matcher.group(2).replace("records", "record");
+      }
+      return records + " " + (records == 1 ? counted : counted.replace("record", "records")) + "."
+          + System.lineSeparator();
+    }
+    return outputs[0];
+  }
+
+  /*
+  Function: tablesOf
+  Purpose: The purpose of tablesOf() is to collect the tables read by a SELECT, its UNIONs and its subqueries, each
+  once in the order they are named.
+  - Parameters:
+  1. select: Select
+  2. tables: LinkedHashSet<String>
+  - Return Type: LinkedHashSet<String>
+   */
+  private static LinkedHashSet<String> tablesOf(Select select, LinkedHashSet<String> tables) {
+    for (Select branch = select; branch != null; branch = branch.union) {
+      for (TableReference reference : branch.tables) {
+        tables.add(reference.table.toLowerCase());
+      }
+      if (branch.where instanceof SubqueryCondition) {
+        tablesOf(((SubqueryCondition) branch.where).subquery, tables);
+      }
+    }
+    return tables;
+  }
+
+  // NOTE: The UNIONs of a SELECT sent to the shards either all keep or all remove duplicates.
+  private static boolean distinct(Select select) {
+    return select.union == null ? select.distinct : !select.unionAll;
+  }
+
+  private String shardKey(String table) throws Exception {
+    String[] headings = catalog.getHeadings(table);
+    return headings.length == 0 ? null : ResultSink.label(headings[0]);
+  }
+
+  private static String values(String[] row) {
+    StringBuilder values = new StringBuilder("(");
+    for (int column = 0; column < row.length; column++) {
+      values.append(column == 0 ? "'" : ", '").append(row[column] == null ? "" : row[column].replace("'", "''"))
+          .append("'");
+    }
+    return values.append(")").toString();
+  }
+
+  private String local(String statement) {
+    local.execute(statement);
+    String output = localOutput.toString(StandardCharsets.UTF_8);
+    localOutput.reset();
+    return output;
+  }
+
+  /*
+  Function: close
+  Purpose: The purpose of close() is to end the session by closing the connection to every shard, which ends the
+  sessions of the shards, and the local session. The cluster itself is left running.
+  - Parameters:
+  - Return Type: void
+   */
+  @Override
+  public void close() throws IOException {
+    for (Client client : clients) {
+      client.close();
+    }
+    local.close();
+    localEngine.close();
+  }
+
+  /*
+      Class: RowDecoder
+      Purpose: The purpose of RowDecoder is to decode the binary result of a shard as it arrives and write its rows to
+      a sink. Bytes are held until a whole heading or row has arrived. The heading is only written when asked for, so
+      the results of several shards share the first, and rows already seen are skipped when a set of seen rows is
+      given. Anything that is not part of the result, such as the message of a failed query, is kept as text.
+  */
+  private static class RowDecoder extends OutputStream {
+    private final ResultSink target;
+    private final HashSet<List<String>> seen;
+    private final boolean writeHeading;
+    private byte[] buffer = new byte[8192];
+    private int length = 0;
+    private int cursor = 0;
+    private boolean ended = false;
+    String[] heading = null;
+    final ByteArrayOutputStream text = new ByteArrayOutputStream();
+
+    RowDecoder(ResultSink target, HashSet<List<String>> seen, boolean writeHeading) {
+      this.target = target;
+      this.seen = seen;
+      this.writeHeading = writeHeading;
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+      write(new byte[]{(byte) value}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int size) throws IOException {
+      if (length + size > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + size));
+      }
+      System.arraycopy(bytes, offset, buffer, length, size);
+      length += size;
+      int position = 0;
+      while (position < length) {
+        byte type = buffer[position];
+        if (ended || (heading == null ? type != 'H' : type != 'R' && type != 'E')) {
+          ended = true;
+          text.write(buffer, position, length - position);
+          position = length;
+          break;
+        }
+        if (type == 'E') {
+          ended = true;
+          position++;
+          continue;
+        }
+        cursor = position + 1;
+        int columns = type == 'H' ? number() : heading.length;
+        String[] values = columns < 0 ? null : new String[columns];
+        for (int column = 0; values != null && column < columns; column++) {
+          int size_plus_one = number();
+          if (size_plus_one < 0 || cursor + size_plus_one - 1 > length) {
+            values = null;
+          } else if (size_plus_one > 0) {
+            values[column] = new String(buffer, cursor, size_plus_one - 1, StandardCharsets.UTF_8);
+            cursor += size_plus_one - 1;
+          }
+        }
+        if (values == null) {
+          break;
+        }
+        position = cursor;
+        if (type == 'H') {
+          heading = values;
+          if (writeHeading) {
+            target.heading(values);
+          }
+        } else if (seen == null || seen.add(Arrays.asList(values))) {
+          target.row(values);
+        }
+      }
+      System.arraycopy(buffer, position, buffer, 0, length - position);
+      length -= position;
+    }
+
+    // NOTE: Returns -1 when the number has not fully arrived yet.
+    private int number() {
+      int number = 0;
+      for (int shift = 0; cursor < length; shift += 7) {
+        byte part = buffer[cursor++];
+        number |= (part & 0x7F) << shift;
+        if ((part & 0x80) == 0) {
+          return number;
+        }
+      }
+      return -1;
+    }
+  }
+
+  /*
+      Class: Cluster
+      Purpose: The purpose of Cluster is to start the shards of a Coordinator as engine processes on the local host,
+      each a Test Driver serving the directory "shard" followed by its number within the root directory on a port of
+      its own, and to stop them when closed. The cluster also decides the shard of a shard key.
+  */
+  public static class Cluster implements AutoCloseable {
+    private static final Pattern started = Pattern.compile(".*PORT ([0-9]+).*");
+
+    final String root;
+    private final Process[] processes;
+    private final int[] ports;
+    private final Partitioning hashing;
+
+    private Cluster(String root, int shards) {
+      this.root = root.endsWith("/") ? root : root + "/";
+      this.processes = new Process[shards];
+      this.ports = new int[shards];
+      this.hashing = new Partitioning("hash", null, 0, shards, new String[0]);
+    }
+
+    /*
+    Function: start
+    Purpose: The purpose of start() is to start a cluster of shards below a root directory. Every process is started
+    before waiting for any, and each is ready once it prints its port. The processes are stopped when the coordinator's
+    process exits. If a shard does not start, the shards started are stopped and an exception is thrown.
+    - Parameters:
+    1. shards: int
+    2. root: String
+    - Return Type: Cluster
+     */
+    public static Cluster start(int shards, String root) throws IOException {
+      if (shards < 1 || shards > Partitioning.maxPartitions) {
+        throw new IOException("USER EXCEPTION - start: a cluster has 1 to " + Partitioning.maxPartitions + " shards.");
+      }
+      Cluster cluster = new Cluster(new File(root).getAbsolutePath(), shards);
+      String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+      try {
+        for (int shard = 0; shard < shards; shard++) {
+          new File(cluster.directory(shard)).mkdirs();
+          cluster.processes[shard] = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+              TestDriver.class.getName(), "--server", "0", cluster.directory(shard)).redirectErrorStream(true).start();
+        }
+        for (int shard = 0; shard < shards; shard++) {
+          BufferedReader reader = new BufferedReader(new InputStreamReader(cluster.processes[shard].getInputStream(),
+              StandardCharsets.UTF_8));
+          Matcher matcher = started.matcher(String.valueOf(reader.readLine()));
+          if (!matcher.matches()) {
+            throw new IOException("USER EXCEPTION - start: shard " + shard + " did not start.");
+          }
+          cluster.ports[shard] = Integer.parseInt(matcher.group(1));
+          // NOTE: Drained so a shard printing to its output is never blocked on a full pipe.
+          Thread.ofPlatform().daemon().start(() -> {
+            try {
+              reader.transferTo(Writer.nullWriter());
+            } catch (IOException exception) {
+              // NOTE: The output ends with the shard.
+            }
+          });
+        }
+      } catch (IOException exception) {
+        cluster.close();
+        throw exception;
+      }
+      Runtime.getRuntime().addShutdownHook(new Thread(cluster::close));
+      return cluster;
+    }
+
+    String directory(int shard) {
+      return root + "shard" + shard + "/";
+    }
+
+    int getPort(int shard) {
+      return ports[shard];
+    }
+
+    int size() {
+      return processes.length;
+    }
+
+    int[] all() {
+      int[] shards = new int[processes.length];
+      Arrays.setAll(shards, shard -> shard);
+      return shards;
+    }
+
+    int shardOf(String value) {
+      return hashing.partitionOf(value);
+    }
+
+    /*
+    Function: close
+    Purpose: The purpose of close() is to stop every shard and wait for it to exit.
+    - Parameters:
+    - Return Type: void
+     */
+    @Override
+    public void close() {
+      for (Process process : processes) {
+        if (process != null) {
+          process.destroy();
+        }
+      }
+      for (Process process : processes) {
+        if (process != null) {
+          try {
+            process.waitFor();
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    }
+  }
+}
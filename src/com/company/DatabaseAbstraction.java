@@ -6,21 +6,37 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.function.ToIntFunction;
 
 /*
     Author: Araam Zaremehrjardi
     Date Created: April 21, 2022
-    Date Edited: May 6, 2022
+    Date Edited: October 19, 2026
     Class: DatabaseAbstraction
     Purpose: The purpose of DatabaseAbstraction is to provide an abstraction for primitive functionality of the
     database. Primitive functionality is direct interaction of the file system to create, delete, and edit files for
     database functionality such as creating and deleting tables, databases, and directly writing and editing text files.
     Other functionality provided by the class is helper functions used to column interaction such as read and write
-    operations and schema manipulation.
+    operations and schema manipulation. Tables created with ENGINE = MEMORY have no table file and are handed to their
+    Memory Table instead, which holds their rows outside of the heap. Statements on a memory table take effect at once
+    as they are not versioned by the Version Store, so the Database System refuses them within a transaction.
     - Variables:
     1. currentDatabase: String
        Purpose: The variable currentDatabase is a "pointer" to the current database being a directory that stores text
@@ -28,7 +44,8 @@ import java.util.Queue;
     2. databasesDirectory: String
        Purpose: The variable databasesDirectory is used to define the main directory that stores all the databases
        created by the application. Each directory within the defined path for databasesDirectory is a database and files
-       within the directory are tables for that specific database.
+       within the directory are tables for that specific database. It is "databases/" unless the Engine is given
+       another directory.
     3. transactionEnable: boolean
        Purpose: The variable transactionEnable is used to define the enabling of transaction mode
        in which data is not directly wrote into the database until it is committed. Behavior of the
@@ -38,6 +55,28 @@ import java.util.Queue;
        used to rollback changes in the database. This changes the commit behavior of the
        Database Abstraction layer in which does not persist changes to the database when in
        transaction mode.
+    5. versionStore: VersionStore
+       Purpose: The variable versionStore is the version store of the database the running transaction
+       belongs to.
+    6. transaction: Transaction
+       Purpose: The variable transaction is the running transaction holding its snapshot and write set.
+    7. lockTimeout: long
+       Purpose: The variable lockTimeout is the number of milliseconds to wait for a lock before failing.
+    8. spillThreshold: int
+       Purpose: The variable spillThreshold is the number of rows a transaction inserts before they are spilled from
+       its write set to disk.
+    9. optimistic: boolean
+       Purpose: The variable optimistic is used to define if transactions begun by the session run without locks and
+       are validated when they commit instead.
+    10. retrying: boolean
+       Purpose: The variable retrying is used to define if the last transaction of the session aborted, so the next
+       transaction begun is counted as a retry.
+    11. prefetchDepth: int
+       Purpose: The variable prefetchDepth is the number of blocks read ahead of a table being read, where 0 reads
+       tables without reading ahead.
+    12. commitFailure: String
+       Purpose: The variable commitFailure is the error that ended the last transaction of the session, or null if it
+       ended without one.
     - Functions:
     1. setCurrentDatabase(database: String): String
     2. createDatabase(database: String): boolean
@@ -45,35 +84,79 @@ import java.util.Queue;
     4. createTable(table: String): boolean
     5. dropTable(table: String): boolean
     6. addColumn(table: String, label: String, type: String): boolean
-    7. selectColumn(table: String): String[]
-    8. selectColumn(table: String, key: String, value: String): Queue<String[]>
-    9. selectColumn(left_hand_side_table: String[], right_hand_side_table: String[])
-    10. selectColumn(left_hand_side_table: String[], right_hand_side_table: String[], join: String)
-    11. deleteRow_greaterThan(table: String, key: String, value: String): int
-    12. deleteRow_equality(table: String, key: String, value: String): int
-    13. updateTable_equality(table: String, value: String, selected_column: String, new_value: String): int
-    14. appendRow(table: String, values: String[]): boolean
-    15. createRow(table: String, values: String[]): String
-    16. getHeadings(table: String): String[]
-    17. filterRow_equality(values: String[], key_index: int, value: String): boolean
-    18. filterRow_greaterThan(values: String[], key_index: int, value: String): boolean
-    19. updateRow(values: String[], column_index: int, value: String): String[]
-    20. beginTransaction(): boolean
-    21. commitTransaction(): boolean
-    22. create_cacheTable(table: String): boolean
-    23. lockTable(table: String): boolean
-    24. unlockTable(table: String): boolean
-    25. tableLocked(table: String): boolean
-    26. persist_cacheTable(table: String): boolean
+    7. deleteRow_greaterThan(table: String, key: String, value: String): int
+    8. deleteRow_equality(table: String, key: String, value: String): int
+    9. updateTable_equality(table: String, value: String, selected_column: String, new_value: String): int
+    10. appendRow(table: String, values: String[]): boolean
+    11. createRow(table: String, values: String[]): String
+    12. getHeadings(table: String): String[]
+    13. filterRow_equality(values: String[], key_index: int, value: String): boolean
+    14. filterRow_greaterThan(values: String[], key_index: int, value: String): boolean
+    15. updateRow(values: String[], column_index: int, value: String): String[]
+    16. beginTransaction(): boolean
+    17. commitTransaction(): boolean
+    18. autocommit(table: String, write: Callable<T>, locked: T): T
+    19. updateSnapshot_equality(table: String, key: String, value: String, selected_column: String,
+        new_value: String): int
+    20. openTable(table: String): BufferedReader
+    21. tableSize(table: String): long
+    22. tableExists(table: String): boolean
+    23. writeDelete_greaterThan(table: String, key: String, value: String): int
+    24. writeDelete_equality(table: String, key: String, value: String): int
+    25. writeUpdate_equality(table: String, key: String, value: String, selected_column: String,
+        new_value: String): int
+    26. writeRow(table: String, values: String[]): boolean
+    27. lockResource(table: String, row: String[]): String
+    28. setOption(name: String, value: String): boolean
+    29. abortTransaction(): boolean
+    30. deleteSnapshot(table: String, key: String, value: String, greaterThan: boolean): int
+    31. insertSnapshot(table: String, values: String[]): boolean
+    32. lockTransaction(table: String, row: String[]): void
+    33. endTransaction(commit: boolean): boolean
+    34. backupDatabase(database: String, directory: String): long
+    35. copyRows(table: String, path: String, format: String, header: boolean): long
+    36. writeCopy(table: String, loader: BulkLoader, source: File): long
+    37. appendRows(table: String, values: ArrayList<String[]>): int
+    38. writeRows(table: String, batch: Batch): int
+    39. appendBatch(channel: FileChannel, batch: Batch): void
+    40. exportTable(table: String, target: WritableByteChannel): long
+    41. getPartitioning(table: String): Partitioning
+    42. partitionTable(table: String, method: String, column: String, count: int, bounds: String[]): void
+    43. forPartitions(table: String, partitioning: Partitioning, key: String, operator: String, value: String,
+        write: ToIntFunction<String>): int
+    44. movePartitionRows(table: String, partitioning: Partitioning, key: String, value: String,
+        selected_column: String, new_value: String): int
+    45. insertBatch(table: String, batch: Batch): int
+    46. insertPartitioned(table: String, partitioning: Partitioning, loader: BulkLoader, batch: Batch): int
+    47. exportFile(table: String, target: WritableByteChannel, skip: long): long
+    48. recordChanges(tables: String...): void
+    49. getMemoryTable(table: String): MemoryTable
+    50. createMemoryTable(table: String, headings: String[]): void
+    51. checkpoint(): int
+    52. getCommitFailure(): String
+    53. inTransaction(): boolean
 */
 public class DatabaseAbstraction {
 
-  private static final String databasesDirectory = "databases/";
+  private final String databasesDirectory;
   private String currentDatabase = null;
   private boolean transactionEnable = false;
   private boolean errorOccurance = false;
+  private VersionStore versionStore = null;
+  private Transaction transaction = null;
+  private long lockTimeout = 5000;
+  private int spillThreshold = 4096;
+  private boolean optimistic = false;
+  private boolean retrying = false;
+  private int prefetchDepth = 4;
+  private String commitFailure = null;
 
   public DatabaseAbstraction() {
+    this("databases/");
+  }
+
+  public DatabaseAbstraction(String databasesDirectory) {
+    this.databasesDirectory = databasesDirectory;
   }
 
   /*
@@ -120,15 +203,46 @@ public class DatabaseAbstraction {
   directory exists with the matching database string passed into the function. The function uses the File library to
   crate a point in the file system used to check if the database exists in the databases' directory. If the database
   does not exist then the function returns unsuccessful for not being able to delete the denoted database and vice
-  versa.
+  versa. The version store of the database is deleted first once no tables are left, and an exception describes why
+  a database that exists cannot be deleted.
   - Parameters:
   1. database: String
   - Return Type: boolean
   */
-  public boolean dropDatabase(String database) {
+  public boolean dropDatabase(String database) throws Exception {
     String databasePath = databasesDirectory + database.toLowerCase();
     File location = new File(databasePath);
-    return location.delete();
+    if (!location.isDirectory()) {
+      return false;
+    }
+    String[] tables = location.list((parent, name) -> !name.equals("_mvcc"));
+    if (tables != null && tables.length > 0) {
+      throw new Exception("USER EXCEPTION - dropDatabase: database " + database + " still holds tables.");
+    }
+    new VersionStore(databasePath + "/").drop();
+    if (!location.delete()) {
+      throw new Exception("USER EXCEPTION - dropDatabase: database " + database + " could not be deleted.");
+    }
+    return true;
+  }
+
+  /*
+  Function: backupDatabase
+  Purpose: The purpose of backupDatabase() is to copy the tables of a database as of one moment into a directory of
+  the same name within the given directory, so the given directory can later be used as a databases' directory. The
+  copy is taken through the version store of the database so writers are only held up while the table files are
+  linked. The number of bytes copied is returned and if the database does not exist an exception is thrown.
+  - Parameters:
+  1. database: String
+  2. directory: String
+  - Return Type: long
+  */
+  public long backupDatabase(String database, String directory) throws Exception {
+    String databasePath = databasesDirectory + database.toLowerCase() + "/";
+    if (!new File(databasePath).isDirectory()) {
+      throw new Exception("USER EXCEPTION - backupDatabase: database " + database + " does not exist.");
+    }
+    return new VersionStore(databasePath).backup(new File(directory, database.toLowerCase()));
   }
 
   /*
@@ -149,7 +263,7 @@ public class DatabaseAbstraction {
     if (currentDatabase == null) {
       return false;
     }
-    if (location.exists()) {
+    if (location.exists() || getMemoryTable(table) != null) {
       return false;
     }
     try {
@@ -158,6 +272,7 @@ public class DatabaseAbstraction {
       exception.printStackTrace();
       return false;
     }
+    recordChanges(table.toLowerCase());
     return true;
   }
 
@@ -168,15 +283,33 @@ public class DatabaseAbstraction {
   the File library to create a point in the file system used to check if a file exists in the selected database directory.
   The table is selected within the current database folder. If the currentDatabase does not exist the function or
   is already created the function is unsuccessful and vice versa. If the table file does not exist and is created,
-  then the function is successful.
+  then the function is successful. The partitions and partitioning of a partitioned table are deleted along with it,
+  as are the partitions left behind by a partitioned table that failed to be created.
   - Parameters:
   1. table: String
   - Return Type: boolean
   */
   public boolean dropTable(String table) {
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      memoryTable.drop();
+      return true;
+    }
     String tablePath = currentDatabase + table.toLowerCase() + ".txt";
     File location = new File(tablePath);
-    return location.delete();
+    ArrayList<String> dropped = new ArrayList<>(List.of(table.toLowerCase()));
+    for (int partition = 0; partition < Partitioning.maxPartitions; partition++) {
+      if (!new File(currentDatabase + Partitioning.partition(table, partition) + ".txt").delete()) {
+        break;
+      }
+      dropped.add(Partitioning.partition(table, partition));
+    }
+    if (new File(currentDatabase + table.toLowerCase() + Partitioning.suffix).delete()) {
+      dropped.add(table.toLowerCase() + ".partitions");
+    }
+    boolean deleted = location.delete();
+    recordChanges(dropped.toArray(new String[0]));
+    return deleted;
   }
 
   /*
@@ -188,8 +321,9 @@ public class DatabaseAbstraction {
   the expression to take in the passed in label and type. The function ensures the table does exist within the
   selected database and reads the schema of the table to ensure the column is not already added in the table (if it is
   the function added column is unsuccessful and fails). If the table exists and there is no duplicate column, the new
-  column is appended to the end of the first line of the table file. If added, the function is successful and vice
-  versa.
+  column is appended to the end of the first line of a copy of the table file, which then replaces the table file.
+  If added, the function is successful and vice versa. The column is added to every partition of a partitioned table
+  as well.
   - Parameters:
   1. table: String
   - Return Type: boolean
@@ -205,6 +339,14 @@ public class DatabaseAbstraction {
     File location = new File(tablePath);
     String[] headings = null;
     FileWriter tableWriter = null;
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      try {
+        return memoryTable.addColumn(header.split("\t")[0]);
+      } catch (Exception exception) {
+        return false;
+      }
+    }
     if (!location.exists()) {
       return false;
     }
@@ -221,432 +363,33 @@ public class DatabaseAbstraction {
         }
       }
     }
+    // NOTE: The column is added to a copy that replaces the table file, so a backup linking the file keeps either
+    // version whole.
+    File altered = new File(tablePath + ".alter");
     try {
-      tableWriter = new FileWriter(location, true);
+      Files.copy(location.toPath(), altered.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      tableWriter = new FileWriter(altered, true);
     } catch (Exception exception) {
       exception.printStackTrace();
     }
     try {
       tableWriter.append(header);
       tableWriter.close();
+      Files.move(altered.toPath(), location.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
     } catch (Exception exception) {
       exception.printStackTrace();
     }
-    return true;
-  }
-
-  /*
-  Function: selectColumn
-  Purpose: The purpose of selectColumn() is to return the values of column using the passed in table name. The
-  function uses the File Library to create a point in the file system used to check if the table exists within the
-  database directory. If the table does not exist, an exception is thrown. The function returns an array of all the
-  columns within the table for this function definition. The behavior of selectColumn() changes based upon the
-  function signature using polymorphic methods to achieve different implementations of selectColumn().
-  - Parameters:
-  1. table: String
-  - Return Type: String[]
-  */
-  public Queue<String[]> selectColumn(String table) throws Exception {
-    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
-    File location = new File(tablePath);
-    BufferedReader tableReader = null;
-    Queue<String[]> rows = new LinkedList<>();
-    if (!location.exists()) {
-      throw new Exception("USER EXCEPTION - selectColumn: table " + table + " does not exist.");
-    }
-    try {
-      tableReader = new BufferedReader(new FileReader(location));
-    } catch (Exception exception) {
-      exception.printStackTrace();
-    }
-    try {
-      while (true) {
-        String row = tableReader.readLine();
-        if (row != null) {
-          String[] columns = row.split("\t");
-          rows.add(columns);
-        } else {
-          break;
-        }
-      }
-    } catch (Exception exception) {
-      exception.printStackTrace();
-    }
-    return rows;
-  }
-
-  /*
-  Function: selectColumn
-  Purpose: The purpose of selectColumn() is to return the values of a column with constraints given
-  a table. The function uses the File Library to create a point in the file system used to check if
-  the table exists within the database directory. If the table does not exist, an exception is
-  thrown. The function uses the parameters to create a constraint based upon the function signature.
-  The constraint denoted is based upon the selection of columns based upon an inequality condition.
-  The behavior of selectColumn() changes based upon the function signature using polymorphic methods
-  to achieve different implementations of selectColumn().
-  - Parameters:
-  1. table: String
-  2. key: String
-  3. value: String
-  - Return Type: Queue<String[]>
-   */
-  public Queue<String[]> selectColumn(String table, String key, String value,
-      LinkedList<String> selected_columns) throws Exception {
-    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
-    File location = new File(tablePath);
-    BufferedReader tableReader = null;
-    Queue<String[]> rows = new LinkedList<>();
-    String[] headings = null;
-    Integer keyIndex = null;
-    Integer[] selectedColumns_indexes = new Integer[selected_columns.size()];
-    int selectedColumnsIndexes_index = 0;
-    if (!location.exists()) {
-      throw new Exception("USER EXCEPTION - selectColumn: table " + table + " does not exist.");
-    }
-    try {
-      tableReader = new BufferedReader(new FileReader(location));
-    } catch (Exception exception) {
-      exception.printStackTrace();
-    }
-    try {
-      headings = getHeadings(table);
-    } catch (Exception exception) {
-      exception.printStackTrace();
-    }
-    for (int headingIndex = 0; headingIndex < headings.length; headingIndex++) {
-      String heading_value = headings[headingIndex].split(" ")[0];
-      if (heading_value.matches(key) && keyIndex == null) {
-        keyIndex = headingIndex;
-      } else if (!selected_columns.isEmpty()) {
-
-        for (int columnIndex = 0; columnIndex < selected_columns.size(); columnIndex++) {
-          if (heading_value.matches(selected_columns.get(columnIndex))) {
-            selectedColumns_indexes[selectedColumnsIndexes_index] = headingIndex;
-            selectedColumnsIndexes_index++;
-          }
-        }
-      }
-    }
-    try {
-      while (true) {
-        String row = tableReader.readLine();
-        if (row != null) {
-          String[] columns = row.split("\t");
-          String keyIndex_value = columns[keyIndex].split(" ")[0];
-          if (!keyIndex_value.matches(value)) {
-            String[] data_row = new String[selectedColumns_indexes.length];
-            for (int columnIndex = 0; columnIndex < selectedColumns_indexes.length; columnIndex++) {
-              data_row[columnIndex] = columns[selectedColumns_indexes[columnIndex]];
-            }
-            rows.add(data_row);
-          }
-        } else {
-          break;
-        }
+    Partitioning partitioning = getPartitioning(table);
+    if (partitioning != null) {
+      for (int partition = 0; partition < partitioning.count; partition++) {
+        addColumn(Partitioning.partition(table, partition), label, type);
       }
-    } catch (Exception exception) {
-      exception.printStackTrace();
     }
-    return rows;
+    recordChanges(table.toLowerCase());
+    return true;
   }
 
-  /*
-  Function: selectColumn
-  Purpose: The purpose of selectColumn() is to select rows within a table given a set of variables of a lhs 
-  table and rhs table. The functions then use given parameters of each respective side being table name, variable 
-  symbol, and column name. The function uses the given information to generate a table with that matches a 
-  equality condition of the selected column from each side. When the equality condition is not met, the row
-  being scanned between the two files is ignored and not added. Scanning between the files occurs by first 
-  accessing the files in the File System with the lhs table driving the scanning. Each row of the lhs table is compared
-  to all rows of the rhs table during scanning. Once complete, both files are closed with the rows buffer 
-  returned for printing. 
-  - Parameters:
-  1. left_hand_side_table: String[]
-  2. right_hand_side_table: String[]
-  - Return Type: Queue<String[]>
-  */
-  public Queue<String[]> selectColumn(String[] left_hand_side_table, String[] right_hand_side_table) {
-	  String lhs_tablePath = currentDatabase + left_hand_side_table[0].toLowerCase() + ".txt";
-	  String rhs_tablePath = currentDatabase + right_hand_side_table[0].toLowerCase() + ".txt";
-	  File lhs_location = new File(lhs_tablePath);
-	  File rhs_location = new File(rhs_tablePath);
-	  BufferedReader lhs_reader = null;
-	  BufferedReader rhs_reader = null;
-	  String[] headings = null;
-	  Integer lhs_keyIndex = null;
-	  Integer rhs_keyIndex = null;
-	  Queue<String[]> rows = new LinkedList<String[]>();
-	  
-	  try {
-		  lhs_reader = new BufferedReader(new FileReader(lhs_location));
-		  rhs_reader = new BufferedReader(new FileReader(rhs_location));
-		  
-	  } catch (Exception exception) {
-	      exception.printStackTrace();
-	  }
-	  
-	  try {
-		  
-		  String heading = "";
-		  
-		  String[] lhs_tableHeadings = getHeadings(left_hand_side_table[0]);
-		  String[] rhs_tableHeadings = getHeadings(right_hand_side_table[0]);
-		  
-		  for (int column_index = 0; column_index < lhs_tableHeadings.length; column_index++) {
-			  heading += lhs_tableHeadings[column_index] + "\t";
-		  }
-		  for (int column_index = 0; column_index < rhs_tableHeadings.length; column_index++) {
-			  heading += rhs_tableHeadings[column_index] + "\t";
-		  }
-		  
-		    for (int headingIndex = 0; headingIndex < lhs_tableHeadings.length; headingIndex++) {
-		        String heading_value = lhs_tableHeadings[headingIndex].split(" ")[0];
-		        if (heading_value.matches(left_hand_side_table[2])) {
-		          lhs_keyIndex = headingIndex;
-		        }
-		      }
-		    
-		    for (int headingIndex = 0; headingIndex < rhs_tableHeadings.length; headingIndex++) {
-		        String heading_value = rhs_tableHeadings[headingIndex].split(" ")[0];
-		        if (heading_value.matches(right_hand_side_table[2])) {
-		          rhs_keyIndex = headingIndex;
-		        }
-		      }
-
-		    headings = heading.split("\t");
-		    rows.add(headings);
-		    
-	} catch (Exception e) {
-		e.printStackTrace();
-	}
-	  
-	  try {
-		String lhs_cursor = "";
-		for (int lhs_lineIndex = 0; lhs_cursor != null; lhs_lineIndex++) {
-			
-			lhs_cursor = lhs_reader.readLine();
-			 
-			if ((lhs_lineIndex != 0) && (lhs_cursor != null) ) {
-				
-				rhs_reader = new BufferedReader(new FileReader(rhs_location));
-				String rhs_cursor = "";
-				for (int rhs_lineIndex = 0; rhs_cursor != null; rhs_lineIndex++) {
-					rhs_cursor = rhs_reader.readLine();
-					if ((rhs_lineIndex != 0) && (rhs_cursor != null) ) {
-					
-						String[] lhs_dataRow = lhs_cursor.split("\t");
-						String[] rhs_dataRow = rhs_cursor.split("\t");
-					
-						if (lhs_dataRow[lhs_keyIndex].equals(rhs_dataRow[rhs_keyIndex])) {
-							
-							String[] row = (lhs_cursor + rhs_cursor).split("\t");
-							rows.add(row);
-
-						}
-					
-					}
-					
-				}
-				
-			}
-			  
-		  }
-		lhs_reader.close();
-		rhs_reader.close();
-	} catch (IOException e) {
-
-		e.printStackTrace();
-	}
-	  
-	  return rows;
-	  
-  }
-  
-  /*
-  Function: selectColumn
-  Purpose: The purpose of selectColumn() is to select rows within a table given a set of variables of lhs
-  table and rhs table. This version of selectColumn() provides join options being either "inner join" or
-  "left outer join."  The function uses the given information to generate a table with that matches a 
-  equality condition of the selected column from each side. The equality condition being different based 
-  upon the given join option. When the equality condition is not met, the row being scanned between the two 
-  files is ignored and not added. Scanning between the files occurs by first accessing the files in the File 
-  System with the lhs table driving the scanning. Each row of the lhs table is compared to all rows of the 
-  rhs table during scanning. Once complete, both files are closed with the rows buffer returned for printing. 
-  - Parameters:
-  1. left_hand_side_table: String[]
-  2. right_hand_side_table: String[]
-  - Return Type: Queue<String[]>
-  */  
-  public Queue<String[]> selectColumn(String[] left_hand_side_table, String[] right_hand_side_table, String join) {
-	  String lhs_tablePath = currentDatabase + left_hand_side_table[0].toLowerCase() + ".txt";
-	  String rhs_tablePath = currentDatabase + right_hand_side_table[0].toLowerCase() + ".txt";
-	  File lhs_location = new File(lhs_tablePath);
-	  File rhs_location = new File(rhs_tablePath);
-	  BufferedReader lhs_reader = null;
-	  BufferedReader rhs_reader = null;
-	  String[] headings = null;
-	  Integer lhs_keyIndex = null;
-	  Integer rhs_keyIndex = null;
-	  Queue<String[]> rows = new LinkedList<String[]>();
-	  
-	  try {
-		  lhs_reader = new BufferedReader(new FileReader(lhs_location));
-		  rhs_reader = new BufferedReader(new FileReader(rhs_location));
-		  
-	  } catch (Exception exception) {
-	      exception.printStackTrace();
-	  }
-	  
-	  try {
-		  
-		  String heading = "";
-		  
-		  String[] lhs_tableHeadings = getHeadings(left_hand_side_table[0]);
-		  String[] rhs_tableHeadings = getHeadings(right_hand_side_table[0]);
-		  
-		  for (int column_index = 0; column_index < lhs_tableHeadings.length; column_index++) {
-			  heading += lhs_tableHeadings[column_index] + "\t";
-		  }
-		  for (int column_index = 0; column_index < rhs_tableHeadings.length; column_index++) {
-			  heading += rhs_tableHeadings[column_index] + "\t";
-		  }
-		  
-		    for (int headingIndex = 0; headingIndex < lhs_tableHeadings.length; headingIndex++) {
-		        String heading_value = lhs_tableHeadings[headingIndex].split(" ")[0];
-		        if (heading_value.matches(left_hand_side_table[2])) {
-		          lhs_keyIndex = headingIndex;
-		        }
-		      }
-		    
-		    for (int headingIndex = 0; headingIndex < rhs_tableHeadings.length; headingIndex++) {
-		        String heading_value = rhs_tableHeadings[headingIndex].split(" ")[0];
-		        if (heading_value.matches(right_hand_side_table[2])) {
-		          rhs_keyIndex = headingIndex;
-		        }
-		      }
-
-		    headings = heading.split("\t");
-		    rows.add(headings);
-		    
-	} catch (Exception e) {
-		e.printStackTrace();
-	}
-	  
-	  if (join.equals("inner join")) {
-		  
-		  try {
-			String lhs_cursor = "";
-			for (int lhs_lineIndex = 0; lhs_cursor != null; lhs_lineIndex++) {
-				
-				lhs_cursor = lhs_reader.readLine();
-				 
-				if ((lhs_lineIndex != 0) && (lhs_cursor != null) ) {
-					
-					rhs_reader = new BufferedReader(new FileReader(rhs_location));
-					String rhs_cursor = "";
-					for (int rhs_lineIndex = 0; rhs_cursor != null; rhs_lineIndex++) {
-						rhs_cursor = rhs_reader.readLine();
-						if ((rhs_lineIndex != 0) && (rhs_cursor != null) ) {
-						
-							String[] lhs_dataRow = lhs_cursor.split("\t");
-							String[] rhs_dataRow = rhs_cursor.split("\t");
-						
-							if (lhs_dataRow[lhs_keyIndex].equals(rhs_dataRow[rhs_keyIndex])) {
-								
-								String[] row = (lhs_cursor + rhs_cursor).split("\t");
-								rows.add(row);
-
-							}
-						
-						}
-						
-					}
-					
-				}
-				  
-			  }
-
-		} catch (IOException e) {
-
-			e.printStackTrace();
-		}
-		  
-	  } else if (join.equals("left outer join")) {
-		  
-		  try {
-			String lhs_cursor = "";
-			for (int lhs_lineIndex = 0; lhs_cursor != null; lhs_lineIndex++) {
-				
-				boolean added_flag = false;
-				
-				lhs_cursor = lhs_reader.readLine();
-				 
-				if ((lhs_lineIndex != 0) && (lhs_cursor != null) ) {
-					
-					rhs_reader = new BufferedReader(new FileReader(rhs_location));
-					String rhs_cursor = "";
-					for (int rhs_lineIndex = 0; rhs_cursor != null; rhs_lineIndex++) {
-						rhs_cursor = rhs_reader.readLine();
-						if ((rhs_lineIndex != 0) && (rhs_cursor != null) ) {
-						
-							String[] lhs_dataRow = lhs_cursor.split("\t");
-							String[] rhs_dataRow = rhs_cursor.split("\t");
-						
-							if (lhs_dataRow[lhs_keyIndex].equals(rhs_dataRow[rhs_keyIndex])) {
-								
-								String[] row = (lhs_cursor + rhs_cursor).split("\t");
-								rows.add(row);
-								added_flag = true;
-
-							} 
-						
-						}
-						
-					}
-					
-					if (added_flag == false) {
-						String[] dataRow = new String[headings.length];
-						String[] lineData = lhs_cursor.split("\t");
-						for (int columnIndex = 0; columnIndex < dataRow.length; columnIndex++) {
-							
-							if (columnIndex < lineData.length) {
-								
-								dataRow[columnIndex] = lineData[columnIndex];
-								
-							} else {
-								
-								dataRow[columnIndex] = "";
-								
-							}
-							
-						}
-						 rows.add(dataRow);
-					}
-					
-				}
-				
-				
-				  
-			}
-
-		} catch (IOException e) {
-
-			e.printStackTrace();
-		}
-		  
-	  }
-		try {
-			lhs_reader.close();
-			rhs_reader.close();
-		} catch (IOException e) {
-
-			e.printStackTrace();
-		}
-	  return rows; 
-	  
-	  
-  }
-  
   /*
   Function: deleteRow_greaterThan
   Purpose: The purpose of deleteRow_greaterThan() is to delete a row within a table given a key
@@ -657,6 +400,8 @@ public class DatabaseAbstraction {
   is skipped, this means the constraint has been satisfied and therefore the deleted_column count
   increases in which is to be returned. Once searching is completed the file is cleared with
   headings of the table appended and each row within the rows buffer appended into the table file.
+  Within a transaction the deletion is instead recorded in the write set of the transaction. On a partitioned table
+  the deletion is made on every partition that may hold a matching row.
   - Parameters:
   1. table: String
   2. key: String
@@ -664,6 +409,22 @@ public class DatabaseAbstraction {
   - Return Type: int
   */
   public int deleteRow_greaterThan(String table, String key, String value) {
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      return memoryTable.delete(key, value, true);
+    }
+    Partitioning partitioning = getPartitioning(table);
+    if (partitioning != null) {
+      return forPartitions(table, partitioning, key, ">", value,
+          partition -> deleteRow_greaterThan(partition, key, value));
+    }
+    if (transaction != null) {
+      return deleteSnapshot(table, key, value, true);
+    }
+    return autocommit(table, () -> writeDelete_greaterThan(table, key, value), -1);
+  }
+
+  private int writeDelete_greaterThan(String table, String key, String value) {
     String tablePath = currentDatabase + table.toLowerCase() + ".txt";
     File location = new File(tablePath);
     BufferedReader tableReader = null;
@@ -724,13 +485,12 @@ public class DatabaseAbstraction {
     } catch (Exception exception) {
       exception.printStackTrace();
     }
-    // NOTE: Remove already saved headings. This allows rows to be strictly row data.
-    rows.remove();
+    // NOTE: The headings were skipped while reading, so every buffered row is row data.
     try {
       tableWriter = new BufferedWriter(new FileWriter(location, true));
       while (!rows.isEmpty()) {
         String[] columns = rows.remove();
-        if (!appendRow(table, columns)) {
+        if (!writeRow(table, columns)) {
           throw new Exception();
         }
       }
@@ -751,6 +511,8 @@ public class DatabaseAbstraction {
   is skipped, this means the constraint has been satisfied and therefore the deleted_column count
   increases in which is to be returned. Once searching is completed the file is cleared with
   headings of the table appended and each row within the rows buffer appended into the table file.
+  Within a transaction the deletion is instead recorded in the write set of the transaction. On a partitioned table
+  the deletion is made on every partition that may hold a matching row.
   - Parameters:
   1. table: String
   2. key: String
@@ -758,6 +520,22 @@ public class DatabaseAbstraction {
   - Return Type: int
   */
   public int deleteRow_equality(String table, String key, String value) {
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      return memoryTable.delete(key, value, false);
+    }
+    Partitioning partitioning = getPartitioning(table);
+    if (partitioning != null) {
+      return forPartitions(table, partitioning, key, "=", value,
+          partition -> deleteRow_equality(partition, key, value));
+    }
+    if (transaction != null) {
+      return deleteSnapshot(table, key, value, false);
+    }
+    return autocommit(table, () -> writeDelete_equality(table, key, value), -1);
+  }
+
+  private int writeDelete_equality(String table, String key, String value) {
     String tablePath = currentDatabase + table.toLowerCase() + ".txt";
     File location = new File(tablePath);
     BufferedReader tableReader = null;
@@ -819,7 +597,7 @@ public class DatabaseAbstraction {
       tableWriter = new BufferedWriter(new FileWriter(location, true));
       while (!rows.isEmpty()) {
         String[] columns = rows.remove();
-        if (!appendRow(table, columns)) {
+        if (!writeRow(table, columns)) {
           throw new Exception();
         }
       }
@@ -842,7 +620,10 @@ public class DatabaseAbstraction {
   rows. The number of rows modified is counted with records modified count, this is returned by the
   function. The rows buffer is then used to write back into the table by first clearing the table with
   only the header intact. The rows from the rows buffer are then appended into the table until
-  there are no remaining rows.
+  there are no remaining rows. Within a transaction the update is instead recorded in the write set
+  of the transaction and the table is left unchanged until the transaction commits. On a partitioned table the
+  update is made on every partition that may hold a matching row, unless it changes the partition column, in which
+  case the rows are moved to the partition of their new value.
   - Parameters:
   1. table: String
   2. key: String
@@ -851,20 +632,28 @@ public class DatabaseAbstraction {
   */
   public int updateTable_equality(String table, String key, String value, String selected_column,
       String new_value) {
-
-    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
-
-    if (transactionEnable) {
-      create_cacheTable(table);
-      tablePath = currentDatabase + table.toLowerCase() + "_cache.txt";
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      return memoryTable.update(key, value, selected_column, new_value);
     }
-
-    if (transactionEnable && tableLocked(table)) {
-      errorOccurance = true;
-      return -1;
-    } else if (transactionEnable && !tableLocked(table)) {
-      lockTable(table);
+    Partitioning partitioning = getPartitioning(table);
+    if (partitioning != null && selected_column.equals(partitioning.column)) {
+      return movePartitionRows(table, partitioning, key, value, selected_column, new_value);
     }
+    if (partitioning != null) {
+      return forPartitions(table, partitioning, key, "=", value,
+          partition -> updateTable_equality(partition, key, value, selected_column, new_value));
+    }
+    if (transaction != null) {
+      return updateSnapshot_equality(table, key, value, selected_column, new_value);
+    }
+    return autocommit(table, () -> writeUpdate_equality(table, key, value, selected_column, new_value), -1);
+  }
+
+  private int writeUpdate_equality(String table, String key, String value, String selected_column,
+      String new_value) {
+
+    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
 
     File location = new File(tablePath);
     BufferedReader tableReader = null;
@@ -930,14 +719,8 @@ public class DatabaseAbstraction {
       tableWriter = new BufferedWriter(new FileWriter(location, true));
       while (!rows.isEmpty()) {
         String[] columns = rows.remove();
-        if (transactionEnable) {
-          if (!appendRow(table + "_cache", columns)) {
-            throw new Exception();
-          }
-        } else {
-          if (!appendRow(table, columns)) {
-            throw new Exception();
-          }
+        if (!writeRow(table, columns)) {
+          throw new Exception();
         }
       }
       tableWriter.close();
@@ -948,98 +731,454 @@ public class DatabaseAbstraction {
   }
 
   /*
-  Function: appendRow
-  Purpose: The purpose of appendRow() is to abstract File System operations related to adding row
-  data to a table. Using a given table and a set of values, the function reads the table headings
-  to ensure given values abide by the table schema. If so, the values are transformed into a row
-  to be appended into a table. If data appended to the table is successful, then the function
-  returns true otherwise the function has failed and returns false. This is mainly a helper
-  function.
+  Function: updateSnapshot_equality
+  Purpose: The purpose of updateSnapshot_equality() is to update rows within a running transaction. The rows of the
+  table are read as of the snapshot of the transaction with the changes of the transaction applied, and every row
+  satisfying the equality constraint is recorded in the write set of the transaction with the selected column
+  replaced. The table file is not changed until the transaction commits. The transaction takes an IX lock on the table
+  and an X lock on every row of the snapshot it changes, so transactions of this process changing different rows
+  proceed together while a transaction changing a row already changed by another waits for it. If the snapshot of the
+  table cannot be read or a lock cannot be acquired, the transaction is marked to abort and -1 is returned.
   - Parameters:
   1. table: String
-  2. values: String[]
-  - Return Type: boolean
+  2. key: String
+  3. value: String
+  4. selected_column: String
+  5. new_value: String
+  - Return Type: int
   */
-  public boolean appendRow(String table, String[] values) {
-    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
-    File location = new File(tablePath);
-    BufferedWriter tableWriter = null;
-    String row = null;
+  private int updateSnapshot_equality(String table, String key, String value, String selected_column,
+      String new_value) {
+    String[] headings = null;
+    Integer keyIndex = null;
+    Integer selectedColumn_index = null;
+    int records_modified = 0;
     try {
-      row = createRow(table, values);
+      headings = getHeadings(table);
     } catch (Exception exception) {
       exception.printStackTrace();
-      return false;
+      return 0;
     }
-    if (!location.exists()) {
-      return false;
+    for (int headingIndex = 0; headingIndex < headings.length; headingIndex++) {
+      String heading_value = headings[headingIndex].split(" ")[0];
+      if (heading_value.matches(key) && keyIndex == null) {
+        keyIndex = headingIndex;
+      }
+      if (heading_value.matches(selected_column)) {
+        selectedColumn_index = headingIndex;
+      }
+    }
+    if (keyIndex == null || selectedColumn_index == null) {
+      return 0;
     }
     try {
-      tableWriter = new BufferedWriter(new FileWriter(location, true));
+      ArrayList<String[]> snapshot = versionStore.snapshot(transaction, table);
+      ArrayList<String[]> rows = transaction.rows(table);
+      lockTransaction(table, null);
+      for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+        String[] columns = rows.get(rowIndex);
+        if (columns != null && filterRow_equality(columns, keyIndex, value)) {
+          String[] before = rowIndex < snapshot.size() ? snapshot.get(rowIndex) : null;
+          if (before != null) {
+            lockTransaction(table, before);
+          }
+          transaction.write(table, rowIndex, before, updateRow(columns.clone(), selectedColumn_index, new_value));
+          records_modified++;
+        }
+      }
     } catch (Exception exception) {
-      exception.printStackTrace();
-      return false;
+      errorOccurance = true;
+      return -1;
     }
+    return records_modified;
+  }
+
+  /*
+  Function: deleteSnapshot
+  Purpose: The purpose of deleteSnapshot() is to delete rows within a running transaction. The rows of the table are
+  read as of the snapshot of the transaction with the changes of the transaction applied, and every row satisfying
+  the equality constraint, or the greater than constraint when greaterThan is set, is recorded in the write set of
+  the transaction as removed. Rows of the snapshot are locked like updated rows while rows inserted by the transaction
+  are seen by no other transaction and need no lock. If the snapshot of the table cannot be read or a lock cannot be
+  acquired, the transaction is marked to abort and -1 is returned.
+  - Parameters:
+  1. table: String
+  2. key: String
+  3. value: String
+  4. greaterThan: boolean
+  - Return Type: int
+  */
+  private int deleteSnapshot(String table, String key, String value, boolean greaterThan) {
+    String[] headings = null;
+    Integer keyIndex = null;
+    int records_deleted = 0;
     try {
-      tableWriter.newLine();
-      tableWriter.append(row);
-      tableWriter.close();
-    } catch (IOException exception) {
+      headings = getHeadings(table);
+    } catch (Exception exception) {
       exception.printStackTrace();
-      return false;
+      return 0;
     }
-    return true;
+    for (int headingIndex = 0; headingIndex < headings.length; headingIndex++) {
+      String heading_value = headings[headingIndex].split(" ")[0];
+      if (heading_value.matches(key) && keyIndex == null) {
+        keyIndex = headingIndex;
+      }
+    }
+    if (keyIndex == null) {
+      return 0;
+    }
+    try {
+      ArrayList<String[]> snapshot = versionStore.snapshot(transaction, table);
+      ArrayList<String[]> rows = transaction.rows(table);
+      lockTransaction(table, null);
+      for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+        String[] columns = rows.get(rowIndex);
+        if (columns == null || !(greaterThan ? filterRow_greaterThan(columns, keyIndex, value)
+            : filterRow_equality(columns, keyIndex, value))) {
+          continue;
+        }
+        String[] before = rowIndex < snapshot.size() ? snapshot.get(rowIndex) : null;
+        if (before != null) {
+          lockTransaction(table, before);
+        }
+        transaction.write(table, rowIndex, before, null);
+        records_deleted++;
+      }
+    } catch (Exception exception) {
+      errorOccurance = true;
+      return -1;
+    }
+    return records_deleted;
   }
 
   /*
-  Function: createRow
-  Purpose: The purpose of createRow() is to abstract operations related to ensuring raw given data
-  abides to table schema and transform raw data values into a row string. The transformed values
-  are then returned by the function as one string to be appended to a table. This function is
-  responsible for defining the overall structure of a table.
+  Function: insertSnapshot
+  Purpose: The purpose of insertSnapshot() is to insert a row within a running transaction. The values are checked
+  against the schema of the table the same way as rows appended to the table file and the row is recorded in the
+  write set of the transaction, where reads of the transaction see it after the rows of the snapshot. An IX lock is
+  held on the table so statements rewriting the whole table wait for the transaction. If the values do not satisfy
+  the schema false is returned, and if the lock cannot be acquired the transaction is also marked to abort.
   - Parameters:
   1. table: String
   2. values: String[]
   - Return Type: boolean
   */
-  private String createRow(String table, String[] values) throws Exception {
-    String[] types = null;
-    String row = "";
+  private boolean insertSnapshot(String table, String[] values) {
+    String[] row;
+    int width;
     try {
-      types = getHeadings(table);
-      for (int typesIndex = 0; typesIndex < types.length; typesIndex++) {
-        types[typesIndex] = types[typesIndex].split(" ")[1];
-      }
+      width = getHeadings(table).length;
+      row = Arrays.copyOf(createRow(table, values).split("\t"), width);
     } catch (Exception exception) {
       exception.printStackTrace();
+      return false;
     }
-    for (int columnIndex = 0; columnIndex < types.length; columnIndex++) {
-      String value = values[columnIndex];
-      String type = types[columnIndex];
-      if (type.matches("int")) {
-        Integer row_value = Integer.parseInt(values[columnIndex]);
-        row += row_value;
-      } else if (type.matches("float")) {
-        Float row_value = Float.parseFloat(values[columnIndex]);
-        row += row_value;
-      } else if (type.contains("varchar")) {
-        String processed_type = type.replace("(", " ").replace(")", "");
-        String[] tokens = processed_type.split(" ");
-        Integer varchar_length_constraint = Integer.parseInt(tokens[1]);
-        if (value.length() > varchar_length_constraint) {
-          throw new Exception("USER EXCEPTION - createRow: varchar(" + varchar_length_constraint
-              + ") is not satisfied.");
-        }
-        row += value;
-      } else {
-        throw new Exception("USER EXCEPTION - createRow: type not recognized.");
+    for (int columnIndex = 0; columnIndex < width; columnIndex++) {
+      if (row[columnIndex] == null) {
+        row[columnIndex] = "";
+      }
+    }
+    try {
+      versionStore.snapshot(transaction, table);
+      lockTransaction(table, null);
+      transaction.insert(table, row);
+    } catch (Exception exception) {
+      errorOccurance = true;
+      return false;
+    }
+    return true;
+  }
+
+  /*
+  Function: appendRow
+  Purpose: The purpose of appendRow() is to abstract File System operations related to adding row
+  data to a table. Using a given table and a set of values, the function reads the table headings
+  to ensure given values abide by the table schema. If so, the values are transformed into a row
+  to be appended into a table. If data appended to the table is successful, then the function
+  returns true otherwise the function has failed and returns false. This is mainly a helper
+  function. Within a transaction the row is instead recorded in the write set of the transaction. A row of a
+  partitioned table is appended to its partition by appendRows().
+  - Parameters:
+  1. table: String
+  2. values: String[]
+  - Return Type: boolean
+  */
+  public boolean appendRow(String table, String[] values) {
+    if (getPartitioning(table) != null || getMemoryTable(table) != null) {
+      ArrayList<String[]> rows = new ArrayList<>();
+      rows.add(values);
+      try {
+        return appendRows(table, rows) == 1;
+      } catch (Exception exception) {
+        return false;
+      }
+    }
+    if (transaction != null) {
+      return insertSnapshot(table, values);
+    }
+    return autocommit(table, () -> writeRow(table, values), false);
+  }
+
+  /*
+  Function: copyRows
+  Purpose: The purpose of copyRows() is to load the rows of a CSV or TSV file into a table in bulk. The schema of the
+  table is read once and the rows are checked and encoded by a Bulk Loader. Outside of a transaction the rows are
+  appended to the table file a batch at a time as a single commit holding the same locks as appending one row. Within
+  a transaction they are recorded in the write set of the transaction, which spills them to disk as needed. A row
+  failing the schema fails the whole statement: outside of a transaction nothing is appended and within one the
+  transaction is marked to abort. The number of rows loaded is returned and an exception describes any failure. The
+  file is read twice for a partitioned table, once to check every row and once to append each batch to the
+  partitions of its rows, each partition holding its rows of the batch as its own commit.
+  - Parameters:
+  1. table: String
+  2. path: String
+  3. format: String
+  4. header: boolean
+  - Return Type: long
+  */
+  public long copyRows(String table, String path, String format, boolean header) throws Exception {
+    if (currentDatabase == null || !tableExists(table)) {
+      throw new Exception("USER EXCEPTION - copyRows: table " + table + " does not exist.");
+    }
+    File source = new File(path);
+    if (!source.isFile()) {
+      throw new Exception("USER EXCEPTION - copyRows: file " + path + " does not exist.");
+    }
+    BulkLoader loader = new BulkLoader(getHeadings(table), format, header);
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      return memoryTable.load(loader, source);
+    }
+    Partitioning partitioning = getPartitioning(table);
+    if (partitioning != null) {
+      loader.load(source, batch -> { });
+      return loader.load(source, batch -> insertPartitioned(table, partitioning, loader, batch));
+    }
+    if (transaction != null) {
+      try {
+        versionStore.snapshot(transaction, table);
+        lockTransaction(table, null);
+        return loader.load(source, batch -> {
+          for (String[] row : batch.rows) {
+            transaction.insert(table, row);
+          }
+        });
+      } catch (Exception exception) {
+        errorOccurance = true;
+        throw exception;
+      }
+    }
+    long copied;
+    try {
+      copied = autocommit(table, () -> writeCopy(table, loader, source), -1L);
+    } catch (RuntimeException exception) {
+      throw exception.getCause() instanceof Exception ? (Exception) exception.getCause() : exception;
+    }
+    if (copied < 0) {
+      throw new Exception("USER EXCEPTION - copyRows: table " + table + " is locked.");
+    }
+    return copied;
+  }
+
+  /*
+  Function: writeCopy
+  Purpose: The purpose of writeCopy() is to append the rows of a Bulk Loader to the end of a table file, writing each
+  batch with a single write. If the load fails, the table file is cut back to its length before the load.
+  - Parameters:
+  1. table: String
+  2. loader: BulkLoader
+  3. source: File
+  - Return Type: long
+  */
+  private long writeCopy(String table, BulkLoader loader, File source) throws Exception {
+    File location = new File(currentDatabase + table.toLowerCase() + ".txt");
+    try (FileChannel channel = FileChannel.open(location.toPath(), StandardOpenOption.WRITE)) {
+      long size = channel.size();
+      channel.position(size);
+      try {
+        return loader.load(source, batch -> appendBatch(channel, batch));
+      } catch (Exception exception) {
+        channel.truncate(size);
+        throw exception;
+      }
+    }
+  }
+
+  /*
+  Function: appendRows
+  Purpose: The purpose of appendRows() is to add several rows to a table as one statement. The schema of the table is
+  read once and every row is checked and encoded before any is written, so a row failing the schema fails the whole
+  statement. Outside of a transaction the rows are appended to the table file with a single write as one commit, and
+  within a transaction they are recorded in the write set of the transaction. The rows of a partitioned table are
+  checked against its schema and then added to their partitions. The number of rows added is returned and an
+  exception describes any failure.
+  - Parameters:
+  1. table: String
+  2. values: ArrayList<String[]>
+  - Return Type: int
+  */
+  public int appendRows(String table, ArrayList<String[]> values) throws Exception {
+    if (currentDatabase == null || !tableExists(table)) {
+      throw new Exception("USER EXCEPTION - appendRows: table " + table + " does not exist.");
+    }
+    BulkLoader loader = new BulkLoader(getHeadings(table), "csv", false);
+    BulkLoader.Batch batch = loader.encodeRows(values, 1);
+    Partitioning partitioning = getPartitioning(table);
+    if (partitioning != null) {
+      return insertPartitioned(table, partitioning, loader, batch);
+    }
+    return insertBatch(table, batch);
+  }
+
+  /*
+  Function: insertBatch
+  Purpose: The purpose of insertBatch() is to add a batch of checked and encoded rows to a table, appending them to
+  the table file with a single write as one commit outside of a transaction and recording them in the write set of
+  the transaction within one.
+  - Parameters:
+  1. table: String
+  2. batch: Batch
+  - Return Type: int
+  */
+  private int insertBatch(String table, BulkLoader.Batch batch) throws Exception {
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      return memoryTable.insert(batch.rows);
+    }
+    if (transaction != null) {
+      try {
+        versionStore.snapshot(transaction, table);
+        lockTransaction(table, null);
+        for (String[] row : batch.rows) {
+          transaction.insert(table, row);
+        }
+      } catch (Exception exception) {
+        errorOccurance = true;
+        throw exception;
+      }
+      return batch.rows.size();
+    }
+    int appended;
+    try {
+      appended = autocommit(table, () -> writeRows(table, batch), -1);
+    } catch (RuntimeException exception) {
+      throw exception.getCause() instanceof Exception ? (Exception) exception.getCause() : exception;
+    }
+    if (appended < 0) {
+      throw new Exception("USER EXCEPTION - appendRows: table " + table + " is locked.");
+    }
+    return appended;
+  }
+
+  private int writeRows(String table, BulkLoader.Batch batch) throws IOException {
+    File location = new File(currentDatabase + table.toLowerCase() + ".txt");
+    try (FileChannel channel = FileChannel.open(location.toPath(), StandardOpenOption.WRITE)) {
+      channel.position(channel.size());
+      appendBatch(channel, batch);
+    }
+    return batch.rows.size();
+  }
+
+  private static void appendBatch(FileChannel channel, BulkLoader.Batch batch) throws IOException {
+    ByteBuffer bytes = ByteBuffer.wrap(batch.lines.getBytes(StandardCharsets.UTF_8));
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+  }
+
+  private boolean writeRow(String table, String[] values) {
+    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
+    File location = new File(tablePath);
+    BufferedWriter tableWriter = null;
+    String row = null;
+    try {
+      row = createRow(table, values);
+    } catch (Exception exception) {
+      exception.printStackTrace();
+      return false;
+    }
+    if (!location.exists()) {
+      return false;
+    }
+    try {
+      tableWriter = new BufferedWriter(new FileWriter(location, true));
+    } catch (Exception exception) {
+      exception.printStackTrace();
+      return false;
+    }
+    try {
+      tableWriter.newLine();
+      tableWriter.append(row);
+      tableWriter.close();
+    } catch (IOException exception) {
+      exception.printStackTrace();
+      return false;
+    }
+    return true;
+  }
+
+  /*
+  Function: createRow
+  Purpose: The purpose of createRow() is to abstract operations related to ensuring raw given data
+  abides to table schema and transform raw data values into a row string. The transformed values
+  are then returned by the function as one string to be appended to a table. This function is
+  responsible for defining the overall structure of a table.
+  - Parameters:
+  1. table: String
+  2. values: String[]
+  - Return Type: boolean
+  */
+  private String createRow(String table, String[] values) throws Exception {
+    String[] types = null;
+    String row = "";
+    try {
+      types = getHeadings(table);
+      for (int typesIndex = 0; typesIndex < types.length; typesIndex++) {
+        types[typesIndex] = types[typesIndex].split(" ")[1];
+      }
+    } catch (Exception exception) {
+      exception.printStackTrace();
+    }
+    for (int columnIndex = 0; columnIndex < types.length; columnIndex++) {
+      String value = values[columnIndex];
+      String type = types[columnIndex];
+      if (type.matches("int")) {
+        Integer row_value = Integer.parseInt(values[columnIndex]);
+        row += row_value;
+      } else if (type.matches("float")) {
+        Float row_value = Float.parseFloat(values[columnIndex]);
+        row += row_value;
+      } else if (type.contains("varchar")) {
+        String processed_type = type.replace("(", " ").replace(")", "");
+        String[] tokens = processed_type.split(" ");
+        Integer varchar_length_constraint = Integer.parseInt(tokens[1]);
+        if (value.length() > varchar_length_constraint) {
+          throw new Exception("USER EXCEPTION - createRow: varchar(" + varchar_length_constraint
+              + ") is not satisfied.");
+        }
+        row += value;
+      } else {
+        throw new Exception("USER EXCEPTION - createRow: type not recognized.");
       }
       row += "\t";
     }
     return row;
   }
 
-  private String[] getHeadings(String table) throws Exception {
+  /*
+  Function: getHeadings
+  Purpose: The purpose of getHeadings() is to abstract operations to getting table schema such File System access to
+  the table and reading operations. The function reads the first line of a table to determine its headings and then
+  processes headings into a array for easy access of a single heading.
+  - Parameters:
+  1. table: String
+  - Return Type: String[]
+  */
+  public String[] getHeadings(String table) throws Exception {
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      return memoryTable.image().headings.clone();
+    }
     String tablePath = currentDatabase + table.toLowerCase() + ".txt";
     File location = new File(tablePath);
     BufferedReader headerReader = null;
@@ -1120,15 +1259,32 @@ public class DatabaseAbstraction {
   /*
   Function: beginTransaction
   Purpose: The purpose of beginTransaction() is for operations of the Database Abstraction layer to
-  change based upon the change of a mode bit being "transaction_enable." If enabled, the function
-  modifies targeted files in the file system to allow for locking of table files and to allow for
-  changes of files to not be persisted in the disk until changes are to be comiited by the
+  change based upon the change of a mode bit being "transaction_enable." If enabled, a transaction is
+  started within the version store of the current database in which reads tables as of the moment the
+  transaction began and records changes to be persisted in the disk only when committed by the
   transaction.
   - Parameters:
   */
   public boolean beginTransaction() {
 
     transactionEnable = true;
+    errorOccurance = false;
+    if (currentDatabase == null) {
+      return true;
+    }
+    try {
+      versionStore = new VersionStore(currentDatabase);
+      transaction = versionStore.begin();
+      transaction.spillThreshold = spillThreshold;
+      transaction.optimistic = optimistic;
+      if (retrying) {
+        VersionStore.retryCount.incrementAndGet();
+      }
+    } catch (Exception exception) {
+      exception.printStackTrace();
+      errorOccurance = true;
+      return false;
+    }
     return true;
 
   }
@@ -1136,215 +1292,753 @@ public class DatabaseAbstraction {
   /*
   Function: commitTransaction
   Purpose: The purpose of commitTransaction() is for operations of the Database Abstraction layer to
-  fully transfer changes to the database from persisted cache table files to the database table
-  files and to unlock tables for other processes. The function fully implements atomic functionality
-  of changes made to database tables and readings the application to end a transaction enabled
-  state. The application firstly checks to ensure a error has not occurred between the start and end
-  of the transaction and to ensure a transaction is active. If one or both these checks fails, the
-  transaction is aborted and changes are not persisted. If not aborted, the application reads cache
-  files from the database yet to be committed saving table names associated to the cache files.
-  Using the helper functions, the application then persists each cache file to its respective table,
-  and finally for clean up operations removes any locks on tables allowing other processes to write
-  to the tables.
+  persist the changes recorded by a transaction into the database table files and to end the
+  transaction enabled state. The application firstly checks to ensure a error has not occurred
+  between the start and end of the transaction and to ensure a transaction is active. If one or both
+  these checks fails, the transaction is aborted and changes are not persisted. If not aborted, the
+  version store applies the changes of the transaction unless another transaction committed a change
+  to one of the same rows after this transaction began, or an optimistic transaction read a table
+  changed since it began, in which case the transaction is aborted. The transaction is ended either
+  way and counted as committed or aborted by the version store.
   - Parameters:
   */
   public boolean commitTransaction() {
-
-    if (errorOccurance || !transactionEnable) {
+    if (!transactionEnable) {
       return false;
     }
-    String databasesPath = currentDatabase;
-    File location = new File(databasesPath);
-    String[] directory_files_names = location.list();
-    ArrayList<String> cache_table_names = new ArrayList<>();
-
-    for (int file_index = 0; file_index < location.list().length; file_index++) {
-
-      if (directory_files_names[file_index].contains("_cache.txt")) {
+    boolean committed = endTransaction(!errorOccurance);
+    (committed ? VersionStore.commitCount : VersionStore.abortCount).incrementAndGet();
+    retrying = !committed;
+    return committed;
+  }
 
-        cache_table_names.add(directory_files_names[file_index].split("_cache.txt")[0]);
+  /*
+  Function: abortTransaction
+  Purpose: The purpose of abortTransaction() is to end the running transaction without persisting its changes, as is
+  done by ROLLBACK or when the session running it goes away. The tables were never changed by the transaction, so its
+  write set is dropped without undoing anything. A transaction ended this way is not counted as aborted. If no
+  transaction is running, the function returns false.
+  - Parameters:
+  */
+  public boolean abortTransaction() {
+    if (!transactionEnable) {
+      return false;
+    }
+    endTransaction(false);
+    retrying = false;
+    return true;
+  }
 
+  /*
+  Function: endTransaction
+  Purpose: The purpose of endTransaction() is to end the transaction enabled state, committing the running transaction
+  through the version store if asked to and discarding it otherwise. The locks of the transaction are released either
+  way, and the transaction is ended with the version store even if its commit failed, before waiting for the commit
+  to be forced to the disk along with the other commits of its batch. The function returns true only if the
+  transaction committed and was forced; an error on the way is kept as the commit failure of the session.
+  - Parameters:
+  1. commit: boolean
+  - Return Type: boolean
+  */
+  private boolean endTransaction(boolean commit) {
+    boolean committed = commit;
+    transactionEnable = false;
+    errorOccurance = false;
+    commitFailure = null;
+    if (transaction == null) {
+      return committed;
+    }
+    Transaction ending = transaction;
+    transaction = null;
+    try {
+      try {
+        if (committed) {
+          committed = versionStore.commit(ending, this::createRow);
+        }
+      } finally {
+        versionStore.end(ending);
       }
-
+    } catch (Exception exception) {
+      commitFailure = exception.getMessage();
+      return false;
+    } finally {
+      LockManager.shared.releaseAll(ending);
     }
-
-    for (int table_index = 0; table_index < cache_table_names.size(); table_index++) {
-      if (!persist_cacheTable(cache_table_names.get(table_index))) {
-        return false;
-      };
+    try {
+      versionStore.awaitCommit();
+    } catch (Exception exception) {
+      commitFailure = exception.getMessage();
+      return false;
     }
+    return committed;
+  }
 
-    for (int table_index = 0; table_index < cache_table_names.size(); table_index++) {
-      if (!unlockTable(cache_table_names.get(table_index))) {
-        return false;
-      };
+  /*
+  Function: lockTransaction
+  Purpose: The purpose of lockTransaction() is to lock a table in IX mode, or a row of the table given as its values
+  in X mode, for the running transaction before it records a change. Optimistic transactions take no locks since
+  their changes are validated when they commit. If the lock cannot be acquired an exception is thrown.
+  - Parameters:
+  1. table: String
+  2. row: String[]
+  - Return Type: void
+  */
+  private void lockTransaction(String table, String[] row) throws Exception {
+    if (!transaction.optimistic) {
+      LockManager.shared.lock(transaction, lockResource(table, row), row == null ? LockManager.Mode.IX
+          : LockManager.Mode.X, lockTimeout);
     }
-
-    transactionEnable = false;
-
-    return true;
-
   }
 
   /*
-  Function: create_cacheTable
-  Purpose: The purpose of create_cacheTable() is for operations in creating a cacheTable during
-  database write operations when in transaction mode. When the application has transaction mode
-  enabled, changes made to the database are not persisted but rather saved in cache files that are
-  used in time coming for committing changes. This function abstracts the needed code for creating
-  and ensuring the existence of a cache table file. If successful, the function returns a true
-  value denoting a cacheTable was created otherwise returns false. Failures encountered derive from
-  the file system being either the cacheTable is already created or another error has occurred.
+  Function: autocommit
+  Purpose: The purpose of autocommit() is to run a write to a table outside of the write set of a
+  transaction as its own commit through the version store, so transactions running at the same time
+  keep reading the rows as they were when they began. The write rewrites the table, so an X lock on
+  the table is held while it runs, owned by the running transaction if there is one, along with an
+  exclusive Table Lock so readers in other processes finish first. If either lock cannot be acquired
+  the given locked value is returned instead. Once both locks are released the write waits to be
+  forced to the disk by the group commit of the database. Without a current database the write
+  is run directly.
   - Parameters:
   1. table: String
+  2. write: Callable<T>
+  3. locked: T
+  - Return Type: T
   */
-  private boolean create_cacheTable(String table) {
-
-    String cachePath = currentDatabase + table.toLowerCase() + "_cache.txt";
-    File cacheLocation = new File(cachePath);
-
-    if (cacheLocation.exists()) {
-      return false;
-    } else {
-
-      String tablePath = currentDatabase + table.toLowerCase() + ".txt";
-      File tableLocation = new File(tablePath);
-
+  private <T> T autocommit(String table, Callable<T> write, T locked) {
+    if (currentDatabase == null) {
       try {
-        Files.copy(tableLocation.toPath(), cacheLocation.toPath());
-      } catch (IOException exception) {
-        exception.printStackTrace();
-        return false;
+        return write.call();
+      } catch (Exception exception) {
+        throw new RuntimeException(exception);
       }
-
     }
-
-    return true;
-
+    Object owner = transaction != null ? transaction : new Object();
+    TableLock tableLock;
+    try {
+      LockManager.shared.lock(owner, lockResource(table, null), LockManager.Mode.X, lockTimeout);
+      tableLock = TableLock.acquire(currentDatabase, table, false, lockTimeout);
+    } catch (Exception exception) {
+      if (owner != transaction) {
+        LockManager.shared.releaseAll(owner);
+      }
+      errorOccurance = transaction != null;
+      return locked;
+    }
+    VersionStore store = new VersionStore(currentDatabase);
+    T result;
+    try (tableLock) {
+      result = store.autocommit(table, write);
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    } finally {
+      if (owner != transaction) {
+        LockManager.shared.releaseAll(owner);
+      }
+    }
+    try {
+      store.awaitCommit();
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    }
+    return result;
   }
 
   /*
-  Function: lockTable
-  Purpose: The purpose of lockTable() is to abstract operations required for locking a table in
-  which guarantees no other process can access the table unless the lock is removed. The lock for
-  a table is established through a file in which takes a table name and then adds "_lock" to denote
-  to other processes the application is currently using the table. When the table is locked, the
-  function fails and return false, otherwise the function creates a lock file and is successful.
+  Function: lockResource
+  Purpose: The purpose of lockResource() is to name a table, or a row of a table given as its values, within the lock
+  manager. Names include the database so tables of different databases never share a lock.
   - Parameters:
   1. table: String
+  2. row: String[]
+  - Return Type: String
   */
-  private boolean lockTable(String table) {
+  private String lockResource(String table, String[] row) {
+    String resource = currentDatabase + table.toLowerCase();
+    return row == null ? resource : resource + "\u001F" + String.join("\t", row);
+  }
 
-    if (tableLocked(table)) {
-      return false;
+  /*
+  Function: setOption
+  Purpose: The purpose of setOption() is to change a setting of the session. The setting "lock_timeout" is the number
+  of milliseconds a statement waits for a lock before failing and "spill_threshold" is the number of rows a
+  transaction inserts before its write set spills them to disk. The setting "isolation" is either "snapshot", where
+  transactions lock the rows they change, or "optimistic", where transactions take no locks and record the tables
+  they read so they are validated against the commits made since their snapshot when they commit. Both apply to
+  transactions begun afterwards. The settings "commit_delay", in microseconds, and "commit_batch" are how long and
+  for how many commits the group commit waits before forcing a batch; they apply to every session of the process.
+  The setting "prefetch_depth" is the number of blocks read ahead of the tables read by the session, where 0 reads
+  them a buffer at a time. If the setting or its value is not recognized, the function returns false.
+  - Parameters:
+  1. name: String
+  2. value: String
+  - Return Type: boolean
+  */
+  public boolean setOption(String name, String value) {
+    if (name.equalsIgnoreCase("lock_timeout") && value.matches("[0-9]+")) {
+      lockTimeout = Long.parseLong(value);
+      return true;
+    }
+    if (name.equalsIgnoreCase("spill_threshold") && value.matches("[0-9]{1,9}")) {
+      spillThreshold = Integer.parseInt(value);
+      return true;
+    }
+    if (name.equalsIgnoreCase("commit_delay") && value.matches("[0-9]{1,9}")) {
+      GroupCommit.maxDelay = Long.parseLong(value);
+      return true;
+    }
+    if (name.equalsIgnoreCase("commit_batch") && value.matches("[0-9]{1,9}") && Integer.parseInt(value) > 0) {
+      GroupCommit.maxBatch = Integer.parseInt(value);
+      return true;
     }
+    if (name.equalsIgnoreCase("prefetch_depth") && value.matches("[0-9]{1,3}")) {
+      prefetchDepth = Integer.parseInt(value);
+      return true;
+    }
+    if (name.equalsIgnoreCase("isolation") && value.matches("(?i)snapshot|optimistic")) {
+      optimistic = value.equalsIgnoreCase("optimistic");
+      return true;
+    }
+    return false;
+  }
 
-    String tablePath = currentDatabase + table.toLowerCase() + "_lock";
+  /*
+  Function: openTable
+  Purpose: The purpose of openTable() is to abstract File System operations required to read a table row by row. The
+  function opens a reader over the table file positioned at the schema line so the caller reads the schema first and
+  every following line is a row. Within a transaction the reader is over the rows of the table as of the snapshot of
+  the transaction with the changes of the transaction applied, and an optimistic transaction adds the table to its
+  read set. Otherwise an IS lock is held on the table within this
+  process and a shared Table Lock against other processes until the reader is closed, so the table is not rewritten
+  while it is read. The IS lock only waits for the X lock of a statement rewriting the table; running transactions
+  hold IX locks but leave the table file alone until they commit, so reading the committed rows never waits for them.
+  The file is read through a PrefetchReader keeping prefetchDepth blocks in flight unless prefetchDepth is 0. If the
+  table does not exist, an exception is thrown. The caller is responsible for closing the reader.
+  - Parameters:
+  1. table: String
+  - Return Type: BufferedReader
+  */
+  public BufferedReader openTable(String table) throws Exception {
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      return memoryTable.open();
+    }
+    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
     File location = new File(tablePath);
-
+    if (!location.exists()) {
+      throw new Exception("USER EXCEPTION - openTable: table " + table + " does not exist.");
+    }
+    if (transaction != null) {
+      versionStore.snapshot(transaction, table);
+      if (transaction.optimistic) {
+        transaction.readSet.add(table.toLowerCase());
+      }
+      StringBuilder rows = new StringBuilder(String.join("\t", getHeadings(table))).append("\t");
+      for (String[] row : transaction.rows(table)) {
+        if (row != null) {
+          rows.append("\n").append(String.join("\t", row)).append("\t");
+        }
+      }
+      return new BufferedReader(new StringReader(rows.toString()));
+    }
+    Object owner = new Object();
+    String resource = lockResource(table, null);
+    LockManager.shared.lock(owner, resource, LockManager.Mode.IS, lockTimeout);
+    TableLock tableLock = null;
     try {
-      location.createNewFile();
-      return true;
-    } catch (IOException exception) {
-      exception.printStackTrace();
-      return false;
+      tableLock = TableLock.acquire(currentDatabase, table, true, lockTimeout);
+      TableLock held = tableLock;
+      PrefetchReader prefetch = prefetchDepth > 0 ? new PrefetchReader(location.toPath(), prefetchDepth) : null;
+      return new TableReader(prefetch != null ? prefetch : new FileReader(location), prefetch) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            try {
+              held.close();
+            } finally {
+              LockManager.shared.unlock(owner, resource);
+            }
+          }
+        }
+      };
+    } catch (Exception exception) {
+      if (tableLock != null) {
+        tableLock.close();
+      }
+      LockManager.shared.unlock(owner, resource);
+      throw exception;
     }
-
   }
 
   /*
-  Function: unlockTable
-  Purpose: The purpose of unlockTable() is to abstract operations required for unlocking a table in
-  which guarantees other process can access the table. The function removes the lock file given a
-  table name. Assuming the lock exists upon a table file, the file is removed and thus the function
-  returns true for a table being unlocked. If the functions returns false, it denotes nothing was
-  unlocked due to the table either not existing or the lock for the table not existing hence the
-  table was never locked in the first place.
+  Function: exportTable
+  Purpose: The purpose of exportTable() is to write a table in the format of its file to a channel and to return the
+  number of bytes written. Outside a transaction the table file already is that format, so it is handed to the
+  channel with transferTo(), which lets the operating system copy it to a file or socket without it passing through
+  the application, under the same locks openTable() takes. Within a transaction the rows of its snapshot are encoded
+  instead. A partitioned table is exported as a single table file, being its schema followed by the rows of every
+  partition in turn. If the table does not exist, an exception is thrown.
   - Parameters:
   1. table: String
+  2. target: WritableByteChannel
+  - Return Type: long
   */
-  private boolean unlockTable(String table) {
-
-    if (!tableLocked(table)) {
-      return false;
+  public long exportTable(String table, WritableByteChannel target) throws Exception {
+    if (!tableExists(table)) {
+      throw new Exception("USER EXCEPTION - exportTable: table " + table + " does not exist.");
     }
+    Partitioning partitioning = getPartitioning(table);
+    if (partitioning == null) {
+      return exportFile(table, target, 0);
+    }
+    long written = exportFile(table, target, 0);
+    long schema = (String.join("\t", getHeadings(table)) + "\t").getBytes(StandardCharsets.UTF_8).length;
+    for (int partition = 0; partition < partitioning.count; partition++) {
+      written += exportFile(Partitioning.partition(table, partition), target, schema);
+    }
+    return written;
+  }
 
-    String tablePath = currentDatabase + table.toLowerCase() + "_lock";
-    File location = new File(tablePath);
+  /*
+  Function: exportFile
+  Purpose: The purpose of exportFile() is to write the file of a table, or its snapshot within a transaction, to a
+  channel leaving out its first bytes, which is how the schema of a partition is left out of the export of its
+  table. A memory table has no file, so its rows are written out as one would be. The number of bytes written is
+  returned.
+  - Parameters:
+  1. table: String
+  2. target: WritableByteChannel
+  3. skip: long
+  - Return Type: long
+  */
+  private long exportFile(String table, WritableByteChannel target, long skip) throws Exception {
+    File location = new File(currentDatabase + table.toLowerCase() + ".txt");
+    if (transaction != null || getMemoryTable(table) != null) {
+      StringBuilder rows = new StringBuilder();
+      try (BufferedReader reader = openTable(table)) {
+        char[] buffer = new char[8192];
+        for (int length = reader.read(buffer); length >= 0; length = reader.read(buffer)) {
+          rows.append(buffer, 0, length);
+        }
+      }
+      byte[] encoded = rows.toString().getBytes(StandardCharsets.UTF_8);
+      ByteBuffer bytes = ByteBuffer.wrap(encoded, (int) Math.min(skip, encoded.length),
+          (int) Math.max(0, encoded.length - skip));
+      long length = bytes.remaining();
+      while (bytes.hasRemaining()) {
+        target.write(bytes);
+      }
+      return length;
+    }
+    Object owner = new Object();
+    String resource = lockResource(table, null);
+    LockManager.shared.lock(owner, resource, LockManager.Mode.IS, lockTimeout);
+    TableLock tableLock = null;
+    try {
+      tableLock = TableLock.acquire(currentDatabase, table, true, lockTimeout);
+      try (FileChannel channel = FileChannel.open(location.toPath(), StandardOpenOption.READ)) {
+        long size = channel.size();
+        long position = Math.min(skip, size);
+        while (position < size) {
+          long transferred = channel.transferTo(position, size - position, target);
+          if (transferred <= 0) {
+            break;
+          }
+          position += transferred;
+        }
+        return position - Math.min(skip, size);
+      }
+    } finally {
+      try {
+        if (tableLock != null) {
+          tableLock.close();
+        }
+      } finally {
+        LockManager.shared.unlock(owner, resource);
+      }
+    }
+  }
 
-    return location.delete();
+  /*
+  Function: getPartitioning
+  Purpose: The purpose of getPartitioning() is to return the partitioning of a table of the current database, or
+  null when the table is not partitioned.
+  - Parameters:
+  1. table: String
+  - Return Type: Partitioning
+  */
+  public Partitioning getPartitioning(String table) {
+    if (currentDatabase == null) {
+      return null;
+    }
+    try {
+      return Partitioning.of(currentDatabase, table);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
 
+  /*
+  Function: partitionTable
+  Purpose: The purpose of partitionTable() is to partition a table that holds no rows yet. RANGE partitioning needs
+  a partition column of type int or float and count - 1 numeric bounds in ascending order, and HASH partitioning
+  takes no bounds. The schema of the table is copied to the file of every partition before the partitioning is
+  written, so the table is only partitioned once all of its partitions exist. An exception describes a partitioning
+  that is not valid.
+  - Parameters:
+  1. table: String
+  2. method: String
+  3. column: String
+  4. count: int
+  5. bounds: String[]
+  - Return Type: void
+  */
+  public void partitionTable(String table, String method, String column, int count, String[] bounds)
+      throws Exception {
+    String[] headings = getHeadings(table);
+    int columnIndex = -1;
+    String type = "";
+    for (int headingIndex = 0; headings != null && headingIndex < headings.length; headingIndex++) {
+      String heading_value = headings[headingIndex].split(" ")[0];
+      if (heading_value.equals(column) && columnIndex < 0) {
+        columnIndex = headingIndex;
+        type = headings[headingIndex].substring(heading_value.length()).trim().toLowerCase();
+      }
+    }
+    if (columnIndex < 0) {
+      throw new Exception("USER EXCEPTION - partitionTable: column " + column + " does not exist.");
+    }
+    if (count < 1 || count > Partitioning.maxPartitions) {
+      throw new Exception("USER EXCEPTION - partitionTable: the number of partitions must be between 1 and "
+          + Partitioning.maxPartitions + ".");
+    }
+    if (method.equals("range")) {
+      if (!type.equals("int") && !type.equals("float")) {
+        throw new Exception("USER EXCEPTION - partitionTable: RANGE column " + column + " is not int or float.");
+      }
+      if (bounds.length != count - 1) {
+        throw new Exception("USER EXCEPTION - partitionTable: " + count + " RANGE partitions need " + (count - 1)
+            + " bounds but " + bounds.length + " were given.");
+      }
+      for (int bound = 0; bound < bounds.length; bound++) {
+        if (!Predicate.isNumber(bounds[bound])) {
+          throw new Exception("USER EXCEPTION - partitionTable: bound " + bounds[bound] + " is not a number.");
+        }
+        if (bound > 0 && Predicate.compare(bounds[bound - 1], bounds[bound]) >= 0) {
+          throw new Exception("USER EXCEPTION - partitionTable: bounds are not in ascending order.");
+        }
+      }
+    } else if (bounds.length > 0) {
+      throw new Exception("USER EXCEPTION - partitionTable: HASH partitioning takes no bounds.");
+    }
+    Path schema = Path.of(currentDatabase + table.toLowerCase() + ".txt");
+    for (int partition = 0; partition < count; partition++) {
+      Files.copy(schema, Path.of(currentDatabase + Partitioning.partition(table, partition) + ".txt"),
+          StandardCopyOption.REPLACE_EXISTING);
+    }
+    new Partitioning(method, column, columnIndex, count, bounds).write(currentDatabase, table);
+    String[] changed = new String[count + 1];
+    for (int partition = 0; partition < count; partition++) {
+      changed[partition] = Partitioning.partition(table, partition);
+    }
+    changed[count] = table.toLowerCase() + ".partitions";
+    recordChanges(changed);
   }
 
   /*
-  Function: tableLocked
-  Purpose: The purpose of tableLocked() is to abstract operations required for checking to see if a
-  table has a lock on the table file. The function is used as a helper function in which abstract
-  file operations for checking if the lock file for a table exists. If the table lock file exists,
-  the function returns true otherwise if the lock does not exist and thus the table is unlocked then
-  it returns false.
+  Function: forPartitions
+  Purpose: The purpose of forPartitions() is to make a change on the partitions of a table that may hold rows
+  matching the comparison of a column with a value, which is every partition unless the column is the partition
+  column. The number of rows changed across the partitions is returned, or -1 as soon as a partition is locked.
+  Outside of a transaction each partition is changed as its own commit.
   - Parameters:
   1. table: String
+  2. partitioning: Partitioning
+  3. key: String
+  4. operator: String
+  5. value: String
+  6. write: ToIntFunction<String>
+  - Return Type: int
   */
-  private boolean tableLocked(String table) {
+  private int forPartitions(String table, Partitioning partitioning, String key, String operator, String value,
+      ToIntFunction<String> write) {
+    boolean[] live = key.equals(partitioning.column) ? partitioning.prune(operator, value) : null;
+    int records = 0;
+    for (int partition = 0; partition < partitioning.count; partition++) {
+      if (live == null || live[partition]) {
+        int written = write.applyAsInt(Partitioning.partition(table, partition));
+        if (written < 0) {
+          return -1;
+        }
+        records += written;
+      }
+    }
+    return records;
+  }
 
-    String tablePath = currentDatabase + table.toLowerCase() + "_lock";
+  /*
+  Function: movePartitionRows
+  Purpose: The purpose of movePartitionRows() is to run an update of the partition column of a partitioned table. The
+  matching rows of the partition of the new value are updated in place, while those of the other partitions are
+  deleted from their partition and inserted into the partition of the new value. The update runs within the running
+  transaction, or as a transaction of its own so a row is never lost or duplicated between two partitions. The
+  number of rows modified is returned, or -1 when a partition is locked or the transaction fails to commit.
+  - Parameters:
+  1. table: String
+  2. partitioning: Partitioning
+  3. key: String
+  4. value: String
+  5. selected_column: String
+  6. new_value: String
+  - Return Type: int
+  */
+  private int movePartitionRows(String table, Partitioning partitioning, String key, String value,
+      String selected_column, String new_value) {
+    boolean started = transaction == null;
+    if (started && !beginTransaction()) {
+      endTransaction(false);
+      return -1;
+    }
+    int target = partitioning.partitionOf(new_value);
+    boolean[] live = key.equals(partitioning.column) ? partitioning.prune("=", value) : null;
+    int records_modified = 0;
+    boolean failed = false;
+    try {
+      records_modified = updateTable_equality(Partitioning.partition(table, target), key, value, selected_column,
+          new_value);
+      failed = records_modified < 0;
+      for (int partition = 0; !failed && partition < partitioning.count; partition++) {
+        if (partition == target || (live != null && !live[partition])) {
+          continue;
+        }
+        String name = Partitioning.partition(table, partition);
+        ArrayList<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = openTable(name)) {
+          String[] headings = reader.readLine().split("\t");
+          int keyIndex = -1;
+          int selectedColumn_index = -1;
+          for (int headingIndex = 0; headingIndex < headings.length; headingIndex++) {
+            String heading_value = headings[headingIndex].split(" ")[0];
+            if (heading_value.matches(key) && keyIndex < 0) {
+              keyIndex = headingIndex;
+            }
+            if (heading_value.matches(selected_column)) {
+              selectedColumn_index = headingIndex;
+            }
+          }
+          for (String row = reader.readLine(); keyIndex >= 0 && row != null; row = reader.readLine()) {
+            if (row.isEmpty()) {
+              continue;
+            }
+            String[] columns = Arrays.copyOf(row.split("\t"), headings.length);
+            for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+              columns[columnIndex] = columns[columnIndex] == null ? "" : columns[columnIndex];
+            }
+            if (filterRow_equality(columns, keyIndex, value)) {
+              rows.add(updateRow(columns, selectedColumn_index, new_value));
+            }
+          }
+        }
+        if (rows.isEmpty()) {
+          continue;
+        }
+        failed = deleteRow_equality(name, key, value) < 0;
+        if (!failed) {
+          records_modified += appendRows(Partitioning.partition(table, target), rows);
+        }
+      }
+    } catch (Exception exception) {
+      failed = true;
+    }
+    if (!started) {
+      errorOccurance = errorOccurance || failed;
+      return failed ? -1 : records_modified;
+    }
+    if (!endTransaction(!failed && !errorOccurance)) {
+      return -1;
+    }
+    return records_modified;
+  }
 
-    File location = new File(tablePath);
+  /*
+  Function: insertPartitioned
+  Purpose: The purpose of insertPartitioned() is to add a batch of checked rows of a partitioned table to the
+  partitions their values of the partition column belong to, adding the rows of each partition as one batch.
+  - Parameters:
+  1. table: String
+  2. partitioning: Partitioning
+  3. loader: BulkLoader
+  4. batch: Batch
+  - Return Type: int
+  */
+  private int insertPartitioned(String table, Partitioning partitioning, BulkLoader loader, BulkLoader.Batch batch)
+      throws Exception {
+    ArrayList<ArrayList<String[]>> partitions = new ArrayList<>(partitioning.count);
+    for (int partition = 0; partition < partitioning.count; partition++) {
+      partitions.add(new ArrayList<>());
+    }
+    for (String[] row : batch.rows) {
+      partitions.get(partitioning.partitionOf(row[partitioning.columnIndex])).add(row);
+    }
+    int inserted = 0;
+    for (int partition = 0; partition < partitioning.count; partition++) {
+      if (!partitions.get(partition).isEmpty()) {
+        inserted += insertBatch(Partitioning.partition(table, partition),
+            loader.encodeRows(partitions.get(partition), 1));
+      }
+    }
+    return inserted;
+  }
 
-    if (location.exists()) {
+  /*
+  Function: tableSize
+  Purpose: The purpose of tableSize() is to return the size of a table file in bytes. The size is used to estimate
+  the number of rows within a table when planning queries. If the table does not exist, the function returns 0.
+  - Parameters:
+  1. table: String
+  - Return Type: long
+  */
+  public long tableSize(String table) {
+    MemoryTable memoryTable = getMemoryTable(table);
+    if (memoryTable != null) {
+      MemoryTable.Image image = memoryTable.image();
+      return (long) image.count * image.width;
+    }
+    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
+    long size = new File(tablePath).length();
+    Partitioning partitioning = getPartitioning(table);
+    if (partitioning != null) {
+      for (int partition = 0; partition < partitioning.count; partition++) {
+        size += tableSize(Partitioning.partition(table, partition));
+      }
+    }
+    return size;
+  }
 
-      return true;
+  /*
+  Function: tableExists
+  Purpose: The purpose of tableExists() is to check if a table file exists within the current database.
+  - Parameters:
+  1. table: String
+  - Return Type: boolean
+  */
+  public boolean tableExists(String table) {
+    if (currentDatabase == null) {
+      return false;
+    }
+    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
+    return new File(tablePath).exists() || getMemoryTable(table) != null;
+  }
 
+  /*
+  Function: recordChanges
+  Purpose: The purpose of recordChanges() is to log tables created, altered or dropped outside of a commit in the
+  change log of the current database so replicas following it copy them. Nothing is done unless a replica follows
+  the database; the table files are changed before this is checked, so a replica starting to follow in between still
+  copies them.
+  - Parameters:
+  1. tables: String...
+  - Return Type: void
+  */
+  private void recordChanges(String... tables) {
+    if (currentDatabase == null || !new File(currentDatabase + "_mvcc/replicated").exists()) {
+      return;
+    }
+    try {
+      new VersionStore(currentDatabase).recordChanges(tables);
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
     }
+  }
 
-    return false;
+  /*
+  Function: getMemoryTable
+  Purpose: The purpose of getMemoryTable() is to return the memory table of the given name within the current
+  database, or null when the table is not a memory table.
+  - Parameters:
+  1. table: String
+  - Return Type: MemoryTable
+  */
+  public MemoryTable getMemoryTable(String table) {
+    if (currentDatabase == null) {
+      return null;
+    }
+    return MemoryTable.of(currentDatabase, table);
+  }
 
+  /*
+  Function: createMemoryTable
+  Purpose: The purpose of createMemoryTable() is to create a table of the current database whose rows are held in
+  memory by a Memory Table rather than in a table file. Each heading is a label followed by a type of int, float or
+  varchar(n). An exception is thrown if no database is in use, the table already exists or a type is not supported.
+  - Parameters:
+  1. table: String
+  2. headings: String[]
+  - Return Type: void
+  */
+  public void createMemoryTable(String table, String[] headings) throws Exception {
+    if (currentDatabase == null) {
+      throw new Exception("USER EXCEPTION - createMemoryTable: no database is in use.");
+    }
+    if (tableExists(table)) {
+      throw new Exception("USER EXCEPTION - createMemoryTable: table " + table + " already exists.");
+    }
+    MemoryTable.create(currentDatabase, table, headings);
   }
 
   /*
-  Function: persist_cacheTable
-  Purpose: The purpose of persist_cacheTable() is to abstract operations required for swapping
-  a cache table file with a existing table file. This replacement is meant to persist data saved
-  from a running transaction and is meant to be a helper function that aids in the commit of
-  changes during a transaction. The function opens two file paths being for the table file and the
-  cache table file in which it checks for the existence of both, otherwise the function fails and
-  return false. Deleting the table file, the function uses the Files API to create and copy
-  the cache table file to a new table file. Once completed, the function deletes the cache table
-  file and returns true for a successful data persist response.
+  Function: checkpoint
+  Purpose: The purpose of checkpoint() is to write the snapshot of every memory table of the current database changed
+  since its last snapshot, so the rows of the memory tables are found again by the next process. The number of
+  snapshots written is returned and if no database is in use an exception is thrown.
   - Parameters:
-  1. table: Strings
+  - Return Type: int
   */
-  private boolean persist_cacheTable(String table) {
+  public int checkpoint() throws Exception {
+    if (currentDatabase == null) {
+      throw new Exception("USER EXCEPTION - checkpoint: no database is in use.");
+    }
+    return MemoryTable.checkpoint(currentDatabase);
+  }
 
-    String cachePath = currentDatabase + table.toLowerCase() + "_cache.txt";
-    File cacheLocation = new File(cachePath);
+  /*
+  Function: getCommitFailure
+  Purpose: The purpose of getCommitFailure() is to return the error that ended the last transaction of the session,
+  so a commit that failed rather than aborted can be reported, or null if there was none.
+  - Parameters:
+  - Return Type: String
+  */
+  public String getCommitFailure() {
+    return commitFailure;
+  }
 
-    String tablePath = currentDatabase + table.toLowerCase() + ".txt";
-    File tableLocation = new File(tablePath);
+  public boolean inTransaction() {
+    return transaction != null;
+  }
 
-    if (!tableLocation.exists()) {
+  /*
+      Class: TableReader
+      Purpose: The purpose of TableReader is to be the reader returned by openTable() over a table file, giving the
+      time it has waited for its file to be read when it reads through a PrefetchReader.
+  */
+  public static class TableReader extends BufferedReader {
+    private final PrefetchReader prefetch;
 
-      return false;
+    TableReader(Reader reader, PrefetchReader prefetch) {
+      super(reader);
+      this.prefetch = prefetch;
     }
 
-    if (!cacheLocation.exists()) {
-      return false;
+    long getWaitNanoseconds() {
+      return prefetch == null ? 0 : prefetch.getWaitNanoseconds();
     }
 
-    tableLocation.delete();
-
-    try {
-      Files.copy(cacheLocation.toPath(), tableLocation.toPath());
-    } catch (IOException exception) {
-      exception.printStackTrace();
-      return false;
+    boolean isPrefetching() {
+      return prefetch != null;
     }
-
-    cacheLocation.delete();
-
-    return true;
-
   }
 
-}
\ No newline at end of file
+}
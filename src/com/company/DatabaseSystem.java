@@ -1,12 +1,38 @@
 package com.company;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import com.company.SyntaxTree.AlterTable;
+import com.company.SyntaxTree.Backup;
+import com.company.SyntaxTree.ColumnDefinition;
+import com.company.SyntaxTree.Copy;
+import com.company.SyntaxTree.CreateTable;
+import com.company.SyntaxTree.Delete;
+import com.company.SyntaxTree.Execute;
+import com.company.SyntaxTree.Explain;
+import com.company.SyntaxTree.Export;
+import com.company.SyntaxTree.Expression;
+import com.company.SyntaxTree.Insert;
+import com.company.SyntaxTree.NamedStatement;
+import com.company.SyntaxTree.PartitionBy;
+import com.company.SyntaxTree.Prepare;
+import com.company.SyntaxTree.Select;
+import com.company.SyntaxTree.Setting;
+import com.company.SyntaxTree.Statement;
+import com.company.SyntaxTree.SubqueryCondition;
+import com.company.SyntaxTree.TableReference;
+import com.company.SyntaxTree.Update;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
 
 /*
     Author: Araam Zaremehrjardi
     Date Created: April 4, 2022
-    Date Edited: April 5, 2022
+    Date Edited: October 19, 2026
     Class: DatabaseSystem
     Purpose: The purpose of DatabaseSystem is to abstract necessary functions used by the user. These functions are
     used to configure the overarching database application itself. Currently, only necessary functionality of the
@@ -18,512 +44,994 @@ import java.util.Queue;
        The DatabaseSystem class bases itself by using composition for access to the DatabaseAbstraction layer using
        the "databaseAbstraction" variable. Functions exposed by "databaseAbstraction" are functions used to indirectly
        interact with the file system to only do read/write operations for databases and tables within each database.
+    2. statementCache: StatementCache<Statement>
+       Purpose: The purpose of "statementCache" is to keep the syntax trees of recently executed statements keyed by
+       their normalized text. Repeated statements are taken from the cache and skip the lexer and parser entirely. The
+       cache belongs to the Engine and is shared by every session of the engine. Plans are not cached: every run of a
+       statement is planned again from its syntax tree, since a plan holds the readers and locks of one run and is
+       pruned and estimated with the values bound to it.
+    3. preparedCommands: HashMap<String, PreparedCommand>
+       Purpose: The purpose of "preparedCommands" is to store the statements prepared with the PREPARE statement by
+       the name they were given so they can be run with the EXECUTE statement.
+    4. out: PrintStream
+       Purpose: The purpose of "out" is to receive the messages and rows printed by the statements of the session.
+    5. sink: ResultSink
+       Purpose: The purpose of "sink" is to write the rows of queries to "out" in the format chosen with SET output.
+       The sink and its buffer are kept for the whole session.
+    6. replica: Replica
+       Purpose: The purpose of "replica" is to follow the primary when the engine serves a replica, in which case the
+       session refuses every statement writing to the databases. It is null when the engine serves a primary.
+    7. maxLag: long
+       Purpose: The purpose of "maxLag" is to bound in milliseconds how far behind the primary a replica may be when a
+       query of the session starts, as chosen with SET max_lag. A negative bound leaves the lag unchecked.
     - Functions:
-    1. execute(): void
-    2. renderRows(rows: Queue<String[]>): void
-    3. lexicalAnalysis(string: String): Queue
+    1. execute(command: String): void
+    2. execute(statement: Statement, parameters: String[]): void
+    3. prepare(statement: String): PreparedCommand
+    4. parse(command: String): Statement
+    5. executeDelete(delete: Delete, parameters: String[], report: boolean): int
+    6. executeUpdate(update: Update, parameters: String[], report: boolean): int
+    7. executeInsert(insert: Insert, parameters: String[], report: boolean): int
+    8. executeSelect(select: Select, parameters: String[]): void
+    9. executeExplain(explain: Explain, parameters: String[]): void
+    10. missingTable(select: Select): String
+    11. renderRows(plan: PlanNode, sink: ResultSink): void
+    12. close(): void
+    13. query(select: Select, parameters: String[]): PlanNode
+    14. executeCount(statement: Statement, parameters: String[]): int
+    15. beginTransaction(): boolean
+    16. commitTransaction(): boolean
+    17. abortTransaction(): void
+    18. executeCopy(copy: Copy, parameters: String[]): long
+    19. executeInsertRows(insert: Insert, parameters: String[], report: boolean): int
+    20. executeExport(export: Export, parameters: String[]): void
+    21. writeExport(export: Export, stream: OutputStream): void
+    22. executeCreatePartitioned(create: CreateTable, parameters: String[]): void
+    23. writes(statement: Statement): boolean
+    24. executeCreateMemory(create: CreateTable): void
+    25. memoryTableWritten(statement: Statement): String
 */
 public class DatabaseSystem {
 
   private DatabaseAbstraction databaseAbstraction;
+  private StatementCache<Statement> statementCache;
+  private HashMap<String, PreparedCommand> preparedCommands;
+  private PrintStream out;
+  private ResultSink sink;
+  private final Replica replica;
+  private long maxLag = -1;
 
   public DatabaseSystem() {
-    databaseAbstraction = new DatabaseAbstraction();
+    this(new Engine(), System.out);
+  }
+
+  DatabaseSystem(Engine engine, PrintStream out) {
+    databaseAbstraction = new DatabaseAbstraction(engine.databasesDirectory);
+    statementCache = engine.statementCache;
+    preparedCommands = new HashMap<>();
+    this.out = out;
+    this.sink = ResultSink.of("pipe", out);
+    this.replica = engine.replica;
   }
 
   /*
   Function: execute
-  Purpose: The purpose of execute() is to be a parser for SQL commands entered by the user to interact with the
-  database. The parser first converts vital information from the SQL statements such as keywords and values used to
-  create databases schema. Vital information is processed by removing parentheses and commas to only have tokens.
-  These tokens are saved within "tokens" variable and then further processed into a Queue data structure called
-  "token_queue." Each token is then processed by the series of switch statements with functions executed within the
-  end points of each switch statement. Once the entire Queue is finished processing and is empty, the execute function
-  ends for one SQL statement. The execute function never directly interacts with the database and instead uses
-  functions provided by "databaseAbstraction" to abstract primitive functionality of the database interactions.
+  Purpose: The purpose of execute() is to be the entry point for SQL statements entered by the user. The statement is
+  parsed, or taken from the statement cache when it has been seen before, and then executed. Statements that do not
+  follow the grammar are reported and not executed.
   - Parameters:
   1. command: String
   - Return Type: void
    */
   public void execute(String command) {
-    Queue<String> token_queue = lexicalAnalysis(command);
-    switch (token_queue.remove()) {
+    Statement statement = null;
+    try {
+      statement = parse(command);
+    } catch (Exception exception) {
+      out.println("!Failed to parse statement because " + exception.getMessage());
+      return;
+    }
+    if (statement == null) {
+      return;
+    }
+    execute(statement, new String[statement.parameterCount]);
+  }
+
+  /*
+  Function: close
+  Purpose: The purpose of close() is to end the session. A transaction left running by the session is aborted so its
+  locks and snapshot are released.
+  - Parameters:
+  - Return Type: void
+   */
+  public void close() {
+    databaseAbstraction.abortTransaction();
+  }
+
+  /*
+  Function: query
+  Purpose: The purpose of query() is to plan a SELECT statement for a caller reading its rows itself rather than having
+  them rendered, as the JDBC driver does. The plan is returned unopened. If a table of the statement does not exist or
+  the statement cannot be planned, an exception is thrown.
+  - Parameters:
+  1. select: Select
+  2. parameters: String[]
+  - Return Type: PlanNode
+   */
+  PlanNode query(Select select, String[] parameters) throws Exception {
+    String missing_table = missingTable(select);
+    if (missing_table != null) {
+      throw new Exception("USER EXCEPTION - query: table " + missing_table + " does not exist.");
+    }
+    return new Planner(databaseAbstraction, parameters).plan(select);
+  }
+
+  /*
+  Function: executeCount
+  Purpose: The purpose of executeCount() is to run a statement and return the number of records it changed, being -1
+  when the table is locked and 0 for statements that do not change records.
+  - Parameters:
+  1. statement: Statement
+  2. parameters: String[]
+  - Return Type: int
+   */
+  int executeCount(Statement statement, String[] parameters) {
+    if (replica != null && writes(statement) || memoryTableWritten(statement) != null) {
+      execute(statement, parameters);
+      return 0;
+    }
+    switch (statement.kind) {
+      case DELETE:
+        return executeDelete((Delete) statement, parameters, true);
+      case UPDATE:
+        return executeUpdate((Update) statement, parameters, true);
+      case INSERT:
+        return executeInsert((Insert) statement, parameters, true);
+      case COPY:
+        return (int) executeCopy((Copy) statement, parameters);
+      default:
+        execute(statement, parameters);
+        return 0;
+    }
+  }
 
-      case "BEGIN": {
+  boolean beginTransaction() {
+    return databaseAbstraction.beginTransaction();
+  }
+
+  boolean commitTransaction() {
+    return databaseAbstraction.commitTransaction();
+  }
+
+  void abortTransaction() {
+    databaseAbstraction.abortTransaction();
+  }
+
+  /*
+  Function: prepare
+  Purpose: The purpose of prepare() is to provide a programmatic way of preparing a statement. The statement is parsed
+  once, with each "?" left as a placeholder, and returned as a PreparedCommand that can be bound to values and
+  executed any number of times.
+  - Parameters:
+  1. statement: String
+  - Return Type: PreparedCommand
+   */
+  public PreparedCommand prepare(String statement) throws Exception {
+    return new PreparedCommand(this, parse(statement));
+  }
+
+  /*
+  Function: parse
+  Purpose: The purpose of parse() is to turn the text of a statement into its syntax tree. The normalized text of the
+  statement is looked up in the statement cache first and only statements missing from the cache are parsed. Empty
+  statements and statements made only of comments return null.
+  - Parameters:
+  1. command: String
+  - Return Type: Statement
+   */
+  Statement parse(String command) throws Exception {
+    String normalized_command = StatementCache.normalize(command);
+    if (normalized_command.isEmpty()) {
+      return null;
+    }
+    Statement statement = statementCache.get(normalized_command);
+    if (statement == null) {
+      statement = Parser.parse(command);
+      if (statement != null) {
+        statementCache.put(normalized_command, statement);
+      }
+    }
+    return statement;
+  }
 
-        // Remove "TRANSACTION" token from parser processing.
-        token_queue.remove();
+  /*
+  Function: execute
+  Purpose: The purpose of execute() is to run a parsed statement with the given values bound to its placeholders. Each
+  kind of statement is processed by the switch statement with functions executed within the end points of each case.
+  The execute function never directly interacts with the database and instead uses functions provided by
+  "databaseAbstraction" to abstract primitive functionality of the database interactions. A statement with a
+  placeholder left without a value is not run, since it was entered outside of EXECUTE.
+  - Parameters:
+  1. statement: Statement
+  2. parameters: String[]
+  - Return Type: void
+   */
+  void execute(Statement statement, String[] parameters) {
+    for (int parameterIndex = 0; parameterIndex < statement.parameterCount; parameterIndex++) {
+      if (parameterIndex >= parameters.length || parameters[parameterIndex] == null) {
+        out.println("!Failed to execute statement because USER EXCEPTION - execute: parameter $" + (parameterIndex + 1)
+            + " is not bound.");
+        return;
+      }
+    }
+    if (replica != null && writes(statement)) {
+      out.println("!Failed to execute statement because USER EXCEPTION - execute: the database is a read-only "
+          + "replica.");
+      return;
+    }
+    String memory_table = memoryTableWritten(statement);
+    if (memory_table != null) {
+      out.println("!Failed to execute statement because USER EXCEPTION - execute: memory table " + memory_table
+          + " cannot be written within a transaction.");
+      return;
+    }
+    switch (statement.kind) {
 
+      case BEGIN: {
         databaseAbstraction.beginTransaction();
-        System.out.println("Transaction starts.");
+        out.println("Transaction starts.");
+        return;
+      }
+
+      case SET: {
+        Setting setting = (Setting) statement;
+        String value = setting.value.evaluate(parameters);
+        if (setting.name.equalsIgnoreCase("output") && ResultSink.of(value, out) != null) {
+          sink = ResultSink.of(value, out);
+          out.println("Setting " + setting.name + " = " + value + ".");
+        } else if (setting.name.equalsIgnoreCase("max_lag") && replica != null && value.matches("-?[0-9]+")) {
+          maxLag = Long.parseLong(value);
+          out.println("Setting " + setting.name + " = " + value + ".");
+        } else if (databaseAbstraction.setOption(setting.name, value)) {
+          out.println("Setting " + setting.name + " = " + value + ".");
+        } else {
+          out.println("!Failed to set " + setting.name + " because " + value + " is not a valid value.");
+        }
+        return;
+      }
+
+      case SHOW: {
+        String name = ((NamedStatement) statement).name;
+        if (!name.equalsIgnoreCase("replication")) {
+          out.println("!Failed to show " + name + " because it is not a known setting.");
+        } else if (replica == null) {
+          out.println("!Failed to show " + name + " because the database is not a replica.");
+        } else {
+          out.println(replica.describe());
+        }
+        return;
+      }
+
+      case CHECKPOINT: {
+        try {
+          int written = databaseAbstraction.checkpoint();
+          out.println("Checkpoint wrote " + written + (written == 1 ? " memory table." : " memory tables."));
+        } catch (Exception exception) {
+          out.println("!Failed to checkpoint because " + exception.getMessage());
+        }
         return;
       }
 
-      case "COMMIT": {
+      case COMMIT: {
         if (databaseAbstraction.commitTransaction()) {
-          System.out.println("Transaction committed.");
+          out.println("Transaction committed.");
+        } else if (databaseAbstraction.getCommitFailure() != null) {
+          out.println("!Failed to commit because " + databaseAbstraction.getCommitFailure());
         } else {
-          System.out.println("Transaction abort.");
+          out.println("Transaction abort.");
         }
         return;
       }
 
-      case "CREATE": {
-        switch (token_queue.remove()) {
-          case "DATABASE": {
-            String database = token_queue.remove();
-            if (databaseAbstraction.createDatabase(database)) {
-              System.out.println("Database " + database + " created.");
-            } else {
-              System.out.println(
-                  "!Failed to create database " + database + " because it already exists.");
-            }
-            return;
-          }
-          case "TABLE": {
-            String table = token_queue.remove();
-            if (databaseAbstraction.createTable(table)) {
-              System.out.println("Table " + table + " created.");
-            } else {
-              System.out.println(
-                  "!Failed to create database " + table + " because it already exists.");
-            }
-            String terminator = token_queue.peek();
-            if (terminator == ";") {
-              return;
-            }
-            while (!token_queue.isEmpty()) {
-              String label = token_queue.remove();
-              String type = token_queue.remove();
-              if (type.matches("varchar") || type.matches("char")) {
-                String variable = token_queue.remove();
-                type = "%s(%s)".formatted(type, variable);
-                databaseAbstraction.addColumn(table, label, type);
-              } else {
-                databaseAbstraction.addColumn(table, label, type);
-              }
-            }
-            return;
-          }
+      case BACKUP: {
+        Backup backup = (Backup) statement;
+        String directory = backup.directory.evaluate(parameters);
+        try {
+          databaseAbstraction.backupDatabase(backup.database, directory);
+          out.println("Database " + backup.database + " backed up to " + directory + ".");
+        } catch (Exception exception) {
+          out.println("!Failed to back up database " + backup.database + " because " + exception.getMessage());
         }
+        return;
       }
-      case "DROP": {
-        switch (token_queue.remove()) {
-          case "DATABASE": {
-            String database = token_queue.remove();
-            if (databaseAbstraction.dropDatabase(database)) {
-              System.out.println("Database " + database + " deleted.");
-            } else {
-              System.out.println("!Failed to delete " + database + " because it does not exist.");
-            }
-            return;
-          }
-          case "TABLE": {
-            String table = token_queue.remove();
-            if (databaseAbstraction.dropTable(table)) {
-              System.out.println("Table " + table + " deleted.");
-            } else {
-              System.out.println("!Failed to delete " + table + " because it does not exist.");
-            }
-            return;
-          }
+
+      case COPY: {
+        executeCopy((Copy) statement, parameters);
+        return;
+      }
+
+      case EXPORT: {
+        executeExport((Export) statement, parameters);
+        return;
+      }
+
+      case ROLLBACK: {
+        if (databaseAbstraction.abortTransaction()) {
+          out.println("Transaction rolled back.");
+        } else {
+          out.println("!Failed to roll back because no transaction is running.");
         }
+        return;
       }
 
-      case "USE": {
-        String database = token_queue.remove();
-        if (databaseAbstraction.setCurrentDatabase(database)) {
-          System.out.println("Using database " + database + ".");
+      case CREATE_DATABASE: {
+        String database = ((NamedStatement) statement).name;
+        if (databaseAbstraction.createDatabase(database)) {
+          out.println("Database " + database + " created.");
         } else {
-          System.out.println("!Failed to use database " + database + " because it does not exist.");
+          out.println(
+              "!Failed to create database " + database + " because it already exists.");
         }
         return;
       }
 
-      case "ALTER": {
-        switch (token_queue.remove()) {
-          case "TABLE": {
-            String table = token_queue.remove();
-            switch (token_queue.remove()) {
-              case "ADD": {
-                String label = token_queue.remove();
-                String type = token_queue.remove();
-                if (type.matches("varchar") || type.matches("char")) {
-                  String variable = token_queue.remove();
-                  type = "%s(%s)".formatted(type, variable);
-                  databaseAbstraction.addColumn(table, label, type);
-                } else {
-                  databaseAbstraction.addColumn(table, label, type);
-                }
-                System.out.println("Table " + table + " modified.");
-                return;
-              }
-            }
-          }
+      case CREATE_TABLE: {
+        CreateTable create = (CreateTable) statement;
+        String table = create.table;
+        if (create.engine != null) {
+          executeCreateMemory(create);
+          return;
+        }
+        if (create.partitionBy != null) {
+          executeCreatePartitioned(create, parameters);
+          return;
         }
+        if (databaseAbstraction.createTable(table)) {
+          out.println("Table " + table + " created.");
+        } else {
+          out.println(
+              "!Failed to create database " + table + " because it already exists.");
+        }
+        for (ColumnDefinition column : create.columns) {
+          databaseAbstraction.addColumn(table, column.label, column.type);
+        }
+        return;
       }
-      case "DELETE": {
-        // Remove "FROM" token from parser processing.
-        token_queue.remove();
-        String table = token_queue.remove();
-        // Remove "WHERE" token from parser processing.
-        token_queue.remove();
-        String key = token_queue.remove();
-        String operation = token_queue.remove();
-        String value = token_queue.remove();
-        switch (operation) {
-          case "=": {
-            int records_deleted = databaseAbstraction.deleteRow_equality(table, key, value);
-            if (records_deleted == 1) {
-              System.out.println(records_deleted + " record deleted.");
-            } else {
-              System.out.println(records_deleted + " records deleted.");
-            }
-            break;
-          }
-          case ">": {
-            int records_deleted = databaseAbstraction.deleteRow_greaterThan(table, key, value);
-            if (records_deleted == 1) {
-              System.out.println(records_deleted + " record deleted.");
-            } else {
-              System.out.println(records_deleted + " records deleted.");
-            }
-            break;
+
+      case DROP_DATABASE: {
+        String database = ((NamedStatement) statement).name;
+        try {
+          if (databaseAbstraction.dropDatabase(database)) {
+            out.println("Database " + database + " deleted.");
+          } else {
+            out.println("!Failed to delete " + database + " because it does not exist.");
           }
+        } catch (Exception exception) {
+          out.println("!Failed to delete " + database + " because " + exception.getMessage());
         }
         return;
       }
-      case "UPDATE": {
-        String table = token_queue.remove();
-        // Remove "SET" token from parser processing.
-        token_queue.remove();
-        String selected_column = token_queue.remove();
-        // Remove "=" token from parser processing.
-        token_queue.remove();
-        String new_value = token_queue.remove();
-        // Remove "WHERE" token from parser processing.
-        token_queue.remove();
-        String key = token_queue.remove();
-        String operation = token_queue.remove();
-        String value = token_queue.remove();
-        switch (operation) {
-          case "=": {
-            int records_modified = databaseAbstraction.updateTable_equality(table, key, value,
-                selected_column, new_value);
-            if (records_modified == 1) {
-              System.out.println(records_modified + " record modified.");
-            } else if (records_modified == -1) {
-              System.out.println("Error: Table " + table + " is locked!");
-            }
-            else {
-              System.out.println(records_modified + " records modified.");
-            }
-          }
+
+      case DROP_TABLE: {
+        String table = ((NamedStatement) statement).name;
+        if (databaseAbstraction.dropTable(table)) {
+          out.println("Table " + table + " deleted.");
+        } else {
+          out.println("!Failed to delete " + table + " because it does not exist.");
         }
         return;
       }
-      case "SELECT": {
-        String column = token_queue.remove();
-        switch (column) {
-          case "*": {
-
-            // Remove "FROM" token from parser processing.
-            token_queue.remove();
-            
-            if (token_queue.size() == 8) {
-            	
-            	Queue<String[]> tables = new LinkedList<>();
-            	
-            	String string = "";
-            	while (!token_queue.peek().contains("WHERE")) {
-
-            		String[] search_parameters = new String[3];
-            		
-            		for (int parameter_index = 0; parameter_index < 2; parameter_index++) {
-            			
-            			String parameter = token_queue.remove();
-            			search_parameters[parameter_index] = parameter;
-            			
-            		}
-            		
-            		tables.add(search_parameters);
-           
-            	}
-            	
-            	// Remove "WHERE" token from parser processing. 
-            	token_queue.remove();
-            	
-            	String lhs_parameter = token_queue.remove();
-            	String operation = token_queue.remove();
-            	String rhs_parameter = token_queue.remove();
-
-            	// Left Hand Side parameter processing
-            	String[] lhs_table = tables.remove();
-            	String lhs_column = lhs_parameter.split("\\.")[1];
-            	lhs_table[2] = lhs_column;
-            	// Right Hand Side parameter processing.
-            	String[] rhs_table = tables.remove();
-            	String rhs_column = rhs_parameter.split("\\.")[1];
-            	rhs_table[2] = rhs_column;
-
-            	Queue<String[]> rows = databaseAbstraction.selectColumn(lhs_table, rhs_table);
-            	renderRows(rows);
-            	
-            	
-            } else if (token_queue.size() == 10) {
-            	
-            	String[] lhs_table = new String[3];
-            	String[] rhs_table = new String[3];
-            	
-            	lhs_table[0] = token_queue.remove();
-            	lhs_table[1] = token_queue.remove();
-            	
-            	// Remove "INNER JOIN" tokens from parser processing.
-            	token_queue.remove();
-            	token_queue.remove();
-            	
-            	rhs_table[0] = token_queue.remove();
-            	rhs_table[1] = token_queue.remove();
-            	
-            	// Remove "ON" token from parser processing.
-            	token_queue.remove();
-            	
-            	lhs_table[2] = token_queue.remove().split("\\.")[1];
-            	
-            	String operation = token_queue.remove();
-            	
-            	rhs_table[2] = token_queue.remove().split("\\.")[1];
-            	
-            	Queue<String[]> rows = databaseAbstraction.selectColumn(lhs_table, rhs_table, "inner join");
-            	renderRows(rows);
-            	
-            	
-            } else if (token_queue.size() == 11) {
-            	String[] lhs_table = new String[3];
-            	String[] rhs_table = new String[3];
-            	
-            	lhs_table[0] = token_queue.remove();
-            	lhs_table[1] = token_queue.remove();
-            	
-            	// Remove "LEFT OUTER JOIN" tokens from parser processing.
-            	token_queue.remove();
-            	token_queue.remove();
-            	token_queue.remove();
-            	
-            	rhs_table[0] = token_queue.remove();
-            	rhs_table[1] = token_queue.remove();
-            	
-            	// Remove "ON" token from parser processing.
-            	token_queue.remove();
-            	
-            	lhs_table[2] = token_queue.remove().split("\\.")[1];
-            	
-            	String operation = token_queue.remove();
-            	
-            	rhs_table[2] = token_queue.remove().split("\\.")[1];
-            	
-            	Queue<String[]> rows = databaseAbstraction.selectColumn(lhs_table, rhs_table, "left outer join");
-            	renderRows(rows);
-            } else {
-                String table = token_queue.remove();
-                Queue<String[]> rows = null;
-                try {
-                    rows = databaseAbstraction.selectColumn(table);
-                  } catch (Exception exception) {
-                    System.out.println("!Failed to query table " + table + " because it does not exist");
-                    return;
-                  }
-                  renderRows(rows);
-            }
-            
-            return;
-          }
-          default: {
-            LinkedList<String> columns = new LinkedList<>();
-            Queue<String[]> rows = null;
-            do {
-              columns.add(column);
-              column = token_queue.remove();
-            } while (!column.matches("FROM"));
-            String table = token_queue.remove();
-            // Remove "WHERE" token from parser processing.
-            token_queue.remove();
-            String key = token_queue.remove();
-            String operation = token_queue.remove();
-            String value = token_queue.remove();
-            System.out.println("Key " + key);
-            System.out.println("Operation " + operation);
-            System.out.println("Value " + value);
-            System.out.println(key);
-            try {
-              rows = databaseAbstraction.selectColumn(table, key, value, columns);
-            } catch (Exception exception) {
-              exception.printStackTrace();
-            }
-            renderRows(rows);
-            return;
-          }
+
+      case USE: {
+        String database = ((NamedStatement) statement).name;
+        if (databaseAbstraction.setCurrentDatabase(database)) {
+          out.println("Using database " + database + ".");
+        } else {
+          out.println("!Failed to use database " + database + " because it does not exist.");
         }
+        return;
       }
-      case "INSERT":
-        switch (token_queue.remove()) {
-          case "INTO":
-            String table = token_queue.remove();
-            // Remove "VALUES" token from parser processing.
-            token_queue.remove();
-            Queue<String> values = new LinkedList<String>();
-            String[] row_values = null;
-            while (!token_queue.isEmpty()) {
-              String value = token_queue.remove();
-              values.add(value);
-            }
-            row_values = new String[values.size()];
-            values.toArray(row_values);
-            if (databaseAbstraction.appendRow(table, row_values)) {
-              System.out.println("1 new record inserted.");
-            } else {
-              System.out.println("0 new record inserted.");
-            }
-            return;
+
+      case ALTER_TABLE: {
+        AlterTable alter = (AlterTable) statement;
+        databaseAbstraction.addColumn(alter.table, alter.column.label, alter.column.type);
+        out.println("Table " + alter.table + " modified.");
+        return;
+      }
+
+      case DELETE: {
+        executeDelete((Delete) statement, parameters, true);
+        return;
+      }
+
+      case UPDATE: {
+        executeUpdate((Update) statement, parameters, true);
+        return;
+      }
+
+      case SELECT: {
+        executeSelect((Select) statement, parameters);
+        return;
+      }
+
+      case INSERT: {
+        executeInsert((Insert) statement, parameters, true);
+        return;
+      }
+
+      case EXPLAIN: {
+        executeExplain((Explain) statement, parameters);
+        return;
+      }
+
+      case PREPARE: {
+        Prepare prepare = (Prepare) statement;
+        preparedCommands.put(prepare.name, new PreparedCommand(this, prepare.statement));
+        out.println("Statement " + prepare.name + " prepared.");
+        return;
+      }
+
+      case EXECUTE: {
+        Execute execute = (Execute) statement;
+        PreparedCommand command = preparedCommands.get(execute.name);
+        if (command == null) {
+          out.println("!Failed to execute " + execute.name + " because it is not prepared.");
+          return;
+        }
+        if (execute.arguments.size() != command.getParameterCount()) {
+          out.println("!Failed to execute " + execute.name + " because it expects "
+              + command.getParameterCount() + " parameters.");
+          return;
+        }
+        String[] values = new String[execute.arguments.size()];
+        for (int argumentIndex = 0; argumentIndex < values.length; argumentIndex++) {
+          values[argumentIndex] = execute.arguments.get(argumentIndex).evaluate(parameters);
         }
-      default: {
+        command.setValues(values);
+        command.execute();
+        return;
+      }
+
+      case DEALLOCATE: {
+        String name = ((NamedStatement) statement).name;
+        if (preparedCommands.remove(name) != null) {
+          out.println("Statement " + name + " deallocated.");
+        } else {
+          out.println("!Failed to deallocate " + name + " because it is not prepared.");
+        }
+        return;
+      }
+    }
+  }
+
+  /*
+  Function: executeDelete
+  Purpose: The purpose of executeDelete() is to run a DELETE statement through the Database Abstraction layer using
+  the operator of its WHERE condition to choose the deletion. The number of deleted records is returned, and printed
+  when reported. A locked table is always reported.
+  - Parameters:
+  1. delete: Delete
+  2. parameters: String[]
+  3. report: boolean
+  - Return Type: int
+   */
+  private int executeDelete(Delete delete, String[] parameters, boolean report) {
+    String key = delete.where.left.evaluate(parameters);
+    String value = delete.where.right.evaluate(parameters);
+    int records_deleted = 0;
+    switch (delete.where.operator) {
+      case "=": {
+        records_deleted = databaseAbstraction.deleteRow_equality(delete.table, key, value);
         break;
       }
+      case ">": {
+        records_deleted = databaseAbstraction.deleteRow_greaterThan(delete.table, key, value);
+        break;
+      }
+    }
+    if (records_deleted == -1) {
+      out.println("Error: Table " + delete.table + " is locked!");
+    } else if (report && records_deleted == 1) {
+      out.println(records_deleted + " record deleted.");
+    } else if (report) {
+      out.println(records_deleted + " records deleted.");
     }
+    return records_deleted;
   }
 
   /*
-  Function: renderRows
-  Purpose: The purpose of renderRows() is to be a helper function to render a table. Given a table's
-  rows, the function prints the table including a table header and records. The functions print
-  each row of the given rows buffer until the rows buffer is empty. The function as a part of the
-  render process render pipe characters used to differentiate between the metadata of a record.
+  Function: executeUpdate
+  Purpose: The purpose of executeUpdate() is to run an UPDATE statement with an equality WHERE condition through the
+  Database Abstraction layer. The number of modified records is returned, and printed when reported, or -1 when the
+  table is locked, which is always reported.
   - Parameters:
-  1. rows: Queue<String[]>
-  - Return Type: void
+  1. update: Update
+  2. parameters: String[]
+  3. report: boolean
+  - Return Type: int
    */
-  private void renderRows(Queue<String[]> rows) {
-    while (!rows.isEmpty()) {
-      String[] row = rows.poll();
-      if (row != null) {
-        for (int columnIndex = 0; columnIndex < row.length; columnIndex++) {
-          System.out.print(row[columnIndex]);
-
-          if (columnIndex < row.length - 1) {
-            System.out.print("|");
-          }
+  private int executeUpdate(Update update, String[] parameters, boolean report) {
+    String new_value = update.value.evaluate(parameters);
+    String key = update.where.left.evaluate(parameters);
+    String value = update.where.right.evaluate(parameters);
+    int records_modified = 0;
+    switch (update.where.operator) {
+      case "=": {
+        records_modified = databaseAbstraction.updateTable_equality(update.table, key, value,
+            update.column, new_value);
+        if (records_modified == -1) {
+          out.println("Error: Table " + update.table + " is locked!");
+        } else if (report && records_modified == 1) {
+          out.println(records_modified + " record modified.");
+        } else if (report) {
+          out.println(records_modified + " records modified.");
         }
-        System.out.println();
       }
     }
+    return records_modified;
   }
 
   /*
-  Function: lexicalAnalysis
-  Purpose: The purpose of lexicalAnalysis() is to parse a given SQL statement and remove any
-  unnecessary characters to leave vital strings that are used as key terms. The function first
-  processes the string by replacing useless values as empty characters. Once the function finishes
-  removing useless characters, string is left with tokens which are then added to a queue. As
-  tokens are added to a queue, empty characters are removed and reserved terms for SQL are
-  transformed to be capitalized. Once completed, the function returns processed tokens as a queue
-  that are to be processed by the SQL parser.
+  Function: executeInsert
+  Purpose: The purpose of executeInsert() is to run an INSERT statement by appending its values as a row of the table.
+  The number of inserted records is returned, and printed when reported, while a failure is always reported. An
+  INSERT of several rows, or of the rows of a SELECT, evaluates every row first and appends them together with one
+  schema lookup and one commit for the statement.
   - Parameters:
-  1. string: String
-  - Return Type: Queue<String>
+  1. insert: Insert
+  2. parameters: String[]
+  3. report: boolean
+  - Return Type: int
    */
-  private Queue<String> lexicalAnalysis(String string) {
-    String processed_string = string.replace("(", " ");
-    processed_string = processed_string.replace(")", " ");
-    processed_string = processed_string.replace(",", " ");
-    processed_string = processed_string.replace(";", "");
-    processed_string = processed_string.replace("\t", " ");
-    processed_string = processed_string.replace("'", "");
-    String[] tokens = processed_string.split(" ");
-    Queue<String> token_queue = new LinkedList<String>();
-    for (int i = 0; i < tokens.length; i++) {
-      if (tokens[i] != "") {
-        String token = tokens[i];
-        switch (token) {
-          case "select": {
-            token = "SELECT";
-            break;
-          }
-          case "insert": {
-            token = "INSERT";
-            break;
-          }
-          case "into": {
-            token = "INTO";
-            break;
-          }
-          case "from": {
-            token = "FROM";
-            break;
-          }
-          case "update": {
-            token = "UPDATE";
-            break;
-          }
-          case "set": {
-            token = "SET";
-            break;
-          }
-          case "where": {
-            token = "WHERE";
-            break;
-          }
-          case "delete": {
-            token = "DELETE";
-            break;
-          }
-          case "table": {
-        	  token = "TABLE";
-        	  break;
-          }
-          case "create": {
-        	  token = "CREATE";
-        	  break;
-          }
-          case "values": {
-            token = "VALUES";
-            break;
-          }
-          case "on": {
-            token = "ON";
-            break;
-          }
-          case "left": {
-            token = "LEFT";
-            break;
-          }
-          case "outer": {
-            token = "OUTER";
-            break;
+  private int executeInsert(Insert insert, String[] parameters, boolean report) {
+    if (insert.select != null || insert.rows.size() > 1) {
+      return executeInsertRows(insert, parameters, report);
+    }
+    ArrayList<Expression> values = insert.rows.get(0);
+    String[] row_values = new String[values.size()];
+    for (int valueIndex = 0; valueIndex < row_values.length; valueIndex++) {
+      row_values[valueIndex] = values.get(valueIndex).evaluate(parameters);
+    }
+    if (databaseAbstraction.appendRow(insert.table, row_values)) {
+      if (report) {
+        out.println("1 new record inserted.");
+      }
+      return 1;
+    }
+    if (report) {
+      out.println("0 new record inserted.");
+    }
+    return 0;
+  }
+
+  private int executeInsertRows(Insert insert, String[] parameters, boolean report) {
+    ArrayList<String[]> rows = new ArrayList<>();
+    try {
+      if (insert.select != null) {
+        // NOTE: Every row is read before any is appended so a SELECT from the same table does not see its own rows.
+        PlanNode plan = query(insert.select, parameters);
+        plan.open();
+        try {
+          for (String[] row = plan.next(); row != null; row = plan.next()) {
+            rows.add(row.clone());
           }
-          case "join": {
-            token = "JOIN";
-            break;
+        } finally {
+          plan.close();
+        }
+      } else {
+        for (ArrayList<Expression> values : insert.rows) {
+          String[] row_values = new String[values.size()];
+          for (int valueIndex = 0; valueIndex < row_values.length; valueIndex++) {
+            row_values[valueIndex] = values.get(valueIndex).evaluate(parameters);
           }
-          case "inner": {
-            token = "INNER";
-            break;
+          rows.add(row_values);
+        }
+      }
+      int records_inserted = databaseAbstraction.appendRows(insert.table, rows);
+      if (report) {
+        out.println(records_inserted + (records_inserted == 1 ? " new record inserted." : " new records inserted."));
+      }
+      return records_inserted;
+    } catch (Exception exception) {
+      out.println("!Failed to insert into " + insert.table + " because " + exception.getMessage());
+      return 0;
+    }
+  }
+
+  /*
+  Function: executeCopy
+  Purpose: The purpose of executeCopy() is to run a COPY statement by loading the rows of a file into a table in bulk.
+  The number of loaded records is printed and returned, or the reason the load failed is printed and 0 is returned.
+  - Parameters:
+  1. copy: Copy
+  2. parameters: String[]
+  - Return Type: long
+   */
+  private long executeCopy(Copy copy, String[] parameters) {
+    String file = copy.file.evaluate(parameters);
+    try {
+      long copied = databaseAbstraction.copyRows(copy.table, file, copy.format, copy.header);
+      out.println(copied + (copied == 1 ? " record copied." : " records copied."));
+      return copied;
+    } catch (Exception exception) {
+      out.println("!Failed to copy " + file + " into " + copy.table + " because " + exception.getMessage());
+      return 0;
+    }
+  }
+
+  /*
+  Function: executeExport
+  Purpose: The purpose of executeExport() is to run an EXPORT TABLE statement by writing a table to a file, which is
+  replaced if it exists, or to the output of the session. The size of the written file is printed, or the reason
+  the export failed.
+  - Parameters:
+  1. export: Export
+  2. parameters: String[]
+  - Return Type: void
+   */
+  private void executeExport(Export export, String[] parameters) {
+    String file = export.file == null ? null : export.file.evaluate(parameters);
+    try {
+      if (!databaseAbstraction.tableExists(export.table)) {
+        throw new Exception("USER EXCEPTION - executeExport: table " + export.table + " does not exist.");
+      }
+      if (!export.format.equals("native") && ResultSink.of(export.format, out) == null) {
+        throw new Exception("USER EXCEPTION - executeExport: format " + export.format + " is not native, "
+            + String.join(", ", ResultSink.formats) + ".");
+      }
+      if (file == null) {
+        writeExport(export, out);
+        return;
+      }
+      try (FileOutputStream stream = new FileOutputStream(file)) {
+        writeExport(export, stream);
+      }
+      out.println("Table " + export.table + " exported to " + file + " (" + new File(file).length() + " bytes).");
+    } catch (Exception exception) {
+      out.println("!Failed to export " + export.table + " because " + exception.getMessage());
+    }
+  }
+
+  /*
+  Function: executeCreatePartitioned
+  Purpose: The purpose of executeCreatePartitioned() is to run a CREATE TABLE statement with a PARTITION BY clause.
+  Unlike a plain table, a partitioned table is only created when its columns and partitioning are valid, and a table
+  that fails to be partitioned is dropped again so no half created table is left behind.
+  - Parameters:
+  1. create: CreateTable
+  2. parameters: String[]
+  - Return Type: void
+   */
+  private void executeCreatePartitioned(CreateTable create, String[] parameters) {
+    PartitionBy partitionBy = create.partitionBy;
+    if (!databaseAbstraction.createTable(create.table)) {
+      out.println("!Failed to create table " + create.table + " because it already exists.");
+      return;
+    }
+    try {
+      for (ColumnDefinition column : create.columns) {
+        databaseAbstraction.addColumn(create.table, column.label, column.type);
+      }
+      String[] bounds = new String[partitionBy.bounds.size()];
+      for (int bound = 0; bound < bounds.length; bound++) {
+        bounds[bound] = partitionBy.bounds.get(bound).evaluate(parameters);
+      }
+      databaseAbstraction.partitionTable(create.table, partitionBy.method, partitionBy.column, partitionBy.count,
+          bounds);
+      out.println("Table " + create.table + " created.");
+    } catch (Exception exception) {
+      databaseAbstraction.dropTable(create.table);
+      out.println("!Failed to create table " + create.table + " because " + exception.getMessage());
+    }
+  }
+
+  /*
+  Function: executeCreateMemory
+  Purpose: The purpose of executeCreateMemory() is to run a CREATE TABLE statement naming an engine. Only the MEMORY
+  engine is known, which holds the rows of the table in memory outside of the heap. A memory table cannot be
+  partitioned.
+  - Parameters:
+  1. create: CreateTable
+  - Return Type: void
+   */
+  private void executeCreateMemory(CreateTable create) {
+    if (!create.engine.equals("memory")) {
+      out.println("!Failed to create table " + create.table + " because engine " + create.engine + " is not known.");
+      return;
+    }
+    if (create.partitionBy != null) {
+      out.println("!Failed to create table " + create.table + " because a memory table cannot be partitioned.");
+      return;
+    }
+    String[] headings = new String[create.columns.size()];
+    for (int columnIndex = 0; columnIndex < headings.length; columnIndex++) {
+      ColumnDefinition column = create.columns.get(columnIndex);
+      headings[columnIndex] = column.label + " " + column.type;
+    }
+    try {
+      databaseAbstraction.createMemoryTable(create.table, headings);
+      out.println("Table " + create.table + " created.");
+    } catch (Exception exception) {
+      out.println("!Failed to create table " + create.table + " because " + exception.getMessage());
+    }
+  }
+
+  /*
+  Function: writeExport
+  Purpose: The purpose of writeExport() is to write a table to a stream in the format of an EXPORT TABLE statement.
+  The native format is the format of table files, so the file is handed to the channel of the stream by the Database
+  Abstraction layer without being decoded; a file is written through its own channel so the copy stays within the
+  operating system. Other formats scan the table and encode its rows with a ResultSink. A native table written to the
+  output of the session is followed by a line break since table files do not end with one.
+  - Parameters:
+  1. export: Export
+  2. stream: OutputStream
+  - Return Type: void
+   */
+  private void writeExport(Export export, OutputStream stream) throws Exception {
+    if (export.format.equals("native")) {
+      WritableByteChannel target = stream instanceof FileOutputStream
+          ? ((FileOutputStream) stream).getChannel() : Channels.newChannel(stream);
+      databaseAbstraction.exportTable(export.table, target);
+      if (stream == out) {
+        out.println();
+      }
+      return;
+    }
+    Partitioning partitioning = databaseAbstraction.getPartitioning(export.table);
+    PlanNode scan = partitioning == null ? new PlanNode.TableScan(databaseAbstraction, export.table, null)
+        : new PlanNode.PartitionScan(databaseAbstraction, export.table, null, partitioning);
+    renderRows(scan, ResultSink.of(export.format, stream));
+  }
+
+  /*
+  Function: executeSelect
+  Purpose: The purpose of executeSelect() is to run a SELECT statement. The statement is planned into a tree of
+  operators by the Planner and the rows produced by the plan are rendered. Tables that do not exist and columns that
+  cannot be resolved are reported instead.
+  - Parameters:
+  1. select: Select
+  2. parameters: String[]
+  - Return Type: void
+   */
+  private void executeSelect(Select select, String[] parameters) {
+    String missing_table = missingTable(select);
+    if (missing_table != null) {
+      out.println("!Failed to query table " + missing_table + " because it does not exist");
+      return;
+    }
+    try {
+      if (replica != null && maxLag >= 0) {
+        replica.await(maxLag);
+      }
+      PlanNode plan = new Planner(databaseAbstraction, parameters).plan(select);
+      renderRows(plan, sink);
+    } catch (Exception exception) {
+      out.println("!Failed to query because " + exception.getMessage());
+    }
+  }
+
+  /*
+  Function: executeExplain
+  Purpose: The purpose of executeExplain() is to print the plan chosen for a statement, one operator per line with the
+  access path, the join algorithm and the estimated rows of each operator. For EXPLAIN ANALYZE the statement is also
+  executed: a SELECT is run to completion with every operator measured and its rows discarded, while an INSERT, UPDATE
+  or DELETE is run through the Database Abstraction layer without printing its count of records and measured as a
+  whole, with the bytes it read and the memory it used estimated from the size of its table. Statements that do not
+  produce a plan are described by their kind.
+  - Parameters:
+  1. explain: Explain
+  2. parameters: String[]
+  - Return Type: void
+   */
+  private void executeExplain(Explain explain, String[] parameters) {
+    Statement statement = explain.statement;
+    Planner planner = new Planner(databaseAbstraction, parameters);
+    PlanNode plan = null;
+    long planning_start = System.nanoTime();
+    try {
+      switch (statement.kind) {
+        case SELECT: {
+          String missing_table = missingTable((Select) statement);
+          if (missing_table != null) {
+            out.println("!Failed to query table " + missing_table + " because it does not exist");
+            return;
           }
-          case "begin": {
-            token = "BEGIN";
-            break;
+          plan = planner.plan((Select) statement);
+          break;
+        }
+        case UPDATE: {
+          plan = planner.plan((Update) statement);
+          break;
+        }
+        case DELETE: {
+          plan = planner.plan((Delete) statement);
+          break;
+        }
+        case INSERT: {
+          Select select = ((Insert) statement).select;
+          String missing_table = select != null ? missingTable(select) : null;
+          if (missing_table != null) {
+            out.println("!Failed to query table " + missing_table + " because it does not exist");
+            return;
           }
-          case "transaction": {
-            token = "TRANSACTION";
-            break;
+          plan = planner.plan((Insert) statement);
+          break;
+        }
+        default: {
+          out.println("Utility statement " + statement.kind + " has no plan.");
+          return;
+        }
+      }
+    } catch (Exception exception) {
+      out.println("!Failed to plan statement because " + exception.getMessage());
+      return;
+    }
+    long planning_nanoseconds = System.nanoTime() - planning_start;
+    long execution_nanoseconds = 0;
+    if (explain.analyze) {
+      plan.setAnalyze(true);
+      long execution_start = System.nanoTime();
+      try {
+        if (statement.kind == SyntaxTree.Kind.SELECT) {
+          plan.open();
+          try {
+            while (plan.next() != null) {
+            }
+          } finally {
+            plan.close();
           }
-          case "commit": {
-            token = "COMMIT";
-            break;
+        } else {
+          long table_bytes = databaseAbstraction.tableSize(tableOf(statement));
+          int records = 0;
+          if (statement.kind == SyntaxTree.Kind.UPDATE) {
+            records = executeUpdate((Update) statement, parameters, false);
+          } else if (statement.kind == SyntaxTree.Kind.DELETE) {
+            records = executeDelete((Delete) statement, parameters, false);
+          } else {
+            records = executeInsert((Insert) statement, parameters, false);
           }
+          // NOTE: Updates and deletes read the whole table and buffer every row before rewriting the table, so the
+          // bytes read and the memory used are estimated from its size rather than measured.
+          boolean rewrite = statement.kind != SyntaxTree.Kind.INSERT;
+          ((PlanNode.ModifyTable) plan).record(Math.max(records, 0), System.nanoTime() - execution_start,
+              rewrite ? table_bytes : 0, rewrite ? table_bytes * 2 : 0);
         }
-        token_queue.add(token);
+      } catch (Exception exception) {
+        out.println("!Failed to execute statement because " + exception.getMessage());
+        return;
+      }
+      execution_nanoseconds = System.nanoTime() - execution_start;
+    }
+    ArrayList<String> lines = new ArrayList<>();
+    plan.explain(lines, 0);
+    for (String line : lines) {
+      out.println(line);
+    }
+    out.printf("Planning time: %.3f ms%n", planning_nanoseconds / 1e6);
+    if (explain.analyze) {
+      out.printf("Execution time: %.3f ms%n", execution_nanoseconds / 1e6);
+    }
+  }
+
+  /*
+  Function: missingTable
+  Purpose: The purpose of missingTable() is to find a table read by a query, including the tables of its subquery and
+  of the SELECTs it is united with, that does not exist. The name of the first missing table is returned or null when every table exists.
+  - Parameters:
+  1. select: Select
+  - Return Type: String
+   */
+  private String missingTable(Select select) {
+    for (TableReference table : select.tables) {
+      if (!databaseAbstraction.tableExists(table.table)) {
+        return table.table;
+      }
+    }
+    if (select.where instanceof SubqueryCondition) {
+      String missing_table = missingTable(((SubqueryCondition) select.where).subquery);
+      if (missing_table != null) {
+        return missing_table;
+      }
+    }
+    return select.union == null ? null : missingTable(select.union);
+  }
+
+  private String tableOf(Statement statement) {
+    switch (statement.kind) {
+      case UPDATE:
+        return ((Update) statement).table;
+      case DELETE:
+        return ((Delete) statement).table;
+      default:
+        return ((Insert) statement).table;
+    }
+  }
+
+  /*
+  Function: memoryTableWritten
+  Purpose: The purpose of memoryTableWritten() is to find the memory table a statement would write within a
+  transaction. Writes to memory tables take effect at once rather than through the write set of the transaction, so
+  they could neither be rolled back nor kept from other sessions until the commit, and are refused instead. The name
+  of the table is returned, or null when the statement may run.
+  - Parameters:
+  1. statement: Statement
+  - Return Type: String
+   */
+  private String memoryTableWritten(Statement statement) {
+    if (!databaseAbstraction.inTransaction()) {
+      return null;
+    }
+    String table;
+    switch (statement.kind) {
+      case INSERT:
+      case UPDATE:
+      case DELETE:
+        table = tableOf(statement);
+        break;
+      case COPY:
+        table = ((Copy) statement).table;
+        break;
+      case EXPLAIN:
+        return ((Explain) statement).analyze ? memoryTableWritten(((Explain) statement).statement) : null;
+      default:
+        return null;
+    }
+    return databaseAbstraction.getMemoryTable(table) != null ? table : null;
+  }
+
+  /*
+  Function: writes
+  Purpose: The purpose of writes() is to tell whether a statement changes the databases, being the statements a replica
+  refuses. EXPLAIN ANALYZE writes when the statement it runs does. A prepared statement is checked when it is executed.
+  - Parameters:
+  1. statement: Statement
+  - Return Type: boolean
+   */
+  private static boolean writes(Statement statement) {
+    switch (statement.kind) {
+      case CREATE_DATABASE:
+      case DROP_DATABASE:
+      case CREATE_TABLE:
+      case DROP_TABLE:
+      case ALTER_TABLE:
+      case INSERT:
+      case UPDATE:
+      case DELETE:
+      case COPY:
+        return true;
+      case EXPLAIN:
+        return ((Explain) statement).analyze && writes(((Explain) statement).statement);
+      default:
+        return false;
+    }
+  }
+
+  /*
+  Function: renderRows
+  Purpose: The purpose of renderRows() is to be a helper function to render a table. Given the plan
+  of a query, the function prints the table including a table header and records. The function
+  hands the heading of the plan followed by each row produced by the plan to the given sink
+  until the plan has no rows left, so rows are written as they are produced in the chosen format.
+  The sink is finished even if the plan fails so the rows written so far come before the error.
+  - Parameters:
+  1. plan: PlanNode
+  2. sink: ResultSink
+  - Return Type: void
+   */
+  private void renderRows(PlanNode plan, ResultSink sink) throws Exception {
+    plan.open();
+    try {
+      sink.heading(plan.heading());
+      for (String[] row = plan.next(); row != null; row = plan.next()) {
+        sink.row(row);
+      }
+    } finally {
+      try {
+        sink.finish();
+      } finally {
+        plan.close();
       }
     }
-    return token_queue;
   }
 }
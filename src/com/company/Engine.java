@@ -0,0 +1,95 @@
+package com.company;
+
+import com.company.SyntaxTree.Statement;
+import java.io.PrintStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Engine
+    Purpose: The purpose of Engine is to hold the parts of the database shared by every session of a process and to
+    open the sessions using them. Each session is a Database System with its own Database Abstraction layer holding the
+    state of the session being its current database, running transaction, prepared statements and output stream, while
+    the engine holds the databases' directory and the statement cache shared by all sessions. The tables themselves are
+    shared through the databases' directory and are coordinated by the Lock Manager, Table Locks and Version Store,
+    which keep their state for the whole process. Sessions are cheap, so each session may run on its own virtual
+    thread. An engine serving a replica holds the Replica following the primary, and its sessions refuse to write.
+    - Variables:
+    1. databasesDirectory: String
+       Purpose: The variable databasesDirectory is the directory holding the databases of every session.
+    2. statementCache: StatementCache<Statement>
+       Purpose: The variable statementCache stores the syntax trees of statements recently run by any session.
+    3. sessionThreads: ExecutorService
+       Purpose: The variable sessionThreads runs the work of each session on a virtual thread of its own.
+    4. sessionCount: AtomicLong
+       Purpose: The variable sessionCount counts the sessions opened by the engine.
+    5. replica: Replica
+       Purpose: The variable replica is the replica kept up to date in the databases' directory, or null when the
+       engine serves a primary.
+    - Functions:
+    1. openSession(out: PrintStream): DatabaseSystem
+    2. submit(work: Callable<T>): Future<T>
+    3. getSessionCount(): long
+    4. close(): void
+*/
+public class Engine implements AutoCloseable {
+
+  private static final int statementCache_capacity = 256;
+
+  final String databasesDirectory;
+  final StatementCache<Statement> statementCache = new StatementCache<>(statementCache_capacity);
+  private final ExecutorService sessionThreads = Executors.newVirtualThreadPerTaskExecutor();
+  private final AtomicLong sessionCount = new AtomicLong();
+  volatile Replica replica = null;
+
+  public Engine() {
+    this("databases/");
+  }
+
+  public Engine(String databasesDirectory) {
+    this.databasesDirectory = databasesDirectory.endsWith("/") ? databasesDirectory : databasesDirectory + "/";
+  }
+
+  /*
+  Function: openSession
+  Purpose: The purpose of openSession() is to open a new session on the engine. The messages and rows printed by the
+  statements of the session are written to the given stream.
+  - Parameters:
+  1. out: PrintStream
+  - Return Type: DatabaseSystem
+   */
+  public DatabaseSystem openSession(PrintStream out) {
+    sessionCount.incrementAndGet();
+    return new DatabaseSystem(this, out);
+  }
+
+  /*
+  Function: submit
+  Purpose: The purpose of submit() is to run the work of a session on a virtual thread of its own. A session must only
+  be used by one thread at a time, so the work of a session should be submitted as a whole.
+  - Parameters:
+  1. work: Callable<T>
+  - Return Type: Future<T>
+   */
+  public <T> Future<T> submit(Callable<T> work) {
+    return sessionThreads.submit(work);
+  }
+
+  public long getSessionCount() {
+    return sessionCount.get();
+  }
+
+  @Override
+  public void close() {
+    sessionThreads.shutdown();
+    if (replica != null) {
+      replica.close();
+    }
+  }
+}
@@ -0,0 +1,274 @@
+package com.company;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: GroupCommit
+    Purpose: The purpose of GroupCommit is to make commits durable without forcing the disk once per commit. A commit
+    registers the table files it wrote and receives a ticket, then waits until its ticket is durable. The first
+    committer to wait becomes the leader of a batch: it waits up to maxDelay microseconds, or until maxBatch commits
+    are waiting, then forces every file written by the batch once along with the directory of the database, and wakes
+    every committer of the batch. Committers arriving while a batch is being forced form the next batch, so the number
+    of forces follows the rate the disk can force at rather than the rate of commits. Each commit rewrites or appends
+    to its table files before it registers, so forcing the files after it registers makes the commit durable along
+    with every earlier commit to the same files. The sequence and version log of the version store are not forced
+    since they only matter to running transactions, which do not outlive the process. There is one instance per
+    database within the process and the latency of the latest commits is kept for reporting.
+    - Variables:
+    1. instances: ConcurrentHashMap<String, GroupCommit>
+       Purpose: The variable instances stores the group commit of each database by its absolute path.
+    2. maxDelay: long
+       Purpose: The variable maxDelay is the number of microseconds the leader of a batch waits for more commits.
+    3. maxBatch: int
+       Purpose: The variable maxBatch is the number of waiting commits that ends the wait of the leader early.
+    4. directory: File
+       Purpose: The variable directory is the directory of the database forced with the files of every batch.
+    5. pending: LinkedHashSet<String>
+       Purpose: The variable pending stores the files written by commits not yet part of a batch being forced.
+    6. requested: long
+       Purpose: The variable requested is the last ticket given to a commit.
+    7. durable: long
+       Purpose: The variable durable is the last ticket whose commit has been forced.
+    8. flushing: boolean
+       Purpose: The variable flushing is used to define if a leader is gathering or forcing a batch.
+    9. failure: IOException
+       Purpose: The variable failure is the error of the last batch that failed to be forced, along with failedFrom
+       and failedTo being the first and last tickets of the batch.
+    10. latencies: long[]
+       Purpose: The variable latencies is a ring of the latest commit latencies in nanoseconds.
+    11. recorded: long
+       Purpose: The variable recorded is the number of commits recorded since the statistics were reset.
+    12. batches: long
+       Purpose: The variable batches is the number of batches forced since the statistics were reset.
+    - Functions:
+    1. of(databasePath: String): GroupCommit
+    2. register(files: Collection<File>): long
+    3. await(ticket: long, start: long): void
+    4. force(files: ArrayList<String>): void
+    5. latencies(): long[]
+    6. getBatches(): long
+    7. getCommits(): long
+    8. reset(): void
+*/
+public class GroupCommit {
+
+  private static final ConcurrentHashMap<String, GroupCommit> instances = new ConcurrentHashMap<>();
+
+  static volatile long maxDelay = 0;
+  static volatile int maxBatch = 64;
+
+  private final File directory;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition arrived = lock.newCondition();
+  private final Condition flushed = lock.newCondition();
+  private final LinkedHashSet<String> pending = new LinkedHashSet<>();
+  private long requested = 0;
+  private long durable = 0;
+  private boolean flushing = false;
+  private IOException failure = null;
+  private long failedFrom = 0;
+  private long failedTo = 0;
+  private final long[] latencies = new long[65536];
+  private long recorded = 0;
+  private long batches = 0;
+
+  private GroupCommit(File directory) {
+    this.directory = directory;
+  }
+
+  /*
+  Function: of
+  Purpose: The purpose of of() is to return the group commit of a database, creating it on first use.
+  - Parameters:
+  1. databasePath: String
+  - Return Type: GroupCommit
+   */
+  static GroupCommit of(String databasePath) {
+    File directory = new File(databasePath).getAbsoluteFile().toPath().normalize().toFile();
+    return instances.computeIfAbsent(directory.getPath(), path -> new GroupCommit(directory));
+  }
+
+  /*
+  Function: register
+  Purpose: The purpose of register() is to add the files written by a commit to the next batch and to return the
+  ticket of the commit. If enough commits are waiting, the leader gathering the batch is woken.
+  - Parameters:
+  1. files: Collection<File>
+  - Return Type: long
+   */
+  long register(Collection<File> files) {
+    lock.lock();
+    try {
+      for (File file : files) {
+        pending.add(file.getAbsolutePath());
+      }
+      requested++;
+      if (requested - durable >= maxBatch) {
+        arrived.signal();
+      }
+      return requested;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /*
+  Function: await
+  Purpose: The purpose of await() is to wait until the commit holding the ticket is durable, leading a batch if no
+  other committer is. The time since the given start, in nanoseconds, is recorded as the latency of the commit. If
+  the batch of the commit failed to be forced, the error is thrown. A leader that is interrupted, or fails before its
+  batch is forced, gives up leading and wakes the other committers so one of them leads instead.
+  - Parameters:
+  1. ticket: long
+  2. start: long
+  - Return Type: void
+   */
+  void await(long ticket, long start) throws IOException, InterruptedException {
+    lock.lock();
+    try {
+      while (durable < ticket) {
+        if (flushing) {
+          flushed.await();
+          continue;
+        }
+        flushing = true;
+        ArrayList<String> files = null;
+        boolean forced = false;
+        try {
+          long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(maxDelay);
+          for (long remaining = deadline - System.nanoTime(); remaining > 0 && requested - durable < maxBatch;
+              remaining = deadline - System.nanoTime()) {
+            arrived.awaitNanos(remaining);
+          }
+          long first = durable + 1;
+          long last = requested;
+          files = new ArrayList<>(pending);
+          pending.clear();
+          lock.unlock();
+          IOException error = null;
+          try {
+            force(files);
+          } catch (IOException exception) {
+            error = exception;
+          } finally {
+            lock.lock();
+          }
+          if (error != null) {
+            failure = error;
+            failedFrom = first;
+            failedTo = last;
+          }
+          durable = last;
+          batches++;
+          forced = true;
+        } finally {
+          // NOTE: A leader interrupted or failing unexpectedly hands its batch back so the next leader forces it.
+          if (!forced && files != null) {
+            pending.addAll(files);
+          }
+          flushing = false;
+          flushed.signalAll();
+        }
+      }
+      latencies[(int) (recorded++ % latencies.length)] = System.nanoTime() - start;
+      if (failure != null && ticket >= failedFrom && ticket <= failedTo) {
+        throw failure;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /*
+  Function: force
+  Purpose: The purpose of force() is to force the files of a batch to the disk followed by the directory of the
+  database so files renamed into place are durable as well. Files removed since they were written are skipped and
+  platforms that cannot open a directory skip forcing it.
+  - Parameters:
+  1. files: ArrayList<String>
+  - Return Type: void
+   */
+  private void force(ArrayList<String> files) throws IOException {
+    for (String path : files) {
+      File file = new File(path);
+      if (!file.exists()) {
+        continue;
+      }
+      try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+    }
+    try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException exception) {
+      // NOTE: Directories cannot be opened as channels on every platform.
+    }
+  }
+
+  /*
+  Function: latencies
+  Purpose: The purpose of latencies() is to return the recorded latencies of the latest commits in nanoseconds, sorted
+  so percentiles can be read from them directly.
+  - Parameters:
+  - Return Type: long[]
+   */
+  long[] latencies() {
+    lock.lock();
+    try {
+      long[] sorted = Arrays.copyOf(latencies, (int) Math.min(recorded, latencies.length));
+      Arrays.sort(sorted);
+      return sorted;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  long getBatches() {
+    lock.lock();
+    try {
+      return batches;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  long getCommits() {
+    lock.lock();
+    try {
+      return recorded;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /*
+  Function: reset
+  Purpose: The purpose of reset() is to clear the recorded latencies and the number of commits and batches so a new
+  measurement can be taken.
+  - Parameters:
+  - Return Type: void
+   */
+  void reset() {
+    lock.lock();
+    try {
+      recorded = 0;
+      batches = 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
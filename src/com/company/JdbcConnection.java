@@ -0,0 +1,568 @@
+package com.company;
+
+import com.company.SyntaxTree.Kind;
+import com.company.SyntaxTree.NamedStatement;
+import com.company.SyntaxTree.Select;
+import com.company.SyntaxTree.Statement;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: JdbcConnection
+    Purpose: The purpose of JdbcConnection is to be a JDBC connection over a session of the Engine. Statements are
+    parsed by the Database System and run through it directly: the rows of a query are read from its plan as typed
+    values and the number of records changed by other statements is returned, so no output is rendered as text. The
+    messages the session prints are only kept to report failures, which are the messages starting with "!" or
+    "Error:". With auto-commit on, every statement is its own commit. With auto-commit off a transaction is begun right
+    away and again after every commit and rollback, mapped onto the transactions of the Database Abstraction layer.
+    - Variables:
+    1. url: String
+       Purpose: The variable url is the URL the connection was opened with.
+    2. session: DatabaseSystem
+       Purpose: The variable session is the session of the engine the statements of the connection run on.
+    3. messages: ByteArrayOutputStream
+       Purpose: The variable messages gathers the messages printed by the session for the statement being run.
+    4. statements: ArrayList<JdbcStatement>
+       Purpose: The variable statements stores the open statements of the connection so they close with it.
+    5. autoCommit: boolean
+       Purpose: The variable autoCommit is true when every statement is committed on its own.
+    6. catalog: String
+       Purpose: The variable catalog is the name of the database in use.
+    7. closed: boolean
+       Purpose: The variable closed is true once the connection is closed.
+    - Functions:
+    1. parse(sql: String): Statement
+    2. update(statement: Statement, parameters: String[]): int
+    3. query(select: Select, parameters: String[]): PlanNode
+    4. check(): void
+    5. setAutoCommit(autoCommit: boolean): void
+    6. commit(): void
+    7. rollback(): void
+    8. setCatalog(catalog: String): void
+    9. close(): void
+*/
+public class JdbcConnection implements Connection {
+
+  private final String url;
+  private final DatabaseSystem session;
+  private final ByteArrayOutputStream messages = new ByteArrayOutputStream();
+  private final ArrayList<JdbcStatement> statements = new ArrayList<>();
+  private boolean autoCommit = true;
+  private String catalog = null;
+  private boolean closed = false;
+
+  JdbcConnection(Engine engine, String url) {
+    this.url = url;
+    session = engine.openSession(new PrintStream(messages, true, StandardCharsets.UTF_8));
+  }
+
+  /*
+  Function: parse
+  Purpose: The purpose of parse() is to parse a single SQL statement through the statement cache of the engine. If the
+  statement does not follow the grammar or is empty, an exception is thrown.
+  - Parameters:
+  1. sql: String
+  - Return Type: Statement
+   */
+  Statement parse(String sql) throws SQLException {
+    checkOpen();
+    Statement statement;
+    try {
+      statement = session.parse(sql);
+    } catch (Exception exception) {
+      throw new SQLException(exception.getMessage(), "42000", exception);
+    }
+    if (statement == null) {
+      throw new SQLException("USER EXCEPTION - parse: the statement is empty.", "42000");
+    }
+    return statement;
+  }
+
+  /*
+  Function: update
+  Purpose: The purpose of update() is to run a statement other than a query and return the number of records it
+  changed. A USE statement that succeeds changes the catalog of the connection. If the statement fails, an exception
+  is thrown with the message of the failure.
+  - Parameters:
+  1. statement: Statement
+  2. parameters: String[]
+  - Return Type: int
+   */
+  int update(Statement statement, String[] parameters) throws SQLException {
+    checkOpen();
+    messages.reset();
+    int count = session.executeCount(statement, parameters);
+    check();
+    if (statement.kind == Kind.USE) {
+      catalog = ((NamedStatement) statement).name;
+    }
+    return Math.max(count, 0);
+  }
+
+  /*
+  Function: query
+  Purpose: The purpose of query() is to plan a query. The plan is returned unopened for a result set to read.
+  - Parameters:
+  1. select: Select
+  2. parameters: String[]
+  - Return Type: PlanNode
+   */
+  PlanNode query(Select select, String[] parameters) throws SQLException {
+    checkOpen();
+    try {
+      return session.query(select, parameters);
+    } catch (Exception exception) {
+      throw new SQLException(exception.getMessage(), "42000", exception);
+    }
+  }
+
+  /*
+  Function: check
+  Purpose: The purpose of check() is to turn a failure reported by the session into an exception. Messages starting
+  with "!" or "Error:" are failures and an aborted commit is reported as a serialization failure.
+  - Parameters:
+  - Return Type: void
+   */
+  private void check() throws SQLException {
+    for (String line : messages.toString(StandardCharsets.UTF_8).split("\n")) {
+      line = line.strip();
+      if (line.startsWith("!")) {
+        throw new SQLException(line.substring(1), "42000");
+      }
+      if (line.startsWith("Error:")) {
+        throw new SQLException(line, "55P03");
+      }
+      if (line.equals("Transaction abort.")) {
+        throw new SQLException(line, "40001");
+      }
+    }
+  }
+
+  private void checkOpen() throws SQLException {
+    if (closed) {
+      throw new SQLException("USER EXCEPTION - checkOpen: the connection is closed.", "08003");
+    }
+  }
+
+  void forget(JdbcStatement statement) {
+    statements.remove(statement);
+  }
+
+  @Override
+  public java.sql.Statement createStatement() throws SQLException {
+    checkOpen();
+    JdbcStatement statement = new JdbcStatement(this, null);
+    statements.add(statement);
+    return statement;
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql) throws SQLException {
+    JdbcStatement statement = new JdbcStatement(this, parse(sql));
+    statements.add(statement);
+    return statement;
+  }
+
+  @Override
+  public java.sql.Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+    checkResultSetType(resultSetType, resultSetConcurrency);
+    return createStatement();
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+      throws SQLException {
+    checkResultSetType(resultSetType, resultSetConcurrency);
+    return prepareStatement(sql);
+  }
+
+  private void checkResultSetType(int resultSetType, int resultSetConcurrency) throws SQLException {
+    if (resultSetType != ResultSet.TYPE_FORWARD_ONLY || resultSetConcurrency != ResultSet.CONCUR_READ_ONLY) {
+      throw new SQLFeatureNotSupportedException(
+          "USER EXCEPTION - checkResultSetType: only forward only, read only result sets are supported.");
+    }
+  }
+
+  @Override
+  public String nativeSQL(String sql) {
+    return sql;
+  }
+
+  /*
+  Function: setAutoCommit
+  Purpose: The purpose of setAutoCommit() is to turn auto-commit on or off. Turning it off begins a transaction and
+  turning it back on commits the running transaction.
+  - Parameters:
+  1. autoCommit: boolean
+  - Return Type: void
+   */
+  @Override
+  public void setAutoCommit(boolean autoCommit) throws SQLException {
+    checkOpen();
+    if (autoCommit == this.autoCommit) {
+      return;
+    }
+    if (autoCommit) {
+      boolean committed = session.commitTransaction();
+      this.autoCommit = true;
+      if (!committed) {
+        throw new SQLException("Transaction abort.", "40001");
+      }
+    } else {
+      session.beginTransaction();
+      this.autoCommit = false;
+    }
+  }
+
+  @Override
+  public boolean getAutoCommit() throws SQLException {
+    checkOpen();
+    return autoCommit;
+  }
+
+  /*
+  Function: commit
+  Purpose: The purpose of commit() is to commit the running transaction and begin the next one. If the transaction is
+  aborted because another transaction committed a change to the same rows first, a serialization failure is thrown
+  and the next transaction is begun all the same.
+  - Parameters:
+  - Return Type: void
+   */
+  @Override
+  public void commit() throws SQLException {
+    checkOpen();
+    if (autoCommit) {
+      throw new SQLException("USER EXCEPTION - commit: auto-commit is on.", "25000");
+    }
+    boolean committed = session.commitTransaction();
+    session.beginTransaction();
+    if (!committed) {
+      throw new SQLException("Transaction abort.", "40001");
+    }
+  }
+
+  @Override
+  public void rollback() throws SQLException {
+    checkOpen();
+    if (autoCommit) {
+      throw new SQLException("USER EXCEPTION - rollback: auto-commit is on.", "25000");
+    }
+    session.abortTransaction();
+    session.beginTransaction();
+  }
+
+  /*
+  Function: close
+  Purpose: The purpose of close() is to close the statements of the connection and end its session. A running
+  transaction is rolled back.
+  - Parameters:
+  - Return Type: void
+   */
+  @Override
+  public void close() throws SQLException {
+    if (closed) {
+      return;
+    }
+    for (JdbcStatement statement : new ArrayList<>(statements)) {
+      statement.close();
+    }
+    session.close();
+    closed = true;
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public DatabaseMetaData getMetaData() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getMetaData: database metadata is not supported.");
+  }
+
+  @Override
+  public void setReadOnly(boolean readOnly) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public boolean isReadOnly() throws SQLException {
+    checkOpen();
+    return false;
+  }
+
+  /*
+  Function: setCatalog
+  Purpose: The purpose of setCatalog() is to choose the database used by the connection, as a USE statement does.
+  - Parameters:
+  1. catalog: String
+  - Return Type: void
+   */
+  @Override
+  public void setCatalog(String catalog) throws SQLException {
+    update(new NamedStatement(Kind.USE, catalog), new String[0]);
+  }
+
+  @Override
+  public String getCatalog() throws SQLException {
+    checkOpen();
+    return catalog;
+  }
+
+  // NOTE: Transactions read a snapshot of the database, which is the isolation JDBC calls repeatable read.
+  @Override
+  public void setTransactionIsolation(int level) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public int getTransactionIsolation() throws SQLException {
+    checkOpen();
+    return Connection.TRANSACTION_REPEATABLE_READ;
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public Map<String, Class<?>> getTypeMap() {
+    return new HashMap<>();
+  }
+
+  @Override
+  public void setHoldability(int holdability) throws SQLException {
+    if (holdability != ResultSet.CLOSE_CURSORS_AT_COMMIT) {
+      throw new SQLFeatureNotSupportedException("USER EXCEPTION - setHoldability: cursors close at commit.");
+    }
+  }
+
+  @Override
+  public int getHoldability() {
+    return ResultSet.CLOSE_CURSORS_AT_COMMIT;
+  }
+
+  @Override
+  public boolean isValid(int timeout) throws SQLException {
+    if (timeout < 0) {
+      throw new SQLException("USER EXCEPTION - isValid: timeout " + timeout + " is negative.");
+    }
+    return !closed;
+  }
+
+  @Override
+  public void setClientInfo(String name, String value) throws SQLClientInfoException {
+    throw new SQLClientInfoException();
+  }
+
+  @Override
+  public void setClientInfo(Properties properties) throws SQLClientInfoException {
+    throw new SQLClientInfoException();
+  }
+
+  @Override
+  public String getClientInfo(String name) {
+    return null;
+  }
+
+  @Override
+  public Properties getClientInfo() {
+    return new Properties();
+  }
+
+  @Override
+  public void setSchema(String schema) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public String getSchema() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public void abort(Executor executor) throws SQLException {
+    close();
+  }
+
+  @Override
+  public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public int getNetworkTimeout() throws SQLException {
+    checkOpen();
+    return 0;
+  }
+
+  @Override
+  public String toString() {
+    return url;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) throws SQLException {
+    if (type.isInstance(this)) {
+      return type.cast(this);
+    }
+    throw new SQLException("USER EXCEPTION - unwrap: the connection is not a " + type.getName() + ".");
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> type) {
+    return type.isInstance(this);
+  }
+
+  // NOTE: The remaining operations of the interface are not supported by the database.
+  @Override
+  public CallableStatement prepareCall(String sql) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - prepareCall: not supported.");
+  }
+
+
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - prepareCall: not supported.");
+  }
+
+
+  @Override
+  public void setTypeMap(Map<String,Class<?>> map) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setTypeMap: not supported.");
+  }
+
+
+  @Override
+  public Savepoint setSavepoint() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setSavepoint: not supported.");
+  }
+
+
+  @Override
+  public Savepoint setSavepoint(String name) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setSavepoint: not supported.");
+  }
+
+
+  @Override
+  public void rollback(Savepoint savepoint) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - rollback: not supported.");
+  }
+
+
+  @Override
+  public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - releaseSavepoint: not supported.");
+  }
+
+
+  @Override
+  public java.sql.Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+      throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - createStatement: not supported.");
+  }
+
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+      int resultSetHoldability)
+      throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - prepareStatement: not supported.");
+  }
+
+
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency,
+      int resultSetHoldability)
+      throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - prepareCall: not supported.");
+  }
+
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - prepareStatement: not supported.");
+  }
+
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int columnIndexes[]) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - prepareStatement: not supported.");
+  }
+
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, String columnNames[]) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - prepareStatement: not supported.");
+  }
+
+
+  @Override
+  public Clob createClob() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - createClob: not supported.");
+  }
+
+
+  @Override
+  public Blob createBlob() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - createBlob: not supported.");
+  }
+
+
+  @Override
+  public NClob createNClob() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - createNClob: not supported.");
+  }
+
+
+  @Override
+  public SQLXML createSQLXML() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - createSQLXML: not supported.");
+  }
+
+
+  @Override
+  public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - createArrayOf: not supported.");
+  }
+
+
+  @Override
+  public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - createStruct: not supported.");
+  }
+}
@@ -0,0 +1,106 @@
+package com.company;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: JdbcDriver
+    Purpose: The purpose of JdbcDriver is to let Java programs use the database in their own process through JDBC
+    instead of piping scripts into the Test Driver and parsing its output. URLs of the form "jdbc:toydb:file:<dir>" name
+    the databases' directory to use and every connection to the same directory is a session of the same Engine, so the
+    connections share its statement cache. The database to use may be given as the "database" property or chosen later
+    with setCatalog() or a USE statement. The driver registers itself with the DriverManager when loaded and is listed
+    in META-INF/services so it is loaded automatically.
+    - Variables:
+    1. prefix: String
+       Purpose: The variable prefix is the start of every URL accepted by the driver.
+    2. engines: ConcurrentHashMap<String, Engine>
+       Purpose: The variable engines stores the engine of each databases' directory connected to.
+    - Functions:
+    1. connect(url: String, info: Properties): Connection
+    2. acceptsURL(url: String): boolean
+*/
+public class JdbcDriver implements java.sql.Driver {
+
+  static final String prefix = "jdbc:toydb:file:";
+
+  private static final ConcurrentHashMap<String, Engine> engines = new ConcurrentHashMap<>();
+
+  static {
+    try {
+      DriverManager.registerDriver(new JdbcDriver());
+    } catch (SQLException exception) {
+      throw new ExceptionInInitializerError(exception);
+    }
+  }
+
+  /*
+  Function: connect
+  Purpose: The purpose of connect() is to open a connection to the databases' directory named by the URL. If the URL
+  is not one of this driver, null is returned so the DriverManager tries the next driver. If the "database" property
+  names a database that does not exist, an exception is thrown.
+  - Parameters:
+  1. url: String
+  2. info: Properties
+  - Return Type: Connection
+   */
+  @Override
+  public Connection connect(String url, Properties info) throws SQLException {
+    if (!acceptsURL(url)) {
+      return null;
+    }
+    String directory = url.substring(prefix.length());
+    if (directory.isEmpty()) {
+      throw new SQLException("USER EXCEPTION - connect: " + url + " does not name a directory.");
+    }
+    Engine engine = engines.computeIfAbsent(directory, Engine::new);
+    JdbcConnection connection = new JdbcConnection(engine, url);
+    String database = info == null ? null : info.getProperty("database");
+    if (database != null) {
+      connection.setCatalog(database);
+    }
+    return connection;
+  }
+
+  @Override
+  public boolean acceptsURL(String url) {
+    return url != null && url.startsWith(prefix);
+  }
+
+  @Override
+  public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+    DriverPropertyInfo database = new DriverPropertyInfo("database", info == null ? null
+        : info.getProperty("database"));
+    database.description = "The database to use once connected.";
+    return new DriverPropertyInfo[]{database};
+  }
+
+  @Override
+  public int getMajorVersion() {
+    return 1;
+  }
+
+  @Override
+  public int getMinorVersion() {
+    return 0;
+  }
+
+  @Override
+  public boolean jdbcCompliant() {
+    return false;
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getParentLogger: logging is not supported.");
+  }
+}
@@ -0,0 +1,1368 @@
+package com.company;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.Map;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: JdbcResultSet
+    Purpose: The purpose of JdbcResultSet is to stream the rows of a query to a JDBC caller. The plan of the query is
+    opened when the result set is created and each call to next() pulls one row from it, so rows are never gathered
+    in memory and the result set only moves forward. Values are converted from the text they are stored as into the
+    type asked for, or, through getObject(), into the Java class of the type of the column. A value stored as empty
+    text in an int or float column reads as SQL NULL. The plan, along with the locks it holds on the tables it reads,
+    is closed once the last row is read or the result set is closed.
+    - Variables:
+    1. statement: JdbcStatement
+       Purpose: The variable statement is the statement that ran the query.
+    2. plan: PlanNode
+       Purpose: The variable plan is the open plan producing the rows of the query.
+    3. metaData: JdbcResultSetMetaData
+       Purpose: The variable metaData describes the columns of the result.
+    4. maxRows: int
+       Purpose: The variable maxRows is the largest number of rows returned, or 0 for every row.
+    5. row: String[]
+       Purpose: The variable row stores the values of the current row.
+    6. rowNumber: int
+       Purpose: The variable rowNumber is the number of the current row counting from 1.
+    7. lastNull: boolean
+       Purpose: The variable lastNull is true when the last value read was SQL NULL.
+    - Functions:
+    1. next(): boolean
+    2. value(columnIndex: int): String
+    3. number(columnIndex: int): BigDecimal
+    4. findColumn(columnLabel: String): int
+    5. getObject(columnIndex: int): Object
+    6. close(): void
+*/
+public class JdbcResultSet implements ResultSet {
+
+  private final JdbcStatement statement;
+  private PlanNode plan;
+  private final JdbcResultSetMetaData metaData;
+  private final int maxRows;
+  private String[] row = null;
+  private int rowNumber = 0;
+  private boolean lastNull = false;
+  private boolean closed = false;
+
+  JdbcResultSet(JdbcStatement statement, PlanNode plan, int maxRows) throws SQLException {
+    this.statement = statement;
+    this.maxRows = maxRows;
+    try {
+      plan.open();
+    } catch (Exception exception) {
+      throw new SQLException(exception.getMessage(), "42000", exception);
+    }
+    this.plan = plan;
+    metaData = new JdbcResultSetMetaData(plan.heading());
+  }
+
+  /*
+  Function: next
+  Purpose: The purpose of next() is to move to the next row of the query. When the plan has no rows left, or the
+  largest number of rows has been returned, the plan is closed and false is returned.
+  - Parameters:
+  - Return Type: boolean
+   */
+  @Override
+  public boolean next() throws SQLException {
+    checkOpen();
+    if (plan == null) {
+      row = null;
+      return false;
+    }
+    try {
+      row = maxRows > 0 && rowNumber >= maxRows ? null : plan.next();
+    } catch (Exception exception) {
+      closePlan();
+      throw new SQLException(exception.getMessage(), "58030", exception);
+    }
+    if (row == null) {
+      closePlan();
+      return false;
+    }
+    rowNumber++;
+    return true;
+  }
+
+  /*
+  Function: value
+  Purpose: The purpose of value() is to return the stored text of a column of the current row and remember whether it
+  is SQL NULL. If there is no current row or the column does not exist, an exception is thrown.
+  - Parameters:
+  1. columnIndex: int
+  - Return Type: String
+   */
+  private String value(int columnIndex) throws SQLException {
+    checkOpen();
+    String type = metaData.type(columnIndex);
+    if (row == null) {
+      throw new SQLException("USER EXCEPTION - value: there is no current row.", "24000");
+    }
+    String value = columnIndex <= row.length ? row[columnIndex - 1] : null;
+    int sqlType = JdbcResultSetMetaData.sqlType(type);
+    lastNull = value == null || (value.isEmpty() && (sqlType == Types.INTEGER || sqlType == Types.FLOAT));
+    return lastNull ? null : value;
+  }
+
+  /*
+  Function: number
+  Purpose: The purpose of number() is to read a column of the current row as a number. SQL NULL reads as null. If the
+  value is not a number, an exception is thrown.
+  - Parameters:
+  1. columnIndex: int
+  - Return Type: BigDecimal
+   */
+  private BigDecimal number(int columnIndex) throws SQLException {
+    String value = value(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return new BigDecimal(value.trim());
+    } catch (NumberFormatException exception) {
+      throw new SQLException("USER EXCEPTION - number: " + value + " is not a number.", "22018");
+    }
+  }
+
+  @Override
+  public boolean wasNull() throws SQLException {
+    checkOpen();
+    return lastNull;
+  }
+
+  @Override
+  public String getString(int columnIndex) throws SQLException {
+    return value(columnIndex);
+  }
+
+  @Override
+  public boolean getBoolean(int columnIndex) throws SQLException {
+    String value = value(columnIndex);
+    if (value == null) {
+      return false;
+    }
+    return value.equalsIgnoreCase("true") || (!value.equalsIgnoreCase("false") && number(columnIndex).signum() != 0);
+  }
+
+  @Override
+  public byte getByte(int columnIndex) throws SQLException {
+    BigDecimal number = number(columnIndex);
+    return number == null ? 0 : number.byteValue();
+  }
+
+  @Override
+  public short getShort(int columnIndex) throws SQLException {
+    BigDecimal number = number(columnIndex);
+    return number == null ? 0 : number.shortValue();
+  }
+
+  @Override
+  public int getInt(int columnIndex) throws SQLException {
+    BigDecimal number = number(columnIndex);
+    return number == null ? 0 : number.intValue();
+  }
+
+  @Override
+  public long getLong(int columnIndex) throws SQLException {
+    BigDecimal number = number(columnIndex);
+    return number == null ? 0 : number.longValue();
+  }
+
+  @Override
+  public float getFloat(int columnIndex) throws SQLException {
+    BigDecimal number = number(columnIndex);
+    return number == null ? 0 : number.floatValue();
+  }
+
+  @Override
+  public double getDouble(int columnIndex) throws SQLException {
+    BigDecimal number = number(columnIndex);
+    return number == null ? 0 : number.doubleValue();
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+    return number(columnIndex);
+  }
+
+  /*
+  Function: getObject
+  Purpose: The purpose of getObject() is to read a column of the current row as the Java class of its type, being an
+  Integer for int, a Double for float and a String otherwise.
+  - Parameters:
+  1. columnIndex: int
+  - Return Type: Object
+   */
+  @Override
+  public Object getObject(int columnIndex) throws SQLException {
+    switch (metaData.getColumnType(columnIndex)) {
+      case Types.INTEGER: {
+        BigDecimal number = number(columnIndex);
+        return number == null ? null : number.intValue();
+      }
+      case Types.FLOAT: {
+        BigDecimal number = number(columnIndex);
+        return number == null ? null : number.doubleValue();
+      }
+      default:
+        return value(columnIndex);
+    }
+  }
+
+  @Override
+  public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+    Object value;
+    if (type == String.class) {
+      value = getString(columnIndex);
+    } else if (type == Integer.class) {
+      value = getInt(columnIndex);
+    } else if (type == Long.class) {
+      value = getLong(columnIndex);
+    } else if (type == Double.class) {
+      value = getDouble(columnIndex);
+    } else if (type == Float.class) {
+      value = getFloat(columnIndex);
+    } else if (type == BigDecimal.class) {
+      value = getBigDecimal(columnIndex);
+    } else if (type == Boolean.class) {
+      value = getBoolean(columnIndex);
+    } else if (type == Object.class) {
+      value = getObject(columnIndex);
+    } else {
+      throw new SQLFeatureNotSupportedException("USER EXCEPTION - getObject: " + type.getName()
+          + " is not supported.");
+    }
+    return lastNull ? null : type.cast(value);
+  }
+
+  /*
+  Function: findColumn
+  Purpose: The purpose of findColumn() is to return the index of the first column with the given label. Labels are
+  compared ignoring case and a label without a table qualifier also matches a qualified column. If no column matches,
+  an exception is thrown.
+  - Parameters:
+  1. columnLabel: String
+  - Return Type: int
+   */
+  @Override
+  public int findColumn(String columnLabel) throws SQLException {
+    checkOpen();
+    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+      if (metaData.getColumnLabel(column).equalsIgnoreCase(columnLabel)) {
+        return column;
+      }
+    }
+    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+      if (metaData.getColumnName(column).equalsIgnoreCase(columnLabel)) {
+        return column;
+      }
+    }
+    throw new SQLException("USER EXCEPTION - findColumn: column " + columnLabel + " does not exist.", "42703");
+  }
+
+  @Override
+  public String getString(String columnLabel) throws SQLException {
+    return getString(findColumn(columnLabel));
+  }
+
+  @Override
+  public boolean getBoolean(String columnLabel) throws SQLException {
+    return getBoolean(findColumn(columnLabel));
+  }
+
+  @Override
+  public byte getByte(String columnLabel) throws SQLException {
+    return getByte(findColumn(columnLabel));
+  }
+
+  @Override
+  public short getShort(String columnLabel) throws SQLException {
+    return getShort(findColumn(columnLabel));
+  }
+
+  @Override
+  public int getInt(String columnLabel) throws SQLException {
+    return getInt(findColumn(columnLabel));
+  }
+
+  @Override
+  public long getLong(String columnLabel) throws SQLException {
+    return getLong(findColumn(columnLabel));
+  }
+
+  @Override
+  public float getFloat(String columnLabel) throws SQLException {
+    return getFloat(findColumn(columnLabel));
+  }
+
+  @Override
+  public double getDouble(String columnLabel) throws SQLException {
+    return getDouble(findColumn(columnLabel));
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+    return getBigDecimal(findColumn(columnLabel));
+  }
+
+  @Override
+  public Object getObject(String columnLabel) throws SQLException {
+    return getObject(findColumn(columnLabel));
+  }
+
+  @Override
+  public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+    return getObject(findColumn(columnLabel), type);
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    checkOpen();
+    return metaData;
+  }
+
+  @Override
+  public java.sql.Statement getStatement() throws SQLException {
+    checkOpen();
+    return statement;
+  }
+
+  @Override
+  public int getRow() throws SQLException {
+    checkOpen();
+    return row == null ? 0 : rowNumber;
+  }
+
+  @Override
+  public boolean isBeforeFirst() throws SQLException {
+    checkOpen();
+    return rowNumber == 0 && plan != null;
+  }
+
+  @Override
+  public boolean isFirst() throws SQLException {
+    checkOpen();
+    return row != null && rowNumber == 1;
+  }
+
+  @Override
+  public int getType() {
+    return ResultSet.TYPE_FORWARD_ONLY;
+  }
+
+  @Override
+  public int getConcurrency() {
+    return ResultSet.CONCUR_READ_ONLY;
+  }
+
+  @Override
+  public int getHoldability() {
+    return ResultSet.CLOSE_CURSORS_AT_COMMIT;
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    if (direction != ResultSet.FETCH_FORWARD) {
+      throw new SQLFeatureNotSupportedException("USER EXCEPTION - setFetchDirection: result sets are forward only.");
+    }
+  }
+
+  @Override
+  public int getFetchDirection() {
+    return ResultSet.FETCH_FORWARD;
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    checkOpen();
+    return 0;
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    checkOpen();
+  }
+
+  private void closePlan() throws SQLException {
+    if (plan != null) {
+      PlanNode closing = plan;
+      plan = null;
+      try {
+        closing.close();
+      } catch (Exception exception) {
+        throw new SQLException(exception.getMessage(), "58030", exception);
+      }
+    }
+  }
+
+  /*
+  Function: close
+  Purpose: The purpose of close() is to close the result set and its plan if rows were left unread.
+  - Parameters:
+  - Return Type: void
+   */
+  @Override
+  public void close() throws SQLException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    row = null;
+    try {
+      closePlan();
+    } finally {
+      statement.resultSetClosed(this);
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  private void checkOpen() throws SQLException {
+    if (closed) {
+      throw new SQLException("USER EXCEPTION - checkOpen: the result set is closed.");
+    }
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) throws SQLException {
+    if (type.isInstance(this)) {
+      return type.cast(this);
+    }
+    throw new SQLException("USER EXCEPTION - unwrap: the result set is not a " + type.getName() + ".");
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> type) {
+    return type.isInstance(this);
+  }
+
+  // NOTE: The remaining operations of the interface are not supported by the database.
+  @Deprecated
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getBigDecimal: not supported.");
+  }
+
+
+  @Override
+  public byte[] getBytes(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getBytes: not supported.");
+  }
+
+
+  @Override
+  public Date getDate(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getDate: not supported.");
+  }
+
+
+  @Override
+  public Time getTime(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getTime: not supported.");
+  }
+
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getTimestamp: not supported.");
+  }
+
+
+  @Override
+  public InputStream getAsciiStream(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getAsciiStream: not supported.");
+  }
+
+
+  @Deprecated
+  @Override
+  public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getUnicodeStream: not supported.");
+  }
+
+
+  @Override
+  public InputStream getBinaryStream(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getBinaryStream: not supported.");
+  }
+
+
+  @Deprecated
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getBigDecimal: not supported.");
+  }
+
+
+  @Override
+  public byte[] getBytes(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getBytes: not supported.");
+  }
+
+
+  @Override
+  public Date getDate(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getDate: not supported.");
+  }
+
+
+  @Override
+  public Time getTime(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getTime: not supported.");
+  }
+
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getTimestamp: not supported.");
+  }
+
+
+  @Override
+  public InputStream getAsciiStream(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getAsciiStream: not supported.");
+  }
+
+
+  @Deprecated
+  @Override
+  public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getUnicodeStream: not supported.");
+  }
+
+
+  @Override
+  public InputStream getBinaryStream(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public String getCursorName() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getCursorName: not supported.");
+  }
+
+
+  @Override
+  public Reader getCharacterStream(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public Reader getCharacterStream(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public boolean isAfterLast() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - isAfterLast: not supported.");
+  }
+
+
+  @Override
+  public boolean isLast() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - isLast: not supported.");
+  }
+
+
+  @Override
+  public void beforeFirst() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - beforeFirst: not supported.");
+  }
+
+
+  @Override
+  public void afterLast() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - afterLast: not supported.");
+  }
+
+
+  @Override
+  public boolean first() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - first: not supported.");
+  }
+
+
+  @Override
+  public boolean last() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - last: not supported.");
+  }
+
+
+  @Override
+  public boolean absolute(int row) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - absolute: not supported.");
+  }
+
+
+  @Override
+  public boolean relative(int rows) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - relative: not supported.");
+  }
+
+
+  @Override
+  public boolean previous() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - previous: not supported.");
+  }
+
+
+  @Override
+  public boolean rowUpdated() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - rowUpdated: not supported.");
+  }
+
+
+  @Override
+  public boolean rowInserted() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - rowInserted: not supported.");
+  }
+
+
+  @Override
+  public boolean rowDeleted() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - rowDeleted: not supported.");
+  }
+
+
+  @Override
+  public void updateNull(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNull: not supported.");
+  }
+
+
+  @Override
+  public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBoolean: not supported.");
+  }
+
+
+  @Override
+  public void updateByte(int columnIndex, byte x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateByte: not supported.");
+  }
+
+
+  @Override
+  public void updateShort(int columnIndex, short x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateShort: not supported.");
+  }
+
+
+  @Override
+  public void updateInt(int columnIndex, int x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateInt: not supported.");
+  }
+
+
+  @Override
+  public void updateLong(int columnIndex, long x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateLong: not supported.");
+  }
+
+
+  @Override
+  public void updateFloat(int columnIndex, float x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateFloat: not supported.");
+  }
+
+
+  @Override
+  public void updateDouble(int columnIndex, double x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateDouble: not supported.");
+  }
+
+
+  @Override
+  public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBigDecimal: not supported.");
+  }
+
+
+  @Override
+  public void updateString(int columnIndex, String x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateString: not supported.");
+  }
+
+
+  @Override
+  public void updateBytes(int columnIndex, byte x[]) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBytes: not supported.");
+  }
+
+
+  @Override
+  public void updateDate(int columnIndex, Date x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateDate: not supported.");
+  }
+
+
+  @Override
+  public void updateTime(int columnIndex, Time x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateTime: not supported.");
+  }
+
+
+  @Override
+  public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateTimestamp: not supported.");
+  }
+
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateAsciiStream: not supported.");
+  }
+
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateObject: not supported.");
+  }
+
+
+  @Override
+  public void updateObject(int columnIndex, Object x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateObject: not supported.");
+  }
+
+
+  @Override
+  public void updateNull(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNull: not supported.");
+  }
+
+
+  @Override
+  public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBoolean: not supported.");
+  }
+
+
+  @Override
+  public void updateByte(String columnLabel, byte x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateByte: not supported.");
+  }
+
+
+  @Override
+  public void updateShort(String columnLabel, short x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateShort: not supported.");
+  }
+
+
+  @Override
+  public void updateInt(String columnLabel, int x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateInt: not supported.");
+  }
+
+
+  @Override
+  public void updateLong(String columnLabel, long x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateLong: not supported.");
+  }
+
+
+  @Override
+  public void updateFloat(String columnLabel, float x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateFloat: not supported.");
+  }
+
+
+  @Override
+  public void updateDouble(String columnLabel, double x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateDouble: not supported.");
+  }
+
+
+  @Override
+  public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBigDecimal: not supported.");
+  }
+
+
+  @Override
+  public void updateString(String columnLabel, String x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateString: not supported.");
+  }
+
+
+  @Override
+  public void updateBytes(String columnLabel, byte x[]) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBytes: not supported.");
+  }
+
+
+  @Override
+  public void updateDate(String columnLabel, Date x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateDate: not supported.");
+  }
+
+
+  @Override
+  public void updateTime(String columnLabel, Time x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateTime: not supported.");
+  }
+
+
+  @Override
+  public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateTimestamp: not supported.");
+  }
+
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateAsciiStream: not supported.");
+  }
+
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateObject: not supported.");
+  }
+
+
+  @Override
+  public void updateObject(String columnLabel, Object x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateObject: not supported.");
+  }
+
+
+  @Override
+  public void insertRow() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - insertRow: not supported.");
+  }
+
+
+  @Override
+  public void updateRow() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateRow: not supported.");
+  }
+
+
+  @Override
+  public void deleteRow() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - deleteRow: not supported.");
+  }
+
+
+  @Override
+  public void refreshRow() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - refreshRow: not supported.");
+  }
+
+
+  @Override
+  public void cancelRowUpdates() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - cancelRowUpdates: not supported.");
+  }
+
+
+  @Override
+  public void moveToInsertRow() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - moveToInsertRow: not supported.");
+  }
+
+
+  @Override
+  public void moveToCurrentRow() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - moveToCurrentRow: not supported.");
+  }
+
+
+  @Override
+  public Object getObject(int columnIndex, Map<String,Class<?>> map) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getObject: not supported.");
+  }
+
+
+  @Override
+  public Ref getRef(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getRef: not supported.");
+  }
+
+
+  @Override
+  public Blob getBlob(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getBlob: not supported.");
+  }
+
+
+  @Override
+  public Clob getClob(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getClob: not supported.");
+  }
+
+
+  @Override
+  public Array getArray(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getArray: not supported.");
+  }
+
+
+  @Override
+  public Object getObject(String columnLabel, Map<String,Class<?>> map) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getObject: not supported.");
+  }
+
+
+  @Override
+  public Ref getRef(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getRef: not supported.");
+  }
+
+
+  @Override
+  public Blob getBlob(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getBlob: not supported.");
+  }
+
+
+  @Override
+  public Clob getClob(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getClob: not supported.");
+  }
+
+
+  @Override
+  public Array getArray(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getArray: not supported.");
+  }
+
+
+  @Override
+  public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getDate: not supported.");
+  }
+
+
+  @Override
+  public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getDate: not supported.");
+  }
+
+
+  @Override
+  public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getTime: not supported.");
+  }
+
+
+  @Override
+  public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getTime: not supported.");
+  }
+
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getTimestamp: not supported.");
+  }
+
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getTimestamp: not supported.");
+  }
+
+
+  @Override
+  public URL getURL(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getURL: not supported.");
+  }
+
+
+  @Override
+  public URL getURL(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getURL: not supported.");
+  }
+
+
+  @Override
+  public void updateRef(int columnIndex, Ref x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateRef: not supported.");
+  }
+
+
+  @Override
+  public void updateRef(String columnLabel, Ref x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateRef: not supported.");
+  }
+
+
+  @Override
+  public void updateBlob(int columnIndex, Blob x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBlob: not supported.");
+  }
+
+
+  @Override
+  public void updateBlob(String columnLabel, Blob x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBlob: not supported.");
+  }
+
+
+  @Override
+  public void updateClob(int columnIndex, Clob x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateClob: not supported.");
+  }
+
+
+  @Override
+  public void updateClob(String columnLabel, Clob x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateClob: not supported.");
+  }
+
+
+  @Override
+  public void updateArray(int columnIndex, Array x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateArray: not supported.");
+  }
+
+
+  @Override
+  public void updateArray(String columnLabel, Array x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateArray: not supported.");
+  }
+
+
+  @Override
+  public RowId getRowId(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getRowId: not supported.");
+  }
+
+
+  @Override
+  public RowId getRowId(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getRowId: not supported.");
+  }
+
+
+  @Override
+  public void updateRowId(int columnIndex, RowId x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateRowId: not supported.");
+  }
+
+
+  @Override
+  public void updateRowId(String columnLabel, RowId x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateRowId: not supported.");
+  }
+
+
+  @Override
+  public void updateNString(int columnIndex, String nString) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNString: not supported.");
+  }
+
+
+  @Override
+  public void updateNString(String columnLabel, String nString) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNString: not supported.");
+  }
+
+
+  @Override
+  public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNClob: not supported.");
+  }
+
+
+  @Override
+  public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNClob: not supported.");
+  }
+
+
+  @Override
+  public NClob getNClob(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getNClob: not supported.");
+  }
+
+
+  @Override
+  public NClob getNClob(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getNClob: not supported.");
+  }
+
+
+  @Override
+  public SQLXML getSQLXML(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getSQLXML: not supported.");
+  }
+
+
+  @Override
+  public SQLXML getSQLXML(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getSQLXML: not supported.");
+  }
+
+
+  @Override
+  public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateSQLXML: not supported.");
+  }
+
+
+  @Override
+  public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateSQLXML: not supported.");
+  }
+
+
+  @Override
+  public String getNString(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getNString: not supported.");
+  }
+
+
+  @Override
+  public String getNString(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getNString: not supported.");
+  }
+
+
+  @Override
+  public Reader getNCharacterStream(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getNCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public Reader getNCharacterStream(String columnLabel) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getNCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateAsciiStream: not supported.");
+  }
+
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateAsciiStream: not supported.");
+  }
+
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBlob: not supported.");
+  }
+
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBlob: not supported.");
+  }
+
+
+  @Override
+  public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateClob: not supported.");
+  }
+
+
+  @Override
+  public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateClob: not supported.");
+  }
+
+
+  @Override
+  public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNClob: not supported.");
+  }
+
+
+  @Override
+  public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNClob: not supported.");
+  }
+
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateAsciiStream: not supported.");
+  }
+
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateAsciiStream: not supported.");
+  }
+
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBlob: not supported.");
+  }
+
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateBlob: not supported.");
+  }
+
+
+  @Override
+  public void updateClob(int columnIndex, Reader reader) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateClob: not supported.");
+  }
+
+
+  @Override
+  public void updateClob(String columnLabel, Reader reader) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateClob: not supported.");
+  }
+
+
+  @Override
+  public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNClob: not supported.");
+  }
+
+
+  @Override
+  public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - updateNClob: not supported.");
+  }
+}
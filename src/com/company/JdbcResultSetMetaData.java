@@ -0,0 +1,240 @@
+package com.company;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: JdbcResultSetMetaData
+    Purpose: The purpose of JdbcResultSetMetaData is to describe the columns of a JdbcResultSet. The heading of a plan
+    names each column by its label followed by its type as declared in the schema of its table, being int, float,
+    varchar(n) or char(n), and each type is mapped onto its JDBC type and Java class.
+    - Variables:
+    1. labels: String[]
+       Purpose: The variable labels stores the label of each column.
+    2. types: String[]
+       Purpose: The variable types stores the declared type of each column.
+    - Functions:
+    1. sqlType(type: String): int
+    2. getColumnType(column: int): int
+    3. getColumnClassName(column: int): String
+    4. getPrecision(column: int): int
+*/
+public class JdbcResultSetMetaData implements ResultSetMetaData {
+
+  private final String[] labels;
+  private final String[] types;
+
+  JdbcResultSetMetaData(String[] heading) {
+    labels = new String[heading.length];
+    types = new String[heading.length];
+    for (int column = 0; column < heading.length; column++) {
+      String[] parts = heading[column].trim().split(" ", 2);
+      labels[column] = parts[0];
+      types[column] = parts.length > 1 ? parts[1].trim().toLowerCase() : "varchar";
+    }
+  }
+
+  /*
+  Function: sqlType
+  Purpose: The purpose of sqlType() is to map a declared type onto its JDBC type. Types that are not recognized are
+  treated as text.
+  - Parameters:
+  1. type: String
+  - Return Type: int
+   */
+  static int sqlType(String type) {
+    if (type.equals("int")) {
+      return Types.INTEGER;
+    }
+    if (type.equals("float")) {
+      return Types.FLOAT;
+    }
+    if (type.startsWith("char")) {
+      return Types.CHAR;
+    }
+    return Types.VARCHAR;
+  }
+
+  String label(int column) throws SQLException {
+    check(column);
+    return labels[column - 1];
+  }
+
+  String type(int column) throws SQLException {
+    check(column);
+    return types[column - 1];
+  }
+
+  private void check(int column) throws SQLException {
+    if (column < 1 || column > labels.length) {
+      throw new SQLException("USER EXCEPTION - check: column " + column + " does not exist.", "07009");
+    }
+  }
+
+  @Override
+  public int getColumnCount() {
+    return labels.length;
+  }
+
+  @Override
+  public String getColumnLabel(int column) throws SQLException {
+    return label(column);
+  }
+
+  @Override
+  public String getColumnName(int column) throws SQLException {
+    String label = label(column);
+    return label.substring(label.indexOf('.') + 1);
+  }
+
+  @Override
+  public int getColumnType(int column) throws SQLException {
+    return sqlType(type(column));
+  }
+
+  @Override
+  public String getColumnTypeName(int column) throws SQLException {
+    return type(column);
+  }
+
+  @Override
+  public String getColumnClassName(int column) throws SQLException {
+    switch (getColumnType(column)) {
+      case Types.INTEGER:
+        return Integer.class.getName();
+      case Types.FLOAT:
+        return Double.class.getName();
+      default:
+        return String.class.getName();
+    }
+  }
+
+  /*
+  Function: getPrecision
+  Purpose: The purpose of getPrecision() is to return the largest number of characters of a varchar or char column,
+  10 for an int column and 7 for a float column.
+  - Parameters:
+  1. column: int
+  - Return Type: int
+   */
+  @Override
+  public int getPrecision(int column) throws SQLException {
+    String type = type(column);
+    int open = type.indexOf('(');
+    if (open >= 0 && type.endsWith(")")) {
+      try {
+        return Integer.parseInt(type.substring(open + 1, type.length() - 1).trim());
+      } catch (NumberFormatException exception) {
+        return 0;
+      }
+    }
+    switch (sqlType(type)) {
+      case Types.INTEGER:
+        return 10;
+      case Types.FLOAT:
+        return 7;
+      default:
+        return 0;
+    }
+  }
+
+  @Override
+  public int getScale(int column) throws SQLException {
+    check(column);
+    return 0;
+  }
+
+  @Override
+  public int getColumnDisplaySize(int column) throws SQLException {
+    int precision = getPrecision(column);
+    return precision == 0 ? labels[column - 1].length() : Math.max(precision, labels[column - 1].length());
+  }
+
+  @Override
+  public int isNullable(int column) throws SQLException {
+    check(column);
+    return ResultSetMetaData.columnNullableUnknown;
+  }
+
+  @Override
+  public boolean isSigned(int column) throws SQLException {
+    int type = getColumnType(column);
+    return type == Types.INTEGER || type == Types.FLOAT;
+  }
+
+  @Override
+  public boolean isCaseSensitive(int column) throws SQLException {
+    return !isSigned(column);
+  }
+
+  @Override
+  public boolean isAutoIncrement(int column) throws SQLException {
+    check(column);
+    return false;
+  }
+
+  @Override
+  public boolean isSearchable(int column) throws SQLException {
+    check(column);
+    return true;
+  }
+
+  @Override
+  public boolean isCurrency(int column) throws SQLException {
+    check(column);
+    return false;
+  }
+
+  @Override
+  public boolean isReadOnly(int column) throws SQLException {
+    check(column);
+    return true;
+  }
+
+  @Override
+  public boolean isWritable(int column) throws SQLException {
+    check(column);
+    return false;
+  }
+
+  @Override
+  public boolean isDefinitelyWritable(int column) throws SQLException {
+    check(column);
+    return false;
+  }
+
+  @Override
+  public String getSchemaName(int column) throws SQLException {
+    check(column);
+    return "";
+  }
+
+  @Override
+  public String getTableName(int column) throws SQLException {
+    check(column);
+    return "";
+  }
+
+  @Override
+  public String getCatalogName(int column) throws SQLException {
+    check(column);
+    return "";
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) throws SQLException {
+    if (type.isInstance(this)) {
+      return type.cast(this);
+    }
+    throw new SQLException("USER EXCEPTION - unwrap: the metadata is not a " + type.getName() + ".");
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> type) {
+    return type.isInstance(this);
+  }
+}
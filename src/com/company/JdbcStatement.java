@@ -0,0 +1,816 @@
+package com.company;
+
+import com.company.SyntaxTree.Kind;
+import com.company.SyntaxTree.Select;
+import com.company.SyntaxTree.Statement;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.BatchUpdateException;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: JdbcStatement
+    Purpose: The purpose of JdbcStatement is to be both the JDBC statement and prepared statement of a JdbcConnection. A
+    prepared statement keeps the syntax tree of its SQL with the values bound to its "?" placeholders, while a plain
+    statement parses the SQL given to each execution through the statement cache of the engine. Values are bound as
+    the text they are stored as. A batch keeps the bound values, or the SQL, of each entry and runs the entries in
+    order, reporting the entries run before a failing entry within the exception.
+    - Variables:
+    1. connection: JdbcConnection
+       Purpose: The variable connection is the connection the statement runs on.
+    2. prepared: Statement
+       Purpose: The variable prepared is the syntax tree of a prepared statement and null for a plain statement.
+    3. values: String[]
+       Purpose: The variable values stores the values bound to the placeholders of a prepared statement.
+    4. batch: ArrayList<Object>
+       Purpose: The variable batch stores the bound values or the SQL of each entry added to the batch.
+    5. resultSet: JdbcResultSet
+       Purpose: The variable resultSet is the result of the last query run by the statement.
+    6. updateCount: int
+       Purpose: The variable updateCount is the number of records changed by the last statement run or -1.
+    7. maxRows: int
+       Purpose: The variable maxRows is the largest number of rows a result set returns, or 0 for every row.
+    - Functions:
+    1. run(statement: Statement, parameters: String[]): boolean
+    2. bind(): String[]
+    3. executeQuery(): ResultSet
+    4. executeUpdate(): int
+    5. execute(): boolean
+    6. addBatch(): void
+    7. executeBatch(): int[]
+    8. setValue(parameterIndex: int, value: String): void
+    9. close(): void
+*/
+public class JdbcStatement implements java.sql.PreparedStatement {
+
+  private final JdbcConnection connection;
+  private final Statement prepared;
+  private final String[] values;
+  private final ArrayList<Object> batch = new ArrayList<>();
+  private JdbcResultSet resultSet = null;
+  private int updateCount = -1;
+  private int maxRows = 0;
+  private int fetchSize = 0;
+  private boolean closeOnCompletion = false;
+  private boolean closed = false;
+
+  JdbcStatement(JdbcConnection connection, Statement prepared) {
+    this.connection = connection;
+    this.prepared = prepared;
+    values = new String[prepared == null ? 0 : prepared.parameterCount];
+  }
+
+  /*
+  Function: run
+  Purpose: The purpose of run() is to run a statement with the given parameters. A query leaves its result set open
+  and returns true while any other statement records the number of records it changed and returns false. The result
+  set of the previous statement is closed first.
+  - Parameters:
+  1. statement: Statement
+  2. parameters: String[]
+  - Return Type: boolean
+   */
+  private boolean run(Statement statement, String[] parameters) throws SQLException {
+    checkOpen();
+    closeResultSet();
+    updateCount = -1;
+    if (statement.kind == Kind.SELECT) {
+      resultSet = new JdbcResultSet(this, connection.query((Select) statement, parameters), maxRows);
+      return true;
+    }
+    updateCount = connection.update(statement, parameters);
+    return false;
+  }
+
+  /*
+  Function: bind
+  Purpose: The purpose of bind() is to produce the parameters of a prepared statement. The bound values are copied so
+  the statement can be bound again. If a placeholder has not been given a value, an exception is thrown.
+  - Parameters:
+  - Return Type: String[]
+   */
+  private String[] bind() throws SQLException {
+    if (prepared == null) {
+      throw new SQLException("USER EXCEPTION - bind: the statement was not prepared with SQL.");
+    }
+    for (int parameterIndex = 0; parameterIndex < values.length; parameterIndex++) {
+      if (values[parameterIndex] == null) {
+        throw new SQLException("USER EXCEPTION - bind: parameter " + (parameterIndex + 1) + " is not set.",
+            "07001");
+      }
+    }
+    return values.clone();
+  }
+
+  private Statement parse(String sql) throws SQLException {
+    Statement statement = connection.parse(sql);
+    if (statement.parameterCount > 0) {
+      throw new SQLException("USER EXCEPTION - parse: placeholders need a prepared statement.", "07001");
+    }
+    return statement;
+  }
+
+  @Override
+  public ResultSet executeQuery() throws SQLException {
+    if (!run(checkQuery(prepared, true), bind())) {
+      throw new SQLException("USER EXCEPTION - executeQuery: the statement is not a query.");
+    }
+    return resultSet;
+  }
+
+  @Override
+  public int executeUpdate() throws SQLException {
+    run(checkQuery(prepared, false), bind());
+    return updateCount;
+  }
+
+  @Override
+  public boolean execute() throws SQLException {
+    return run(prepared, bind());
+  }
+
+  @Override
+  public ResultSet executeQuery(String sql) throws SQLException {
+    run(checkQuery(parse(sql), true), new String[0]);
+    return resultSet;
+  }
+
+  @Override
+  public int executeUpdate(String sql) throws SQLException {
+    run(checkQuery(parse(sql), false), new String[0]);
+    return updateCount;
+  }
+
+  @Override
+  public boolean execute(String sql) throws SQLException {
+    return run(parse(sql), new String[0]);
+  }
+
+  private Statement checkQuery(Statement statement, boolean query) throws SQLException {
+    if (statement == null) {
+      throw new SQLException("USER EXCEPTION - checkQuery: the statement was not prepared with SQL.");
+    }
+    if ((statement.kind == Kind.SELECT) != query) {
+      throw new SQLException("USER EXCEPTION - checkQuery: the statement " + (query ? "is not" : "is")
+          + " a query.");
+    }
+    return statement;
+  }
+
+  @Override
+  public void addBatch() throws SQLException {
+    checkOpen();
+    batch.add(bind());
+  }
+
+  @Override
+  public void addBatch(String sql) throws SQLException {
+    checkOpen();
+    batch.add(sql);
+  }
+
+  @Override
+  public void clearBatch() throws SQLException {
+    checkOpen();
+    batch.clear();
+  }
+
+  /*
+  Function: executeBatch
+  Purpose: The purpose of executeBatch() is to run every entry of the batch in order and return the number of records
+  changed by each. Queries are not allowed within a batch. If an entry fails, the batch stops and the counts of the
+  entries run before it are reported within the exception. The batch is cleared either way.
+  - Parameters:
+  - Return Type: int[]
+   */
+  @Override
+  public int[] executeBatch() throws SQLException {
+    checkOpen();
+    int[] counts = new int[batch.size()];
+    try {
+      for (int entry = 0; entry < counts.length; entry++) {
+        Object item = batch.get(entry);
+        try {
+          Statement statement = item instanceof String ? parse((String) item) : prepared;
+          run(checkQuery(statement, false), item instanceof String ? new String[0] : (String[]) item);
+          counts[entry] = updateCount;
+        } catch (SQLException exception) {
+          throw new BatchUpdateException(exception.getMessage(), exception.getSQLState(),
+              Arrays.copyOf(counts, entry), exception);
+        }
+      }
+    } finally {
+      batch.clear();
+    }
+    return counts;
+  }
+
+  /*
+  Function: setValue
+  Purpose: The purpose of setValue() is to bind the text of a value to a placeholder of a prepared statement.
+  Placeholders are numbered from 1. If the placeholder does not exist, an exception is thrown.
+  - Parameters:
+  1. parameterIndex: int
+  2. value: String
+  - Return Type: void
+   */
+  private void setValue(int parameterIndex, String value) throws SQLException {
+    checkOpen();
+    if (parameterIndex < 1 || parameterIndex > values.length) {
+      throw new SQLException("USER EXCEPTION - setValue: parameter " + parameterIndex + " does not exist.",
+          "07009");
+    }
+    values[parameterIndex - 1] = value;
+  }
+
+  @Override
+  public void setNull(int parameterIndex, int sqlType) throws SQLException {
+    setValue(parameterIndex, "");
+  }
+
+  @Override
+  public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+    setValue(parameterIndex, x ? "1" : "0");
+  }
+
+  @Override
+  public void setByte(int parameterIndex, byte x) throws SQLException {
+    setValue(parameterIndex, String.valueOf(x));
+  }
+
+  @Override
+  public void setShort(int parameterIndex, short x) throws SQLException {
+    setValue(parameterIndex, String.valueOf(x));
+  }
+
+  @Override
+  public void setInt(int parameterIndex, int x) throws SQLException {
+    setValue(parameterIndex, String.valueOf(x));
+  }
+
+  @Override
+  public void setLong(int parameterIndex, long x) throws SQLException {
+    setValue(parameterIndex, String.valueOf(x));
+  }
+
+  @Override
+  public void setFloat(int parameterIndex, float x) throws SQLException {
+    setValue(parameterIndex, String.valueOf(x));
+  }
+
+  @Override
+  public void setDouble(int parameterIndex, double x) throws SQLException {
+    setValue(parameterIndex, String.valueOf(x));
+  }
+
+  @Override
+  public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+    setValue(parameterIndex, x == null ? "" : x.toPlainString());
+  }
+
+  @Override
+  public void setString(int parameterIndex, String x) throws SQLException {
+    setValue(parameterIndex, x == null ? "" : x);
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x) throws SQLException {
+    if (x instanceof BigDecimal) {
+      setBigDecimal(parameterIndex, (BigDecimal) x);
+    } else if (x instanceof Boolean) {
+      setBoolean(parameterIndex, (Boolean) x);
+    } else {
+      setValue(parameterIndex, x == null ? "" : x.toString());
+    }
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+    setObject(parameterIndex, x);
+  }
+
+  @Override
+  public void clearParameters() throws SQLException {
+    checkOpen();
+    Arrays.fill(values, null);
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    checkOpen();
+    return resultSet == null ? null : resultSet.getMetaData();
+  }
+
+  @Override
+  public ResultSet getResultSet() throws SQLException {
+    checkOpen();
+    return resultSet;
+  }
+
+  @Override
+  public int getUpdateCount() throws SQLException {
+    checkOpen();
+    return updateCount;
+  }
+
+  @Override
+  public boolean getMoreResults() throws SQLException {
+    checkOpen();
+    closeResultSet();
+    updateCount = -1;
+    return false;
+  }
+
+  @Override
+  public boolean getMoreResults(int current) throws SQLException {
+    return getMoreResults();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    checkOpen();
+    return connection;
+  }
+
+  @Override
+  public int getMaxRows() throws SQLException {
+    checkOpen();
+    return maxRows;
+  }
+
+  @Override
+  public void setMaxRows(int max) throws SQLException {
+    checkOpen();
+    if (max < 0) {
+      throw new SQLException("USER EXCEPTION - setMaxRows: " + max + " is negative.");
+    }
+    maxRows = max;
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    checkOpen();
+    fetchSize = rows;
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    checkOpen();
+    return fetchSize;
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    if (direction != ResultSet.FETCH_FORWARD) {
+      throw new SQLFeatureNotSupportedException("USER EXCEPTION - setFetchDirection: result sets are forward only.");
+    }
+  }
+
+  @Override
+  public int getFetchDirection() {
+    return ResultSet.FETCH_FORWARD;
+  }
+
+  @Override
+  public int getResultSetConcurrency() {
+    return ResultSet.CONCUR_READ_ONLY;
+  }
+
+  @Override
+  public int getResultSetType() {
+    return ResultSet.TYPE_FORWARD_ONLY;
+  }
+
+  @Override
+  public int getResultSetHoldability() {
+    return ResultSet.CLOSE_CURSORS_AT_COMMIT;
+  }
+
+  @Override
+  public void setQueryTimeout(int seconds) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public int getQueryTimeout() throws SQLException {
+    checkOpen();
+    return 0;
+  }
+
+  @Override
+  public void setEscapeProcessing(boolean enable) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public int getMaxFieldSize() throws SQLException {
+    checkOpen();
+    return 0;
+  }
+
+  @Override
+  public void setMaxFieldSize(int max) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public void setPoolable(boolean poolable) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public boolean isPoolable() throws SQLException {
+    checkOpen();
+    return prepared != null;
+  }
+
+  @Override
+  public void closeOnCompletion() throws SQLException {
+    checkOpen();
+    closeOnCompletion = true;
+  }
+
+  @Override
+  public boolean isCloseOnCompletion() throws SQLException {
+    checkOpen();
+    return closeOnCompletion;
+  }
+
+  /*
+  Function: resultSetClosed
+  Purpose: The purpose of resultSetClosed() is to be told by the result set of the statement that it closed, which
+  closes the statement as well when closeOnCompletion() was requested.
+  - Parameters:
+  1. closedResultSet: JdbcResultSet
+  - Return Type: void
+   */
+  void resultSetClosed(JdbcResultSet closedResultSet) throws SQLException {
+    if (closedResultSet == resultSet) {
+      resultSet = null;
+      if (closeOnCompletion) {
+        close();
+      }
+    }
+  }
+
+  private void closeResultSet() throws SQLException {
+    if (resultSet != null) {
+      JdbcResultSet closing = resultSet;
+      resultSet = null;
+      closing.close();
+    }
+  }
+
+  /*
+  Function: close
+  Purpose: The purpose of close() is to close the statement along with its result set, which releases the locks held
+  by the result set.
+  - Parameters:
+  - Return Type: void
+   */
+  @Override
+  public void close() throws SQLException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    closeResultSet();
+    connection.forget(this);
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  private void checkOpen() throws SQLException {
+    if (closed) {
+      throw new SQLException("USER EXCEPTION - checkOpen: the statement is closed.");
+    }
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) throws SQLException {
+    if (type.isInstance(this)) {
+      return type.cast(this);
+    }
+    throw new SQLException("USER EXCEPTION - unwrap: the statement is not a " + type.getName() + ".");
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> type) {
+    return type.isInstance(this);
+  }
+
+  // NOTE: The remaining operations of the interface are not supported by the database.
+  @Override
+  public void setBytes(int parameterIndex, byte x[]) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setBytes: not supported.");
+  }
+
+
+  @Override
+  public void setDate(int parameterIndex, Date x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setDate: not supported.");
+  }
+
+
+  @Override
+  public void setTime(int parameterIndex, Time x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setTime: not supported.");
+  }
+
+
+  @Override
+  public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setTimestamp: not supported.");
+  }
+
+
+  @Override
+  public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setAsciiStream: not supported.");
+  }
+
+
+  @Deprecated
+  @Override
+  public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setUnicodeStream: not supported.");
+  }
+
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void setRef(int parameterIndex, Ref x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setRef: not supported.");
+  }
+
+
+  @Override
+  public void setBlob(int parameterIndex, Blob x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setBlob: not supported.");
+  }
+
+
+  @Override
+  public void setClob(int parameterIndex, Clob x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setClob: not supported.");
+  }
+
+
+  @Override
+  public void setArray(int parameterIndex, Array x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setArray: not supported.");
+  }
+
+
+  @Override
+  public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setDate: not supported.");
+  }
+
+
+  @Override
+  public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setTime: not supported.");
+  }
+
+
+  @Override
+  public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setTimestamp: not supported.");
+  }
+
+
+  @Override
+  public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setNull: not supported.");
+  }
+
+
+  @Override
+  public void setURL(int parameterIndex, URL x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setURL: not supported.");
+  }
+
+
+  @Override
+  public ParameterMetaData getParameterMetaData() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getParameterMetaData: not supported.");
+  }
+
+
+  @Override
+  public void setRowId(int parameterIndex, RowId x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setRowId: not supported.");
+  }
+
+
+  @Override
+  public void setNString(int parameterIndex, String value) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setNString: not supported.");
+  }
+
+
+  @Override
+  public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setNCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void setNClob(int parameterIndex, NClob value) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setNClob: not supported.");
+  }
+
+
+  @Override
+  public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setClob: not supported.");
+  }
+
+
+  @Override
+  public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setBlob: not supported.");
+  }
+
+
+  @Override
+  public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setNClob: not supported.");
+  }
+
+
+  @Override
+  public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setSQLXML: not supported.");
+  }
+
+
+  @Override
+  public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setObject: not supported.");
+  }
+
+
+  @Override
+  public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setAsciiStream: not supported.");
+  }
+
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setAsciiStream: not supported.");
+  }
+
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setBinaryStream: not supported.");
+  }
+
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setNCharacterStream: not supported.");
+  }
+
+
+  @Override
+  public void setClob(int parameterIndex, Reader reader) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setClob: not supported.");
+  }
+
+
+  @Override
+  public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setBlob: not supported.");
+  }
+
+
+  @Override
+  public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setNClob: not supported.");
+  }
+
+
+  @Override
+  public void cancel() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - cancel: not supported.");
+  }
+
+
+  @Override
+  public void setCursorName(String name) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - setCursorName: not supported.");
+  }
+
+
+  @Override
+  public ResultSet getGeneratedKeys() throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - getGeneratedKeys: not supported.");
+  }
+
+
+  @Override
+  public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - executeUpdate: not supported.");
+  }
+
+
+  @Override
+  public int executeUpdate(String sql, int columnIndexes[]) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - executeUpdate: not supported.");
+  }
+
+
+  @Override
+  public int executeUpdate(String sql, String columnNames[]) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - executeUpdate: not supported.");
+  }
+
+
+  @Override
+  public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - execute: not supported.");
+  }
+
+
+  @Override
+  public boolean execute(String sql, int columnIndexes[]) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - execute: not supported.");
+  }
+
+
+  @Override
+  public boolean execute(String sql, String columnNames[]) throws SQLException {
+    throw new SQLFeatureNotSupportedException("USER EXCEPTION - execute: not supported.");
+  }
+}
@@ -0,0 +1,321 @@
+package com.company;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Lexer
+    Purpose: The purpose of Lexer is to split a SQL statement into tokens in a single pass over the characters of the
+    statement. The lexer is a cursor that is advanced by the parser one token at a time, so no token objects or token
+    queues are created. Keywords are matched case-insensitively directly against the character buffer and are reported
+    as the interned keyword constants of the lexer, which means keywords never allocate and can be compared by
+    identity. Only identifiers, numbers and quoted literals allocate a String, and only when the parser asks for the
+    text of the token.
+    - Variables:
+    1. buffer: char[]
+       Purpose: The variable buffer holds the characters of the statement being tokenized.
+    2. position: int
+       Purpose: The variable position is the index of the first character that has not been consumed.
+    3. type: int
+       Purpose: The variable type is the type of the current token being one of the token type constants.
+    4. start: int
+       Purpose: The variable start is the index of the first character of the current token.
+    5. length: int
+       Purpose: The variable length is the number of characters of the current token. For quoted literals the start
+       and length exclude the quotes.
+    6. keyword: String
+       Purpose: The variable keyword is the interned keyword constant of the current token when the current token is a
+       keyword, otherwise it is null.
+    7. escaped: boolean
+       Purpose: The variable escaped is set when the current quoted literal contains an escaped quote and the text of
+       the literal has to be unescaped.
+    - Functions:
+    1. next(): int
+    2. text(): String
+    3. rawText(): String
+    4. is(keyword: String): boolean
+    5. isSymbol(symbol: char): boolean
+    6. describe(): String
+    7. lookupKeyword(start: int, length: int): String
+*/
+public class Lexer {
+
+  public static final int END = 0;
+  public static final int KEYWORD = 1;
+  public static final int IDENTIFIER = 2;
+  public static final int NUMBER = 3;
+  public static final int STRING = 4;
+  public static final int SYMBOL = 5;
+
+  public static final String ADD = "ADD";
+  public static final String ALL = "ALL";
+  public static final String ALTER = "ALTER";
+  public static final String ANALYZE = "ANALYZE";
+  public static final String AS = "AS";
+  public static final String BACKUP = "BACKUP";
+  public static final String BEGIN = "BEGIN";
+  public static final String BY = "BY";
+  public static final String CHECKPOINT = "CHECKPOINT";
+  public static final String COMMIT = "COMMIT";
+  public static final String COPY = "COPY";
+  public static final String CREATE = "CREATE";
+  public static final String DATABASE = "DATABASE";
+  public static final String DEALLOCATE = "DEALLOCATE";
+  public static final String DELETE = "DELETE";
+  public static final String DISTINCT = "DISTINCT";
+  public static final String DROP = "DROP";
+  public static final String ENGINE = "ENGINE";
+  public static final String EXECUTE = "EXECUTE";
+  public static final String EXISTS = "EXISTS";
+  public static final String EXPLAIN = "EXPLAIN";
+  public static final String EXPORT = "EXPORT";
+  public static final String FORMAT = "FORMAT";
+  public static final String FROM = "FROM";
+  public static final String HASH = "HASH";
+  public static final String HEADER = "HEADER";
+  public static final String IN = "IN";
+  public static final String INNER = "INNER";
+  public static final String INSERT = "INSERT";
+  public static final String INTO = "INTO";
+  public static final String JOIN = "JOIN";
+  public static final String LEFT = "LEFT";
+  public static final String NOT = "NOT";
+  public static final String ON = "ON";
+  public static final String OUTER = "OUTER";
+  public static final String PARTITION = "PARTITION";
+  public static final String PARTITIONS = "PARTITIONS";
+  public static final String PREPARE = "PREPARE";
+  public static final String RANGE = "RANGE";
+  public static final String ROLLBACK = "ROLLBACK";
+  public static final String SELECT = "SELECT";
+  public static final String SET = "SET";
+  public static final String SHOW = "SHOW";
+  public static final String STDOUT = "STDOUT";
+  public static final String TABLE = "TABLE";
+  public static final String TO = "TO";
+  public static final String TRANSACTION = "TRANSACTION";
+  public static final String UNION = "UNION";
+  public static final String UPDATE = "UPDATE";
+  public static final String USE = "USE";
+  public static final String VALUES = "VALUES";
+  public static final String WHERE = "WHERE";
+
+  // NOTE: Keywords are bucketed by length so a lookup only compares against keywords of the same length.
+  private static final String[][] keywords = bucketKeywords(ADD, ALL, ALTER, ANALYZE, AS, BACKUP, BEGIN, BY,
+      CHECKPOINT, COMMIT, COPY, CREATE, DATABASE, DEALLOCATE, DELETE, DISTINCT, DROP, ENGINE, EXECUTE, EXISTS, EXPLAIN,
+      EXPORT, FORMAT, FROM, HASH, HEADER, IN, INNER, INSERT, INTO, JOIN, LEFT, NOT, ON, OUTER, PARTITION, PARTITIONS,
+      PREPARE, RANGE, ROLLBACK, SELECT, SET, SHOW, STDOUT, TABLE, TO, TRANSACTION, UNION, UPDATE, USE, VALUES, WHERE);
+
+  private final char[] buffer;
+  private int position = 0;
+  private int type = END;
+  private int start = 0;
+  private int length = 0;
+  private String keyword = null;
+  private boolean escaped = false;
+
+  public Lexer(String statement) {
+    buffer = statement.toCharArray();
+  }
+
+  public int type() {
+    return type;
+  }
+
+  public String keyword() {
+    return keyword;
+  }
+
+  public int position() {
+    return start;
+  }
+
+  /*
+  Function: next
+  Purpose: The purpose of next() is to advance the cursor to the next token of the statement. Whitespace and "--"
+  comments are skipped. Letters and underscores start identifiers or keywords, digits start numbers, single quotes
+  start quoted literals where two single quotes stand for one quote, and every other character is a symbol. The two
+  character comparison operators "!=", "<>", "<=" and ">=" are read as one symbol. The function returns the type of
+  the new current token.
+  - Parameters:
+  - Return Type: int
+   */
+  public int next() throws Exception {
+    keyword = null;
+    escaped = false;
+    while (position < buffer.length) {
+      char character = buffer[position];
+      if (character == ' ' || character == '\t' || character == '\n' || character == '\r') {
+        position++;
+      } else if (character == '-' && position + 1 < buffer.length && buffer[position + 1] == '-') {
+        while (position < buffer.length && buffer[position] != '\n') {
+          position++;
+        }
+      } else {
+        break;
+      }
+    }
+    start = position;
+    if (position >= buffer.length) {
+      length = 0;
+      type = END;
+      return type;
+    }
+    char character = buffer[position];
+    if (Character.isLetter(character) || character == '_') {
+      while (position < buffer.length
+          && (Character.isLetterOrDigit(buffer[position]) || buffer[position] == '_')) {
+        position++;
+      }
+      length = position - start;
+      keyword = lookupKeyword(start, length);
+      type = keyword != null ? KEYWORD : IDENTIFIER;
+    } else if (Character.isDigit(character)) {
+      while (position < buffer.length
+          && (Character.isDigit(buffer[position]) || buffer[position] == '.')) {
+        position++;
+      }
+      length = position - start;
+      type = NUMBER;
+    } else if (character == '\'') {
+      position++;
+      start = position;
+      while (true) {
+        if (position >= buffer.length) {
+          throw new Exception("USER EXCEPTION - lexer: unterminated literal.");
+        }
+        if (buffer[position] == '\'') {
+          if (position + 1 < buffer.length && buffer[position + 1] == '\'') {
+            escaped = true;
+            position += 2;
+            continue;
+          }
+          break;
+        }
+        position++;
+      }
+      length = position - start;
+      // NOTE: Consume the closing quote.
+      position++;
+      type = STRING;
+    } else {
+      position++;
+      if (position < buffer.length && buffer[position] == '='
+          && (character == '!' || character == '<' || character == '>')) {
+        position++;
+      } else if (position < buffer.length && character == '<' && buffer[position] == '>') {
+        position++;
+      }
+      length = position - start;
+      type = SYMBOL;
+    }
+    return type;
+  }
+
+  /*
+  Function: text
+  Purpose: The purpose of text() is to return the text of the current token. Keywords return their interned constant
+  and quoted literals return their value without quotes. Together with rawText() this is the only place the lexer
+  allocates a String.
+  - Parameters:
+  - Return Type: String
+   */
+  public String text() {
+    if (keyword != null) {
+      return keyword;
+    }
+    String text = new String(buffer, start, length);
+    if (escaped) {
+      text = text.replace("''", "'");
+    }
+    return text;
+  }
+
+  /*
+  Function: rawText
+  Purpose: The purpose of rawText() is to return the text of the current token as it was written. This is used when a
+  keyword is used as the name of a table or column so the name keeps its original case.
+  - Parameters:
+  - Return Type: String
+   */
+  public String rawText() {
+    if (keyword != null) {
+      return new String(buffer, start, length);
+    }
+    return text();
+  }
+
+  public boolean is(String keyword) {
+    return this.keyword == keyword;
+  }
+
+  public boolean isSymbol(char symbol) {
+    return type == SYMBOL && length == 1 && buffer[start] == symbol;
+  }
+
+  /*
+  Function: describe
+  Purpose: The purpose of describe() is to describe the current token for error messages.
+  - Parameters:
+  - Return Type: String
+   */
+  public String describe() {
+    if (type == END) {
+      return "end of statement";
+    }
+    return "\"" + new String(buffer, start, length) + "\" at position " + start;
+  }
+
+  /*
+  Function: lookupKeyword
+  Purpose: The purpose of lookupKeyword() is to find the keyword spelled by a range of the buffer regardless of case.
+  The range is only compared against keywords of the same length and no String is created for the comparison. If the
+  range is a keyword, the interned keyword constant is returned, otherwise null is returned.
+  - Parameters:
+  1. start: int
+  2. length: int
+  - Return Type: String
+   */
+  private String lookupKeyword(int start, int length) {
+    if (length >= keywords.length) {
+      return null;
+    }
+    String[] candidates = keywords[length];
+    for (int candidateIndex = 0; candidateIndex < candidates.length; candidateIndex++) {
+      String candidate = candidates[candidateIndex];
+      int characterIndex = 0;
+      while (characterIndex < length
+          && Character.toUpperCase(buffer[start + characterIndex]) == candidate.charAt(characterIndex)) {
+        characterIndex++;
+      }
+      if (characterIndex == length) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private static String[][] bucketKeywords(String... words) {
+    int longest = 0;
+    for (String word : words) {
+      longest = Math.max(longest, word.length());
+    }
+    String[][] buckets = new String[longest + 1][];
+    for (int length = 0; length <= longest; length++) {
+      int count = 0;
+      for (String word : words) {
+        if (word.length() == length) {
+          count++;
+        }
+      }
+      buckets[length] = new String[count];
+      int index = 0;
+      for (String word : words) {
+        if (word.length() == length) {
+          buckets[length][index++] = word;
+        }
+      }
+    }
+    return buckets;
+  }
+}
@@ -0,0 +1,309 @@
+package com.company;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: LockManager
+    Purpose: The purpose of LockManager is to coordinate the sessions of this process writing to the same tables. Locks
+    are taken on named resources being tables and the rows within them, in the modes IS, IX, S and X. A session writing
+    rows takes IX on the table and X on each row, so sessions writing different rows of a table proceed in parallel,
+    while a session rewriting a whole table takes X on the table and waits for every session holding a lock on it.
+    The locks are spread over a fixed number of stripes by the hash of their resource, each stripe with its own monitor,
+    so sessions locking unrelated resources never contend for the same monitor. Requests for a resource are granted in
+    the order they arrive and a request that cannot be granted waits until it can or until its timeout passes. Before
+    waiting, the sessions the request waits for are recorded in a waits-for graph and if the graph leads back to the
+    waiting session the request fails immediately instead of deadlocking.
+    - Variables:
+    1. shared: LockManager
+       Purpose: The variable shared is the lock manager used by every session of this process.
+    2. compatible: boolean[][]
+       Purpose: The variable compatible defines which modes may be held on the same resource by different owners.
+    3. stripes: Stripe[]
+       Purpose: The variable stripes stores the lock table of each stripe.
+    4. held: ConcurrentHashMap<Object, Set<String>>
+       Purpose: The variable held stores the resources each owner holds or waits for so they can be released together.
+    5. waitsFor: HashMap<Object, HashSet<Object>>
+       Purpose: The variable waitsFor is the waits-for graph of the owners currently waiting.
+    - Functions:
+    1. lock(owner: Object, resource: String, mode: Mode, timeout: long): void
+    2. unlock(owner: Object, resource: String): void
+    3. releaseAll(owner: Object): void
+    4. grantable(queue: ArrayList<Request>, request: Request, mode: Mode, upgrade: boolean): boolean
+    5. blockers(queue: ArrayList<Request>, request: Request, mode: Mode, upgrade: boolean): HashSet<Object>
+    6. waitFor(owner: Object, blockers: HashSet<Object>): boolean
+    7. covers(held: Mode, wanted: Mode): boolean
+    8. combine(held: Mode, wanted: Mode): Mode
+*/
+public class LockManager {
+
+  public enum Mode {
+    IS, IX, S, X
+  }
+
+  static final LockManager shared = new LockManager(64);
+
+  private static final boolean[][] compatible = {
+      // IS     IX     S      X
+      {true, true, true, false},   // IS
+      {true, true, false, false},  // IX
+      {true, false, true, false},  // S
+      {false, false, false, false} // X
+  };
+
+  private final Stripe[] stripes;
+  private final ConcurrentHashMap<Object, Set<String>> held = new ConcurrentHashMap<>();
+  private final HashMap<Object, HashSet<Object>> waitsFor = new HashMap<>();
+
+  /*
+      Class: Request
+      Purpose: The purpose of Request is to represent the lock an owner holds or waits for on a resource. While an
+      upgrade waits, the request keeps its granted mode until the stronger mode is granted.
+  */
+  private static class Request {
+    final Object owner;
+    Mode mode;
+    boolean granted = false;
+
+    Request(Object owner, Mode mode) {
+      this.owner = owner;
+      this.mode = mode;
+    }
+  }
+
+  private static class Stripe {
+    final ReentrantLock monitor = new ReentrantLock();
+    final Condition released = monitor.newCondition();
+    final HashMap<String, ArrayList<Request>> queues = new HashMap<>();
+  }
+
+  LockManager(int stripeCount) {
+    stripes = new Stripe[stripeCount];
+    for (int stripe = 0; stripe < stripeCount; stripe++) {
+      stripes[stripe] = new Stripe();
+    }
+  }
+
+  /*
+  Function: lock
+  Purpose: The purpose of lock() is to acquire a lock on a resource for an owner. An owner already holding the
+  resource in a mode at least as strong returns immediately, and an owner holding a weaker mode upgrades its lock
+  ahead of the owners waiting behind it. Otherwise the request joins the end of the queue of the resource and waits
+  until no other owner holds an incompatible mode and every request ahead of it has been granted. If waiting would
+  deadlock or the timeout in milliseconds passes, the request is withdrawn and an exception is thrown.
+  - Parameters:
+  1. owner: Object
+  2. resource: String
+  3. mode: Mode
+  4. timeout: long
+  - Return Type: void
+   */
+  public void lock(Object owner, String resource, Mode mode, long timeout) throws Exception {
+    Stripe stripe = stripe(resource);
+    stripe.monitor.lock();
+    try {
+      ArrayList<Request> queue = stripe.queues.computeIfAbsent(resource, key -> new ArrayList<>());
+      Request request = null;
+      for (Request existing : queue) {
+        if (existing.owner == owner) {
+          request = existing;
+        }
+      }
+      if (request != null && request.granted && covers(request.mode, mode)) {
+        return;
+      }
+      Mode wanted = request == null ? mode : combine(request.mode, mode);
+      boolean upgrade = request != null;
+      if (request == null) {
+        request = new Request(owner, wanted);
+        queue.add(request);
+        held.computeIfAbsent(owner, key -> ConcurrentHashMap.newKeySet()).add(resource);
+      }
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+      while (!grantable(queue, request, wanted, upgrade)) {
+        long remaining = deadline - System.nanoTime();
+        if (waitFor(owner, blockers(queue, request, wanted, upgrade)) || remaining <= 0) {
+          waitFor(owner, null);
+          if (!upgrade) {
+            queue.remove(request);
+            held.get(owner).remove(resource);
+            if (queue.isEmpty()) {
+              stripe.queues.remove(resource);
+            }
+            stripe.released.signalAll();
+          }
+          throw new Exception("USER EXCEPTION - lock: " + (remaining <= 0 ? "timed out waiting for "
+              : "deadlock detected on ") + resource.replace('\u001F', ' ') + ".");
+        }
+        stripe.released.awaitNanos(remaining);
+      }
+      waitFor(owner, null);
+      request.mode = wanted;
+      request.granted = true;
+    } finally {
+      stripe.monitor.unlock();
+    }
+  }
+
+  /*
+  Function: unlock
+  Purpose: The purpose of unlock() is to release the lock an owner holds on a resource and wake the requests waiting
+  for the resource.
+  - Parameters:
+  1. owner: Object
+  2. resource: String
+  - Return Type: void
+   */
+  public void unlock(Object owner, String resource) {
+    Stripe stripe = stripe(resource);
+    stripe.monitor.lock();
+    try {
+      ArrayList<Request> queue = stripe.queues.get(resource);
+      if (queue != null) {
+        queue.removeIf(request -> request.owner == owner);
+        if (queue.isEmpty()) {
+          stripe.queues.remove(resource);
+        }
+        stripe.released.signalAll();
+      }
+    } finally {
+      stripe.monitor.unlock();
+    }
+    Set<String> resources = held.get(owner);
+    if (resources != null) {
+      resources.remove(resource);
+    }
+  }
+
+  /*
+  Function: releaseAll
+  Purpose: The purpose of releaseAll() is to release every lock held by an owner, as done when a transaction ends.
+  - Parameters:
+  1. owner: Object
+  - Return Type: void
+   */
+  public void releaseAll(Object owner) {
+    Set<String> resources = held.remove(owner);
+    if (resources == null) {
+      return;
+    }
+    for (String resource : new ArrayList<>(resources)) {
+      unlock(owner, resource);
+    }
+    held.remove(owner);
+  }
+
+  /*
+  Function: grantable
+  Purpose: The purpose of grantable() is to check if a request can be granted a mode. No other owner may hold an
+  incompatible mode, and a new request may not pass a request waiting ahead of it so requests are granted in order.
+  - Parameters:
+  1. queue: ArrayList<Request>
+  2. request: Request
+  3. mode: Mode
+  4. upgrade: boolean
+  - Return Type: boolean
+   */
+  private boolean grantable(ArrayList<Request> queue, Request request, Mode mode, boolean upgrade) {
+    for (Request other : queue) {
+      if (other == request) {
+        if (!upgrade) {
+          return true;
+        }
+        continue;
+      }
+      if (other.granted && !compatible[other.mode.ordinal()][mode.ordinal()]) {
+        return false;
+      }
+      if (!other.granted && !upgrade) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private HashSet<Object> blockers(ArrayList<Request> queue, Request request, Mode mode, boolean upgrade) {
+    HashSet<Object> blockers = new HashSet<>();
+    for (Request other : queue) {
+      if (other == request) {
+        if (!upgrade) {
+          break;
+        }
+        continue;
+      }
+      if (!other.granted ? !upgrade : !compatible[other.mode.ordinal()][mode.ordinal()]) {
+        blockers.add(other.owner);
+      }
+    }
+    return blockers;
+  }
+
+  /*
+  Function: waitFor
+  Purpose: The purpose of waitFor() is to record the owners an owner is about to wait for in the waits-for graph and
+  to check if waiting would close a cycle back to the owner, which is a deadlock. Passing no blockers removes the
+  owner from the graph. The function returns true when a deadlock is found.
+  - Parameters:
+  1. owner: Object
+  2. blockers: HashSet<Object>
+  - Return Type: boolean
+   */
+  private boolean waitFor(Object owner, HashSet<Object> blockers) {
+    synchronized (waitsFor) {
+      if (blockers == null) {
+        waitsFor.remove(owner);
+        return false;
+      }
+      waitsFor.put(owner, blockers);
+      HashSet<Object> visited = new HashSet<>();
+      ArrayDeque<Object> pending = new ArrayDeque<>(blockers);
+      while (!pending.isEmpty()) {
+        Object next = pending.pop();
+        if (next == owner) {
+          return true;
+        }
+        if (visited.add(next) && waitsFor.containsKey(next)) {
+          pending.addAll(waitsFor.get(next));
+        }
+      }
+      return false;
+    }
+  }
+
+  private static boolean covers(Mode held, Mode wanted) {
+    return combine(held, wanted) == held;
+  }
+
+  /*
+  Function: combine
+  Purpose: The purpose of combine() is to return the weakest mode granting everything two modes grant. Holding both
+  IX and S is treated as X.
+  - Parameters:
+  1. held: Mode
+  2. wanted: Mode
+  - Return Type: Mode
+   */
+  private static Mode combine(Mode held, Mode wanted) {
+    if (held == wanted || wanted == Mode.IS) {
+      return held;
+    }
+    if (held == Mode.IS) {
+      return wanted;
+    }
+    return Mode.X;
+  }
+
+  private Stripe stripe(String resource) {
+    return stripes[Math.floorMod(resource.hashCode(), stripes.length)];
+  }
+}
@@ -0,0 +1,737 @@
+package com.company;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: MemoryTable
+    Purpose: The purpose of MemoryTable is to hold a table created with ENGINE = MEMORY, whose rows live in memory
+    outside of the Java heap rather than in a table file. The rows are stored in a direct buffer as fixed-width slots,
+    each row starting with a bitmap of its missing values followed by one slot per column: four bytes for an int or a
+    float and, for a varchar(n), two bytes of length followed by n characters of two bytes each. The heap only holds
+    a handful of objects per table however many rows it has, so its rows add nothing for the garbage collector to
+    trace. The rows are published as an Image, which is never changed below its number of rows: appending writes the
+    rows after the last row of the image and publishes an image with more rows over the same buffer, while deleting,
+    updating and adding a column build a new buffer. Readers take the current image and read it without any lock,
+    seeing the table as of the moment they opened it, and writers of a table take turns on the table. The buffer of an
+    image no reader holds is freed with it. Memory tables belong to the process and are kept by the path of their
+    snapshot, a file of the same name ending in ".memory". The snapshot holds the schema and the rows of the table as
+    of its last CHECKPOINT, and is written when the table is created or altered, so the table, emptied of the rows
+    added since, is found again by the next process.
+    - Variables:
+    1. tables: ConcurrentHashMap<String, MemoryTable>
+       Purpose: The variable tables stores the memory tables of the process by the path of their snapshot.
+    2. location: File
+       Purpose: The variable location is the snapshot of the table.
+    3. databasePath: String
+       Purpose: The variable databasePath is the directory of the database the table belongs to.
+    4. image: Image
+       Purpose: The variable image is the current image of the rows of the table.
+    5. saved: Image
+       Purpose: The variable saved is the image last written to the snapshot.
+    - Functions:
+    1. of(databasePath: String, table: String): MemoryTable
+    2. create(databasePath: String, table: String, headings: String[]): MemoryTable
+    3. drop(): void
+    4. checkpoint(databasePath: String): int
+    5. insert(rows: List<String[]>): int
+    6. load(loader: BulkLoader, source: File): long
+    7. delete(key: String, value: String, greaterThan: boolean): int
+    8. update(key: String, value: String, column: String, newValue: String): int
+    9. addColumn(heading: String): boolean
+    10. open(): RowReader
+    11. save(): boolean
+    12. read(location: File): Image
+    13. append(base: Image, count: int, rows: List<String[]>): Image
+    14. grow(base: Image, rows: long): Image
+    15. matches(image: Image, row: int, column: int, value: String, greaterThan: boolean): boolean
+    16. columnIndex(key: String): int
+    17. readFully(channel: FileChannel, buffer: ByteBuffer, position: long): void
+    18. image(): Image
+*/
+public class MemoryTable {
+
+  static final String suffix = ".memory";
+
+  private static final int magic = 0x4D454D54;
+  private static final int initialRows = 16;
+  private static final ConcurrentHashMap<String, MemoryTable> tables = new ConcurrentHashMap<>();
+
+  private final File location;
+  private final String databasePath;
+  private volatile Image image;
+  private Image saved = null;
+  private final Object saving = new Object();
+
+  private MemoryTable(File location, String databasePath, Image image) {
+    this.location = location;
+    this.databasePath = databasePath;
+    this.image = image;
+  }
+
+  /*
+  Function: of
+  Purpose: The purpose of of() is to return the memory table of the given name within a database, or null when the
+  database holds no such memory table. A memory table not yet used by the process is read from its snapshot.
+  - Parameters:
+  1. databasePath: String
+  2. table: String
+  - Return Type: MemoryTable
+   */
+  static MemoryTable of(String databasePath, String table) {
+    File location = new File(databasePath + table.toLowerCase() + suffix);
+    MemoryTable memoryTable = tables.get(location.getPath());
+    if (memoryTable != null || !location.exists()) {
+      return memoryTable;
+    }
+    return tables.computeIfAbsent(location.getPath(), path -> {
+      try {
+        MemoryTable read = new MemoryTable(location, databasePath, read(location));
+        read.saved = read.image;
+        return read;
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    });
+  }
+
+  /*
+  Function: create
+  Purpose: The purpose of create() is to create an empty memory table with the given headings, each being a label and
+  a type of int, float or varchar(n), and write its snapshot. An exception is thrown if a type is not recognized or
+  the database already holds a memory table of the same name.
+  - Parameters:
+  1. databasePath: String
+  2. table: String
+  3. headings: String[]
+  - Return Type: MemoryTable
+   */
+  static MemoryTable create(String databasePath, String table, String[] headings) throws Exception {
+    File location = new File(databasePath + table.toLowerCase() + suffix);
+    synchronized (tables) {
+      if (of(databasePath, table) != null) {
+        throw new Exception("USER EXCEPTION - create: table " + table + " already exists.");
+      }
+      MemoryTable memoryTable = new MemoryTable(location, databasePath, new Image(headings, null, 0));
+      memoryTable.save();
+      tables.put(location.getPath(), memoryTable);
+      return memoryTable;
+    }
+  }
+
+  /*
+  Function: drop
+  Purpose: The purpose of drop() is to delete the table. The snapshot is deleted before the table is forgotten so the
+  table is not read again from it. Readers holding an image of the table finish reading it.
+  - Parameters:
+  - Return Type: void
+   */
+  void drop() {
+    synchronized (saving) {
+      location.delete();
+      tables.remove(location.getPath());
+    }
+  }
+
+  /*
+  Function: checkpoint
+  Purpose: The purpose of checkpoint() is to write the snapshot of every memory table of a database used by the
+  process that changed since its snapshot was last written. The number of snapshots written is returned.
+  - Parameters:
+  1. databasePath: String
+  - Return Type: int
+   */
+  static int checkpoint(String databasePath) throws IOException {
+    int written = 0;
+    for (MemoryTable memoryTable : tables.values()) {
+      if (memoryTable.databasePath.equals(databasePath) && memoryTable.save()) {
+        written++;
+      }
+    }
+    return written;
+  }
+
+  /*
+  Function: insert
+  Purpose: The purpose of insert() is to append rows to the table. The rows are published together once every row is
+  written, so a value not fitting the schema appends none of them and throws an exception.
+  - Parameters:
+  1. rows: List<String[]>
+  - Return Type: int
+   */
+  synchronized int insert(List<String[]> rows) throws Exception {
+    image = append(image, image.count, rows);
+    return rows.size();
+  }
+
+  /*
+  Function: load
+  Purpose: The purpose of load() is to append the rows of a Bulk Loader to the table a batch at a time. The rows are
+  only published once the whole file has been loaded, so a load that fails appends no row.
+  - Parameters:
+  1. loader: BulkLoader
+  2. source: File
+  - Return Type: long
+   */
+  synchronized long load(BulkLoader loader, File source) throws Exception {
+    Image[] loaded = {image};
+    long copied = loader.load(source, batch -> loaded[0] = append(loaded[0], loaded[0].count, batch.rows));
+    image = loaded[0];
+    return copied;
+  }
+
+  /*
+  Function: delete
+  Purpose: The purpose of delete() is to delete the rows whose value of the key column equals the given value, or is
+  greater than it when greaterThan is set, comparing values the way rows of table files are compared. The remaining
+  rows are copied into a new buffer, which is published as a whole. The number of rows deleted is returned.
+  - Parameters:
+  1. key: String
+  2. value: String
+  3. greaterThan: boolean
+  - Return Type: int
+   */
+  synchronized int delete(String key, String value, boolean greaterThan) {
+    Image current = image;
+    int keyIndex = columnIndex(key);
+    if (keyIndex < 0) {
+      return 0;
+    }
+    Image kept = grow(new Image(current.headings, null, 0), current.count);
+    int count = 0;
+    for (int row = 0; row < current.count; row++) {
+      if (!matches(current, row, keyIndex, value, greaterThan)) {
+        kept.slots.put(count++ * kept.width, current.slots, row * current.width, current.width);
+      }
+    }
+    image = new Image(kept.headings, kept.slots, count);
+    return current.count - count;
+  }
+
+  /*
+  Function: update
+  Purpose: The purpose of update() is to set the given column to a new value in the rows whose key column equals the
+  given value. The rows are copied into a new buffer and changed there, so readers of the current image never see a
+  value being written. Since every slot holds a value of its column type, a new value not fitting the type changes
+  no row. The number of rows changed is returned.
+  - Parameters:
+  1. key: String
+  2. value: String
+  3. column: String
+  4. newValue: String
+  - Return Type: int
+   */
+  synchronized int update(String key, String value, String column, String newValue) {
+    Image current = image;
+    int keyIndex = columnIndex(key);
+    int columnIndex = columnIndex(column);
+    if (keyIndex < 0 || columnIndex < 0 || current.count == 0) {
+      return 0;
+    }
+    Image updated = grow(new Image(current.headings, null, 0), current.count);
+    updated.slots.put(0, current.slots, 0, current.count * current.width);
+    int records = 0;
+    try {
+      for (int row = 0; row < current.count; row++) {
+        if (matches(current, row, keyIndex, value, false)) {
+          updated.put(row, columnIndex, newValue);
+          records++;
+        }
+      }
+    } catch (Exception exception) {
+      return 0;
+    }
+    image = new Image(updated.headings, updated.slots, current.count);
+    return records;
+  }
+
+  /*
+  Function: addColumn
+  Purpose: The purpose of addColumn() is to add a column to the end of the schema, missing from every existing row.
+  The rows are copied into the slots of the new schema and the snapshot is written. False is returned if the table
+  already has a column of the same label.
+  - Parameters:
+  1. heading: String
+  - Return Type: boolean
+   */
+  boolean addColumn(String heading) throws Exception {
+    synchronized (this) {
+      Image current = image;
+      String label = heading.split(" ")[0];
+      for (String existing : current.headings) {
+        if (existing.split(" ")[0].equals(label)) {
+          return false;
+        }
+      }
+      String[] headings = Arrays.copyOf(current.headings, current.headings.length + 1);
+      headings[current.headings.length] = heading;
+      Image altered = grow(new Image(headings, null, 0), current.count);
+      for (int row = 0; row < current.count; row++) {
+        for (int column = 0; column < current.headings.length; column++) {
+          if (!current.isMissing(row, column)) {
+            altered.copy(row, column, current);
+          } else {
+            altered.setMissing(row, column);
+          }
+        }
+        altered.setMissing(row, current.headings.length);
+      }
+      image = new Image(headings, altered.slots, current.count);
+    }
+    save();
+    return true;
+  }
+
+  Image image() {
+    return image;
+  }
+
+  /*
+  Function: open
+  Purpose: The purpose of open() is to return a reader over the current image of the table.
+  - Parameters:
+  - Return Type: RowReader
+   */
+  RowReader open() {
+    return new RowReader(image);
+  }
+
+  /*
+  Function: save
+  Purpose: The purpose of save() is to write the current image of the table to its snapshot unless it has already
+  been written or the table has been dropped. The snapshot is written to a temporary file that replaces the snapshot
+  once complete, so a process stopped while saving leaves the previous snapshot. The slots are written straight from
+  the direct buffer. True is returned when the snapshot was written.
+  - Parameters:
+  - Return Type: boolean
+   */
+  private boolean save() throws IOException {
+    synchronized (saving) {
+      Image current = image;
+      if (current == saved || saved != null && tables.get(location.getPath()) != this) {
+        return false;
+      }
+      byte[] schema = String.join("\t", current.headings).getBytes(StandardCharsets.UTF_8);
+      ByteBuffer header = ByteBuffer.allocate(16 + schema.length);
+      header.putInt(magic).putInt(schema.length).put(schema).putInt(current.count).putInt(current.width).flip();
+      File written = new File(location.getPath() + ".tmp");
+      try (FileChannel channel = FileChannel.open(written.toPath(), StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+        if (current.count > 0) {
+          ByteBuffer rows = current.slots.duplicate().position(0).limit(current.count * current.width);
+          while (rows.hasRemaining()) {
+            channel.write(rows);
+          }
+        }
+      }
+      Files.move(written.toPath(), location.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      saved = current;
+      return true;
+    }
+  }
+
+  /*
+  Function: read
+  Purpose: The purpose of read() is to read the image of a table from its snapshot into a new direct buffer. An
+  exception is thrown if the file is not a snapshot or its slots do not fit its schema.
+  - Parameters:
+  1. location: File
+  - Return Type: Image
+   */
+  private static Image read(File location) throws IOException {
+    try (FileChannel channel = FileChannel.open(location.toPath(), StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(8);
+      readFully(channel, header, 0);
+      if (header.getInt() != magic) {
+        throw new IOException("USER EXCEPTION - read: " + location + " is not a memory table.");
+      }
+      ByteBuffer rest = ByteBuffer.allocate(header.getInt() + 8);
+      readFully(channel, rest, 8);
+      byte[] schema = new byte[rest.remaining() - 8];
+      rest.get(schema);
+      int count = rest.getInt();
+      int width = rest.getInt();
+      String[] headings = schema.length == 0 ? new String[0]
+          : new String(schema, StandardCharsets.UTF_8).split("\t");
+      Image image;
+      try {
+        image = grow(new Image(headings, null, 0), count);
+      } catch (Exception exception) {
+        throw new IOException(exception.getMessage());
+      }
+      if (image.width != width) {
+        throw new IOException("USER EXCEPTION - read: the rows of " + location + " do not fit its schema.");
+      }
+      readFully(channel, image.slots.duplicate().position(0).limit(count * width), 16 + schema.length);
+      return new Image(headings, image.slots, count);
+    } catch (IllegalArgumentException exception) {
+      throw new IOException("USER EXCEPTION - read: " + location + " is damaged.");
+    }
+  }
+
+  /*
+  Function: readFully
+  Purpose: The purpose of readFully() is to fill a buffer from a channel starting at the given position and to flip
+  it for reading. An exception is thrown if the channel ends first.
+  - Parameters:
+  1. channel: FileChannel
+  2. buffer: ByteBuffer
+  3. position: long
+  - Return Type: void
+   */
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("USER EXCEPTION - readFully: the memory table is cut short.");
+      }
+      position += read;
+    }
+    buffer.flip();
+  }
+
+  /*
+  Function: append
+  Purpose: The purpose of append() is to write rows after the given number of rows of an image and return an image
+  holding them, without publishing it. The rows are written past the rows of the published image, into its buffer when
+  they fit and into a larger copy otherwise, so readers of the published image are not disturbed.
+  - Parameters:
+  1. base: Image
+  2. count: int
+  3. rows: List<String[]>
+  - Return Type: Image
+   */
+  private static Image append(Image base, int count, List<String[]> rows) throws Exception {
+    Image target = grow(new Image(base.headings, base.slots, count), rows.size());
+    for (int index = 0; index < rows.size(); index++) {
+      String[] values = rows.get(index);
+      if (values.length != base.headings.length) {
+        throw new Exception("USER EXCEPTION - append: row has " + values.length + " values but the table has "
+            + base.headings.length + " columns.");
+      }
+      int row = count + index;
+      target.slots.put(row * target.width, new byte[target.bitmap]);
+      for (int column = 0; column < values.length; column++) {
+        target.put(row, column, values[column]);
+      }
+    }
+    return new Image(target.headings, target.slots, count + rows.size());
+  }
+
+  /*
+  Function: grow
+  Purpose: The purpose of grow() is to return an image with room for the given number of rows after its rows. The
+  image is returned as it is when its buffer has room, and otherwise its rows are copied into a direct buffer of at
+  least twice the size. An exception is thrown if the rows would not fit in a single buffer.
+  - Parameters:
+  1. base: Image
+  2. rows: long
+  - Return Type: Image
+   */
+  private static Image grow(Image base, long rows) {
+    long needed = base.count + rows;
+    long capacity = base.slots == null ? 0 : base.slots.capacity() / base.width;
+    if (needed <= capacity) {
+      return base;
+    }
+    long grown = Math.max(initialRows, Math.max(needed, capacity * 2));
+    if (grown * base.width > Integer.MAX_VALUE) {
+      grown = Integer.MAX_VALUE / base.width;
+      if (grown < needed) {
+        throw new IllegalStateException("USER EXCEPTION - grow: the memory table is full.");
+      }
+    }
+    ByteBuffer slots = ByteBuffer.allocateDirect((int) (grown * base.width));
+    if (base.count > 0) {
+      slots.put(0, base.slots, 0, base.count * base.width);
+    }
+    return new Image(base.headings, slots, base.count);
+  }
+
+  /*
+  Function: matches
+  Purpose: The purpose of matches() is to compare the value of a column of a row with a value the way rows of table
+  files are compared: an equality holds when the value is written the same way as the stored value, and a greater
+  than comparison compares both as floats. A missing value equals an empty value and is never greater than a value.
+  - Parameters:
+  1. image: Image
+  2. row: int
+  3. column: int
+  4. value: String
+  5. greaterThan: boolean
+  - Return Type: boolean
+   */
+  private static boolean matches(Image image, int row, int column, String value, boolean greaterThan) {
+    if (image.isMissing(row, column)) {
+      return !greaterThan && value.isEmpty();
+    }
+    if (!greaterThan) {
+      return image.value(row, column).equals(value);
+    }
+    try {
+      return Float.parseFloat(image.value(row, column)) > Float.parseFloat(value);
+    } catch (NumberFormatException exception) {
+      return false;
+    }
+  }
+
+  /*
+  Function: columnIndex
+  Purpose: The purpose of columnIndex() is to find the first column whose label matches the given key, matching the
+  key as the Database Abstraction layer does for table files, or -1 when no column matches.
+  - Parameters:
+  1. key: String
+  - Return Type: int
+   */
+  private int columnIndex(String key) {
+    String[] headings = image.headings;
+    for (int column = 0; column < headings.length; column++) {
+      if (headings[column].split(" ")[0].matches(key)) {
+        return column;
+      }
+    }
+    return -1;
+  }
+
+  /*
+      Class: Image
+      Purpose: The purpose of Image is to hold the rows of a memory table as of one moment being its schema, the layout
+      of its slots derived from the schema, the buffer of slots and the number of rows. The bytes of the rows of an
+      image are never changed once it is published.
+  */
+  static final class Image {
+    private static final byte INT = 0;
+    private static final byte FLOAT = 1;
+    private static final byte VARCHAR = 2;
+
+    final String[] headings;
+    final ByteBuffer slots;
+    final int count;
+    final int width;
+    private final int bitmap;
+    private final byte[] types;
+    private final int[] lengths;
+    private final int[] offsets;
+
+    Image(String[] headings, ByteBuffer slots, int count) {
+      this.headings = headings;
+      this.slots = slots;
+      this.count = count;
+      types = new byte[headings.length];
+      lengths = new int[headings.length];
+      offsets = new int[headings.length];
+      bitmap = (headings.length + 7) / 8;
+      int offset = bitmap;
+      for (int column = 0; column < headings.length; column++) {
+        String[] heading = headings[column].trim().split(" ");
+        String type = heading.length > 1 ? heading[1].toLowerCase() : "";
+        offsets[column] = offset;
+        if (type.equals("int") || type.equals("float")) {
+          types[column] = type.equals("int") ? INT : FLOAT;
+          offset += 4;
+        } else if (type.matches("varchar\\([0-9]{1,4}\\)")) {
+          types[column] = VARCHAR;
+          lengths[column] = Integer.parseInt(type.substring(8, type.length() - 1));
+          offset += 2 + 2 * lengths[column];
+        } else {
+          throw new IllegalArgumentException("USER EXCEPTION - Image: type " + type + " of column " + heading[0]
+              + " is not supported by memory tables.");
+        }
+      }
+      width = Math.max(1, offset);
+    }
+
+    boolean isMissing(int row, int column) {
+      return (slots.get(row * width + column / 8) & (1 << (column % 8))) != 0;
+    }
+
+    void setMissing(int row, int column) {
+      int index = row * width + column / 8;
+      slots.put(index, (byte) (slots.get(index) | (1 << (column % 8))));
+    }
+
+    /*
+    Function: value
+    Purpose: The purpose of value() is to return the value of a column of a row written as the INSERT statement writes
+    it to a table file, or an empty value when the value is missing.
+    - Parameters:
+    1. row: int
+    2. column: int
+    - Return Type: String
+     */
+    String value(int row, int column) {
+      if (isMissing(row, column)) {
+        return "";
+      }
+      int slot = row * width + offsets[column];
+      switch (types[column]) {
+        case INT:
+          return Integer.toString(slots.getInt(slot));
+        case FLOAT:
+          return Float.toString(slots.getFloat(slot));
+        default:
+          char[] characters = new char[slots.getShort(slot)];
+          for (int index = 0; index < characters.length; index++) {
+            characters[index] = slots.getChar(slot + 2 + 2 * index);
+          }
+          return new String(characters);
+      }
+    }
+
+    /*
+    Function: put
+    Purpose: The purpose of put() is to check a value against the type of its column and write it into the slot of a
+    row. An exception is thrown if the value does not fit the type, or holds a tab or line break, which table files
+    cannot hold either.
+    - Parameters:
+    1. row: int
+    2. column: int
+    3. value: String
+    - Return Type: void
+     */
+    void put(int row, int column, String value) throws Exception {
+      int slot = row * width + offsets[column];
+      try {
+        switch (types[column]) {
+          case INT:
+            slots.putInt(slot, Integer.parseInt(value.trim()));
+            break;
+          case FLOAT:
+            slots.putFloat(slot, Float.parseFloat(value.trim()));
+            break;
+          default:
+            if (value.length() > lengths[column]) {
+              throw new Exception("USER EXCEPTION - put: varchar(" + lengths[column] + ") is not satisfied.");
+            }
+            if (value.indexOf('\t') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+              throw new Exception("USER EXCEPTION - put: a value cannot hold a tab or line break.");
+            }
+            slots.putShort(slot, (short) value.length());
+            for (int index = 0; index < value.length(); index++) {
+              slots.putChar(slot + 2 + 2 * index, value.charAt(index));
+            }
+            break;
+        }
+      } catch (NumberFormatException exception) {
+        throw new Exception("USER EXCEPTION - put: \"" + value + "\" is not a valid " + headings[column] + ".");
+      }
+      int index = row * width + column / 8;
+      slots.put(index, (byte) (slots.get(index) & ~(1 << (column % 8))));
+    }
+
+    void copy(int row, int column, Image source) {
+      int length = types[column] == VARCHAR ? 2 + 2 * source.slots.getShort(row * source.width
+          + source.offsets[column]) : 4;
+      slots.put(row * width + offsets[column], source.slots, row * source.width + source.offsets[column], length);
+    }
+  }
+
+  /*
+      Class: RowReader
+      Purpose: The purpose of RowReader is to be the reader returned by openTable() over a memory table. It reads an
+      image of the table as the text of a table file, being the schema line followed by one line per row, so it may be
+      read like any table, while a Table Scan takes its rows with nextRow(), decoded straight from the slots without
+      being written out and split again. Both share the same position, which starts before the schema line.
+  */
+  public static class RowReader extends BufferedReader {
+    private final Image image;
+    private int row = -1;
+    private String pending = "";
+    private int pendingPosition = 0;
+
+    RowReader(Image image) {
+      super(Reader.nullReader(), 1);
+      this.image = image;
+    }
+
+    @Override
+    public String readLine() {
+      if (row < 0) {
+        row = 0;
+        return String.join("\t", image.headings) + "\t";
+      }
+      if (row >= image.count) {
+        return null;
+      }
+      StringBuilder line = new StringBuilder();
+      for (int column = 0; column < image.headings.length; column++) {
+        line.append(image.value(row, column)).append('\t');
+      }
+      row++;
+      return line.toString();
+    }
+
+    /*
+    Function: nextRow
+    Purpose: The purpose of nextRow() is to return the values of the next row, or null once every row has been read.
+    The schema line is passed over if it has not been read.
+    - Parameters:
+    - Return Type: String[]
+     */
+    String[] nextRow() {
+      row = Math.max(row, 0);
+      if (row >= image.count) {
+        return null;
+      }
+      String[] values = new String[image.headings.length];
+      for (int column = 0; column < values.length; column++) {
+        values[column] = image.value(row, column);
+      }
+      row++;
+      return values;
+    }
+
+    int rowWidth() {
+      return image.width;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      while (pendingPosition >= pending.length()) {
+        boolean first = row < 0;
+        String line = readLine();
+        if (line == null) {
+          return -1;
+        }
+        pending = first ? line : "\n" + line;
+        pendingPosition = 0;
+      }
+      int count = Math.min(length, pending.length() - pendingPosition);
+      pending.getChars(pendingPosition, pendingPosition + count, buffer, offset);
+      pendingPosition += count;
+      return count;
+    }
+
+    @Override
+    public int read() {
+      char[] character = new char[1];
+      return read(character, 0, 1) < 0 ? -1 : character[0];
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
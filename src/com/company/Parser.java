@@ -0,0 +1,586 @@
+package com.company;
+
+import com.company.SyntaxTree.AlterTable;
+import com.company.SyntaxTree.Backup;
+import com.company.SyntaxTree.ColumnDefinition;
+import com.company.SyntaxTree.ColumnReference;
+import com.company.SyntaxTree.Condition;
+import com.company.SyntaxTree.Copy;
+import com.company.SyntaxTree.CreateTable;
+import com.company.SyntaxTree.Delete;
+import com.company.SyntaxTree.Execute;
+import com.company.SyntaxTree.Explain;
+import com.company.SyntaxTree.Export;
+import com.company.SyntaxTree.Expression;
+import com.company.SyntaxTree.Insert;
+import com.company.SyntaxTree.Join;
+import com.company.SyntaxTree.Kind;
+import com.company.SyntaxTree.Literal;
+import com.company.SyntaxTree.NamedStatement;
+import com.company.SyntaxTree.Parameter;
+import com.company.SyntaxTree.PartitionBy;
+import com.company.SyntaxTree.Prepare;
+import com.company.SyntaxTree.Select;
+import com.company.SyntaxTree.Setting;
+import com.company.SyntaxTree.Statement;
+import com.company.SyntaxTree.SubqueryCondition;
+import com.company.SyntaxTree.TableReference;
+import com.company.SyntaxTree.Update;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Parser
+    Purpose: The purpose of Parser is to turn a SQL statement into an abstract syntax tree. The parser is a recursive
+    descent parser with one function per grammar rule that reads tokens from the Lexer one at a time. Statements are
+    recognized by their leading keywords rather than by the number of tokens they contain, and any statement that does
+    not follow the grammar is rejected with an exception describing the unexpected token.
+    - Variables:
+    1. lexer: Lexer
+       Purpose: The variable lexer is the token cursor over the statement being parsed.
+    2. parameterCount: int
+       Purpose: The variable parameterCount is the number of "?" placeholders read so far. Each placeholder is given
+       the next index in the order it appears.
+    - Functions:
+    1. parse(statement: String): Statement
+    2. parseStatement(): Statement
+    3. parseCreate(): Statement
+    4. parseDrop(): Statement
+    5. parseAlter(): Statement
+    6. parseInsert(): Statement
+    7. parseUpdate(): Statement
+    8. parseDelete(): Statement
+    9. parseSelect(): Statement
+    10. parseTableReference(): TableReference
+    11. parseColumnDefinition(): ColumnDefinition
+    12. parseCondition(): Condition
+    13. parseModifyCondition(operators: String...): Condition
+    14. parseComparison(left: Expression): Condition
+    15. parseWhereCondition(): Condition
+    16. parseSubquery(): Select
+    17. parseExpression(): Expression
+    18. parseColumnReference(): ColumnReference
+    19. identifier(): String
+    20. expect(keyword: String): void
+    21. expectSymbol(symbol: char): void
+    22. accept(keyword: String): boolean
+    23. acceptSymbol(symbol: char): boolean
+*/
+public class Parser {
+
+  private final Lexer lexer;
+  private int parameterCount = 0;
+
+  private Parser(String statement) {
+    lexer = new Lexer(statement);
+  }
+
+  /*
+  Function: parse
+  Purpose: The purpose of parse() is to parse a single SQL statement into its syntax tree. An optional ";" may end
+  the statement. Anything after the statement is an error. A statement made only of whitespace and comments has no
+  syntax tree and returns null.
+  - Parameters:
+  1. statement: String
+  - Return Type: Statement
+   */
+  public static Statement parse(String statement) throws Exception {
+    Parser parser = new Parser(statement);
+    if (parser.lexer.next() == Lexer.END) {
+      return null;
+    }
+    Statement tree = parser.parseStatement();
+    parser.acceptSymbol(';');
+    if (parser.lexer.type() != Lexer.END) {
+      throw parser.error("end of statement");
+    }
+    tree.parameterCount = parser.parameterCount;
+    return tree;
+  }
+
+  /*
+  Function: parseStatement
+  Purpose: The purpose of parseStatement() is to recognize a statement from its first keyword and hand it to the
+  function parsing that statement.
+  - Parameters:
+  - Return Type: Statement
+   */
+  private Statement parseStatement() throws Exception {
+    String keyword = lexer.keyword();
+    if (keyword == null) {
+      throw error("statement");
+    }
+    lexer.next();
+    switch (keyword) {
+      case Lexer.CREATE:
+        return parseCreate();
+      case Lexer.DROP:
+        return parseDrop();
+      case Lexer.USE:
+        return new NamedStatement(Kind.USE, identifier());
+      case Lexer.ALTER:
+        return parseAlter();
+      case Lexer.INSERT:
+        return parseInsert();
+      case Lexer.UPDATE:
+        return parseUpdate();
+      case Lexer.DELETE:
+        return parseDelete();
+      case Lexer.SELECT:
+        return parseSelect();
+      case Lexer.BEGIN: {
+        accept(Lexer.TRANSACTION);
+        return new NamedStatement(Kind.BEGIN, null);
+      }
+      case Lexer.COMMIT:
+        return new NamedStatement(Kind.COMMIT, null);
+      case Lexer.CHECKPOINT:
+        return new NamedStatement(Kind.CHECKPOINT, null);
+      case Lexer.ROLLBACK:
+        return new NamedStatement(Kind.ROLLBACK, null);
+      case Lexer.BACKUP: {
+        expect(Lexer.DATABASE);
+        String database = identifier();
+        expect(Lexer.TO);
+        return new Backup(database, parseExpression());
+      }
+      case Lexer.COPY: {
+        String table = identifier();
+        expect(Lexer.FROM);
+        Expression file = parseExpression();
+        String format = accept(Lexer.FORMAT) ? identifier().toLowerCase() : "csv";
+        return new Copy(table, file, format, accept(Lexer.HEADER));
+      }
+      case Lexer.EXPORT: {
+        expect(Lexer.TABLE);
+        String table = identifier();
+        expect(Lexer.TO);
+        Expression file = accept(Lexer.STDOUT) ? null : parseExpression();
+        return new Export(table, file, accept(Lexer.FORMAT) ? identifier().toLowerCase() : "native");
+      }
+      case Lexer.SHOW:
+        return new NamedStatement(Kind.SHOW, identifier());
+      case Lexer.SET: {
+        String name = identifier();
+        expectSymbol('=');
+        return new Setting(name, parseExpression());
+      }
+      case Lexer.PREPARE: {
+        String name = identifier();
+        expect(Lexer.AS);
+        // NOTE: A prepared statement running prepared statements could execute itself without end.
+        String body = lexer.keyword();
+        if (Lexer.PREPARE.equals(body) || Lexer.EXECUTE.equals(body) || Lexer.DEALLOCATE.equals(body)) {
+          throw error("statement other than PREPARE, EXECUTE or DEALLOCATE");
+        }
+        Statement statement = parseStatement();
+        // NOTE: Placeholders belong to the prepared statement rather than the PREPARE statement itself.
+        statement.parameterCount = parameterCount;
+        parameterCount = 0;
+        return new Prepare(name, statement);
+      }
+      case Lexer.EXECUTE: {
+        Execute execute = new Execute(identifier());
+        if (acceptSymbol('(')) {
+          if (!acceptSymbol(')')) {
+            do {
+              execute.arguments.add(parseExpression());
+            } while (acceptSymbol(','));
+            expectSymbol(')');
+          }
+        }
+        return execute;
+      }
+      case Lexer.DEALLOCATE:
+        return new NamedStatement(Kind.DEALLOCATE, identifier());
+      case Lexer.EXPLAIN: {
+        boolean analyze = accept(Lexer.ANALYZE);
+        Statement statement = parseStatement();
+        statement.parameterCount = parameterCount;
+        return new Explain(analyze, statement);
+      }
+      default:
+        throw error("statement");
+    }
+  }
+
+  /*
+  Function: parseCreate
+  Purpose: The purpose of parseCreate() is to parse CREATE DATABASE and CREATE TABLE statements. A table may be
+  created with or without a parenthesized list of column definitions, followed by an optional ENGINE [=] name and an
+  optional PARTITION BY RANGE(column) | HASH(column) PARTITIONS n clause. RANGE partitioning lists the lower bounds of
+  every partition after the first as VALUES (bound, ...).
+  - Parameters:
+  - Return Type: Statement
+   */
+  private Statement parseCreate() throws Exception {
+    if (accept(Lexer.DATABASE)) {
+      return new NamedStatement(Kind.CREATE_DATABASE, identifier());
+    }
+    expect(Lexer.TABLE);
+    CreateTable create = new CreateTable(identifier());
+    if (acceptSymbol('(')) {
+      do {
+        create.columns.add(parseColumnDefinition());
+      } while (acceptSymbol(','));
+      expectSymbol(')');
+    }
+    if (accept(Lexer.ENGINE)) {
+      acceptSymbol('=');
+      create.engine = identifier().toLowerCase();
+    }
+    if (accept(Lexer.PARTITION)) {
+      expect(Lexer.BY);
+      String method = accept(Lexer.RANGE) ? "range" : null;
+      if (method == null) {
+        expect(Lexer.HASH);
+        method = "hash";
+      }
+      expectSymbol('(');
+      String column = identifier();
+      expectSymbol(')');
+      expect(Lexer.PARTITIONS);
+      if (lexer.type() != Lexer.NUMBER || !lexer.text().matches("[0-9]{1,4}")) {
+        throw error("number of partitions");
+      }
+      int count = Integer.parseInt(lexer.text());
+      lexer.next();
+      ArrayList<Expression> bounds = new ArrayList<>();
+      if (method.equals("range") && accept(Lexer.VALUES)) {
+        expectSymbol('(');
+        do {
+          bounds.add(parseExpression());
+        } while (acceptSymbol(','));
+        expectSymbol(')');
+      }
+      create.partitionBy = new PartitionBy(method, column, count, bounds);
+    }
+    return create;
+  }
+
+  private Statement parseDrop() throws Exception {
+    if (accept(Lexer.DATABASE)) {
+      return new NamedStatement(Kind.DROP_DATABASE, identifier());
+    }
+    expect(Lexer.TABLE);
+    return new NamedStatement(Kind.DROP_TABLE, identifier());
+  }
+
+  private Statement parseAlter() throws Exception {
+    expect(Lexer.TABLE);
+    String table = identifier();
+    expect(Lexer.ADD);
+    return new AlterTable(table, parseColumnDefinition());
+  }
+
+  /*
+  Function: parseInsert
+  Purpose: The purpose of parseInsert() is to parse an INSERT INTO ... VALUES (...), (...) statement, with one or more
+  rows, or an INSERT INTO ... SELECT statement. Every value is an expression so quoted literals, numbers and
+  placeholders are all accepted.
+  - Parameters:
+  - Return Type: Statement
+   */
+  private Statement parseInsert() throws Exception {
+    expect(Lexer.INTO);
+    Insert insert = new Insert(identifier());
+    if (accept(Lexer.SELECT)) {
+      insert.select = (Select) parseSelect();
+      return insert;
+    }
+    expect(Lexer.VALUES);
+    do {
+      ArrayList<Expression> values = new ArrayList<>();
+      expectSymbol('(');
+      do {
+        values.add(parseExpression());
+      } while (acceptSymbol(','));
+      expectSymbol(')');
+      insert.rows.add(values);
+    } while (acceptSymbol(','));
+    return insert;
+  }
+
+  private Statement parseUpdate() throws Exception {
+    String table = identifier();
+    expect(Lexer.SET);
+    String column = identifier();
+    expectSymbol('=');
+    Expression value = parseExpression();
+    expect(Lexer.WHERE);
+    return new Update(table, column, value, parseModifyCondition("="));
+  }
+
+  private Statement parseDelete() throws Exception {
+    expect(Lexer.FROM);
+    String table = identifier();
+    expect(Lexer.WHERE);
+    return new Delete(table, parseModifyCondition("=", ">"));
+  }
+
+  /*
+  Function: parseSelect
+  Purpose: The purpose of parseSelect() is to parse a SELECT statement. The select list is either "*" or a comma
+  separated list of columns, optionally preceded by DISTINCT. The FROM clause is either a comma separated list of
+  tables or two tables combined with INNER JOIN or LEFT OUTER JOIN and an ON condition. An optional WHERE condition
+  follows, and UNION or UNION ALL continues the statement with another SELECT.
+  - Parameters:
+  - Return Type: Statement
+   */
+  private Statement parseSelect() throws Exception {
+    Select select = new Select();
+    select.distinct = accept(Lexer.DISTINCT);
+    if (!acceptSymbol('*')) {
+      do {
+        select.columns.add(parseColumnReference());
+      } while (acceptSymbol(','));
+    }
+    expect(Lexer.FROM);
+    select.tables.add(parseTableReference());
+    while (acceptSymbol(',')) {
+      select.join = Join.CROSS;
+      select.tables.add(parseTableReference());
+    }
+    if (select.join == Join.NONE) {
+      Join join = null;
+      if (accept(Lexer.INNER)) {
+        join = Join.INNER;
+      } else if (accept(Lexer.LEFT)) {
+        accept(Lexer.OUTER);
+        join = Join.LEFT_OUTER;
+      }
+      if (join != null || lexer.is(Lexer.JOIN)) {
+        expect(Lexer.JOIN);
+        select.join = join == null ? Join.INNER : join;
+        select.tables.add(parseTableReference());
+        expect(Lexer.ON);
+        select.on = parseCondition();
+      }
+    }
+    if (accept(Lexer.WHERE)) {
+      select.where = parseWhereCondition();
+    }
+    if (accept(Lexer.UNION)) {
+      select.unionAll = accept(Lexer.ALL);
+      expect(Lexer.SELECT);
+      select.union = (Select) parseSelect();
+    }
+    return select;
+  }
+
+  /*
+  Function: parseTableReference
+  Purpose: The purpose of parseTableReference() is to parse a table name followed by an optional alias. The alias may
+  be introduced by AS.
+  - Parameters:
+  - Return Type: TableReference
+   */
+  private TableReference parseTableReference() throws Exception {
+    String table = identifier();
+    String alias = null;
+    if (accept(Lexer.AS)) {
+      alias = identifier();
+    } else if (lexer.type() == Lexer.IDENTIFIER) {
+      alias = lexer.text();
+      lexer.next();
+    }
+    return new TableReference(table, alias);
+  }
+
+  /*
+  Function: parseColumnDefinition
+  Purpose: The purpose of parseColumnDefinition() is to parse a column label followed by its type. Types are stored
+  in lowercase and a length, as used by char and varchar, is written back in the "type(length)" form used by table
+  schemas.
+  - Parameters:
+  - Return Type: ColumnDefinition
+   */
+  private ColumnDefinition parseColumnDefinition() throws Exception {
+    String label = identifier();
+    String type = identifier().toLowerCase();
+    if (acceptSymbol('(')) {
+      if (lexer.type() != Lexer.NUMBER) {
+        throw error("length");
+      }
+      type = "%s(%s)".formatted(type, lexer.text());
+      lexer.next();
+      expectSymbol(')');
+    }
+    return new ColumnDefinition(label, type);
+  }
+
+  /*
+  Function: parseCondition
+  Purpose: The purpose of parseCondition() is to parse a comparison of two expressions joined by one of the
+  comparison operators.
+  - Parameters:
+  - Return Type: Condition
+   */
+  private Condition parseCondition() throws Exception {
+    return parseComparison(parseExpression());
+  }
+
+  /*
+  Function: parseModifyCondition
+  Purpose: The purpose of parseModifyCondition() is to parse the WHERE condition of an UPDATE or DELETE statement,
+  which rewrites the table through the Database Abstraction layer and so only supports the given operators.
+  - Parameters:
+  1. operators: String...
+  - Return Type: Condition
+   */
+  private Condition parseModifyCondition(String... operators) throws Exception {
+    Expression left = parseExpression();
+    if (lexer.type() != Lexer.SYMBOL || !Arrays.asList(operators).contains(lexer.text())) {
+      throw error(String.join(" or ", operators));
+    }
+    return parseComparison(left);
+  }
+
+  private Condition parseComparison(Expression left) throws Exception {
+    if (lexer.type() != Lexer.SYMBOL) {
+      throw error("comparison operator");
+    }
+    String operator = lexer.text();
+    switch (operator) {
+      case "=":
+      case "!=":
+      case "<>":
+      case "<":
+      case ">":
+      case "<=":
+      case ">=":
+        break;
+      default:
+        throw error("comparison operator");
+    }
+    lexer.next();
+    return new Condition(left, operator, parseExpression());
+  }
+
+  /*
+  Function: parseWhereCondition
+  Purpose: The purpose of parseWhereCondition() is to parse the WHERE condition of a SELECT statement. Besides a
+  comparison, the condition may test a subquery with [NOT] EXISTS (SELECT ...) or column [NOT] IN (SELECT ...).
+  - Parameters:
+  - Return Type: Condition
+   */
+  private Condition parseWhereCondition() throws Exception {
+    boolean negated = accept(Lexer.NOT);
+    if (accept(Lexer.EXISTS)) {
+      return new SubqueryCondition(null, negated, parseSubquery());
+    }
+    if (negated) {
+      throw error("EXISTS");
+    }
+    Expression left = parseExpression();
+    negated = accept(Lexer.NOT);
+    if (accept(Lexer.IN)) {
+      return new SubqueryCondition(left, negated, parseSubquery());
+    }
+    if (negated) {
+      throw error("IN");
+    }
+    return parseComparison(left);
+  }
+
+  private Select parseSubquery() throws Exception {
+    expectSymbol('(');
+    expect(Lexer.SELECT);
+    Select subquery = (Select) parseSelect();
+    expectSymbol(')');
+    return subquery;
+  }
+
+  /*
+  Function: parseExpression
+  Purpose: The purpose of parseExpression() is to parse a value being a quoted literal, a number with an optional sign,
+  a "?" placeholder or a column reference.
+  - Parameters:
+  - Return Type: Expression
+   */
+  private Expression parseExpression() throws Exception {
+    switch (lexer.type()) {
+      case Lexer.STRING:
+      case Lexer.NUMBER: {
+        Literal literal = new Literal(lexer.text());
+        lexer.next();
+        return literal;
+      }
+      case Lexer.SYMBOL: {
+        if (acceptSymbol('?')) {
+          return new Parameter(parameterCount++);
+        }
+        if (acceptSymbol('-')) {
+          if (lexer.type() != Lexer.NUMBER) {
+            throw error("number");
+          }
+          Literal literal = new Literal("-" + lexer.text());
+          lexer.next();
+          return literal;
+        }
+        throw error("value");
+      }
+      default:
+        return parseColumnReference();
+    }
+  }
+
+  private ColumnReference parseColumnReference() throws Exception {
+    String name = identifier();
+    if (acceptSymbol('.')) {
+      return new ColumnReference(name, identifier());
+    }
+    return new ColumnReference(null, name);
+  }
+
+  /*
+  Function: identifier
+  Purpose: The purpose of identifier() is to read the name of a database, table or column. Keywords are accepted as
+  names as long as they are not ambiguous where they appear and keep the case they were written in.
+  - Parameters:
+  - Return Type: String
+   */
+  private String identifier() throws Exception {
+    if (lexer.type() != Lexer.IDENTIFIER && lexer.type() != Lexer.KEYWORD) {
+      throw error("name");
+    }
+    String name = lexer.rawText();
+    lexer.next();
+    return name;
+  }
+
+  private void expect(String keyword) throws Exception {
+    if (!accept(keyword)) {
+      throw error(keyword);
+    }
+  }
+
+  private void expectSymbol(char symbol) throws Exception {
+    if (!acceptSymbol(symbol)) {
+      throw error("\"" + symbol + "\"");
+    }
+  }
+
+  private boolean accept(String keyword) throws Exception {
+    if (lexer.is(keyword)) {
+      lexer.next();
+      return true;
+    }
+    return false;
+  }
+
+  private boolean acceptSymbol(char symbol) throws Exception {
+    if (lexer.isSymbol(symbol)) {
+      lexer.next();
+      return true;
+    }
+    return false;
+  }
+
+  private Exception error(String expected) {
+    return new Exception("USER EXCEPTION - parse: expected " + expected + " but found " + lexer.describe() + ".");
+  }
+}
@@ -0,0 +1,223 @@
+package com.company;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Partitioning
+    Purpose: The purpose of Partitioning is to describe how the rows of a partitioned table are spread over its
+    partitions and to decide which partitions a row belongs to or a comparison may match. A partitioned table keeps
+    its schema in its own table file, which holds no rows, and its partitioning in a file of the same name ending in
+    ".partitions.txt", while its rows are stored in one table file per partition named after the table followed by
+    ".p" and the number of the partition. Every partition is an ordinary table to the rest of the Database Abstraction
+    layer, so each is read, rewritten, locked and committed on its own. RANGE partitioning orders the partitions by
+    the numeric value of the partition column, partition i holding the values from bounds[i - 1] up to but excluding
+    bounds[i], with the first and last partitions unbounded below and above. HASH partitioning places a row by the
+    hash of its value, hashing numbers by their numeric value so the values Predicate considers equal always share a
+    partition. Partitionings are read once and kept until their file changes.
+    - Variables:
+    1. cache: ConcurrentHashMap<String, Partitioning>
+       Purpose: The variable cache stores the partitionings read by the path of their file.
+    2. method: String
+       Purpose: The variable method is the partitioning method being "range" or "hash".
+    3. column: String
+       Purpose: The variable column is the label of the partition column.
+    4. columnIndex: int
+       Purpose: The variable columnIndex is the position of the partition column within the schema of the table.
+    5. count: int
+       Purpose: The variable count is the number of partitions.
+    6. bounds: String[]
+       Purpose: The variable bounds stores the lower bound of every RANGE partition after the first, in ascending order.
+    7. modified: long
+       Purpose: The variable modified is the time the file of the partitioning was last changed when it was read.
+    - Functions:
+    1. of(databasePath: String, table: String): Partitioning
+    2. write(databasePath: String, table: String): void
+    3. partition(table: String, index: int): String
+    4. partitionOf(value: String): int
+    5. prune(operator: String, value: String): boolean[]
+    6. describe(live: boolean[]): String
+*/
+public class Partitioning {
+
+  static final String suffix = ".partitions.txt";
+  static final int maxPartitions = 1024;
+
+  private static final ConcurrentHashMap<String, Partitioning> cache = new ConcurrentHashMap<>();
+
+  final String method;
+  final String column;
+  final int columnIndex;
+  final int count;
+  final String[] bounds;
+  private long modified = 0;
+
+  Partitioning(String method, String column, int columnIndex, int count, String[] bounds) {
+    this.method = method;
+    this.column = column;
+    this.columnIndex = columnIndex;
+    this.count = count;
+    this.bounds = bounds;
+  }
+
+  /*
+  Function: of
+  Purpose: The purpose of of() is to return the partitioning of a table, or null when the table is not partitioned.
+  The file of the partitioning is only read again once it has changed.
+  - Parameters:
+  1. databasePath: String
+  2. table: String
+  - Return Type: Partitioning
+   */
+  static Partitioning of(String databasePath, String table) throws IOException {
+    File location = new File(databasePath + table.toLowerCase() + suffix);
+    long modified = location.lastModified();
+    if (modified == 0) {
+      return null;
+    }
+    Partitioning cached = cache.get(location.getPath());
+    if (cached != null && cached.modified == modified) {
+      return cached;
+    }
+    try (BufferedReader reader = new BufferedReader(new FileReader(location))) {
+      String[] fields = reader.readLine().split("\t");
+      Partitioning partitioning = new Partitioning(fields[0], fields[1], Integer.parseInt(fields[2]),
+          Integer.parseInt(fields[3]), Arrays.copyOfRange(fields, 4, fields.length));
+      partitioning.modified = modified;
+      cache.put(location.getPath(), partitioning);
+      return partitioning;
+    }
+  }
+
+  /*
+  Function: write
+  Purpose: The purpose of write() is to store the partitioning of a table as a single line of tab separated fields
+  being the method, the partition column, its position, the number of partitions and the bounds, and to cache it.
+  - Parameters:
+  1. databasePath: String
+  2. table: String
+  - Return Type: void
+   */
+  void write(String databasePath, String table) throws IOException {
+    File location = new File(databasePath + table.toLowerCase() + suffix);
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(location))) {
+      writer.write(method + "\t" + column + "\t" + columnIndex + "\t" + count);
+      for (String bound : bounds) {
+        writer.write("\t" + bound);
+      }
+    }
+    // NOTE: Cached right away so a table dropped and created again within the same millisecond is not mistaken for
+    // the table it replaced.
+    modified = location.lastModified();
+    cache.put(location.getPath(), this);
+  }
+
+  static String partition(String table, int index) {
+    return table.toLowerCase() + ".p" + index;
+  }
+
+  /*
+  Function: partitionOf
+  Purpose: The purpose of partitionOf() is to return the partition a value of the partition column belongs to.
+  - Parameters:
+  1. value: String
+  - Return Type: int
+   */
+  int partitionOf(String value) {
+    if (value == null) {
+      return 0;
+    }
+    if (method.equals("hash")) {
+      int hash = Predicate.isNumber(value) ? Double.hashCode(Double.parseDouble(value) + 0.0) : value.hashCode();
+      hash *= 0x9E3779B9;
+      return Math.floorMod(hash ^ (hash >>> 16), count);
+    }
+    int low = 0;
+    int high = bounds.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (Predicate.compare(value, bounds[middle]) >= 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /*
+  Function: prune
+  Purpose: The purpose of prune() is to find the partitions that may hold a row satisfying a comparison of the
+  partition column with a constant. An equality matches the single partition of the constant. For RANGE, the other
+  orderings match the partitions whose range reaches past the constant on the compared side; since only numbers are
+  ordered the same way as the ranges, a constant that is not a number matches every partition. Every other
+  comparison matches every partition.
+  - Parameters:
+  1. operator: String
+  2. value: String
+  - Return Type: boolean[]
+   */
+  boolean[] prune(String operator, String value) {
+    boolean[] live = new boolean[count];
+    if (method.equals("range") && !Predicate.isNumber(value)) {
+      Arrays.fill(live, true);
+      return live;
+    }
+    switch (operator) {
+      case "=":
+        live[partitionOf(value)] = true;
+        return live;
+      case "<":
+      case "<=":
+        if (method.equals("range")) {
+          for (int partition = 0; partition < count; partition++) {
+            int comparison = partition == 0 ? -1 : Predicate.compare(bounds[partition - 1], value);
+            live[partition] = operator.equals("<") ? comparison < 0 : comparison <= 0;
+          }
+          return live;
+        }
+        break;
+      case ">":
+      case ">=":
+        if (method.equals("range")) {
+          for (int partition = 0; partition < count; partition++) {
+            live[partition] = partition == count - 1 || Predicate.compare(bounds[partition], value) > 0;
+          }
+          return live;
+        }
+        break;
+      default:
+        break;
+    }
+    Arrays.fill(live, true);
+    return live;
+  }
+
+  /*
+  Function: describe
+  Purpose: The purpose of describe() is to describe the partitions left after pruning, as shown by EXPLAIN.
+  - Parameters:
+  1. live: boolean[]
+  - Return Type: String
+   */
+  String describe(boolean[] live) {
+    StringBuilder partitions = new StringBuilder();
+    int scanned = 0;
+    for (int partition = 0; partition < count; partition++) {
+      if (live[partition]) {
+        partitions.append(scanned++ == 0 ? "" : ", ").append("p").append(partition);
+      }
+    }
+    return method + " on " + column + ", " + scanned + " of " + count + " partitions"
+        + (scanned == 0 ? "" : ": " + partitions);
+  }
+}
@@ -0,0 +1,1198 @@
+package com.company;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: PlanNode
+    Purpose: The purpose of PlanNode is to be the base of every operator within a query plan. A query plan is a tree of
+    operators where each operator pulls rows from its children one at a time through open(), next() and close(). Rows
+    are arrays of column values and the heading of an operator describes its columns in the same "label type" form used
+    by table schemas. Every operator carries the number of rows the planner estimated it to produce and, when the plan
+    is analyzed, records the rows it actually produced, the time spent within it and its children, the bytes it read
+    and the peak memory it held. The operators used by the planner are defined as nested classes.
+    - Variables:
+    1. children: PlanNode[]
+       Purpose: The variable children stores the operators the operator reads its rows from.
+    2. estimatedRows: long
+       Purpose: The variable estimatedRows is the number of rows the planner expects the operator to produce.
+    3. analyze: boolean
+       Purpose: The variable analyze enables the timing of the operator when the plan is run by EXPLAIN ANALYZE.
+    4. actualRows: long
+       Purpose: The variable actualRows counts the rows produced by the operator.
+    5. nanoseconds: long
+       Purpose: The variable nanoseconds is the wall time spent within the operator and its children.
+    6. bytesRead: long
+       Purpose: The variable bytesRead counts the bytes read from table files by the operator.
+    7. memory: long
+       Purpose: The variable memory is the estimated number of bytes currently held by the operator.
+    8. peakMemory: long
+       Purpose: The variable peakMemory is the highest value memory has reached.
+    9. ioWait: long
+       Purpose: The variable ioWait is the time in nanoseconds the operator waited for table files to be read, or -1
+       when the operator does not measure it.
+    - Functions:
+    1. heading(): String[]
+    2. open(): void
+    3. next(): String[]
+    4. close(): void
+    5. describe(): String
+    6. setAnalyze(analyze: boolean): void
+    7. explain(lines: ArrayList<String>, depth: int): void
+    8. analysis(): String
+    9. reserve(bytes: long): void
+    10. release(bytes: long): void
+    11. rowBytes(row: String[]): long
+    12. columnIndex(heading: String[], column: String): int
+    13. hashKey(value: String): String
+*/
+public abstract class PlanNode {
+
+  protected final PlanNode[] children;
+  protected long estimatedRows = 0;
+  private boolean analyze = false;
+  private long actualRows = 0;
+  private long nanoseconds = 0;
+  protected long bytesRead = 0;
+  private long memory = 0;
+  private long peakMemory = 0;
+  protected long ioWait = -1;
+
+  protected PlanNode(PlanNode... children) {
+    this.children = children;
+  }
+
+  public abstract String[] heading();
+
+  public abstract String describe();
+
+  protected abstract void openRows() throws Exception;
+
+  protected abstract String[] nextRow() throws Exception;
+
+  protected abstract void closeRows() throws Exception;
+
+  /*
+  Function: open
+  Purpose: The purpose of open() is to prepare the operator to produce rows. Operators open their own children.
+  - Parameters:
+  - Return Type: void
+   */
+  public final void open() throws Exception {
+    long start = analyze ? System.nanoTime() : 0;
+    openRows();
+    if (analyze) {
+      nanoseconds += System.nanoTime() - start;
+    }
+  }
+
+  /*
+  Function: next
+  Purpose: The purpose of next() is to produce the next row of the operator. The function returns null once every row
+  has been produced.
+  - Parameters:
+  - Return Type: String[]
+   */
+  public final String[] next() throws Exception {
+    if (!analyze) {
+      return nextRow();
+    }
+    long start = System.nanoTime();
+    String[] row = nextRow();
+    nanoseconds += System.nanoTime() - start;
+    if (row != null) {
+      actualRows++;
+    }
+    return row;
+  }
+
+  /*
+  Function: close
+  Purpose: The purpose of close() is to release the files and memory held by the operator and its children.
+  - Parameters:
+  - Return Type: void
+   */
+  public final void close() throws Exception {
+    long start = analyze ? System.nanoTime() : 0;
+    closeRows();
+    if (analyze) {
+      nanoseconds += System.nanoTime() - start;
+    }
+  }
+
+  /*
+  Function: setAnalyze
+  Purpose: The purpose of setAnalyze() is to enable or disable the timing of the operator and all of its children.
+  - Parameters:
+  1. analyze: boolean
+  - Return Type: void
+   */
+  public void setAnalyze(boolean analyze) {
+    this.analyze = analyze;
+    for (PlanNode child : children) {
+      child.setAnalyze(analyze);
+    }
+  }
+
+  /*
+  Function: explain
+  Purpose: The purpose of explain() is to describe the operator and its children as lines of text, one operator per
+  line indented by its depth in the plan. Each line shows the estimated rows and, for an analyzed plan, the actual
+  rows, the wall time, the bytes read and the peak memory of the operator, followed by the I/O wait for operators
+  measuring it, as given by analysis().
+  - Parameters:
+  1. lines: ArrayList<String>
+  2. depth: int
+  - Return Type: void
+   */
+  public void explain(ArrayList<String> lines, int depth) {
+    StringBuilder line = new StringBuilder();
+    for (int indent = 1; indent < depth; indent++) {
+      line.append("      ");
+    }
+    if (depth > 0) {
+      line.append("  ->  ");
+    }
+    line.append(describe());
+    line.append("  (estimated rows=").append(estimatedRows).append(")");
+    if (analyze) {
+      line.append(analysis());
+    }
+    lines.add(line.toString());
+    for (PlanNode child : children) {
+      child.explain(lines, depth + 1);
+    }
+  }
+
+  protected String analysis() {
+    String analysis = String.format(" (actual rows=%d time=%.3f ms bytes read=%d peak memory=%d bytes)", actualRows,
+        nanoseconds / 1e6, bytesRead, peakMemory);
+    if (ioWait >= 0) {
+      analysis += String.format(" (io wait=%.3f ms)", ioWait / 1e6);
+    }
+    return analysis;
+  }
+
+  protected void reserve(long bytes) {
+    memory += bytes;
+    peakMemory = Math.max(peakMemory, memory);
+  }
+
+  protected void release(long bytes) {
+    memory -= bytes;
+  }
+
+  /*
+  Function: rowBytes
+  Purpose: The purpose of rowBytes() is to estimate the number of bytes a row occupies on the heap. The estimate is
+  used to track the memory held by operators that buffer rows.
+  - Parameters:
+  1. row: String[]
+  - Return Type: long
+   */
+  protected static long rowBytes(String[] row) {
+    long bytes = 16 + 4L * row.length;
+    for (String value : row) {
+      if (value != null) {
+        bytes += 40 + value.length();
+      }
+    }
+    return bytes;
+  }
+
+  /*
+  Function: columnIndex
+  Purpose: The purpose of columnIndex() is to find the position of a column within a heading by its label. If the
+  column does not exist, an exception is thrown.
+  - Parameters:
+  1. heading: String[]
+  2. column: String
+  - Return Type: int
+   */
+  static int columnIndex(String[] heading, String column) throws Exception {
+    for (int headingIndex = 0; headingIndex < heading.length; headingIndex++) {
+      if (heading[headingIndex].split(" ")[0].equals(column)) {
+        return headingIndex;
+      }
+    }
+    throw new Exception("USER EXCEPTION - columnIndex: column " + column + " does not exist.");
+  }
+
+  /*
+  Function: hashKey
+  Purpose: The purpose of hashKey() is to give the key a join value is hashed by. Numbers are written in a canonical
+  form, so 2 and 2.0 find each other the same way a Filter comparing them with = finds them equal, while other
+  values are kept as written.
+  - Parameters:
+  1. value: String
+  - Return Type: String
+   */
+  static String hashKey(String value) {
+    if (!Predicate.isNumber(value)) {
+      return value;
+    }
+    return new BigDecimal(value).stripTrailingZeros().toPlainString();
+  }
+
+  /*
+      Class: TableScan
+      Purpose: The purpose of TableScan is to read every row of a table file in order through the Database Abstraction
+      layer. Rows shorter than the schema, which happens when trailing values are empty, are padded with empty values.
+      When the table is read ahead of the scan, the time the scan waited for the file is kept as its I/O wait. The rows
+      of a memory table are taken from its slots as values rather than read as lines.
+  */
+  public static class TableScan extends PlanNode {
+    private static final int bufferSize = 8192;
+
+    private final DatabaseAbstraction databaseAbstraction;
+    private final String table;
+    private final String alias;
+    private final String[] heading;
+    private BufferedReader reader = null;
+    private MemoryTable.RowReader memoryRows = null;
+
+    TableScan(DatabaseAbstraction databaseAbstraction, String table, String alias) throws Exception {
+      this.databaseAbstraction = databaseAbstraction;
+      this.table = table;
+      this.alias = alias;
+      String[] headings = databaseAbstraction.getHeadings(table);
+      heading = headings == null ? new String[0] : headings;
+      estimatedRows = estimateRows(databaseAbstraction.tableSize(table));
+    }
+
+    /*
+    Function: estimateRows
+    Purpose: The purpose of estimateRows() is to estimate the number of rows of the table from the size of its file
+    and the expected width of a row derived from the column types of the schema.
+    - Parameters:
+    1. size: long
+    - Return Type: long
+     */
+    private long estimateRows(long size) {
+      long width = 2;
+      for (String column : heading) {
+        String type = column.split(" ").length > 1 ? column.split(" ")[1] : "";
+        if (type.contains("char")) {
+          String length = type.replaceAll("[^0-9]", "");
+          width += length.isEmpty() ? 8 : Math.max(1, Integer.parseInt(length) / 2);
+        } else {
+          width += 5;
+        }
+        width++;
+      }
+      long headerSize = 0;
+      for (String column : heading) {
+        headerSize += column.length() + 1;
+      }
+      return Math.max(0, (size - headerSize) / width);
+    }
+
+    @Override
+    public String[] heading() {
+      return heading;
+    }
+
+    @Override
+    public String describe() {
+      return "Seq Scan on " + table.toLowerCase() + (alias == null ? "" : " " + alias);
+    }
+
+    @Override
+    protected void openRows() throws Exception {
+      reader = databaseAbstraction.openTable(table);
+      memoryRows = reader instanceof MemoryTable.RowReader ? (MemoryTable.RowReader) reader : null;
+      reserve(bufferSize * 2);
+      String schema = reader.readLine();
+      if (schema != null) {
+        bytesRead += schema.length() + 1;
+      }
+    }
+
+    @Override
+    protected String[] nextRow() throws Exception {
+      if (memoryRows != null) {
+        String[] values = memoryRows.nextRow();
+        bytesRead += values == null ? 0 : memoryRows.rowWidth();
+        return values;
+      }
+      String line = reader.readLine();
+      while (line != null && line.isEmpty()) {
+        bytesRead++;
+        line = reader.readLine();
+      }
+      if (line == null) {
+        return null;
+      }
+      bytesRead += line.length() + 1;
+      String[] values = line.split("\t");
+      if (values.length < heading.length) {
+        String[] padded = new String[heading.length];
+        for (int columnIndex = 0; columnIndex < padded.length; columnIndex++) {
+          padded[columnIndex] = columnIndex < values.length ? values[columnIndex] : "";
+        }
+        values = padded;
+      }
+      return values;
+    }
+
+    @Override
+    protected void closeRows() throws Exception {
+      if (reader != null) {
+        if (reader instanceof DatabaseAbstraction.TableReader
+            && ((DatabaseAbstraction.TableReader) reader).isPrefetching()) {
+          ioWait = Math.max(ioWait, 0) + ((DatabaseAbstraction.TableReader) reader).getWaitNanoseconds();
+        }
+        reader.close();
+        reader = null;
+        memoryRows = null;
+        release(bufferSize * 2);
+      }
+    }
+  }
+
+  /*
+      Class: PartitionScan
+      Purpose: The purpose of PartitionScan is to read every row of a partitioned table by reading its partitions one
+      after the other, each through a TableScan of its own. Partitions the planner has found cannot hold a row
+      satisfying the WHERE condition are pruned and never opened. The bytes read and I/O wait of the partitions are
+      added to those of the scan as each partition is closed.
+  */
+  public static class PartitionScan extends PlanNode {
+    private final String table;
+    private final String alias;
+    private final String[] heading;
+    private final Partitioning partitioning;
+    private final TableScan[] partitions;
+    private final boolean[] live;
+    private int current = -1;
+    private boolean reading = false;
+
+    PartitionScan(DatabaseAbstraction databaseAbstraction, String table, String alias, Partitioning partitioning)
+        throws Exception {
+      this.table = table;
+      this.alias = alias;
+      this.partitioning = partitioning;
+      String[] headings = databaseAbstraction.getHeadings(table);
+      heading = headings == null ? new String[0] : headings;
+      partitions = new TableScan[partitioning.count];
+      live = new boolean[partitioning.count];
+      for (int partition = 0; partition < partitions.length; partition++) {
+        partitions[partition] = new TableScan(databaseAbstraction, Partitioning.partition(table, partition), alias);
+        live[partition] = true;
+        estimatedRows += partitions[partition].estimatedRows;
+      }
+    }
+
+    /*
+    Function: prune
+    Purpose: The purpose of prune() is to leave out the partitions that cannot hold a row satisfying the comparison of
+    a column of the table with a constant. Only comparisons of the partition column prune any partition.
+    - Parameters:
+    1. column: int
+    2. operator: String
+    3. value: String
+    - Return Type: void
+     */
+    void prune(int column, String operator, String value) {
+      if (column != partitioning.columnIndex) {
+        return;
+      }
+      boolean[] matching = partitioning.prune(operator, value);
+      estimatedRows = 0;
+      for (int partition = 0; partition < partitions.length; partition++) {
+        live[partition] = live[partition] && matching[partition];
+        estimatedRows += live[partition] ? partitions[partition].estimatedRows : 0;
+      }
+    }
+
+    @Override
+    public String[] heading() {
+      return heading;
+    }
+
+    @Override
+    public String describe() {
+      return "Seq Scan on " + table.toLowerCase() + (alias == null ? "" : " " + alias) + " ("
+          + partitioning.describe(live) + ")";
+    }
+
+    @Override
+    protected void openRows() throws Exception {
+      current = -1;
+      reading = false;
+    }
+
+    @Override
+    protected String[] nextRow() throws Exception {
+      while (true) {
+        if (reading) {
+          String[] row = partitions[current].next();
+          if (row != null) {
+            return row;
+          }
+          closePartition();
+        }
+        do {
+          current++;
+        } while (current < partitions.length && !live[current]);
+        if (current >= partitions.length) {
+          return null;
+        }
+        partitions[current].open();
+        reserve(TableScan.bufferSize * 2);
+        reading = true;
+      }
+    }
+
+    @Override
+    protected void closeRows() throws Exception {
+      if (reading) {
+        closePartition();
+      }
+    }
+
+    private void closePartition() throws Exception {
+      TableScan partition = partitions[current];
+      reading = false;
+      partition.close();
+      release(TableScan.bufferSize * 2);
+      bytesRead += partition.bytesRead;
+      partition.bytesRead = 0;
+      if (partition.ioWait >= 0) {
+        ioWait = Math.max(ioWait, 0) + partition.ioWait;
+        partition.ioWait = -1;
+      }
+    }
+  }
+
+  /*
+      Class: Filter
+      Purpose: The purpose of Filter is to pass on only the rows of its child that satisfy a predicate.
+  */
+  public static class Filter extends PlanNode {
+    private final Predicate predicate;
+
+    Filter(PlanNode child, Predicate predicate) {
+      super(child);
+      this.predicate = predicate;
+      estimatedRows = Math.max(child.estimatedRows > 0 ? 1 : 0,
+          Math.round(child.estimatedRows * predicate.selectivity()));
+    }
+
+    @Override
+    public String[] heading() {
+      return children[0].heading();
+    }
+
+    @Override
+    public String describe() {
+      return "Filter " + predicate;
+    }
+
+    @Override
+    protected void openRows() throws Exception {
+      children[0].open();
+    }
+
+    @Override
+    protected String[] nextRow() throws Exception {
+      String[] row = children[0].next();
+      while (row != null && !predicate.test(row)) {
+        row = children[0].next();
+      }
+      return row;
+    }
+
+    @Override
+    protected void closeRows() throws Exception {
+      children[0].close();
+    }
+  }
+
+  /*
+      Class: Project
+      Purpose: The purpose of Project is to keep only the selected columns of the rows of its child in the order they
+      were selected.
+  */
+  public static class Project extends PlanNode {
+    private final int[] columns;
+    private final String[] heading;
+
+    Project(PlanNode child, int[] columns) {
+      super(child);
+      this.columns = columns;
+      heading = new String[columns.length];
+      for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+        heading[columnIndex] = child.heading()[columns[columnIndex]];
+      }
+      estimatedRows = child.estimatedRows;
+    }
+
+    @Override
+    public String[] heading() {
+      return heading;
+    }
+
+    @Override
+    public String describe() {
+      StringBuilder description = new StringBuilder("Project");
+      for (int columnIndex = 0; columnIndex < heading.length; columnIndex++) {
+        description.append(columnIndex == 0 ? " " : ", ").append(heading[columnIndex].split(" ")[0]);
+      }
+      return description.toString();
+    }
+
+    @Override
+    protected void openRows() throws Exception {
+      children[0].open();
+    }
+
+    @Override
+    protected String[] nextRow() throws Exception {
+      String[] row = children[0].next();
+      if (row == null) {
+        return null;
+      }
+      String[] projected = new String[columns.length];
+      for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+        projected[columnIndex] = row[columns[columnIndex]];
+      }
+      return projected;
+    }
+
+    @Override
+    protected void closeRows() throws Exception {
+      children[0].close();
+    }
+  }
+
+  /*
+      Class: HashJoin
+      Purpose: The purpose of HashJoin is to join two inputs on the equality of one column from each side. The right
+      input is read once into a hash table keyed by its join column and every row of the left input probes the hash
+      table, so each input is read once. Keys are given by hashKey() so numbers match as they do in a Filter. Matches
+      of a left row are produced in the order of the right input. For a left outer join a left row without a match is
+      produced once padded with empty values.
+  */
+  public static class HashJoin extends PlanNode {
+    private final int leftKey;
+    private final int rightKey;
+    private final boolean outer;
+    private final String condition;
+    private final String[] heading;
+    private HashMap<String, ArrayList<String[]>> table = null;
+    private long tableBytes = 0;
+    private String[] leftRow = null;
+    private ArrayList<String[]> matches = null;
+    private int matchIndex = 0;
+
+    HashJoin(PlanNode left, PlanNode right, int leftKey, int rightKey, boolean outer, String condition) {
+      super(left, right);
+      this.leftKey = leftKey;
+      this.rightKey = rightKey;
+      this.outer = outer;
+      this.condition = condition;
+      String[] leftHeading = left.heading();
+      String[] rightHeading = right.heading();
+      heading = new String[leftHeading.length + rightHeading.length];
+      System.arraycopy(leftHeading, 0, heading, 0, leftHeading.length);
+      System.arraycopy(rightHeading, 0, heading, leftHeading.length, rightHeading.length);
+      estimatedRows = Math.max(left.estimatedRows, right.estimatedRows);
+    }
+
+    @Override
+    public String[] heading() {
+      return heading;
+    }
+
+    @Override
+    public String describe() {
+      return "Hash Join (" + (outer ? "left outer" : "inner") + ") on " + condition;
+    }
+
+    @Override
+    protected void openRows() throws Exception {
+      table = new HashMap<>();
+      PlanNode right = children[1];
+      right.open();
+      for (String[] row = right.next(); row != null; row = right.next()) {
+        table.computeIfAbsent(hashKey(row[rightKey]), key -> new ArrayList<>()).add(row);
+        long bytes = rowBytes(row) + 8;
+        tableBytes += bytes;
+        reserve(bytes);
+      }
+      right.close();
+      children[0].open();
+    }
+
+    @Override
+    protected String[] nextRow() throws Exception {
+      while (true) {
+        if (matches != null && matchIndex < matches.size()) {
+          return combine(leftRow, matches.get(matchIndex++));
+        }
+        leftRow = children[0].next();
+        if (leftRow == null) {
+          return null;
+        }
+        matches = table.get(hashKey(leftRow[leftKey]));
+        matchIndex = 0;
+        if (matches == null && outer) {
+          return combine(leftRow, null);
+        }
+      }
+    }
+
+    private String[] combine(String[] left, String[] right) {
+      String[] row = new String[heading.length];
+      for (int columnIndex = 0; columnIndex < row.length; columnIndex++) {
+        if (columnIndex < left.length) {
+          row[columnIndex] = left[columnIndex];
+        } else if (right != null) {
+          row[columnIndex] = right[columnIndex - left.length];
+        } else {
+          row[columnIndex] = "";
+        }
+      }
+      return row;
+    }
+
+    @Override
+    protected void closeRows() throws Exception {
+      children[0].close();
+      table = null;
+      release(tableBytes);
+      tableBytes = 0;
+    }
+  }
+
+  /*
+      Class: NestedLoopJoin
+      Purpose: The purpose of NestedLoopJoin is to join two inputs on any predicate, or on no predicate at all, by
+      comparing every row of the left input with every row of the right input. The right input is read once into
+      memory. It is only chosen when the join condition is not an equality between two columns. For a left outer join
+      a left row without a match is produced once padded with empty values.
+  */
+  public static class NestedLoopJoin extends PlanNode {
+    private final Predicate predicate;
+    private final boolean outer;
+    private final String[] heading;
+    private ArrayList<String[]> rightRows = null;
+    private long rightBytes = 0;
+    private String[] leftRow = null;
+    private boolean matched = false;
+    private int rightIndex = 0;
+
+    NestedLoopJoin(PlanNode left, PlanNode right, Predicate predicate, boolean outer) {
+      super(left, right);
+      this.predicate = predicate;
+      this.outer = outer;
+      String[] leftHeading = left.heading();
+      String[] rightHeading = right.heading();
+      heading = new String[leftHeading.length + rightHeading.length];
+      System.arraycopy(leftHeading, 0, heading, 0, leftHeading.length);
+      System.arraycopy(rightHeading, 0, heading, leftHeading.length, rightHeading.length);
+      estimatedRows = predicate == null ? left.estimatedRows * right.estimatedRows
+          : Math.max(left.estimatedRows > 0 && right.estimatedRows > 0 ? 1 : 0,
+              Math.round(left.estimatedRows * right.estimatedRows * predicate.selectivity()));
+    }
+
+    @Override
+    public String[] heading() {
+      return heading;
+    }
+
+    @Override
+    public String describe() {
+      return "Nested Loop Join (" + (outer ? "left outer" : "inner") + ")"
+          + (predicate == null ? "" : " on " + predicate);
+    }
+
+    @Override
+    protected void openRows() throws Exception {
+      rightRows = new ArrayList<>();
+      PlanNode right = children[1];
+      right.open();
+      for (String[] row = right.next(); row != null; row = right.next()) {
+        rightRows.add(row);
+        long bytes = rowBytes(row);
+        rightBytes += bytes;
+        reserve(bytes);
+      }
+      right.close();
+      children[0].open();
+    }
+
+    @Override
+    protected String[] nextRow() throws Exception {
+      while (true) {
+        if (leftRow != null) {
+          while (rightIndex < rightRows.size()) {
+            String[] row = combine(leftRow, rightRows.get(rightIndex++));
+            if (predicate == null || predicate.test(row)) {
+              matched = true;
+              return row;
+            }
+          }
+          if (!matched && outer) {
+            matched = true;
+            return combine(leftRow, null);
+          }
+        }
+        leftRow = children[0].next();
+        if (leftRow == null) {
+          return null;
+        }
+        matched = false;
+        rightIndex = 0;
+      }
+    }
+
+    private String[] combine(String[] left, String[] right) {
+      String[] row = new String[heading.length];
+      for (int columnIndex = 0; columnIndex < row.length; columnIndex++) {
+        if (columnIndex < left.length) {
+          row[columnIndex] = left[columnIndex];
+        } else if (right != null) {
+          row[columnIndex] = right[columnIndex - left.length];
+        } else {
+          row[columnIndex] = "";
+        }
+      }
+      return row;
+    }
+
+    @Override
+    protected void closeRows() throws Exception {
+      children[0].close();
+      rightRows = null;
+      release(rightBytes);
+      rightBytes = 0;
+    }
+  }
+
+  /*
+      Class: HashSemiJoin
+      Purpose: The purpose of HashSemiJoin is to filter the rows of the left input by the existence of a matching row
+      in the right input, as written with IN and EXISTS subqueries. Only the join keys of the right input are kept in a
+      hash set, so each left row costs a single lookup that stops at its first match and is produced at most once no
+      matter how many right rows match it. An anti join produces the left rows without a match instead, as written with
+      NOT IN and NOT EXISTS. A key of -1 on both sides means the subquery is not correlated and every left row matches
+      as long as the right input has a row. Keys are given by hashKey() so numbers match as they do in a Filter.
+  */
+  public static class HashSemiJoin extends PlanNode {
+    private final int leftKey;
+    private final int rightKey;
+    private final boolean anti;
+    private final String condition;
+    private HashSet<String> keys = null;
+    private long keyBytes = 0;
+
+    HashSemiJoin(PlanNode left, PlanNode right, int leftKey, int rightKey, boolean anti, String condition) {
+      super(left, right);
+      this.leftKey = leftKey;
+      this.rightKey = rightKey;
+      this.anti = anti;
+      this.condition = condition;
+      estimatedRows = Math.max(left.estimatedRows > 0 ? 1 : 0, left.estimatedRows / 2);
+    }
+
+    @Override
+    public String[] heading() {
+      return children[0].heading();
+    }
+
+    @Override
+    public String describe() {
+      return "Hash " + (anti ? "Anti" : "Semi") + " Join on " + condition;
+    }
+
+    @Override
+    protected void openRows() throws Exception {
+      keys = new HashSet<>();
+      PlanNode right = children[1];
+      right.open();
+      for (String[] row = right.next(); row != null; row = right.next()) {
+        String key = rightKey < 0 ? "" : hashKey(row[rightKey]);
+        if (keys.add(key)) {
+          long bytes = 40 + key.length() + 32;
+          keyBytes += bytes;
+          reserve(bytes);
+        }
+        if (rightKey < 0) {
+          break;
+        }
+      }
+      right.close();
+      children[0].open();
+    }
+
+    @Override
+    protected String[] nextRow() throws Exception {
+      for (String[] row = children[0].next(); row != null; row = children[0].next()) {
+        if (keys.contains(leftKey < 0 ? "" : hashKey(row[leftKey])) != anti) {
+          return row;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    protected void closeRows() throws Exception {
+      children[0].close();
+      keys = null;
+      release(keyBytes);
+      keyBytes = 0;
+    }
+  }
+
+  /*
+      Class: Append
+      Purpose: The purpose of Append is to produce every row of its first child followed by every row of its second
+      child, as written with UNION ALL. Rows are streamed straight through so nothing is held in memory.
+  */
+  public static class Append extends PlanNode {
+    private int current = 0;
+
+    Append(PlanNode first, PlanNode second) {
+      super(first, second);
+      estimatedRows = first.estimatedRows + second.estimatedRows;
+    }
+
+    @Override
+    public String[] heading() {
+      return children[0].heading();
+    }
+
+    @Override
+    public String describe() {
+      return "Append";
+    }
+
+    @Override
+    protected void openRows() throws Exception {
+      current = 0;
+      children[0].open();
+    }
+
+    @Override
+    protected String[] nextRow() throws Exception {
+      while (current < children.length) {
+        String[] row = children[current].next();
+        if (row != null) {
+          return row;
+        }
+        children[current].close();
+        current++;
+        if (current < children.length) {
+          children[current].open();
+        }
+      }
+      return null;
+    }
+
+    @Override
+    protected void closeRows() throws Exception {
+      if (current < children.length) {
+        children[current].close();
+        current = children.length;
+      }
+    }
+  }
+
+  /*
+      Class: HashDistinct
+      Purpose: The purpose of HashDistinct is to remove duplicate rows of its child, as written with SELECT DISTINCT and
+      UNION. Each row is encoded into a key from its typed values, so numbers that only differ in how they are written
+      are the same value, and the first row of each key is produced as soon as it is read. Once the keys held in memory
+      exceed the memory budget, rows that have not been seen are no longer produced but spilled to a fixed number of
+      partition files by the hash of their key. Every row spilled is new compared to the rows already produced, so after
+      the child is exhausted the keys in memory are dropped and each partition is deduplicated on its own.
+  */
+  public static class HashDistinct extends PlanNode {
+    private static final int partitionCount = 16;
+
+    private final String description;
+    private final long memoryBudget;
+    private final boolean[] numeric;
+    private HashSet<String> keys = null;
+    private long keyBytes = 0;
+    private File[] partitions = null;
+    private DataOutputStream[] writers = null;
+    private long spilledRows = 0;
+    private int partitionIndex = -1;
+    private DataInputStream reader = null;
+
+    HashDistinct(PlanNode child, String description, long memoryBudget) {
+      super(child);
+      this.description = description;
+      this.memoryBudget = memoryBudget;
+      String[] heading = child.heading();
+      numeric = new boolean[heading.length];
+      for (int columnIndex = 0; columnIndex < heading.length; columnIndex++) {
+        String[] column = heading[columnIndex].split(" ");
+        String type = column.length > 1 ? column[1] : "";
+        numeric[columnIndex] = type.equals("int") || type.equals("float") || type.equals("double");
+      }
+      estimatedRows = child.estimatedRows;
+    }
+
+    @Override
+    public String[] heading() {
+      return children[0].heading();
+    }
+
+    @Override
+    public String describe() {
+      return description + (spilledRows > 0 ? " (spilled rows=" + spilledRows + " partitions="
+          + partitionCount + ")" : "");
+    }
+
+    @Override
+    protected void openRows() throws Exception {
+      keys = new HashSet<>();
+      partitionIndex = -1;
+      spilledRows = 0;
+      children[0].open();
+    }
+
+    @Override
+    protected String[] nextRow() throws Exception {
+      if (partitionIndex < 0) {
+        for (String[] row = children[0].next(); row != null; row = children[0].next()) {
+          String key = encode(row);
+          if (keys.contains(key)) {
+            continue;
+          }
+          if (writers != null) {
+            spill(key, row);
+            continue;
+          }
+          remember(key);
+          if (keyBytes > memoryBudget) {
+            startSpilling();
+          }
+          return row;
+        }
+        children[0].close();
+        partitionIndex = 0;
+        clearKeys();
+        finishSpilling();
+      }
+      while (partitions != null && partitionIndex < partitions.length) {
+        if (reader == null) {
+          reader = new DataInputStream(new BufferedInputStream(new FileInputStream(partitions[partitionIndex])));
+          bytesRead += partitions[partitionIndex].length();
+        }
+        String[] row = readRow(reader);
+        if (row == null) {
+          reader.close();
+          reader = null;
+          partitions[partitionIndex++].delete();
+          clearKeys();
+          continue;
+        }
+        String key = encode(row);
+        if (!keys.contains(key)) {
+          remember(key);
+          return row;
+        }
+      }
+      return null;
+    }
+
+    /*
+    Function: encode
+    Purpose: The purpose of encode() is to build the key of a row used to find duplicates. Every value is prefixed
+    with its length so values containing any character cannot run into each other, and values of numeric columns are
+    written in a canonical form so 1, 1.0 and 01 are the same key.
+    - Parameters:
+    1. row: String[]
+    - Return Type: String
+     */
+    private String encode(String[] row) {
+      StringBuilder key = new StringBuilder();
+      for (int columnIndex = 0; columnIndex < row.length; columnIndex++) {
+        String value = row[columnIndex] == null ? "" : row[columnIndex];
+        if (columnIndex < numeric.length && numeric[columnIndex]) {
+          try {
+            value = new BigDecimal(value).stripTrailingZeros().toPlainString();
+          } catch (NumberFormatException exception) {
+            // NOTE: A value that is not a number is compared as written.
+          }
+        }
+        key.append(value.length()).append(':').append(value);
+      }
+      return key.toString();
+    }
+
+    private void remember(String key) {
+      keys.add(key);
+      long bytes = 40 + 2L * key.length() + 32;
+      keyBytes += bytes;
+      reserve(bytes);
+    }
+
+    private void clearKeys() {
+      keys.clear();
+      release(keyBytes);
+      keyBytes = 0;
+    }
+
+    private void startSpilling() throws Exception {
+      partitions = new File[partitionCount];
+      writers = new DataOutputStream[partitionCount];
+      for (int partition = 0; partition < partitionCount; partition++) {
+        partitions[partition] = File.createTempFile("distinct", ".spill");
+        partitions[partition].deleteOnExit();
+        writers[partition] = new DataOutputStream(new BufferedOutputStream(
+            new FileOutputStream(partitions[partition])));
+      }
+    }
+
+    private void spill(String key, String[] row) throws Exception {
+      // NOTE: The hash is mixed so the partitions do not follow the buckets of the hash set.
+      int hash = key.hashCode() * 0x9E3779B9;
+      DataOutputStream writer = writers[(hash >>> 16) % partitionCount];
+      writer.writeInt(row.length);
+      for (String value : row) {
+        writer.writeUTF(value == null ? "" : value);
+      }
+      spilledRows++;
+    }
+
+    private void finishSpilling() throws Exception {
+      if (writers != null) {
+        for (DataOutputStream writer : writers) {
+          writer.close();
+        }
+        writers = null;
+      }
+    }
+
+    private static String[] readRow(DataInputStream reader) throws Exception {
+      int length;
+      try {
+        length = reader.readInt();
+      } catch (EOFException exception) {
+        return null;
+      }
+      String[] row = new String[length];
+      for (int columnIndex = 0; columnIndex < length; columnIndex++) {
+        row[columnIndex] = reader.readUTF();
+      }
+      return row;
+    }
+
+    @Override
+    protected void closeRows() throws Exception {
+      if (partitionIndex < 0) {
+        children[0].close();
+        partitionIndex = 0;
+      }
+      finishSpilling();
+      if (reader != null) {
+        reader.close();
+        reader = null;
+      }
+      if (partitions != null) {
+        for (File partition : partitions) {
+          partition.delete();
+        }
+        partitions = null;
+      }
+      if (keys != null) {
+        clearKeys();
+        keys = null;
+      }
+    }
+  }
+
+  /*
+      Class: ModifyTable
+      Purpose: The purpose of ModifyTable is to describe an INSERT, UPDATE or DELETE within a plan. The modification
+      itself is carried out by the Database Abstraction layer, so the operator only records the rows and the time
+      measured around that call when the statement is analyzed, along with the bytes read and the memory used
+      estimated from the size of the table, which are labeled as estimates. Its children are shown for their
+      estimates.
+  */
+  public static class ModifyTable extends PlanNode {
+    private final String description;
+    private long estimatedBytes = 0;
+    private long estimatedMemory = 0;
+
+    ModifyTable(String description, long estimatedRows, PlanNode... children) {
+      super(children);
+      this.description = description;
+      this.estimatedRows = estimatedRows;
+    }
+
+    /*
+    Function: record
+    Purpose: The purpose of record() is to store the measurements of a modification carried out by the Database
+    Abstraction layer being the rows affected and the wall time, along with the estimated bytes of the table read
+    and memory used to buffer the rows of the table.
+    - Parameters:
+    1. rows: long
+    2. nanoseconds: long
+    3. bytes: long
+    4. memory: long
+    - Return Type: void
+     */
+    void record(long rows, long nanoseconds, long bytes, long memory) {
+      super.actualRows = rows;
+      super.nanoseconds = nanoseconds;
+      estimatedBytes = bytes;
+      estimatedMemory = memory;
+    }
+
+    @Override
+    protected String analysis() {
+      return String.format(" (actual rows=%d time=%.3f ms) (estimated bytes read=%d peak memory=%d bytes)",
+          super.actualRows, super.nanoseconds / 1e6, estimatedBytes, estimatedMemory);
+    }
+
+    @Override
+    public void setAnalyze(boolean analyze) {
+      // NOTE: Only the operator itself is measured because its children are never run.
+      super.analyze = analyze;
+    }
+
+    @Override
+    public String[] heading() {
+      return new String[0];
+    }
+
+    @Override
+    public String describe() {
+      return description;
+    }
+
+    @Override
+    protected void openRows() {
+    }
+
+    @Override
+    protected String[] nextRow() {
+      return null;
+    }
+
+    @Override
+    protected void closeRows() {
+    }
+  }
+}
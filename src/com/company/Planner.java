@@ -0,0 +1,398 @@
+package com.company;
+
+import com.company.PlanNode.Append;
+import com.company.PlanNode.Filter;
+import com.company.PlanNode.HashDistinct;
+import com.company.PlanNode.HashJoin;
+import com.company.PlanNode.HashSemiJoin;
+import com.company.PlanNode.ModifyTable;
+import com.company.PlanNode.NestedLoopJoin;
+import com.company.PlanNode.PartitionScan;
+import com.company.PlanNode.Project;
+import com.company.PlanNode.TableScan;
+import com.company.SyntaxTree.ColumnReference;
+import com.company.SyntaxTree.Condition;
+import com.company.SyntaxTree.Delete;
+import com.company.SyntaxTree.Insert;
+import com.company.SyntaxTree.Join;
+import com.company.SyntaxTree.Select;
+import com.company.SyntaxTree.SubqueryCondition;
+import com.company.SyntaxTree.TableReference;
+import com.company.SyntaxTree.Update;
+import java.util.ArrayList;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Planner
+    Purpose: The purpose of Planner is to turn the syntax tree of a statement into a tree of PlanNode operators. Every
+    table is read by a TableScan, or a PartitionScan when it is partitioned, a join whose condition is an equality
+    between a column of each table is run as a HashJoin and any other join falls back to a NestedLoopJoin, WHERE
+    conditions become a Filter, IN and EXISTS subqueries become a HashSemiJoin, selected columns become a Project and
+    DISTINCT and UNION become a HashDistinct.
+    Columns are resolved against the tables of the FROM clause by their qualifier, being a table name or alias, or by
+    searching every table when the column is not qualified. A WHERE condition comparing the partition column of a
+    partitioned table with a constant prunes the partitions that cannot hold a matching row from its scan.
+    - Variables:
+    1. distinctMemoryBudget: long
+       Purpose: The variable distinctMemoryBudget is the memory a HashDistinct may use before it spills to disk.
+    2. databaseAbstraction: DatabaseAbstraction
+       Purpose: The variable databaseAbstraction is the Database Abstraction layer the scans of the plan read from.
+    3. parameters: String[]
+       Purpose: The variable parameters are the values bound to the placeholders of the statement being planned.
+    4. tables: ArrayList<TableReference>
+       Purpose: The variable tables stores the tables that have been added to the plan in the order of their columns.
+    5. offsets: ArrayList<Integer>
+       Purpose: The variable offsets stores the position of the first column of each table within the rows of the plan.
+    6. headings: ArrayList<String[]>
+       Purpose: The variable headings stores the schema of each table of the plan.
+    7. scans: ArrayList<PlanNode>
+       Purpose: The variable scans stores the scan reading each table of the plan.
+    - Functions:
+    1. plan(select: Select): PlanNode
+    2. planSelect(select: Select): PlanNode
+    3. plan(update: Update): PlanNode
+    4. plan(delete: Delete): PlanNode
+    5. plan(insert: Insert): PlanNode
+    6. planFrom(select: Select, crossCondition: Condition): PlanNode
+    7. semiJoin(outer: PlanNode, condition: SubqueryCondition): PlanNode
+    8. scan(table: TableReference): PlanNode
+    9. join(left: PlanNode, right: PlanNode, condition: Condition, outer: boolean): PlanNode
+    10. predicate(condition: Condition): Predicate
+    11. resolves(column: ColumnReference): boolean
+    12. resolve(column: ColumnReference): int
+    13. prune(predicate: Predicate, outer: boolean): Predicate
+*/
+public class Planner {
+
+  // NOTE: Bytes of row keys a HashDistinct keeps in memory before it spills rows to partition files.
+  static long distinctMemoryBudget = 32L * 1024 * 1024;
+
+  private final DatabaseAbstraction databaseAbstraction;
+  private final String[] parameters;
+  private final ArrayList<TableReference> tables = new ArrayList<>();
+  private final ArrayList<Integer> offsets = new ArrayList<>();
+  private final ArrayList<String[]> headings = new ArrayList<>();
+  private final ArrayList<PlanNode> scans = new ArrayList<>();
+
+  public Planner(DatabaseAbstraction databaseAbstraction, String[] parameters) {
+    this.databaseAbstraction = databaseAbstraction;
+    this.parameters = parameters;
+  }
+
+  /*
+  Function: plan
+  Purpose: The purpose of plan() is to build the plan of a SELECT statement. Each SELECT of the statement is planned
+  on its own and the SELECTs are appended from left to right, with the duplicates of a UNION removed by a HashDistinct
+  while a UNION ALL is streamed as it is.
+  - Parameters:
+  1. select: Select
+  - Return Type: PlanNode
+   */
+  public PlanNode plan(Select select) throws Exception {
+    PlanNode node = planSelect(select);
+    for (Select left = select; left.union != null; left = left.union) {
+      PlanNode right = new Planner(databaseAbstraction, parameters).planSelect(left.union);
+      if (right.heading().length != node.heading().length) {
+        throw new Exception("USER EXCEPTION - plan: each SELECT of a UNION must select the same number of columns.");
+      }
+      node = new Append(node, right);
+      if (!left.unionAll) {
+        node = new HashDistinct(node, "Hash Union", distinctMemoryBudget);
+      }
+    }
+    return node;
+  }
+
+  /*
+  Function: planSelect
+  Purpose: The purpose of planSelect() is to build the plan of a single SELECT of a statement without its unions. The
+  tables of the FROM clause are scanned and joined from left to right, the WHERE condition filters the joined rows, or
+  becomes the join condition when the tables are listed with commas, and the selected columns are projected last. A
+  WHERE condition testing a subquery is run as a semi join or an anti join against the plan of the subquery, and
+  DISTINCT removes duplicate rows after the projection.
+  - Parameters:
+  1. select: Select
+  - Return Type: PlanNode
+   */
+  private PlanNode planSelect(Select select) throws Exception {
+    Condition where = select.where;
+    boolean subquery = where instanceof SubqueryCondition;
+    PlanNode node = planFrom(select, subquery ? null : where);
+    if (select.join == Join.CROSS && !subquery) {
+      where = null;
+    }
+    if (subquery) {
+      node = semiJoin(node, (SubqueryCondition) where);
+    } else if (where != null) {
+      node = new Filter(node, prune(predicate(where), select.join == Join.LEFT_OUTER));
+    }
+    if (!select.columns.isEmpty()) {
+      int[] columns = new int[select.columns.size()];
+      for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+        columns[columnIndex] = resolve(select.columns.get(columnIndex));
+      }
+      node = new Project(node, columns);
+    }
+    if (select.distinct) {
+      node = new HashDistinct(node, "Hash Distinct", distinctMemoryBudget);
+    }
+    return node;
+  }
+
+  /*
+  Function: planFrom
+  Purpose: The purpose of planFrom() is to scan and join the tables of the FROM clause from left to right. Tables listed
+  with commas are joined on the given condition.
+  - Parameters:
+  1. select: Select
+  2. crossCondition: Condition
+  - Return Type: PlanNode
+   */
+  private PlanNode planFrom(Select select, Condition crossCondition) throws Exception {
+    PlanNode node = scan(select.tables.get(0));
+    for (int tableIndex = 1; tableIndex < select.tables.size(); tableIndex++) {
+      PlanNode right = scan(select.tables.get(tableIndex));
+      if (select.join == Join.CROSS) {
+        node = join(node, right, crossCondition, false);
+        crossCondition = null;
+      } else {
+        node = join(node, right, select.on, select.join == Join.LEFT_OUTER);
+      }
+    }
+    return node;
+  }
+
+  /*
+  Function: semiJoin
+  Purpose: The purpose of semiJoin() is to plan a WHERE condition testing a subquery. For IN the subquery must select
+  a single column which becomes the key matched against the tested column. For EXISTS an equality in the WHERE clause
+  of the subquery between one of its columns and a column of the outer query correlates the two and becomes the key,
+  while any other WHERE clause only filters the subquery. The subquery is planned by its own planner so its columns
+  are resolved against its own tables first.
+  - Parameters:
+  1. outer: PlanNode
+  2. condition: SubqueryCondition
+  - Return Type: PlanNode
+   */
+  private PlanNode semiJoin(PlanNode outer, SubqueryCondition condition) throws Exception {
+    Planner inner = new Planner(databaseAbstraction, parameters);
+    Select subquery = condition.subquery;
+    if (condition.left != null) {
+      if (!(condition.left instanceof ColumnReference)) {
+        throw new Exception("USER EXCEPTION - semiJoin: IN must test a column.");
+      }
+      int outerKey = resolve((ColumnReference) condition.left);
+      PlanNode node = inner.plan(subquery);
+      if (node.heading().length != 1) {
+        throw new Exception("USER EXCEPTION - semiJoin: subquery of IN must select one column.");
+      }
+      return new HashSemiJoin(outer, node, outerKey, 0, condition.negated,
+          condition.left + " " + condition.operator + " (subquery)");
+    }
+    Condition where = subquery.where;
+    if (where instanceof SubqueryCondition) {
+      throw new Exception("USER EXCEPTION - semiJoin: nested subqueries are not supported.");
+    }
+    PlanNode node = inner.planFrom(subquery, null);
+    if (where != null && where.operator.equals("=") && where.left instanceof ColumnReference
+        && where.right instanceof ColumnReference) {
+      ColumnReference left = (ColumnReference) where.left;
+      ColumnReference right = (ColumnReference) where.right;
+      ColumnReference innerColumn = null;
+      ColumnReference outerColumn = null;
+      if (inner.resolves(left) && !inner.resolves(right) && resolves(right)) {
+        innerColumn = left;
+        outerColumn = right;
+      } else if (inner.resolves(right) && !inner.resolves(left) && resolves(left)) {
+        innerColumn = right;
+        outerColumn = left;
+      }
+      if (innerColumn != null) {
+        return new HashSemiJoin(outer, node, resolve(outerColumn), inner.resolve(innerColumn),
+            condition.negated, outerColumn + " = " + innerColumn);
+      }
+    }
+    if (where != null) {
+      node = new Filter(node, inner.prune(inner.predicate(where), subquery.join == Join.LEFT_OUTER));
+    }
+    return new HashSemiJoin(outer, node, -1, -1, condition.negated, condition.operator + " (subquery)");
+  }
+
+  /*
+  Function: plan
+  Purpose: The purpose of plan() is to describe an UPDATE statement as a plan. The rows to modify are found by
+  filtering a scan of the table with the WHERE condition.
+  - Parameters:
+  1. update: Update
+  - Return Type: PlanNode
+   */
+  public PlanNode plan(Update update) throws Exception {
+    PlanNode scan = scan(new TableReference(update.table, null));
+    Filter filter = new Filter(scan, prune(predicate(update.where), false));
+    return new ModifyTable("Update on " + update.table.toLowerCase() + " set " + update.column
+        + " = " + update.value.evaluate(parameters), filter.estimatedRows, filter);
+  }
+
+  public PlanNode plan(Delete delete) throws Exception {
+    PlanNode scan = scan(new TableReference(delete.table, null));
+    Filter filter = new Filter(scan, prune(predicate(delete.where), false));
+    return new ModifyTable("Delete on " + delete.table.toLowerCase(), filter.estimatedRows, filter);
+  }
+
+  /*
+  Function: plan
+  Purpose: The purpose of plan() is to describe an INSERT statement as a plan. A list of values inserts one row per
+  value list, while INSERT SELECT inserts the rows of the planned query, which becomes the child of the plan.
+  - Parameters:
+  1. insert: Insert
+  - Return Type: PlanNode
+   */
+  public PlanNode plan(Insert insert) throws Exception {
+    String table = insert.table.toLowerCase();
+    if (insert.select != null) {
+      PlanNode select = plan(insert.select);
+      return new ModifyTable("Insert on " + table + " select", select.estimatedRows, select);
+    }
+    int rows = insert.rows.size();
+    return new ModifyTable("Insert on " + table + " values (" + rows + (rows == 1 ? " row)" : " rows)"), rows);
+  }
+
+  /*
+  Function: scan
+  Purpose: The purpose of scan() is to add a table to the plan and create the scan reading it. The schema of the table
+  is remembered so later columns can be resolved against it.
+  - Parameters:
+  1. table: TableReference
+  - Return Type: PlanNode
+   */
+  private PlanNode scan(TableReference table) throws Exception {
+    Partitioning partitioning = databaseAbstraction.getPartitioning(table.table);
+    PlanNode scan = partitioning == null ? new TableScan(databaseAbstraction, table.table, table.alias)
+        : new PartitionScan(databaseAbstraction, table.table, table.alias, partitioning);
+    int offset = 0;
+    for (String[] heading : headings) {
+      offset += heading.length;
+    }
+    tables.add(table);
+    offsets.add(offset);
+    headings.add(scan.heading());
+    scans.add(scan);
+    return scan;
+  }
+
+  /*
+  Function: join
+  Purpose: The purpose of join() is to choose the join algorithm for two inputs. An equality between a column of each
+  input is run as a hash join keyed on those columns and every other condition is run as a nested loop join. The
+  predicate of a nested loop join is resolved against the combined columns of both inputs.
+  - Parameters:
+  1. left: PlanNode
+  2. right: PlanNode
+  3. condition: Condition
+  4. outer: boolean
+  - Return Type: PlanNode
+   */
+  private PlanNode join(PlanNode left, PlanNode right, Condition condition, boolean outer) throws Exception {
+    if (condition == null) {
+      return new NestedLoopJoin(left, right, null, outer);
+    }
+    Predicate predicate = predicate(condition);
+    int leftWidth = left.heading().length;
+    if (predicate.isEquality() && predicate.rightColumn >= 0) {
+      int leftKey = Math.min(predicate.leftColumn, predicate.rightColumn);
+      int rightKey = Math.max(predicate.leftColumn, predicate.rightColumn);
+      if (leftKey < leftWidth && rightKey >= leftWidth) {
+        return new HashJoin(left, right, leftKey, rightKey - leftWidth, outer, condition.toString());
+      }
+    }
+    return new NestedLoopJoin(left, right, predicate, outer);
+  }
+
+  /*
+  Function: predicate
+  Purpose: The purpose of predicate() is to turn a condition into a Predicate over the columns of the plan. A condition
+  written with the constant on the left is turned around so the column is always on the left.
+  - Parameters:
+  1. condition: Condition
+  - Return Type: Predicate
+   */
+  private Predicate predicate(Condition condition) throws Exception {
+    String operator = condition.operator;
+    if (condition.left instanceof ColumnReference) {
+      int leftColumn = resolve((ColumnReference) condition.left);
+      if (condition.right instanceof ColumnReference) {
+        return new Predicate(leftColumn, operator, resolve((ColumnReference) condition.right), null,
+            condition.toString());
+      }
+      return new Predicate(leftColumn, operator, -1, condition.right.evaluate(parameters),
+          condition.left + " " + operator + " " + condition.right.evaluate(parameters));
+    }
+    if (condition.right instanceof ColumnReference) {
+      int rightColumn = resolve((ColumnReference) condition.right);
+      String value = condition.left.evaluate(parameters);
+      return new Predicate(rightColumn, Predicate.flip(operator), -1, value,
+          condition.right + " " + Predicate.flip(operator) + " " + value);
+    }
+    throw new Exception("USER EXCEPTION - predicate: condition " + condition + " does not use a column.");
+  }
+
+  private boolean resolves(ColumnReference column) {
+    try {
+      resolve(column);
+      return true;
+    } catch (Exception exception) {
+      return false;
+    }
+  }
+
+  /*
+  Function: resolve
+  Purpose: The purpose of resolve() is to find the position of a column within the rows of the plan. A qualified
+  column is looked up in the table matching its qualifier and an unqualified column is looked up in every table in
+  order. If the column cannot be found, an exception is thrown.
+  - Parameters:
+  1. column: ColumnReference
+  - Return Type: int
+   */
+  private int resolve(ColumnReference column) throws Exception {
+    for (int tableIndex = 0; tableIndex < tables.size(); tableIndex++) {
+      if (column.qualifier != null && !tables.get(tableIndex).matches(column.qualifier)) {
+        continue;
+      }
+      String[] heading = headings.get(tableIndex);
+      for (int headingIndex = 0; headingIndex < heading.length; headingIndex++) {
+        if (heading[headingIndex].split(" ")[0].equals(column.column)) {
+          return offsets.get(tableIndex) + headingIndex;
+        }
+      }
+    }
+    throw new Exception("USER EXCEPTION - resolve: column " + column + " does not exist.");
+  }
+
+  /*
+  Function: prune
+  Purpose: The purpose of prune() is to prune the partitions of a partitioned table that cannot hold a row
+  satisfying a predicate comparing one of its columns with a constant. The table on the right of a LEFT OUTER JOIN is
+  never pruned since a left row without a matching right row is kept rather than dropped. The predicate is returned
+  so it can be used by the Filter it belongs to.
+  - Parameters:
+  1. predicate: Predicate
+  2. outer: boolean
+  - Return Type: Predicate
+   */
+  private Predicate prune(Predicate predicate, boolean outer) {
+    if (predicate.rightColumn >= 0 || predicate.value == null) {
+      return predicate;
+    }
+    for (int tableIndex = 0; tableIndex < scans.size(); tableIndex++) {
+      int column = predicate.leftColumn - offsets.get(tableIndex);
+      if (column >= 0 && column < headings.get(tableIndex).length && scans.get(tableIndex) instanceof PartitionScan
+          && !(outer && tableIndex > 0)) {
+        ((PartitionScan) scans.get(tableIndex)).prune(column, predicate.operator, predicate.value);
+      }
+    }
+    return predicate;
+  }
+}
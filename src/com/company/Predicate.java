@@ -0,0 +1,161 @@
+package com.company;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Predicate
+    Purpose: The purpose of Predicate is to evaluate a comparison against the rows produced by a query plan. The left
+    side of the comparison is always a column of the row and the right side is either another column of the row or a
+    constant value. Values that are both numbers are compared as numbers, otherwise values are compared as text.
+    - Variables:
+    1. leftColumn: int
+       Purpose: The variable leftColumn is the index of the column on the left side of the comparison.
+    2. operator: String
+       Purpose: The variable operator is the comparison operator being one of =, !=, <>, <, >, <= and >=.
+    3. rightColumn: int
+       Purpose: The variable rightColumn is the index of the column on the right side of the comparison or -1 when the
+       right side is a constant.
+    4. value: String
+       Purpose: The variable value is the constant on the right side of the comparison.
+    5. description: String
+       Purpose: The variable description is the comparison as it was written, used by EXPLAIN.
+    - Functions:
+    1. test(row: String[]): boolean
+    2. selectivity(): double
+    3. isEquality(): boolean
+    4. compare(left: String, right: String): int
+    5. flip(operator: String): String
+*/
+public class Predicate {
+
+  final int leftColumn;
+  final String operator;
+  final int rightColumn;
+  final String value;
+  private final String description;
+
+  Predicate(int leftColumn, String operator, int rightColumn, String value, String description) {
+    this.leftColumn = leftColumn;
+    this.operator = operator;
+    this.rightColumn = rightColumn;
+    this.value = value;
+    this.description = description;
+  }
+
+  /*
+  Function: test
+  Purpose: The purpose of test() is to check if a row satisfies the comparison.
+  - Parameters:
+  1. row: String[]
+  - Return Type: boolean
+   */
+  public boolean test(String[] row) {
+    String right = rightColumn >= 0 ? row[rightColumn] : value;
+    int comparison = compare(row[leftColumn], right);
+    switch (operator) {
+      case "=":
+        return comparison == 0;
+      case "!=":
+      case "<>":
+        return comparison != 0;
+      case "<":
+        return comparison < 0;
+      case ">":
+        return comparison > 0;
+      case "<=":
+        return comparison <= 0;
+      case ">=":
+        return comparison >= 0;
+      default:
+        return false;
+    }
+  }
+
+  /*
+  Function: selectivity
+  Purpose: The purpose of selectivity() is to estimate the fraction of rows satisfying the comparison. The planner
+  uses the estimate to compute the estimated rows of a Filter.
+  - Parameters:
+  - Return Type: double
+   */
+  public double selectivity() {
+    switch (operator) {
+      case "=":
+        return 0.1;
+      case "!=":
+      case "<>":
+        return 0.9;
+      default:
+        return 0.33;
+    }
+  }
+
+  public boolean isEquality() {
+    return operator.equals("=");
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+
+  /*
+  Function: compare
+  Purpose: The purpose of compare() is to order two values. If both values are numbers they are compared as numbers
+  so "9" is less than "10", otherwise they are compared as text.
+  - Parameters:
+  1. left: String
+  2. right: String
+  - Return Type: int
+   */
+  static int compare(String left, String right) {
+    if (isNumber(left) && isNumber(right)) {
+      return Double.compare(Double.parseDouble(left), Double.parseDouble(right));
+    }
+    return left.compareTo(right);
+  }
+
+  static boolean isNumber(String value) {
+    if (value == null || value.isEmpty()) {
+      return false;
+    }
+    int start = value.charAt(0) == '-' ? 1 : 0;
+    if (start == value.length()) {
+      return false;
+    }
+    boolean point = false;
+    for (int index = start; index < value.length(); index++) {
+      char character = value.charAt(index);
+      if (character == '.' && !point) {
+        point = true;
+      } else if (character < '0' || character > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /*
+  Function: flip
+  Purpose: The purpose of flip() is to return the operator that keeps a comparison true when its two sides are
+  swapped.
+  - Parameters:
+  1. operator: String
+  - Return Type: String
+   */
+  static String flip(String operator) {
+    switch (operator) {
+      case "<":
+        return ">";
+      case ">":
+        return "<";
+      case "<=":
+        return ">=";
+      case ">=":
+        return "<=";
+      default:
+        return operator;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package com.company;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: PrefetchReader
+    Purpose: The purpose of PrefetchReader is to read a table file from start to end while the blocks ahead of the
+    reader are already being read from the disk, so decoding and evaluating rows overlaps with waiting for storage.
+    The file is read through an asynchronous channel in blocks of blockSize bytes and up to depth blocks are in flight
+    at once. Since a reader over a table only ever moves forward, reading sequentially is detected by the reader
+    moving on to the next block: the window of blocks in flight starts at one and doubles every time a block is
+    finished until it reaches the depth, so a reader closed after the schema line reads one block while a full scan
+    soon keeps every block in flight. The bytes are decoded as UTF-8, carrying a character split between two blocks
+    over to the next one. The time spent waiting for a block that has not arrived yet is kept as the I/O wait.
+    - Variables:
+    1. blockSize: int
+       Purpose: The variable blockSize is the number of bytes read by each request.
+    2. channel: AsynchronousFileChannel
+       Purpose: The variable channel is the channel the blocks are read through.
+    3. size: long
+       Purpose: The variable size is the size of the file when it was opened.
+    4. depth: int
+       Purpose: The variable depth is the highest number of blocks in flight.
+    5. window: int
+       Purpose: The variable window is the current number of blocks kept in flight.
+    6. requested: long
+       Purpose: The variable requested is the position within the file of the next block to request.
+    7. inFlight: ArrayDeque<Block>
+       Purpose: The variable inFlight stores the requested blocks in the order of the file.
+    8. free: ArrayDeque<ByteBuffer>
+       Purpose: The variable free stores the buffers of finished blocks to be reused by later requests.
+    9. bytes: ByteBuffer
+       Purpose: The variable bytes is the block being decoded.
+    10. chars: CharBuffer
+       Purpose: The variable chars holds the decoded characters not yet given to the caller.
+    11. waitNanoseconds: long
+       Purpose: The variable waitNanoseconds is the time spent waiting for blocks to arrive.
+    - Functions:
+    1. read(buffer: char[], offset: int, length: int): int
+    2. fill(): boolean
+    3. take(): ByteBuffer
+    4. request(): void
+    5. close(): void
+    6. getWaitNanoseconds(): long
+*/
+public class PrefetchReader extends Reader {
+
+  static final int blockSize = 256 * 1024;
+
+  // NOTE: Room before the bytes of a block for the bytes of a character split by the end of the previous block.
+  private static final int carry = 4;
+
+  private final AsynchronousFileChannel channel;
+  private final long size;
+  private final int depth;
+  private int window = 1;
+  private long requested = 0;
+  private final ArrayDeque<Block> inFlight = new ArrayDeque<>();
+  private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+  private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+      .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private ByteBuffer bytes = null;
+  private final CharBuffer chars;
+  private boolean finished = false;
+  private long waitNanoseconds = 0;
+
+  PrefetchReader(Path path, int depth) throws IOException {
+    this.channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+    this.size = channel.size();
+    this.depth = Math.max(1, depth);
+    this.chars = CharBuffer.allocate((int) Math.max(carry, Math.min(blockSize, size)));
+    chars.flip();
+    request();
+  }
+
+  /*
+  Function: read
+  Purpose: The purpose of read() is to copy the next decoded characters of the file into the given buffer, decoding
+  the next block when every decoded character has been read. The number of characters copied is returned, or -1 once
+  the whole file has been read.
+  - Parameters:
+  1. buffer: char[]
+  2. offset: int
+  3. length: int
+  - Return Type: int
+   */
+  @Override
+  public int read(char[] buffer, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    while (!chars.hasRemaining()) {
+      if (!fill()) {
+        return -1;
+      }
+    }
+    int count = Math.min(length, chars.remaining());
+    chars.get(buffer, offset, count);
+    return count;
+  }
+
+  /*
+  Function: fill
+  Purpose: The purpose of fill() is to decode the block being read into the character buffer, moving on to the next
+  block when the current one is used up. The bytes of a character cut by the end of a block are copied in front of
+  the next block. The function returns false once every block has been decoded.
+  - Parameters:
+  - Return Type: boolean
+   */
+  private boolean fill() throws IOException {
+    if (finished) {
+      return false;
+    }
+    chars.clear();
+    try {
+      if (bytes == null || bytes.remaining() < carry) {
+        ByteBuffer next = take();
+        if (next == null) {
+          if (bytes != null) {
+            decoder.decode(bytes, chars, true);
+          }
+          decoder.flush(chars);
+          finished = true;
+          return chars.position() > 0;
+        }
+        if (bytes != null) {
+          int remaining = bytes.remaining();
+          next.position(carry - remaining);
+          next.put(bytes);
+          next.position(carry - remaining);
+          free.add(bytes.clear());
+        }
+        bytes = next;
+      }
+      decoder.decode(bytes, chars, false);
+      return true;
+    } finally {
+      chars.flip();
+    }
+  }
+
+  /*
+  Function: take
+  Purpose: The purpose of take() is to wait for the first block in flight and return its buffer positioned at its
+  bytes, then to widen the window and request the blocks that fit within it. Reads returning fewer bytes than
+  requested are continued before the block is returned. If no block is in flight, null is returned.
+  - Parameters:
+  - Return Type: ByteBuffer
+   */
+  private ByteBuffer take() throws IOException {
+    Block block = inFlight.poll();
+    if (block == null) {
+      return null;
+    }
+    long start = System.nanoTime();
+    try {
+      int read = block.read.get();
+      while (read >= 0 && block.buffer.hasRemaining()) {
+        read = channel.read(block.buffer, block.position + block.buffer.position() - carry).get();
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IOException(exception);
+    } catch (ExecutionException exception) {
+      throw new IOException(exception.getCause());
+    } finally {
+      waitNanoseconds += System.nanoTime() - start;
+    }
+    window = Math.min(depth, window * 2);
+    request();
+    return block.buffer.flip().position(carry);
+  }
+
+  /*
+  Function: request
+  Purpose: The purpose of request() is to request the next blocks of the file until the window is full or the end of
+  the file has been requested.
+  - Parameters:
+  - Return Type: void
+   */
+  private void request() {
+    while (inFlight.size() < window && requested < size) {
+      int length = (int) Math.min(blockSize, size - requested);
+      ByteBuffer buffer = free.isEmpty() ? ByteBuffer.allocateDirect(carry + length) : free.poll();
+      buffer.clear().position(carry).limit(carry + length);
+      inFlight.add(new Block(buffer, requested, channel.read(buffer, requested)));
+      requested += length;
+    }
+  }
+
+  /*
+  Function: close
+  Purpose: The purpose of close() is to close the channel, which abandons the blocks still in flight.
+  - Parameters:
+  - Return Type: void
+   */
+  @Override
+  public void close() throws IOException {
+    finished = true;
+    inFlight.clear();
+    channel.close();
+  }
+
+  long getWaitNanoseconds() {
+    return waitNanoseconds;
+  }
+
+  /*
+      Class: Block
+      Purpose: The purpose of Block is to hold a requested block being the buffer it is read into, its position within
+      the file and the pending read.
+  */
+  private static class Block {
+    final ByteBuffer buffer;
+    final long position;
+    final Future<Integer> read;
+
+    Block(ByteBuffer buffer, long position, Future<Integer> read) {
+      this.buffer = buffer;
+      this.position = position;
+      this.read = read;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.company;
+
+import com.company.SyntaxTree.Statement;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: PreparedCommand
+    Purpose: The purpose of PreparedCommand is to hold a SQL statement that has already been parsed by the front end of
+    the Database System with "?" placeholders left in place of literal values. Values are bound to the placeholders
+    before each execution so the same statement can be run repeatedly with different literals without being parsed
+    again, while it is planned again for each execution with the values bound. Prepared commands are created either
+    with the PREPARE statement or programmatically through DatabaseSystem.prepare().
+    - Variables:
+    1. databaseSystem: DatabaseSystem
+       Purpose: The variable databaseSystem is the Database System the command was prepared by and is executed on.
+    2. statement: Statement
+       Purpose: The variable statement stores the syntax tree of the prepared statement including its placeholders.
+       The syntax tree is never modified so a command can be bound and executed any number of times.
+    3. values: String[]
+       Purpose: The variable values stores the values currently bound to each placeholder.
+    - Functions:
+    1. setValue(parameter_index: int, value: String): void
+    2. setValues(values: String[]): void
+    3. getParameterCount(): int
+    4. bind(): String[]
+    5. execute(): void
+*/
+public class PreparedCommand {
+
+  private final DatabaseSystem databaseSystem;
+  private final Statement statement;
+  private final String[] values;
+
+  PreparedCommand(DatabaseSystem databaseSystem, Statement statement) {
+    this.databaseSystem = databaseSystem;
+    this.statement = statement;
+    values = new String[statement.parameterCount];
+  }
+
+  /*
+  Function: setValue
+  Purpose: The purpose of setValue() is to bind a value to a single placeholder of the prepared statement. Placeholders
+  are numbered from 1 in the order they appear in the statement. An exception is thrown if the placeholder does not
+  exist.
+  - Parameters:
+  1. parameter_index: int
+  2. value: String
+  - Return Type: void
+   */
+  public void setValue(int parameter_index, String value) {
+    if (parameter_index < 1 || parameter_index > values.length) {
+      throw new IllegalArgumentException(
+          "USER EXCEPTION - setValue: parameter " + parameter_index + " does not exist.");
+    }
+    values[parameter_index - 1] = value;
+  }
+
+  /*
+  Function: setValues
+  Purpose: The purpose of setValues() is to bind every placeholder of the prepared statement at once. An exception is
+  thrown if the number of values does not match the number of placeholders.
+  - Parameters:
+  1. values: String[]
+  - Return Type: void
+   */
+  public void setValues(String[] values) {
+    if (values.length != this.values.length) {
+      throw new IllegalArgumentException("USER EXCEPTION - setValues: expected " + this.values.length
+          + " parameters but received " + values.length + ".");
+    }
+    System.arraycopy(values, 0, this.values, 0, values.length);
+  }
+
+  public int getParameterCount() {
+    return values.length;
+  }
+
+  /*
+  Function: bind
+  Purpose: The purpose of bind() is to produce the parameters the statement is executed with. The bound values are
+  copied so the prepared statement can be bound again while it runs. An exception is thrown if a placeholder has not
+  been given a value.
+  - Parameters:
+  - Return Type: String[]
+   */
+  String[] bind() {
+    for (int parameterIndex = 0; parameterIndex < values.length; parameterIndex++) {
+      if (values[parameterIndex] == null) {
+        throw new IllegalStateException(
+            "USER EXCEPTION - bind: parameter " + (parameterIndex + 1) + " is not set.");
+      }
+    }
+    return values.clone();
+  }
+
+  /*
+  Function: execute
+  Purpose: The purpose of execute() is to run the prepared statement with the currently bound values on the Database
+  System that prepared it.
+  - Parameters:
+  - Return Type: void
+   */
+  public void execute() {
+    databaseSystem.execute(statement, bind());
+  }
+}
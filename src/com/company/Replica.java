@@ -0,0 +1,163 @@
+package com.company;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.stream.Stream;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Replica
+    Purpose: The purpose of Replica is to keep a copy of the databases of a primary in a databases' directory of its
+    own, so an engine serving the copy can answer read-only queries without reading the table files or taking the
+    locks of the primary. A follower thread polls the primary every pollMillis milliseconds and, for every database,
+    tails the change log kept by its Version Store, shipping the tables changed since the last poll. A database is
+    copied whole the first time it is seen and whenever its change log starts over. The replica is never behind the
+    primary as of the start of the last poll that shipped everything it found, so the time since then is reported as
+    the replication lag, and sessions may wait until the lag is within a bound before they read.
+    - Variables:
+    1. pollMillis: long
+       Purpose: The variable pollMillis is the number of milliseconds the follower waits between polls.
+    2. awaitTimeout: long
+       Purpose: The variable awaitTimeout is the number of milliseconds a session waits for the lag to be within its
+       bound before failing.
+    3. primary: File
+       Purpose: The variable primary is the databases' directory of the primary.
+    4. directory: File
+       Purpose: The variable directory is the databases' directory of the replica.
+    5. followed: HashMap<String, long[]>
+       Purpose: The variable followed stores for every database followed the generation of its change log, the
+       position reached within it and the time the log was last changed when it was shipped.
+    6. syncedAt: long
+       Purpose: The variable syncedAt is the time the last poll that shipped everything it found started.
+    7. changes: long
+       Purpose: The variable changes is the number of changes shipped since the replica started.
+    8. running: boolean
+       Purpose: The variable running is used to stop the follower once the replica is closed.
+    - Functions:
+    1. start(): void
+    2. poll(): void
+    3. lag(): long
+    4. await(maxLag: long): void
+    5. describe(): String
+    6. close(): void
+*/
+public class Replica implements AutoCloseable {
+
+  static final long pollMillis = 10;
+  private static final long awaitTimeout = 5000;
+
+  private final File primary;
+  private final File directory;
+  private final HashMap<String, long[]> followed = new HashMap<>();
+  private volatile long syncedAt = 0;
+  private volatile long changes = 0;
+  private volatile boolean running = true;
+
+  public Replica(String primaryDirectory, String directory) {
+    this.primary = new File(primaryDirectory);
+    this.directory = new File(directory);
+  }
+
+  /*
+  Function: start
+  Purpose: The purpose of start() is to copy every database of the primary and then start the follower thread. The
+  follower keeps polling after a failed poll, which is retried as a whole at the next poll.
+  - Parameters:
+  - Return Type: void
+   */
+  public void start() throws Exception {
+    if (!primary.isDirectory()) {
+      throw new Exception("USER EXCEPTION - start: primary directory " + primary + " does not exist.");
+    }
+    directory.mkdirs();
+    poll();
+    Thread.ofPlatform().daemon().name("replica-follower").start(() -> {
+      while (running) {
+        try {
+          Thread.sleep(pollMillis);
+          poll();
+        } catch (InterruptedException exception) {
+          return;
+        } catch (Exception exception) {
+          // NOTE: A table may be dropped while it is shipped; the poll is repeated.
+        }
+      }
+    });
+  }
+
+  /*
+  Function: poll
+  Purpose: The purpose of poll() is to bring every database of the replica up to date with the primary. A database
+  whose change log has not changed since it was last shipped is skipped without taking the commit lock of the
+  primary. Databases the primary no longer has are deleted from the replica. Sessions waiting for the lag to shrink
+  are woken once the poll is finished.
+  - Parameters:
+  - Return Type: void
+   */
+  synchronized void poll() throws Exception {
+    long start = System.currentTimeMillis();
+    File[] databases = primary.listFiles(File::isDirectory);
+    HashSet<String> seen = new HashSet<>();
+    for (File database : databases == null ? new File[0] : databases) {
+      seen.add(database.getName());
+      File log = new File(database, "_mvcc/changes.txt");
+      long modified = log.lastModified();
+      long[] state = followed.get(database.getName());
+      if (state != null && log.length() == state[1] && modified == state[2]) {
+        continue;
+      }
+      VersionStore.Shipment shipment = new VersionStore(database.getPath() + "/").ship(state == null ? -1 : state[0],
+          state == null ? 0 : state[1], new File(directory, database.getName()));
+      followed.put(database.getName(), new long[]{shipment.generation, shipment.position, modified});
+      changes += shipment.changes;
+    }
+    for (String database : new HashSet<>(followed.keySet())) {
+      if (!seen.contains(database)) {
+        followed.remove(database);
+        try (Stream<Path> files = Files.walk(new File(directory, database).toPath())) {
+          files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+      }
+    }
+    syncedAt = start;
+    notifyAll();
+  }
+
+  long lag() {
+    return System.currentTimeMillis() - syncedAt;
+  }
+
+  /*
+  Function: await
+  Purpose: The purpose of await() is to wait until the replica is no more than the given number of milliseconds
+  behind the primary as of the call, so a bound of zero waits for every change committed before the call. If the
+  replica does not catch up within the timeout, an exception is thrown.
+  - Parameters:
+  1. maxLag: long
+  - Return Type: void
+   */
+  synchronized void await(long maxLag) throws Exception {
+    long requested = System.currentTimeMillis();
+    while (syncedAt < requested - maxLag) {
+      if (System.currentTimeMillis() - requested > awaitTimeout) {
+        throw new Exception("USER EXCEPTION - await: the replica is " + lag() + " ms behind the primary.");
+      }
+      wait(pollMillis);
+    }
+  }
+
+  String describe() {
+    return "Replication lag: " + lag() + " ms, " + changes + " changes applied from " + primary.getPath() + ".";
+  }
+
+  @Override
+  public void close() {
+    running = false;
+  }
+}
@@ -0,0 +1,350 @@
+package com.company;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: ResultSink
+    Purpose: The purpose of ResultSink is to write the rows of a query to an output stream in one of several formats.
+    Rows are received one at a time as the plan produces them and are encoded into a buffer owned by the sink, which
+    is handed to the output stream only when it fills up and when the result is finished, so printing a result takes
+    one write per buffer rather than one per value. A sink is reused for every result of a session so its buffer is
+    only allocated once. The formats are "pipe", the values separated by "|" with the heading as the first line,
+    "csv" and "tsv", with the column labels as the first line, "jsonl", one JSON object per row keyed by the column
+    labels, and "binary", described by the Binary sink.
+    - Variables:
+    1. formats: String[]
+       Purpose: The variable formats stores the names of the formats available.
+    2. out: OutputStream
+       Purpose: The variable out is the output stream the buffer is written to.
+    3. buffer: byte[]
+       Purpose: The variable buffer holds the encoded bytes not yet written to the output stream.
+    4. position: int
+       Purpose: The variable position is the number of bytes held in the buffer.
+    5. heading: String[]
+       Purpose: The variable heading is the heading of the result being written.
+    - Functions:
+    1. of(format: String, out: OutputStream): ResultSink
+    2. heading(heading: String[]): void
+    3. row(row: String[]): void
+    4. finish(): void
+    5. write(text: String): void
+    6. write(character: int): void
+    7. write(bytes: byte[]): void
+    8. label(heading: String): String
+*/
+public abstract class ResultSink {
+
+  static final String[] formats = {"pipe", "csv", "tsv", "jsonl", "binary"};
+
+  private final OutputStream out;
+  private final byte[] buffer = new byte[64 * 1024];
+  private int position = 0;
+  protected String[] heading = new String[0];
+
+  protected ResultSink(OutputStream out) {
+    this.out = out;
+  }
+
+  /*
+  Function: of
+  Purpose: The purpose of of() is to create the sink of a format writing to an output stream. If the format is not
+  recognized, null is returned.
+  - Parameters:
+  1. format: String
+  2. out: OutputStream
+  - Return Type: ResultSink
+   */
+  static ResultSink of(String format, OutputStream out) {
+    switch (format.toLowerCase()) {
+      case "pipe":
+        return new Delimited(out, '|', false);
+      case "csv":
+        return new Delimited(out, ',', true);
+      case "tsv":
+        return new Delimited(out, '\t', true);
+      case "jsonl":
+        return new JsonLines(out);
+      case "binary":
+        return new Binary(out);
+      default:
+        return null;
+    }
+  }
+
+  /*
+  Function: heading
+  Purpose: The purpose of heading() is to start a result with its heading, each column being its label followed by
+  its type.
+  - Parameters:
+  1. heading: String[]
+  - Return Type: void
+   */
+  void heading(String[] heading) throws IOException {
+    this.heading = heading;
+  }
+
+  abstract void row(String[] row) throws IOException;
+
+  /*
+  Function: finish
+  Purpose: The purpose of finish() is to end a result by writing the buffer to the output stream and flushing it so
+  the result comes before anything printed afterwards.
+  - Parameters:
+  - Return Type: void
+   */
+  void finish() throws IOException {
+    drain();
+    out.flush();
+  }
+
+  /*
+  Function: write
+  Purpose: The purpose of write() is to encode text into the buffer as UTF-8. Plain ASCII, which is nearly every value,
+  is copied a character at a time without going through an encoder.
+  - Parameters:
+  1. text: String
+  - Return Type: void
+   */
+  protected void write(String text) throws IOException {
+    int length = text.length();
+    for (int index = 0; index < length; index++) {
+      char character = text.charAt(index);
+      if (character >= 0x80) {
+        write(text.substring(index).getBytes(StandardCharsets.UTF_8));
+        return;
+      }
+      if (position == buffer.length) {
+        drain();
+      }
+      buffer[position++] = (byte) character;
+    }
+  }
+
+  protected void write(int character) throws IOException {
+    if (position == buffer.length) {
+      drain();
+    }
+    buffer[position++] = (byte) character;
+  }
+
+  protected void write(byte[] bytes) throws IOException {
+    for (int offset = 0; offset < bytes.length; ) {
+      if (position == buffer.length) {
+        drain();
+      }
+      int length = Math.min(bytes.length - offset, buffer.length - position);
+      System.arraycopy(bytes, offset, buffer, position, length);
+      position += length;
+      offset += length;
+    }
+  }
+
+  private void drain() throws IOException {
+    if (position > 0) {
+      out.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+
+  /*
+  Function: label
+  Purpose: The purpose of label() is to return the label of a column from its heading without the type.
+  - Parameters:
+  1. heading: String
+  - Return Type: String
+   */
+  protected static String label(String heading) {
+    String trimmed = heading.trim();
+    int space = trimmed.indexOf(' ');
+    return space < 0 ? trimmed : trimmed.substring(0, space);
+  }
+
+  /*
+      Class: Delimited
+      Purpose: The purpose of Delimited is to write rows as lines of values separated by a delimiter. The pipe format
+      writes the heading and values as they are, exactly as the rows were printed before sinks existed. CSV quotes
+      values holding the delimiter, a quote or a line break as RFC 4180 does, and TSV escapes tabs, line breaks and
+      backslashes, and both start with the column labels.
+  */
+  static class Delimited extends ResultSink {
+    private final char delimiter;
+    private final boolean labels;
+    private final String lineSeparator;
+
+    Delimited(OutputStream out, char delimiter, boolean labels) {
+      super(out);
+      this.delimiter = delimiter;
+      this.labels = labels;
+      this.lineSeparator = labels ? "\n" : System.lineSeparator();
+    }
+
+    @Override
+    void heading(String[] heading) throws IOException {
+      super.heading(heading);
+      String[] line = heading.clone();
+      if (labels) {
+        for (int column = 0; column < line.length; column++) {
+          line[column] = label(line[column]);
+        }
+      }
+      row(line);
+    }
+
+    @Override
+    void row(String[] row) throws IOException {
+      for (int column = 0; column < row.length; column++) {
+        if (column > 0) {
+          write(delimiter);
+        }
+        value(row[column]);
+      }
+      write(lineSeparator);
+    }
+
+    private void value(String value) throws IOException {
+      if (value == null) {
+        write(labels ? "" : "null");
+      } else if (delimiter == ',') {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+          write(value);
+        } else {
+          write('"');
+          write(value.replace("\"", "\"\""));
+          write('"');
+        }
+      } else if (delimiter == '\t') {
+        write(value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r"));
+      } else {
+        write(value);
+      }
+    }
+  }
+
+  /*
+      Class: JsonLines
+      Purpose: The purpose of JsonLines is to write every row as a JSON object on its own line keyed by the column
+      labels. Values of int and float columns are written as numbers when they are numbers and every other value is
+      written as a string.
+  */
+  static class JsonLines extends ResultSink {
+    private static final Pattern number = Pattern.compile("-?[0-9]+(\\.[0-9]+)?([eE][-+]?[0-9]+)?");
+
+    private String[] keys = new String[0];
+    private boolean[] numeric = new boolean[0];
+
+    JsonLines(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    void heading(String[] heading) throws IOException {
+      super.heading(heading);
+      keys = new String[heading.length];
+      numeric = new boolean[heading.length];
+      for (int column = 0; column < heading.length; column++) {
+        keys[column] = quote(label(heading[column]));
+        String type = heading[column].trim().substring(label(heading[column]).length()).trim().toLowerCase();
+        numeric[column] = type.equals("int") || type.equals("float");
+      }
+    }
+
+    @Override
+    void row(String[] row) throws IOException {
+      write('{');
+      for (int column = 0; column < row.length; column++) {
+        if (column > 0) {
+          write(',');
+        }
+        write(column < keys.length ? keys[column] : quote(String.valueOf(column)));
+        write(':');
+        String value = row[column];
+        if (value == null) {
+          write("null");
+        } else if (column < numeric.length && numeric[column] && number.matcher(value).matches()) {
+          write(value);
+        } else {
+          write(quote(value));
+        }
+      }
+      write("}\n");
+    }
+
+    private static String quote(String value) {
+      StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+      for (int index = 0; index < value.length(); index++) {
+        char character = value.charAt(index);
+        if (character == '"' || character == '\\') {
+          quoted.append('\\').append(character);
+        } else if (character < 0x20) {
+          quoted.append(String.format("\\u%04x", (int) character));
+        } else {
+          quoted.append(character);
+        }
+      }
+      return quoted.append('"').toString();
+    }
+  }
+
+  /*
+      Class: Binary
+      Purpose: The purpose of Binary is to write rows in a compact binary format for programs rather than people. A
+      result starts with the byte 'H', the number of columns and every heading, each row starts with the byte 'R'
+      followed by its values and the result ends with the byte 'E'. Numbers are unsigned variable length integers of
+      seven bits per byte, lowest first, and a value is its length in UTF-8 bytes plus one followed by the bytes, where
+      a length of zero denotes a missing value.
+  */
+  static class Binary extends ResultSink {
+
+    Binary(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    void heading(String[] heading) throws IOException {
+      super.heading(heading);
+      write('H');
+      number(heading.length);
+      for (String column : heading) {
+        value(column);
+      }
+    }
+
+    @Override
+    void row(String[] row) throws IOException {
+      write('R');
+      for (String value : row) {
+        value(value);
+      }
+    }
+
+    @Override
+    void finish() throws IOException {
+      write('E');
+      super.finish();
+    }
+
+    private void value(String value) throws IOException {
+      if (value == null) {
+        number(0);
+        return;
+      }
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      number(bytes.length + 1);
+      write(bytes);
+    }
+
+    private void number(long number) throws IOException {
+      while ((number & ~0x7FL) != 0) {
+        write((int) ((number & 0x7F) | 0x80));
+        number >>>= 7;
+      }
+      write((int) number);
+    }
+  }
+}
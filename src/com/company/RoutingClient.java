@@ -0,0 +1,139 @@
+package com.company;
+
+import com.company.SyntaxTree.Explain;
+import com.company.SyntaxTree.Setting;
+import com.company.SyntaxTree.Statement;
+import java.io.IOException;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: RoutingClient
+    Purpose: The purpose of RoutingClient is to spread the statements of a session over a primary and its replicas, so
+    reads scale with the replicas while every write is run by the primary. Each statement is parsed to decide where it
+    runs: queries, and EXPLAIN of a query, are sent to the replicas in turn, USE and SET are sent to every connection
+    so the sessions stay alike, SET max_lag is only sent to the replicas, and every other statement is sent to the
+    primary. Queries within a transaction are sent to the primary, which holds the snapshot and the writes of the
+    transaction. Statements that cannot be parsed are sent to the primary, which reports the error.
+    - Variables:
+    1. primary: Client
+       Purpose: The variable primary is the connection to the primary.
+    2. replicas: Client[]
+       Purpose: The variable replicas stores the connections to the replicas.
+    3. next: int
+       Purpose: The variable next is the replica the next query is sent to.
+    4. inTransaction: boolean
+       Purpose: The variable inTransaction tells whether the session is within a transaction.
+    - Functions:
+    1. execute(statement: String): String
+    2. query(statement: String): String
+    3. broadcast(statement: String, includePrimary: boolean): String
+    4. close(): void
+*/
+public class RoutingClient implements AutoCloseable {
+
+  private final Client primary;
+  private final Client[] replicas;
+  private int next = 0;
+  private boolean inTransaction = false;
+
+  public RoutingClient(int primaryPort, int... replicaPorts) throws IOException {
+    primary = new Client(primaryPort);
+    replicas = new Client[replicaPorts.length];
+    for (int replica = 0; replica < replicaPorts.length; replica++) {
+      replicas[replica] = new Client(replicaPorts[replica]);
+    }
+  }
+
+  /*
+  Function: execute
+  Purpose: The purpose of execute() is to run a statement on the connection chosen for it and return its output.
+  - Parameters:
+  1. statement: String
+  - Return Type: String
+   */
+  public String execute(String statement) throws IOException {
+    Statement parsed;
+    try {
+      parsed = Parser.parse(statement);
+    } catch (Exception exception) {
+      return primary.execute(statement);
+    }
+    if (parsed == null || replicas.length == 0) {
+      return primary.execute(statement);
+    }
+    switch (parsed.kind) {
+      case BEGIN:
+        inTransaction = true;
+        return primary.execute(statement);
+      case COMMIT:
+      case ROLLBACK:
+        inTransaction = false;
+        return primary.execute(statement);
+      case USE:
+        return broadcast(statement, true);
+      case SET:
+        return broadcast(statement, !((Setting) parsed).name.equalsIgnoreCase("max_lag"));
+      case EXPLAIN:
+        if (((Explain) parsed).analyze || ((Explain) parsed).statement.kind != SyntaxTree.Kind.SELECT) {
+          return primary.execute(statement);
+        }
+        // NOTE: EXPLAIN of a query is planned where the query would run.
+        return query(statement);
+      case SELECT:
+        return query(statement);
+      default:
+        return primary.execute(statement);
+    }
+  }
+
+  /*
+  Function: query
+  Purpose: The purpose of query() is to run a query on the next replica in turn, or on the primary within a
+  transaction, and return its output.
+  - Parameters:
+  1. statement: String
+  - Return Type: String
+   */
+  private String query(String statement) throws IOException {
+    if (inTransaction) {
+      return primary.execute(statement);
+    }
+    next = (next + 1) % replicas.length;
+    return replicas[next].execute(statement);
+  }
+
+  /*
+  Function: broadcast
+  Purpose: The purpose of broadcast() is to run a statement on every replica, and on the primary unless told not to,
+  pipelining it to all of them before reading the responses. The output of the primary is returned, or of the first
+  replica when the primary was skipped.
+  - Parameters:
+  1. statement: String
+  2. includePrimary: boolean
+  - Return Type: String
+   */
+  private String broadcast(String statement, boolean includePrimary) throws IOException {
+    if (includePrimary) {
+      primary.send(statement);
+    }
+    for (Client replica : replicas) {
+      replica.send(statement);
+    }
+    String output = includePrimary ? primary.receive() : null;
+    for (Client replica : replicas) {
+      String response = replica.receive();
+      output = output == null ? response : output;
+    }
+    return output;
+  }
+
+  @Override
+  public void close() throws IOException {
+    primary.close();
+    for (Client replica : replicas) {
+      replica.close();
+    }
+  }
+}
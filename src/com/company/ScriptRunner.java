@@ -0,0 +1,348 @@
+package com.company;
+
+import com.company.SyntaxTree.Statement;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: ScriptRunner
+    Purpose: The purpose of ScriptRunner is to run long SQL scripts quickly. The script is read in large blocks and
+    split into statements by a scanner that ends a statement at a semicolon outside of a string, drops comments from
+    "--" to the end of the line outside of a string and keeps the line breaks of statements spanning several lines as
+    spaces. A parsing thread scans and parses statements ahead of the session, handing them over through a bounded
+    queue, while the calling thread executes them in order, so parsing the next statements overlaps with executing the
+    current one. Statements are handed over in batches of batchSize so the threads wake each other once per batch
+    rather than once per statement, and the queue keeps the parsing thread at most queueCapacity batches ahead. A
+    line holding only ".exit" ends the script. Once the script ends, the number of statements, their throughput and
+    the percentiles of the time taken to parse and to execute each statement are reported.
+    - Variables:
+    1. queueCapacity: int
+       Purpose: The variable queueCapacity is the number of batches of parsed statements waiting to be executed at most.
+    2. batchSize: int
+       Purpose: The variable batchSize is the number of statements handed from the parsing thread at once.
+    3. blockSize: int
+       Purpose: The variable blockSize is the number of characters read from the script at once.
+    4. database: DatabaseSystem
+       Purpose: The variable database is the session executing the statements of the script.
+    5. out: PrintStream
+       Purpose: The variable out receives the messages printed for statements that failed to be parsed.
+    6. parseLatencies: long[]
+       Purpose: The variable parseLatencies is a histogram of the nanoseconds taken to parse each statement.
+    7. executeLatencies: long[]
+       Purpose: The variable executeLatencies is a histogram of the nanoseconds taken to execute each statement.
+    8. statements: long
+       Purpose: The variable statements is the number of statements run.
+    9. failure: Exception
+       Purpose: The variable failure is the error that stopped the script being read, if any.
+    - Functions:
+    1. run(path: String): void
+    2. parseScript(path: String, handOver: HandOver): void
+    3. executeBatch(batch: ArrayList<Parsed>): boolean
+    4. next(reader: Reader): String
+    5. read(reader: Reader): int
+    6. peek(reader: Reader): int
+    7. appendSpace(statement: StringBuilder): void
+    8. isExit(statement: StringBuilder): boolean
+    9. record(histogram: long[], nanoseconds: long): void
+    10. percentile(histogram: long[], fraction: double): double
+    11. report(statements: long, nanoseconds: long, report: PrintStream): void
+*/
+public class ScriptRunner {
+
+  private static final int queueCapacity = 16;
+  private static final int batchSize = 256;
+  private static final int blockSize = 1 << 20;
+  // NOTE: Latencies are counted in buckets of 16 per power of two, so a percentile is within 1/16 of its value.
+  private static final int subBuckets = 16;
+
+  private final DatabaseSystem database;
+  private final PrintStream out;
+  private final long[] parseLatencies = new long[64 * subBuckets];
+  private final long[] executeLatencies = new long[64 * subBuckets];
+  private long statements = 0;
+  private Exception failure = null;
+
+  // NOTE: Scanner state of the parsing thread.
+  private final char[] block = new char[blockSize];
+  private int blockLength = 0;
+  private int blockPosition = 0;
+
+  /*
+      Class: Parsed
+      Purpose: The purpose of Parsed is to carry a statement from the parsing thread to the executing thread along with
+      the error that kept it from being parsed, if any, and the time taken to parse it. The end of the script is
+      marked by a Parsed without text, carrying the error that stopped the script being read, if any, as the last of
+      its batch.
+  */
+  private interface HandOver {
+    void accept(ArrayList<Parsed> batch) throws InterruptedException;
+  }
+
+  private static class Parsed {
+    final String text;
+    final Statement statement;
+    final Exception failure;
+    final long nanoseconds;
+
+    Parsed(String text, Statement statement, Exception failure, long nanoseconds) {
+      this.text = text;
+      this.statement = statement;
+      this.failure = failure;
+      this.nanoseconds = nanoseconds;
+    }
+  }
+
+  ScriptRunner(DatabaseSystem database, PrintStream out) {
+    this.database = database;
+    this.out = out;
+  }
+
+  /*
+  Function: run
+  Purpose: The purpose of run() is to run every statement of the script at the path and to report the statements run
+  to standard error, keeping standard output to the output of the statements themselves. With a single processor
+  the threads could only take turns, so the statements are parsed and executed on the calling thread instead. If the
+  script cannot be read, the statements read before the error are still run and the error is thrown afterwards.
+  - Parameters:
+  1. path: String
+  - Return Type: void
+   */
+  void run(String path) throws IOException, InterruptedException {
+    long start = System.nanoTime();
+    if (Runtime.getRuntime().availableProcessors() > 1) {
+      BlockingQueue<ArrayList<Parsed>> queue = new ArrayBlockingQueue<>(queueCapacity);
+      Thread parser = new Thread(() -> parseScript(path, queue::put), "script-parser");
+      parser.setDaemon(true);
+      parser.start();
+      while (executeBatch(queue.take())) {
+        continue;
+      }
+      parser.join();
+    } else {
+      parseScript(path, this::executeBatch);
+    }
+    long nanoseconds = System.nanoTime() - start;
+    out.flush();
+    report(statements, nanoseconds, System.err);
+    if (failure instanceof IOException) {
+      throw (IOException) failure;
+    }
+  }
+
+  /*
+  Function: parseScript
+  Purpose: The purpose of parseScript() is to scan and parse the statements of the script, or take them from the
+  statement cache of the session, and to hand them over in batches. Only the parsing functions of the session are
+  used, which go through the synchronized statement cache, so the session is safe to execute statements on another
+  thread at the same time. The end of the script, with the error that ended it if any, closes the last batch.
+  - Parameters:
+  1. path: String
+  2. handOver: HandOver
+  - Return Type: void
+   */
+  private void parseScript(String path, HandOver handOver) {
+    Exception error = null;
+    ArrayList<Parsed> batch = new ArrayList<>(batchSize);
+    try (Reader reader = new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8)) {
+      for (String text = next(reader); text != null; text = next(reader)) {
+        long start = System.nanoTime();
+        Statement statement = null;
+        Exception failure = null;
+        try {
+          statement = database.parse(text);
+        } catch (Exception exception) {
+          failure = exception;
+        }
+        batch.add(new Parsed(text, statement, failure, System.nanoTime() - start));
+        if (batch.size() == batchSize) {
+          handOver.accept(batch);
+          batch = new ArrayList<>(batchSize);
+        }
+      }
+    } catch (Exception exception) {
+      error = exception;
+    }
+    try {
+      batch.add(new Parsed(null, null, error, 0));
+      handOver.accept(batch);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /*
+  Function: executeBatch
+  Purpose: The purpose of executeBatch() is to execute a batch of parsed statements in order, printing the error of
+  the statements that failed to be parsed. If the batch ends the script, the error that ended it is kept and false is
+  returned.
+  - Parameters:
+  1. batch: ArrayList<Parsed>
+  - Return Type: boolean
+   */
+  private boolean executeBatch(ArrayList<Parsed> batch) {
+    for (Parsed parsed : batch) {
+      if (parsed.text == null) {
+        failure = parsed.failure;
+        return false;
+      }
+      statements++;
+      record(parseLatencies, parsed.nanoseconds);
+      long start = System.nanoTime();
+      if (parsed.failure != null) {
+        out.println("!Failed to parse statement because " + parsed.failure.getMessage());
+      } else if (parsed.statement != null) {
+        database.execute(parsed.statement, new String[parsed.statement.parameterCount]);
+      }
+      record(executeLatencies, System.nanoTime() - start);
+    }
+    return true;
+  }
+
+  /*
+  Function: next
+  Purpose: The purpose of next() is to scan the next statement of the script, including its semicolon. Comments and
+  whitespace before the statement are dropped, and line breaks and tabs within it become spaces. Text left without a
+  semicolon at the end of the script is returned as the last statement, and null is returned once the script or a
+  line holding only ".exit" is reached.
+  - Parameters:
+  1. reader: Reader
+  - Return Type: String
+   */
+  private String next(Reader reader) throws IOException {
+    StringBuilder statement = new StringBuilder();
+    boolean inString = false;
+    for (int character = read(reader); character != -1; character = read(reader)) {
+      if (inString) {
+        statement.append((char) character);
+        inString = character != '\'';
+        continue;
+      }
+      switch (character) {
+        case '\'':
+          inString = true;
+          statement.append('\'');
+          break;
+        case ';':
+          return statement.append(';').toString();
+        case '\n':
+          if (isExit(statement)) {
+            return null;
+          }
+          appendSpace(statement);
+          break;
+        case '\r':
+        case '\t':
+        case ' ':
+          appendSpace(statement);
+          break;
+        case '-':
+          if (peek(reader) == '-') {
+            for (int skipped = peek(reader); skipped != -1 && skipped != '\n'; skipped = peek(reader)) {
+              blockPosition++;
+            }
+          } else {
+            statement.append('-');
+          }
+          break;
+        default:
+          statement.append((char) character);
+      }
+    }
+    return statement.toString().isBlank() || isExit(statement) ? null : statement.toString();
+  }
+
+  private int read(Reader reader) throws IOException {
+    int character = peek(reader);
+    if (character != -1) {
+      blockPosition++;
+    }
+    return character;
+  }
+
+  private int peek(Reader reader) throws IOException {
+    if (blockPosition == blockLength) {
+      blockLength = Math.max(0, reader.read(block, 0, block.length));
+      blockPosition = 0;
+      if (blockLength == 0) {
+        return -1;
+      }
+    }
+    return block[blockPosition];
+  }
+
+  // NOTE: Whitespace before a statement is dropped so positions reported by the parser start at the statement.
+  private static void appendSpace(StringBuilder statement) {
+    if (statement.length() > 0) {
+      statement.append(' ');
+    }
+  }
+
+  // NOTE: The statement so far is checked at each line break, so ".exit" is only recognized on a line of its own.
+  private static boolean isExit(StringBuilder statement) {
+    return statement.length() <= 16 && statement.toString().trim().equalsIgnoreCase(".exit");
+  }
+
+  /*
+  Function: record
+  Purpose: The purpose of record() is to count a latency within its bucket of a histogram.
+  - Parameters:
+  1. histogram: long[]
+  2. nanoseconds: long
+  - Return Type: void
+   */
+  private static void record(long[] histogram, long nanoseconds) {
+    long value = Math.max(1, nanoseconds);
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int fraction = exponent < 4 ? (int) (value << (4 - exponent)) & (subBuckets - 1)
+        : (int) (value >>> (exponent - 4)) & (subBuckets - 1);
+    histogram[exponent * subBuckets + fraction]++;
+  }
+
+  /*
+  Function: percentile
+  Purpose: The purpose of percentile() is to return the latency in nanoseconds below which the given fraction of the
+  latencies of a histogram fall, being the upper bound of the bucket holding it.
+  - Parameters:
+  1. histogram: long[]
+  2. fraction: double
+  - Return Type: double
+   */
+  private static double percentile(long[] histogram, double fraction) {
+    long total = 0;
+    for (long count : histogram) {
+      total += count;
+    }
+    long target = (long) Math.ceil(total * fraction);
+    long seen = 0;
+    for (int bucket = 0; bucket < histogram.length; bucket++) {
+      seen += histogram[bucket];
+      if (seen >= Math.max(1, target)) {
+        int exponent = bucket / subBuckets;
+        return Math.pow(2, exponent) * (1 + (bucket % subBuckets + 1) / (double) subBuckets);
+      }
+    }
+    return 0;
+  }
+
+  private void report(long statements, long nanoseconds, PrintStream report) {
+    report.printf("%d statements in %.3f s: %.0f statements/s.%n", statements, nanoseconds / 1e9,
+        statements == 0 ? 0 : 1e9 * statements / nanoseconds);
+    if (statements > 0) {
+      report.printf("Parse latency: p50 %.3f ms, p99 %.3f ms, max %.3f ms.%n", percentile(parseLatencies, 0.5) / 1e6,
+          percentile(parseLatencies, 0.99) / 1e6, percentile(parseLatencies, 1) / 1e6);
+      report.printf("Execute latency: p50 %.3f ms, p99 %.3f ms, max %.3f ms.%n",
+          percentile(executeLatencies, 0.5) / 1e6, percentile(executeLatencies, 0.99) / 1e6,
+          percentile(executeLatencies, 1) / 1e6);
+    }
+  }
+}
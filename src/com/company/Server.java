@@ -0,0 +1,223 @@
+package com.company;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Server
+    Purpose: The purpose of Server is to serve the Engine to clients connecting over the loopback interface so many
+    clients share the caches and locks of one process. Each connection is a session of the engine served by a virtual
+    thread of its own. Requests and responses are frames made of a four byte length, a one byte type and a payload of
+    that length. A client sends each statement as a QUERY frame and the server answers every query, in the order they
+    were sent, with the output of the statement split into BATCH frames followed by a DONE frame. A client may send
+    any number of queries before reading their responses; while further queries are already waiting, responses are
+    not flushed to the socket so pipelined responses share packets. Output is sent in batches as it is printed and a
+    client that stops reading fills the socket buffers, which blocks the session until the client catches up.
+    - Variables:
+    1. QUERY: byte
+       Purpose: The variable QUERY is the frame type of a statement sent by a client.
+    2. BATCH: byte
+       Purpose: The variable BATCH is the frame type of a part of the output of a statement.
+    3. DONE: byte
+       Purpose: The variable DONE is the frame type ending the response to a statement.
+    4. batchSize: int
+       Purpose: The variable batchSize is the number of bytes of output gathered before a BATCH frame is sent.
+    5. maxFrame: int
+       Purpose: The variable maxFrame is the largest payload accepted within a frame.
+    6. engine: Engine
+       Purpose: The variable engine is the engine whose sessions are served.
+    7. serverSocket: ServerSocket
+       Purpose: The variable serverSocket accepts the connections of clients.
+    - Functions:
+    1. start(): void
+    2. getPort(): int
+    3. close(): void
+    4. serve(socket: Socket): Void
+    5. writeFrame(out: DataOutputStream, type: byte, payload: byte[], length: int): void
+    6. readFrame(in: DataInputStream): byte[]
+*/
+public class Server implements AutoCloseable {
+
+  static final byte QUERY = 'Q';
+  static final byte BATCH = 'B';
+  static final byte DONE = 'D';
+  static final int batchSize = 16 * 1024;
+  static final int maxFrame = 16 * 1024 * 1024;
+
+  private final Engine engine;
+  private final ServerSocket serverSocket;
+
+  /*
+      Class: BatchStream
+      Purpose: The purpose of BatchStream is to turn the output printed by a session into BATCH frames. Output is
+      gathered until a batch is full and the last partial batch is sent when the statement finishes.
+  */
+  private static class BatchStream extends OutputStream {
+    private final DataOutputStream out;
+    private final byte[] buffer = new byte[batchSize];
+    private int count = 0;
+
+    BatchStream(DataOutputStream out) {
+      this.out = out;
+    }
+
+    @Override
+    public void write(int character) throws IOException {
+      if (count == buffer.length) {
+        send();
+      }
+      buffer[count++] = (byte) character;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      while (length > 0) {
+        if (count == buffer.length) {
+          send();
+        }
+        int copied = Math.min(length, buffer.length - count);
+        System.arraycopy(bytes, offset, buffer, count, copied);
+        count += copied;
+        offset += copied;
+        length -= copied;
+      }
+    }
+
+    void send() throws IOException {
+      if (count > 0) {
+        writeFrame(out, BATCH, buffer, count);
+        count = 0;
+      }
+    }
+  }
+
+  public Server(Engine engine, int port) throws IOException {
+    this.engine = engine;
+    serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+  }
+
+  /*
+  Function: start
+  Purpose: The purpose of start() is to accept connections until the server is closed. The accepting thread is a
+  platform thread so it keeps the process running, while each connection is served on a virtual thread of its own.
+  - Parameters:
+  - Return Type: void
+   */
+  public void start() {
+    Thread.ofPlatform().name("server-accept").start(() -> {
+      while (!serverSocket.isClosed()) {
+        try {
+          Socket socket = serverSocket.accept();
+          engine.submit(() -> serve(socket));
+        } catch (IOException exception) {
+          // NOTE: Accepting fails once the server socket is closed, which ends the loop.
+        }
+      }
+    });
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+  }
+
+  /*
+  Function: serve
+  Purpose: The purpose of serve() is to run the session of a connection. Queries are read and run one after another
+  and the response of each is written before the next query is run. The socket is flushed only when no further query
+  has arrived. The session ends when the client closes the connection or sends a malformed frame.
+  - Parameters:
+  1. socket: Socket
+  - Return Type: Void
+   */
+  private Void serve(Socket socket) throws IOException {
+    socket.setTcpNoDelay(true);
+    DatabaseSystem session = null;
+    try (socket) {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(),
+          batchSize + 5));
+      BatchStream batches = new BatchStream(out);
+      PrintStream printer = new PrintStream(batches, false, StandardCharsets.UTF_8);
+      session = engine.openSession(printer);
+      while (true) {
+        byte[] frame;
+        try {
+          frame = readFrame(in);
+        } catch (EOFException exception) {
+          break;
+        }
+        if (frame[0] == QUERY) {
+          session.execute(new String(frame, 1, frame.length - 1, StandardCharsets.UTF_8));
+        } else {
+          printer.println("!Failed to run request because frame type " + frame[0] + " is unknown.");
+        }
+        printer.flush();
+        batches.send();
+        writeFrame(out, DONE, new byte[0], 0);
+        if (in.available() == 0) {
+          out.flush();
+        }
+      }
+    } catch (IOException exception) {
+      // NOTE: A connection reset by the client ends its session like closing the connection does.
+    } finally {
+      if (session != null) {
+        session.close();
+      }
+    }
+    return null;
+  }
+
+  /*
+  Function: writeFrame
+  Purpose: The purpose of writeFrame() is to write a frame of the given type with the first length bytes of the
+  payload.
+  - Parameters:
+  1. out: DataOutputStream
+  2. type: byte
+  3. payload: byte[]
+  4. length: int
+  - Return Type: void
+   */
+  static void writeFrame(DataOutputStream out, byte type, byte[] payload, int length) throws IOException {
+    out.writeInt(length);
+    out.writeByte(type);
+    out.write(payload, 0, length);
+  }
+
+  /*
+  Function: readFrame
+  Purpose: The purpose of readFrame() is to read a frame. The type of the frame is returned as the first byte followed
+  by its payload. If the length of the frame is invalid, an exception is thrown.
+  - Parameters:
+  1. in: DataInputStream
+  - Return Type: byte[]
+   */
+  static byte[] readFrame(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0 || length > maxFrame) {
+      throw new IOException("USER EXCEPTION - readFrame: frame length " + length + " is invalid.");
+    }
+    byte[] frame = new byte[length + 1];
+    in.readFully(frame);
+    return frame;
+  }
+}
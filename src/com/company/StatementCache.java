@@ -0,0 +1,143 @@
+package com.company;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: StatementCache
+    Purpose: The purpose of StatementCache is to remember the output of the SQL front end for statements that have
+    already been seen so repeated statements do not pay for lexing and parsing again. Entries are keyed by the
+    normalized text of a statement and are evicted in least recently used order once the cache reaches its capacity.
+    The cache is generic over the cached value so the front end can change the representation it stores without
+    changing the eviction policy. The Database System stores syntax trees, not plans, so a cached statement is still
+    planned each time it runs. The cache is shared by the sessions of an Engine, so its functions are synchronized;
+    lookups are short compared with parsing, so one monitor is enough.
+    - Variables:
+    1. capacity: int
+       Purpose: The variable capacity is the maximum number of statements held by the cache before the least recently
+       used statement is evicted.
+    2. entries: LinkedHashMap<String, T>
+       Purpose: The variable entries stores the cached statements in access order. The eldest entry of the map is
+       always the least recently used statement which makes eviction constant time.
+    3. hits: long
+       Purpose: The variable hits counts lookups that were answered by the cache.
+    4. misses: long
+       Purpose: The variable misses counts lookups that had to go through the front end.
+    - Functions:
+    1. get(statement: String): T
+    2. put(statement: String, value: T): void
+    3. size(): int
+    4. getHits(): long
+    5. getMisses(): long
+    6. normalize(statement: String): String
+*/
+public class StatementCache<T> {
+
+  private final int capacity;
+  private final LinkedHashMap<String, T> entries;
+  private long hits = 0;
+  private long misses = 0;
+
+  public StatementCache(int capacity) {
+    this.capacity = capacity;
+    // NOTE: Access order makes the eldest entry the least recently used entry.
+    entries = new LinkedHashMap<String, T>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+        return size() > StatementCache.this.capacity;
+      }
+    };
+  }
+
+  /*
+  Function: get
+  Purpose: The purpose of get() is to look up the cached front end output of a normalized statement. A successful
+  lookup marks the statement as the most recently used statement. If the statement is not cached, the function
+  returns null.
+  - Parameters:
+  1. statement: String
+  - Return Type: T
+   */
+  public synchronized T get(String statement) {
+    T value = entries.get(statement);
+    if (value == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+    return value;
+  }
+
+  /*
+  Function: put
+  Purpose: The purpose of put() is to add the front end output of a normalized statement to the cache. If the cache
+  is full, the least recently used statement is evicted.
+  - Parameters:
+  1. statement: String
+  2. value: T
+  - Return Type: void
+   */
+  public synchronized void put(String statement, T value) {
+    entries.put(statement, value);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /*
+  Function: normalize
+  Purpose: The purpose of normalize() is to produce the cache key of a statement. "--" comments outside of quoted
+  literals are removed up to the end of their line, as the lexer skips them, so the text they hide never reaches the
+  key. Runs of whitespace outside of quoted literals are then collapsed into a single space, and leading whitespace,
+  trailing whitespace and the statement terminator are removed. Text inside quoted literals is kept as written so
+  statements with different literals never share a key.
+  - Parameters:
+  1. statement: String
+  - Return Type: String
+   */
+  public static String normalize(String statement) {
+    StringBuilder builder = new StringBuilder(statement.length());
+    boolean quoted = false;
+    boolean pendingSpace = false;
+    for (int index = 0; index < statement.length(); index++) {
+      char character = statement.charAt(index);
+      if (!quoted && character == '-' && index + 1 < statement.length() && statement.charAt(index + 1) == '-') {
+        // NOTE: The comment ends at the end of its line, which is kept so it still separates the tokens around it.
+        while (index + 1 < statement.length() && statement.charAt(index + 1) != '\n') {
+          index++;
+        }
+        continue;
+      }
+      if (!quoted && Character.isWhitespace(character)) {
+        pendingSpace = builder.length() > 0;
+        continue;
+      }
+      if (pendingSpace) {
+        builder.append(' ');
+        pendingSpace = false;
+      }
+      if (character == '\'') {
+        quoted = !quoted;
+      }
+      builder.append(character);
+    }
+    int end = builder.length();
+    while (end > 0 && (builder.charAt(end - 1) == ';' || builder.charAt(end - 1) == ' ')) {
+      end--;
+    }
+    builder.setLength(end);
+    return builder.toString();
+  }
+}
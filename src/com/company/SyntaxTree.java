@@ -0,0 +1,416 @@
+package com.company;
+
+import java.util.ArrayList;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: SyntaxTree
+    Purpose: The purpose of SyntaxTree is to define the nodes of the abstract syntax tree built by the Parser. Each SQL
+    statement is represented by a Statement node whose kind identifies the statement, and the values used by a
+    statement are represented by Expression nodes. Literal values are kept as written and "?" placeholders are kept as
+    Parameter nodes so a parsed statement can be cached and executed any number of times with different parameters.
+    - Variables:
+    - Functions:
+*/
+public class SyntaxTree {
+
+  public enum Kind {
+    CREATE_DATABASE, DROP_DATABASE, USE, CREATE_TABLE, DROP_TABLE, ALTER_TABLE, INSERT, UPDATE, DELETE,
+    SELECT, BEGIN, COMMIT, ROLLBACK, PREPARE, EXECUTE, DEALLOCATE, EXPLAIN, SET,
+    BACKUP, COPY, EXPORT, SHOW, CHECKPOINT
+  }
+
+  public enum Join {
+    NONE, CROSS, INNER, LEFT_OUTER
+  }
+
+  /*
+      Class: Statement
+      Purpose: The purpose of Statement is to be the base node of every parsed SQL statement. The parameter count is
+      the number of "?" placeholders within the statement.
+  */
+  public static abstract class Statement {
+    public final Kind kind;
+    public int parameterCount = 0;
+
+    Statement(Kind kind) {
+      this.kind = kind;
+    }
+  }
+
+  /*
+      Class: NamedStatement
+      Purpose: The purpose of NamedStatement is to represent statements that only name the object they act on being
+      CREATE DATABASE, DROP DATABASE, USE, DROP TABLE, DEALLOCATE, SHOW, CHECKPOINT and the transaction statements.
+  */
+  public static class NamedStatement extends Statement {
+    public final String name;
+
+    NamedStatement(Kind kind, String name) {
+      super(kind);
+      this.name = name;
+    }
+  }
+
+  public static class ColumnDefinition {
+    public final String label;
+    public final String type;
+
+    ColumnDefinition(String label, String type) {
+      this.label = label;
+      this.type = type;
+    }
+  }
+
+  public static class CreateTable extends Statement {
+    public final String table;
+    public final ArrayList<ColumnDefinition> columns = new ArrayList<>();
+    public PartitionBy partitionBy = null;
+    public String engine = null;
+
+    CreateTable(String table) {
+      super(Kind.CREATE_TABLE);
+      this.table = table;
+    }
+  }
+
+  /*
+      Class: PartitionBy
+      Purpose: The purpose of PartitionBy is to represent the PARTITION BY clause of a CREATE TABLE statement being the
+      method, the partition column, the number of partitions and, for RANGE, the lower bounds of every partition after
+      the first.
+  */
+  public static class PartitionBy {
+    public final String method;
+    public final String column;
+    public final int count;
+    public final ArrayList<Expression> bounds;
+
+    PartitionBy(String method, String column, int count, ArrayList<Expression> bounds) {
+      this.method = method;
+      this.column = column;
+      this.count = count;
+      this.bounds = bounds;
+    }
+  }
+
+  public static class AlterTable extends Statement {
+    public final String table;
+    public final ColumnDefinition column;
+
+    AlterTable(String table, ColumnDefinition column) {
+      super(Kind.ALTER_TABLE);
+      this.table = table;
+      this.column = column;
+    }
+  }
+
+  /*
+      Class: Insert
+      Purpose: The purpose of Insert is to represent an INSERT statement adding either the rows of its VALUES list or
+      the rows produced by a SELECT to a table.
+  */
+  public static class Insert extends Statement {
+    public final String table;
+    public final ArrayList<ArrayList<Expression>> rows = new ArrayList<>();
+    public Select select = null;
+
+    Insert(String table) {
+      super(Kind.INSERT);
+      this.table = table;
+    }
+  }
+
+  public static class Update extends Statement {
+    public final String table;
+    public final String column;
+    public final Expression value;
+    public final Condition where;
+
+    Update(String table, String column, Expression value, Condition where) {
+      super(Kind.UPDATE);
+      this.table = table;
+      this.column = column;
+      this.value = value;
+      this.where = where;
+    }
+  }
+
+  public static class Delete extends Statement {
+    public final String table;
+    public final Condition where;
+
+    Delete(String table, Condition where) {
+      super(Kind.DELETE);
+      this.table = table;
+      this.where = where;
+    }
+  }
+
+  public static class TableReference {
+    public final String table;
+    public final String alias;
+
+    TableReference(String table, String alias) {
+      this.table = table;
+      this.alias = alias;
+    }
+
+    /*
+    Function: matches
+    Purpose: The purpose of matches() is to check if a column qualifier refers to this table either by its alias or
+    by its name.
+    - Parameters:
+    1. qualifier: String
+    - Return Type: boolean
+     */
+    public boolean matches(String qualifier) {
+      return qualifier.equals(alias) || qualifier.equalsIgnoreCase(table);
+    }
+  }
+
+  /*
+      Class: Select
+      Purpose: The purpose of Select is to represent a SELECT statement. An empty list of columns denotes "*". The
+      join describes how the tables of the FROM clause are combined being a comma separated list (CROSS), an INNER
+      JOIN or a LEFT OUTER JOIN with its ON condition. A SELECT followed by UNION or UNION ALL links to the SELECT
+      after it, and the unions of a statement are applied from left to right.
+  */
+  public static class Select extends Statement {
+    public boolean distinct = false;
+    public final ArrayList<ColumnReference> columns = new ArrayList<>();
+    public final ArrayList<TableReference> tables = new ArrayList<>();
+    public Join join = Join.NONE;
+    public Condition on = null;
+    public Condition where = null;
+    public Select union = null;
+    public boolean unionAll = false;
+
+    Select() {
+      super(Kind.SELECT);
+    }
+  }
+
+  public static class Prepare extends Statement {
+    public final String name;
+    public final Statement statement;
+
+    Prepare(String name, Statement statement) {
+      super(Kind.PREPARE);
+      this.name = name;
+      this.statement = statement;
+    }
+  }
+
+  public static class Execute extends Statement {
+    public final String name;
+    public final ArrayList<Expression> arguments = new ArrayList<>();
+
+    Execute(String name) {
+      super(Kind.EXECUTE);
+      this.name = name;
+    }
+  }
+
+  /*
+      Class: Explain
+      Purpose: The purpose of Explain is to represent EXPLAIN and EXPLAIN ANALYZE of another statement.
+  */
+  public static class Explain extends Statement {
+    public final boolean analyze;
+    public final Statement statement;
+
+    Explain(boolean analyze, Statement statement) {
+      super(Kind.EXPLAIN);
+      this.analyze = analyze;
+      this.statement = statement;
+    }
+  }
+
+  /*
+      Class: Setting
+      Purpose: The purpose of Setting is to represent a SET statement changing a setting of the session.
+  */
+  public static class Setting extends Statement {
+    public final String name;
+    public final Expression value;
+
+    Setting(String name, Expression value) {
+      super(Kind.SET);
+      this.name = name;
+      this.value = value;
+    }
+  }
+
+  /*
+      Class: Backup
+      Purpose: The purpose of Backup is to represent a BACKUP DATABASE statement copying a database into a directory.
+  */
+  public static class Backup extends Statement {
+    public final String database;
+    public final Expression directory;
+
+    Backup(String database, Expression directory) {
+      super(Kind.BACKUP);
+      this.database = database;
+      this.directory = directory;
+    }
+  }
+
+  /*
+      Class: Copy
+      Purpose: The purpose of Copy is to represent a COPY statement loading the rows of a CSV or TSV file into a table.
+  */
+  public static class Copy extends Statement {
+    public final String table;
+    public final Expression file;
+    public final String format;
+    public final boolean header;
+
+    Copy(String table, Expression file, String format, boolean header) {
+      super(Kind.COPY);
+      this.table = table;
+      this.file = file;
+      this.format = format;
+      this.header = header;
+    }
+  }
+
+  /*
+      Class: Export
+      Purpose: The purpose of Export is to represent an EXPORT TABLE statement writing a table to a file, or to the
+      output of the session when the file is null, in the native format of table files or a format of ResultSink.
+  */
+  public static class Export extends Statement {
+    public final String table;
+    public final Expression file;
+    public final String format;
+
+    Export(String table, Expression file, String format) {
+      super(Kind.EXPORT);
+      this.table = table;
+      this.file = file;
+      this.format = format;
+    }
+  }
+
+  /*
+      Class: Expression
+      Purpose: The purpose of Expression is to be the base node of values used within statements. The value of an
+      expression is computed against the parameters bound to the statement being executed.
+  */
+  public static abstract class Expression {
+    public abstract String evaluate(String[] parameters);
+  }
+
+  public static class Literal extends Expression {
+    public final String value;
+
+    Literal(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String evaluate(String[] parameters) {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return value;
+    }
+  }
+
+  public static class Parameter extends Expression {
+    public final int index;
+
+    Parameter(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String evaluate(String[] parameters) {
+      if (parameters == null || index >= parameters.length || parameters[index] == null) {
+        throw new IllegalStateException("USER EXCEPTION - evaluate: parameter $" + (index + 1) + " is not bound.");
+      }
+      return parameters[index];
+    }
+
+    @Override
+    public String toString() {
+      return "?";
+    }
+  }
+
+  /*
+      Class: ColumnReference
+      Purpose: The purpose of ColumnReference is to represent a column named within a statement, optionally
+      qualified by a table name or alias. A column reference evaluates to its own name because the Database
+      Abstraction layer looks columns up by their label.
+  */
+  public static class ColumnReference extends Expression {
+    public final String qualifier;
+    public final String column;
+
+    ColumnReference(String qualifier, String column) {
+      this.qualifier = qualifier;
+      this.column = column;
+    }
+
+    @Override
+    public String evaluate(String[] parameters) {
+      return column;
+    }
+
+    @Override
+    public String toString() {
+      return qualifier == null ? column : qualifier + "." + column;
+    }
+  }
+
+  /*
+      Class: Condition
+      Purpose: The purpose of Condition is to represent a comparison between two expressions used by WHERE and ON
+      clauses.
+  */
+  public static class Condition {
+    public final Expression left;
+    public final String operator;
+    public final Expression right;
+
+    Condition(Expression left, String operator, Expression right) {
+      this.left = left;
+      this.operator = operator;
+      this.right = right;
+    }
+
+    @Override
+    public String toString() {
+      return left + " " + operator + " " + right;
+    }
+  }
+
+  /*
+      Class: SubqueryCondition
+      Purpose: The purpose of SubqueryCondition is to represent a WHERE condition testing the rows of a subquery being
+      "column IN (SELECT ...)", "EXISTS (SELECT ...)" and their NOT forms. The left expression is the column tested by
+      IN and is null for EXISTS. A subquery of EXISTS may refer to the columns of the tables of the outer query.
+  */
+  public static class SubqueryCondition extends Condition {
+    public final boolean negated;
+    public final Select subquery;
+
+    SubqueryCondition(Expression left, boolean negated, Select subquery) {
+      super(left, (negated ? "NOT " : "") + (left == null ? "EXISTS" : "IN"), null);
+      this.negated = negated;
+      this.subquery = subquery;
+    }
+
+    @Override
+    public String toString() {
+      return (left == null ? "" : left + " ") + operator + " (subquery)";
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.company;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: TableLock
+    Purpose: The purpose of TableLock is to lock a table against the other processes sharing the databases' directory.
+    Each table has a lock file within the "_mvcc/locks" directory of its database and a reader of the table holds a
+    shared lock on the file while a writer rewriting the table holds an exclusive lock, so processes read a table
+    together while a writer waits for them. The locks are advisory locks of the operating system, so the locks of a
+    process are released when the process ends even if it ends without unlocking. The operating system grants locks to
+    processes rather than threads, so the sessions of this process share one lock on each table counted by the number
+    of sessions holding it. Sessions of this process are ordered by the Lock Manager before locking a table, so the
+    sessions sharing the lock of a table always want the same mode.
+    - Variables:
+    1. holders: ConcurrentHashMap<String, Holder>
+       Purpose: The variable holders stores the lock file of every table locked by this process.
+    2. holder: Holder
+       Purpose: The variable holder is the lock file of the table this lock holds.
+    - Functions:
+    1. acquire(databasePath: String, table: String, shared: boolean, timeout: long): TableLock
+    2. close(): void
+*/
+public class TableLock implements AutoCloseable {
+
+  private static final ConcurrentHashMap<String, Holder> holders = new ConcurrentHashMap<>();
+
+  private final Holder holder;
+
+  /*
+      Class: Holder
+      Purpose: The purpose of Holder is to keep the lock file of a table open for the life of the process. The channel
+      is never closed because closing any channel of a file releases every lock the process holds on the file. The
+      monitor is a ReentrantLock rather than a synchronized block so sessions on virtual threads waiting for another
+      process do not pin their carrier threads.
+  */
+  private static class Holder {
+    final ReentrantLock monitor = new ReentrantLock();
+    final FileChannel channel;
+    FileLock lock = null;
+    int sessions = 0;
+
+    Holder(File location) throws Exception {
+      location.getParentFile().mkdirs();
+      channel = FileChannel.open(location.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+    }
+  }
+
+  private TableLock(Holder holder) {
+    this.holder = holder;
+  }
+
+  /*
+  Function: acquire
+  Purpose: The purpose of acquire() is to lock a table in shared mode for reading or exclusive mode for writing. If
+  another session of this process already holds the lock of the table it is shared, otherwise the lock file is locked
+  and, while another process holds an incompatible lock, locking is retried with a growing pause until the timeout in
+  milliseconds passes and an exception is thrown.
+  - Parameters:
+  1. databasePath: String
+  2. table: String
+  3. shared: boolean
+  4. timeout: long
+  - Return Type: TableLock
+   */
+  public static TableLock acquire(String databasePath, String table, boolean shared, long timeout) throws Exception {
+    File location = new File(databasePath + "_mvcc/locks/" + table.toLowerCase());
+    String key = location.getAbsoluteFile().toPath().normalize().toString();
+    // NOTE: The holder is created within computeIfAbsent so a second channel of the file is never opened and closed.
+    Holder holder = holders.computeIfAbsent(key, path -> {
+      try {
+        return new Holder(location);
+      } catch (Exception exception) {
+        throw new RuntimeException(exception);
+      }
+    });
+    holder.monitor.lock();
+    try {
+      if (holder.sessions == 0) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        long pause = 1;
+        holder.lock = holder.channel.tryLock(0, 1, shared);
+        while (holder.lock == null) {
+          if (System.nanoTime() > deadline) {
+            throw new Exception("USER EXCEPTION - acquire: timed out waiting for table " + table
+                + " locked by another process.");
+          }
+          Thread.sleep(pause);
+          pause = Math.min(pause * 2, 50);
+          holder.lock = holder.channel.tryLock(0, 1, shared);
+        }
+      }
+      holder.sessions++;
+    } finally {
+      holder.monitor.unlock();
+    }
+    return new TableLock(holder);
+  }
+
+  /*
+  Function: close
+  Purpose: The purpose of close() is to give up the lock of the table. The lock file is unlocked once no session of
+  this process holds the lock.
+  - Parameters:
+  - Return Type: void
+   */
+  @Override
+  public void close() throws IOException {
+    holder.monitor.lock();
+    try {
+      holder.sessions--;
+      if (holder.sessions == 0) {
+        holder.lock.release();
+        holder.lock = null;
+      }
+    } finally {
+      holder.monitor.unlock();
+    }
+  }
+}
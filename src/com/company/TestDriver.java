@@ -4,18 +4,27 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.function.Consumer;
 
 /*
     Author: Araam Zaremehrjardi
     Date Created: April 4, 2022
-    Date Edited: April 5, 2022
+    Date Edited: October 19, 2026
     Class: TestDriver
     Purpose: The purpose of TestDriver is to be a starting point for the application by opening a file or standard input
     stream for reading SQL statements. The TestDriver continuously reads input from either stream until the application
-    is stopped.
+    is stopped. Started with "--server <port> [directory]", the TestDriver instead serves the database, or the databases
+    of the given directory, to Clients over the loopback interface until the process is stopped. Started with
+    "--coordinator <shards> [file]", the statements are run by a Coordinator over a Cluster of that many shards, each
+    an engine process serving a directory below "shards/", which are stopped once the input ends. Started with
+    "--replica <primary directory> <port> [directory]", the TestDriver serves a read-only Replica of the databases of
+    the primary, kept in the given directory or "replica/", on the port. Started with "--script <file>", the statements
+    of the file are run by a Script Runner, which parses statements ahead of executing them and reports their
+    throughput once the file ends.
     - Variables:
     - Functions:
     1. main(args: String[]): void
+    2. run(file: String, execute: Consumer<String>): void
 */
 public class TestDriver {
 
@@ -23,19 +32,73 @@ public class TestDriver {
   Function: main
   Purpose: The purpose of main() is to be main entry point for the application by initializing an instance of the
   Database System and initializing a reader stream to read input. The function checks if an argument for a file is
-  present in which is used to open a file reader stream otherwise standard input stream is opened to take input.
+  present in which is used to open a file reader stream otherwise standard input stream is opened to take input. If
+  the arguments are "--server" and a port, a Server is started on the port instead, if they are "--coordinator" and a
+  number of shards, the statements are run by a Coordinator over a Cluster of shards, if they are "--replica", the
+  directory of a primary and a port, a Replica of the primary is served on the port, and if they are "--script" and
+  a file, the file is run by a Script Runner.
   Each SQL statement is continuously read until it meets the break condition in the while-loop in which case the
   application stops.
   - Parameters:
   1. database: String
   - Return Type: boolean
    */
-  public static void main(String[] args) throws IOException {
+  public static void main(String[] args) throws IOException, InterruptedException {
+    // NOTE: Used to serve the database to clients over the loopback interface instead of reading statements.
+    if ((args.length == 2 || args.length == 3) && args[0].equals("--server")) {
+      Server server = new Server(args.length == 3 ? new Engine(args[2]) : new Engine(), Integer.parseInt(args[1]));
+      server.start();
+      System.out.println("=== DATABASE SERVER ON PORT " + server.getPort() + " ===");
+      return;
+    }
+    // NOTE: Used to serve a copy of the databases of a primary that follows its changes and only answers reads.
+    if ((args.length == 3 || args.length == 4) && args[0].equals("--replica")) {
+      Engine engine = new Engine(args.length == 4 ? args[3] : "replica/");
+      Replica replica = new Replica(args[1], engine.databasesDirectory);
+      try {
+        replica.start();
+      } catch (Exception exception) {
+        System.out.println("!Failed to start replica because " + exception.getMessage());
+        return;
+      }
+      engine.replica = replica;
+      Server server = new Server(engine, Integer.parseInt(args[2]));
+      server.start();
+      System.out.println("=== DATABASE REPLICA OF " + args[1] + " ON PORT " + server.getPort() + " ===");
+      return;
+    }
+    // NOTE: Used to spread the tables over engine processes, each serving its own directory, instead of one engine.
+    if ((args.length == 2 || args.length == 3) && args[0].equals("--coordinator")) {
+      try (Coordinator.Cluster cluster = Coordinator.Cluster.start(Integer.parseInt(args[1]), "shards/");
+           Coordinator coordinator = new Coordinator(cluster, System.out)) {
+        run(args.length == 3 ? args[2] : null, coordinator::execute);
+      }
+      return;
+    }
     DatabaseSystem database = new DatabaseSystem();
+    // NOTE: Used to run long scripts with parsing and execution overlapped instead of a statement at a time.
+    if (args.length == 2 && args[0].equals("--script")) {
+      new ScriptRunner(database, System.out).run(args[1]);
+      System.out.println("All Done.");
+      return;
+    }
+    run(args.length == 1 ? args[0] : null, database::execute);
+  }
+
+  /*
+  Function: run
+  Purpose: The purpose of run() is to read SQL statements from a file, or from standard input when no file is given,
+  and hand each statement to be executed until the input ends or ".exit" is entered.
+  - Parameters:
+  1. file: String
+  2. execute: Consumer<String>
+  - Return Type: void
+   */
+  private static void run(String file, Consumer<String> execute) throws IOException {
     BufferedReader reader = null;
     // NOTE: Used to check if a file argument is present otherwise standard input is used.
-    if (args.length == 1) {
-      reader = new BufferedReader(new FileReader(args[0]));
+    if (file != null) {
+      reader = new BufferedReader(new FileReader(file));
     } else {
       reader = new BufferedReader(new InputStreamReader(System.in));
       System.out.println("=== DATABASE SHELL ===");
@@ -51,12 +114,18 @@ public class TestDriver {
           if (command.equals(".exit") || command.equals(".EXIT")) {
               break;
             }
-        command += reader.readLine();
+        String line = reader.readLine();
+        // NOTE: A script ending without .exit ends the session, dropping a statement missing its semicolon.
+        if (line == null) {
+          command = ".exit";
+          break;
+        }
+        command += line;
       }
       if (command.equals(".exit") || command.equals(".EXIT")) {
         break;
       }
-      database.execute(command);
+      execute.accept(command);
     }
     System.out.println("All Done.");
   }
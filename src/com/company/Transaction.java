@@ -0,0 +1,252 @@
+package com.company;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: Transaction
+    Purpose: The purpose of Transaction is to hold the state of a running transaction. A transaction reads every table
+    as it was committed when the transaction began, its snapshot, and records its changes in a write set rather than
+    in the table files. Each change is kept as the version of the row within the snapshot, the before image, along with
+    the new version of the row, the after image, so the changes can be checked against the changes committed by other
+    transactions and applied when the transaction commits. A removed row has no after image and an inserted row has no
+    before image; inserted rows are placed after the rows of the snapshot. Since inserted rows are the only part of the
+    write set not bounded by the size of the snapshot, once more than spillThreshold of them are held in memory they
+    are appended to a spill file and read back when the rows of the table are needed. Rolling back only drops the write
+    set and the spill file.
+    - Variables:
+    1. id: String
+       Purpose: The variable id identifies the transaction within the registry of active transactions.
+    2. snapshot: long
+       Purpose: The variable snapshot is the commit sequence number of the last commit visible to the transaction.
+    3. snapshots: HashMap<String, ArrayList<String[]>>
+       Purpose: The variable snapshots stores the rows of each table read by the transaction as of its snapshot.
+    4. writeSet: HashMap<String, TreeMap<Integer, String[][]>>
+       Purpose: The variable writeSet stores the before and after image of every row changed by the transaction
+       keyed by the table and the position of the row within the snapshot of the table.
+    5. inserted: HashMap<String, Integer>
+       Purpose: The variable inserted stores the number of rows inserted into each table by the transaction.
+    6. spill: File
+       Purpose: The variable spill is the file the inserted rows are moved to once there are too many to keep.
+    7. spillThreshold: int
+       Purpose: The variable spillThreshold is the number of inserted rows kept in memory before they are spilled.
+    8. buffered: int
+       Purpose: The variable buffered is the number of inserted rows currently held in memory.
+    9. spilledTables: TreeSet<String>
+       Purpose: The variable spilledTables stores the tables having rows within the spill file.
+    10. optimistic: boolean
+       Purpose: The variable optimistic is used to define if the transaction runs without locks and is validated
+       when it commits.
+    11. readSet: HashSet<String>
+       Purpose: The variable readSet stores the tables read by an optimistic transaction. The rows it changed are
+       already covered by the before images of its write set.
+    - Functions:
+    1. write(table: String, index: int, before: String[], after: String[]): void
+    2. rows(table: String): ArrayList<String[]>
+    3. insert(table: String, row: String[]): int
+    4. tables(): Set<String>
+    5. changes(table: String): TreeMap<Integer, String[][]>
+    6. discard(): void
+    7. spill(): void
+    8. readSpill(table: String): TreeMap<Integer, String[][]>
+*/
+public class Transaction {
+
+  // NOTE: Separates the fields of a line of the spill file. Table values never contain it.
+  private static final String separator = "\u001F";
+
+  final String id;
+  final long snapshot;
+  final HashMap<String, ArrayList<String[]>> snapshots = new HashMap<>();
+  final HashMap<String, TreeMap<Integer, String[][]>> writeSet = new HashMap<>();
+  final HashMap<String, Integer> inserted = new HashMap<>();
+  private final File spill;
+  int spillThreshold = 4096;
+  private int buffered = 0;
+  private final TreeSet<String> spilledTables = new TreeSet<>();
+  boolean optimistic = false;
+  final HashSet<String> readSet = new HashSet<>();
+
+  Transaction(String id, long snapshot, File spill) {
+    this.id = id;
+    this.snapshot = snapshot;
+    this.spill = spill;
+  }
+
+  /*
+  Function: write
+  Purpose: The purpose of write() is to record a change of a row of the snapshot or of a row inserted by the
+  transaction. A row changed more than once keeps the before image of its first change so it is still compared
+  against the version the transaction read.
+  - Parameters:
+  1. table: String
+  2. index: int
+  3. before: String[]
+  4. after: String[]
+  - Return Type: void
+   */
+  void write(String table, int index, String[] before, String[] after) {
+    TreeMap<Integer, String[][]> writes = writeSet.computeIfAbsent(table.toLowerCase(), key -> new TreeMap<>());
+    String[][] change = writes.get(index);
+    if (change == null) {
+      writes.put(index, new String[][]{before, after});
+      if (before == null) {
+        buffered++;
+      }
+    } else {
+      change[1] = after;
+    }
+  }
+
+  /*
+  Function: insert
+  Purpose: The purpose of insert() is to record a row inserted into a table whose snapshot has been read. The row is
+  placed after the rows of the snapshot and the rows inserted before it, and its position is returned. If too many
+  inserted rows are held in memory, they are spilled.
+  - Parameters:
+  1. table: String
+  2. row: String[]
+  - Return Type: int
+   */
+  int insert(String table, String[] row) throws Exception {
+    String name = table.toLowerCase();
+    int count = inserted.getOrDefault(name, 0);
+    int index = snapshots.get(name).size() + count;
+    inserted.put(name, count + 1);
+    write(name, index, null, row);
+    if (buffered > spillThreshold) {
+      spill();
+    }
+    return index;
+  }
+
+  /*
+  Function: rows
+  Purpose: The purpose of rows() is to return the rows of a table as seen by the transaction being the snapshot of the
+  table with the changes of the transaction applied. The position of a row within the returned list is its position
+  within the snapshot, followed by the rows inserted by the transaction. Removed rows are left as null so positions
+  do not move.
+  - Parameters:
+  1. table: String
+  - Return Type: ArrayList<String[]>
+   */
+  ArrayList<String[]> rows(String table) throws Exception {
+    String name = table.toLowerCase();
+    ArrayList<String[]> rows = new ArrayList<>(snapshots.get(name));
+    for (int count = inserted.getOrDefault(name, 0); count > 0; count--) {
+      rows.add(null);
+    }
+    for (Map.Entry<Integer, String[][]> change : changes(name).entrySet()) {
+      rows.set(change.getKey(), change.getValue()[1]);
+    }
+    return rows;
+  }
+
+  /*
+  Function: tables
+  Purpose: The purpose of tables() is to return the tables changed by the transaction.
+  - Parameters:
+  - Return Type: Set<String>
+   */
+  Set<String> tables() {
+    TreeSet<String> tables = new TreeSet<>(writeSet.keySet());
+    tables.addAll(spilledTables);
+    return tables;
+  }
+
+  /*
+  Function: changes
+  Purpose: The purpose of changes() is to return every change of the transaction to a table keyed by the position of
+  the row, reading back the spilled rows first so the changes held in memory, which are newer, take their place.
+  - Parameters:
+  1. table: String
+  - Return Type: TreeMap<Integer, String[][]>
+   */
+  TreeMap<Integer, String[][]> changes(String table) throws Exception {
+    String name = table.toLowerCase();
+    TreeMap<Integer, String[][]> changes = readSpill(name);
+    TreeMap<Integer, String[][]> writes = writeSet.get(name);
+    if (writes != null) {
+      changes.putAll(writes);
+    }
+    return changes;
+  }
+
+  /*
+  Function: discard
+  Purpose: The purpose of discard() is to drop the write set of the transaction when it rolls back or aborts. Nothing
+  is undone since the tables were never changed, so only the spill file, if any, is removed.
+  - Parameters:
+  - Return Type: void
+   */
+  void discard() {
+    writeSet.clear();
+    inserted.clear();
+    spilledTables.clear();
+    buffered = 0;
+    if (spill != null) {
+      spill.delete();
+    }
+  }
+
+  /*
+  Function: spill
+  Purpose: The purpose of spill() is to move the inserted rows held in memory to the end of the spill file. Each line
+  names the table, the position and the after image of the row, and a later line for the same position replaces an
+  earlier one.
+  - Parameters:
+  - Return Type: void
+   */
+  private void spill() throws Exception {
+    if (spill == null) {
+      return;
+    }
+    spill.getParentFile().mkdirs();
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(spill, true))) {
+      for (Map.Entry<String, TreeMap<Integer, String[][]>> table : writeSet.entrySet()) {
+        Iterator<Map.Entry<Integer, String[][]>> changes = table.getValue().entrySet().iterator();
+        while (changes.hasNext()) {
+          Map.Entry<Integer, String[][]> change = changes.next();
+          if (change.getValue()[0] == null) {
+            writer.write(table.getKey() + separator + change.getKey() + separator
+                + VersionStore.encode(change.getValue()[1]));
+            writer.newLine();
+            changes.remove();
+            spilledTables.add(table.getKey());
+          }
+        }
+      }
+    }
+    buffered = 0;
+  }
+
+  private TreeMap<Integer, String[][]> readSpill(String table) throws Exception {
+    TreeMap<Integer, String[][]> changes = new TreeMap<>();
+    if (!spilledTables.contains(table)) {
+      return changes;
+    }
+    try (BufferedReader reader = new BufferedReader(new FileReader(spill))) {
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        String[] fields = line.split(separator, -1);
+        if (fields[0].equals(table)) {
+          changes.put(Integer.parseInt(fields[1]), new String[][]{null, VersionStore.decode(fields[2])});
+        }
+      }
+    }
+    return changes;
+  }
+}
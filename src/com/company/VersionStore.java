@@ -0,0 +1,1009 @@
+package com.company;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/*
+    Author: Araam Zaremehrjardi
+    Date Created: October 19, 2026
+    Date Edited: October 19, 2026
+    Class: VersionStore
+    Purpose: The purpose of VersionStore is to provide multi-version concurrency control for the tables of a database.
+    Table files always hold the latest committed version of every row. Every commit is given the next commit sequence
+    number and, while other transactions are running, the before and after image of every row it changes is appended
+    to the version log tagged with that number. A transaction reads a table as of its snapshot by taking the latest
+    committed rows and undoing the changes logged after its snapshot, so readers never wait for writers and writers
+    never wait for readers. At commit the before images of the rows a transaction changed are compared with the rows
+    changed by the commits logged after its snapshot and the transaction is aborted if another transaction committed a
+    change to one of the same rows first. Once a Replica follows the database, every commit and every change of a
+    schema also appends the tables it wrote to the change log, which replicas tail to copy the tables they are missing.
+    The store lives in the "_mvcc" directory of the database and is shared by
+    every process using the database; its files are only written while holding the commit lock, which is a lock
+    within the process combined with a lock on a file for other processes. Snapshots read them without the lock: the
+    state of the store is replaced whole by every write, and tables being written are staged first.
+    - Variables:
+    1. processLocks: ConcurrentHashMap<String, ReentrantLock>
+       Purpose: The variable processLocks stores the commit lock of each database for the threads of this process.
+    2. transactionCount: AtomicLong
+       Purpose: The variable transactionCount is used to give every transaction started by this process a unique id.
+    3. databasePath: String
+       Purpose: The variable databasePath is the directory of the database the store belongs to.
+    4. directory: File
+       Purpose: The variable directory is the "_mvcc" directory holding the files of the store.
+    5. lockKey: String
+       Purpose: The variable lockKey is the absolute path of the database naming its commit lock within the process.
+    6. commitCount: AtomicLong
+       Purpose: The variable commitCount is the number of transactions committed by this process.
+    7. abortCount: AtomicLong
+       Purpose: The variable abortCount is the number of transactions of this process aborted at commit.
+    8. retryCount: AtomicLong
+       Purpose: The variable retryCount is the number of transactions begun by a session of this process right after
+       its previous transaction aborted.
+    9. ticket: long
+       Purpose: The variable ticket is the group commit ticket of the last commit made through this store not yet
+       waited for, or 0.
+    10. commitStart: long
+       Purpose: The variable commitStart is the time the last commit made through this store started in nanoseconds.
+    11. changeLog_capacity: long
+       Purpose: The variable changeLog_capacity is the size in bytes past which the change log is started over.
+    - Functions:
+    1. begin(): Transaction
+    2. end(transaction: Transaction): void
+    3. snapshot(transaction: Transaction, table: String): ArrayList<String[]>
+    4. commit(transaction: Transaction, format: RowFormat): boolean
+    5. autocommit(table: String, write: Callable<T>): T
+    6. readRows(table: String): ArrayList<String[]>
+    7. writeRows(table: String, rows: ArrayList<String[]>, format: RowFormat): File
+    8. readLog(after: long, upTo: long): ArrayList<String[][]>
+    9. appendLog(sequence: long, table: String, changes: ArrayList<String[][]>): void
+    10. pruneLog(): void
+    11. activeSnapshots(): ArrayList<Long>
+    12. lock(): FileLock
+    13. unlock(lock: FileLock): void
+    14. awaitCommit(): void
+    15. backup(destination: File): long
+    16. breakLink(table: String): void
+    17. logChanges(tables: Collection<String>): void
+    18. recordChanges(tables: String...): void
+    19. ship(generation: long, position: long, destination: File): Shipment
+    20. link(tables: File[], staging: File): long[]
+    21. writeState(sequence: long, writing: Collection<String>): void
+    22. stage(tables: Collection<String>, copy: boolean): void
+    23. drop(): void
+*/
+public class VersionStore {
+
+  // NOTE: Separates the fields of a line of the version log. Table values never contain it.
+  private static final String separator = "\u001F";
+  private static final long changeLog_capacity = 1 << 20;
+
+  private static final ConcurrentHashMap<String, ReentrantLock> processLocks = new ConcurrentHashMap<>();
+  private static final AtomicLong transactionCount = new AtomicLong();
+  static final AtomicLong commitCount = new AtomicLong();
+  static final AtomicLong abortCount = new AtomicLong();
+  static final AtomicLong retryCount = new AtomicLong();
+
+  private final String databasePath;
+  private final File directory;
+  private final String lockKey;
+  private long ticket = 0;
+  private long commitStart = 0;
+
+  /*
+      Interface: RowFormat
+      Purpose: The purpose of RowFormat is to turn the values of a row into the line stored in a table file so rows
+      written by the store follow the schema of their table.
+  */
+  public interface RowFormat {
+    String format(String table, String[] values) throws Exception;
+  }
+
+  /*
+      Class: Shipment
+      Purpose: The purpose of Shipment is to describe what ship() brought over to a replica being the generation of
+      the change log and the position reached within it, the number of changes shipped, the time of the oldest of
+      them and whether every table was copied.
+  */
+  public static class Shipment {
+    long generation = 0;
+    long position = 0;
+    int changes = 0;
+    long oldest = 0;
+    boolean full = false;
+  }
+
+  VersionStore(String databasePath) {
+    this.databasePath = databasePath;
+    this.directory = new File(databasePath, "_mvcc");
+    this.lockKey = new File(databasePath).getAbsoluteFile().toPath().normalize().toString();
+  }
+
+  /*
+  Function: begin
+  Purpose: The purpose of begin() is to start a transaction. The snapshot of the transaction is the last commit
+  sequence number, and the transaction is registered as active so later commits keep the row versions it may read.
+  - Parameters:
+  - Return Type: Transaction
+   */
+  public Transaction begin() throws Exception {
+    FileLock lock = lock();
+    try {
+      long snapshot = readSequence();
+      String id = ProcessHandle.current().pid() + "-" + transactionCount.incrementAndGet();
+      File active = new File(directory, "active");
+      active.mkdirs();
+      Files.writeString(new File(active, id).toPath(), String.valueOf(snapshot));
+      return new Transaction(id, snapshot, new File(new File(directory, "spill"), id));
+    } finally {
+      unlock(lock);
+    }
+  }
+
+  /*
+  Function: end
+  Purpose: The purpose of end() is to remove a committed or aborted transaction from the registry of active
+  transactions, to drop its write set along with its spill file and to drop the row versions no active transaction
+  can read anymore.
+  - Parameters:
+  1. transaction: Transaction
+  - Return Type: void
+   */
+  public void end(Transaction transaction) throws Exception {
+    transaction.discard();
+    FileLock lock = lock();
+    try {
+      new File(new File(directory, "active"), transaction.id).delete();
+      pruneLog();
+    } finally {
+      unlock(lock);
+    }
+  }
+
+  /*
+  Function: snapshot
+  Purpose: The purpose of snapshot() is to read a table as of the snapshot of a transaction without taking the commit
+  lock. The latest committed rows and the version log are read between two reads of the state of the store, and read
+  again if a write started or ended in between. A table being written is read from the copy the writer staged of its
+  last committed version, and changes logged past the sequence number of the state are ignored. Then the logged
+  changes committed after the snapshot are undone from the newest to the oldest. The rows of the snapshot are kept by
+  the transaction so the table is only reconstructed once per transaction.
+  - Parameters:
+  1. transaction: Transaction
+  2. table: String
+  - Return Type: ArrayList<String[]>
+   */
+  public ArrayList<String[]> snapshot(Transaction transaction, String table) throws Exception {
+    String name = table.toLowerCase();
+    ArrayList<String[]> rows = transaction.snapshots.get(name);
+    if (rows != null) {
+      return rows;
+    }
+    ArrayList<String[][]> log;
+    while (true) {
+      String[] state = readState();
+      boolean writing = Arrays.asList(state).subList(Math.min(2, state.length), state.length).contains(name);
+      rows = readRows(writing ? new File(new File(directory, "stable"), name + ".txt") : new File(databasePath + name
+          + ".txt"));
+      log = readLog(transaction.snapshot, Long.parseLong(state[0]));
+      if (Arrays.equals(state, readState())) {
+        break;
+      }
+      Thread.onSpinWait();
+    }
+    for (int entryIndex = log.size() - 1; entryIndex >= 0; entryIndex--) {
+      String[][] entry = log.get(entryIndex);
+      if (!entry[0][1].equals(name)) {
+        continue;
+      }
+      String[] before = entry[1];
+      String[] after = entry[2];
+      int index = after == null ? -1 : indexOf(rows, after, null);
+      if (index >= 0 && before != null) {
+        rows.set(index, before);
+      } else if (index >= 0) {
+        rows.remove(index);
+      } else if (before != null) {
+        rows.add(before);
+      }
+    }
+    transaction.snapshots.put(name, rows);
+    return rows;
+  }
+
+  /*
+  Function: commit
+  Purpose: The purpose of commit() is to apply the write set of a transaction following first committer wins. The
+  write set is read back from the transaction, including its spilled rows, and while holding the commit lock the
+  before images of the write set are compared with the rows changed by every commit logged after the snapshot of the
+  transaction, and if one of the rows was changed the transaction is aborted and false is returned. An optimistic
+  transaction is validated backwards as well: if a commit logged after its snapshot changed a table in its read set,
+  what it read is stale and it is aborted the same way. Otherwise the after images are put in place of the before
+  images of every changed table in memory, and the transaction is aborted if a before image is no longer found. Only
+  once every table was checked are they written, each to a temporary file, and moved into place, the changes are
+  logged for the transactions still running and the commit sequence number is increased. While other transactions
+  are running, their snapshots read the staged versions of the tables being moved into place. The written tables are
+  registered with the group commit of the database; the caller waits for them with awaitCommit() once its locks are
+  released.
+  - Parameters:
+  1. transaction: Transaction
+  2. format: RowFormat
+  - Return Type: boolean
+   */
+  public boolean commit(Transaction transaction, RowFormat format) throws Exception {
+    commitStart = System.nanoTime();
+    FileLock lock = lock();
+    try {
+      ArrayList<String[][]> log = readLog(transaction.snapshot, Long.MAX_VALUE);
+      TreeMap<String, TreeMap<Integer, String[][]>> writeSet = new TreeMap<>();
+      for (String table : transaction.tables()) {
+        writeSet.put(table, transaction.changes(table));
+      }
+      for (String[][] entry : log) {
+        if (transaction.readSet.contains(entry[0][1])) {
+          return false;
+        }
+      }
+      for (Map.Entry<String, TreeMap<Integer, String[][]>> table : writeSet.entrySet()) {
+        ArrayList<String[]> changed = new ArrayList<>();
+        for (String[][] entry : log) {
+          if (entry[0][1].equals(table.getKey()) && entry[1] != null) {
+            changed.add(entry[1]);
+          }
+        }
+        for (String[][] change : table.getValue().values()) {
+          if (change[0] != null && indexOf(changed, change[0], null) >= 0) {
+            return false;
+          }
+        }
+      }
+      TreeMap<String, ArrayList<String[]>> tableRows = new TreeMap<>();
+      TreeMap<String, ArrayList<String[][]>> tableChanges = new TreeMap<>();
+      for (Map.Entry<String, TreeMap<Integer, String[][]>> table : writeSet.entrySet()) {
+        ArrayList<String[]> rows = readRows(table.getKey());
+        boolean[] replaced = new boolean[rows.size()];
+        ArrayList<String[][]> changes = new ArrayList<>();
+        for (String[][] change : table.getValue().values()) {
+          if (Arrays.equals(change[0], change[1])) {
+            continue;
+          }
+          int index = change[0] == null ? -1 : indexOf(rows, change[0], replaced);
+          if (change[0] != null && index < 0) {
+            return false;
+          }
+          if (index >= 0) {
+            replaced[index] = true;
+            rows.set(index, change[1]);
+          } else {
+            rows.add(change[1]);
+          }
+          changes.add(change);
+        }
+        rows.removeIf(row -> row == null);
+        tableRows.put(table.getKey(), rows);
+        tableChanges.put(table.getKey(), changes);
+      }
+      // NOTE: Every table of the write set was checked before any of them is written, so a commit is never partial.
+      long sequence = readSequence() + 1;
+      boolean others = activeSnapshots().size() > 1;
+      ArrayList<File> temporaries = new ArrayList<>();
+      try {
+        for (Map.Entry<String, ArrayList<String[]>> table : tableRows.entrySet()) {
+          temporaries.add(writeRows(table.getKey(), table.getValue(), format));
+        }
+      } catch (Exception exception) {
+        for (File temporary : temporaries) {
+          temporary.delete();
+        }
+        throw exception;
+      }
+      if (others) {
+        stage(tableRows.keySet(), false);
+        writeState(sequence - 1, tableRows.keySet());
+      }
+      ArrayList<File> written = new ArrayList<>();
+      try {
+        for (Map.Entry<String, ArrayList<String[]>> table : tableRows.entrySet()) {
+          File location = new File(databasePath + table.getKey() + ".txt");
+          Files.move(temporaries.get(written.size()).toPath(), location.toPath(), StandardCopyOption.REPLACE_EXISTING,
+              StandardCopyOption.ATOMIC_MOVE);
+          written.add(location);
+          if (others) {
+            appendLog(sequence, table.getKey(), tableChanges.get(table.getKey()));
+          }
+        }
+        logChanges(writeSet.keySet());
+        writeState(sequence, List.of());
+      } catch (Exception exception) {
+        if (others) {
+          writeState(sequence - 1, List.of());
+        }
+        throw exception;
+      } finally {
+        unstage(tableRows.keySet());
+      }
+      ticket = GroupCommit.of(databasePath).register(written);
+      return true;
+    } finally {
+      unlock(lock);
+    }
+  }
+
+  /*
+  Function: autocommit
+  Purpose: The purpose of autocommit() is to run a statement outside of a transaction as its own commit. The write is
+  carried out while holding the commit lock and, if any transaction is running, the rows of the table are compared
+  before and after the write so the rows it removed and added are logged with a new commit sequence number. While
+  the table is written, snapshots read a copy of it staged beforehand. The
+  table file is registered with the group commit of the database; the caller waits for it with awaitCommit() once
+  its locks are released. A table file still linked by a running backup is copied first since the write may
+  rewrite it in place.
+  - Parameters:
+  1. table: String
+  2. write: Callable<T>
+  - Return Type: T
+   */
+  public <T> T autocommit(String table, Callable<T> write) throws Exception {
+    commitStart = System.nanoTime();
+    String name = table.toLowerCase();
+    FileLock lock = lock();
+    try {
+      breakLink(name);
+      if (activeSnapshots().isEmpty()) {
+        T result = write.call();
+        logChanges(List.of(name));
+        ticket = GroupCommit.of(databasePath).register(List.of(new File(databasePath + name + ".txt")));
+        return result;
+      }
+      ArrayList<String[]> before = readRows(name);
+      long sequence = readSequence();
+      stage(List.of(name), true);
+      writeState(sequence, List.of(name));
+      try {
+        T result = write.call();
+        ArrayList<String[]> after = readRows(name);
+        ArrayList<String[][]> changes = new ArrayList<>();
+        boolean[] kept = new boolean[after.size()];
+        for (String[] row : before) {
+          int index = indexOf(after, row, kept);
+          if (index >= 0) {
+            kept[index] = true;
+          } else {
+            changes.add(new String[][]{row, null});
+          }
+        }
+        for (int rowIndex = 0; rowIndex < after.size(); rowIndex++) {
+          if (!kept[rowIndex]) {
+            changes.add(new String[][]{null, after.get(rowIndex)});
+          }
+        }
+        if (!changes.isEmpty()) {
+          appendLog(sequence + 1, name, changes);
+          sequence++;
+        }
+        logChanges(List.of(name));
+        ticket = GroupCommit.of(databasePath).register(List.of(new File(databasePath + name + ".txt")));
+        return result;
+      } finally {
+        writeState(sequence, List.of());
+        unstage(List.of(name));
+      }
+    } finally {
+      unlock(lock);
+    }
+  }
+
+  /*
+  Function: awaitCommit
+  Purpose: The purpose of awaitCommit() is to wait until the last commit made through this store has been forced to
+  the disk by the group commit of the database. It is called after the commit lock and the locks of the committer
+  are released so other commits can join the same batch. If nothing was committed since the last call, nothing is
+  done.
+  - Parameters:
+  - Return Type: void
+   */
+  public void awaitCommit() throws Exception {
+    if (ticket > 0) {
+      long waiting = ticket;
+      ticket = 0;
+      GroupCommit.of(databasePath).await(waiting, commitStart);
+    }
+  }
+
+  /*
+  Function: backup
+  Purpose: The purpose of backup() is to copy every table of the database as of one moment into a directory without
+  blocking writers for longer than it takes to link the files. While holding the commit lock, so no commit is half
+  written, each table file is hard linked into a staging directory of the store and its length is noted. Once the
+  lock is released, commits replace table files with new files, appends only add past the noted length and writes
+  rewriting a file in place copy it first, so the linked files keep the contents they had at that moment. Each is
+  then streamed into the destination with transferTo(), which lets the operating system copy the bytes without
+  passing them through the process, and forced to the disk. Where the file system cannot tell whether a file is
+  linked, the tables are copied while holding the lock instead. Memory tables are copied as of their last
+  CHECKPOINT, their snapshot files being replaced the same way commits replace table files. The number of bytes
+  copied is returned.
+  - Parameters:
+  1. destination: File
+  - Return Type: long
+   */
+  public long backup(File destination) throws Exception {
+    File staging = new File(new File(directory, "backup"), ProcessHandle.current().pid() + "-"
+        + transactionCount.incrementAndGet());
+    File[] tables = new File(databasePath).listFiles((parent, name) -> name.endsWith(".txt")
+        || name.endsWith(MemoryTable.suffix));
+    if (tables == null) {
+      throw new Exception("USER EXCEPTION - backup: database " + databasePath + " does not exist.");
+    }
+    staging.mkdirs();
+    long[] lengths;
+    try {
+      FileLock lock = lock();
+      try {
+        lengths = link(tables, staging);
+      } finally {
+        unlock(lock);
+      }
+      destination.mkdirs();
+      long bytes = 0;
+      for (int tableIndex = 0; tableIndex < tables.length; tableIndex++) {
+        File staged = new File(staging, tables[tableIndex].getName());
+        try (FileChannel source = FileChannel.open(staged.toPath(), StandardOpenOption.READ);
+            FileChannel target = FileChannel.open(new File(destination, staged.getName()).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+          for (long position = 0; position < lengths[tableIndex]; ) {
+            position += source.transferTo(position, lengths[tableIndex] - position, target);
+          }
+          target.force(true);
+        }
+        bytes += lengths[tableIndex];
+      }
+      return bytes;
+    } finally {
+      File[] staged = staging.listFiles();
+      if (staged != null) {
+        for (File file : staged) {
+          file.delete();
+        }
+      }
+      staging.delete();
+    }
+  }
+
+  /*
+  Function: link
+  Purpose: The purpose of link() is to stage table files while holding the commit lock. Each table is linked into the
+  staging directory, which costs no copying, unless the file system cannot tell whether a file is linked, in which
+  case it is copied. The length of every staged table is returned.
+  - Parameters:
+  1. tables: File[]
+  2. staging: File
+  - Return Type: long[]
+   */
+  private static long[] link(File[] tables, File staging) throws Exception {
+    long[] lengths = new long[tables.length];
+    for (int tableIndex = 0; tableIndex < tables.length; tableIndex++) {
+      Path table = tables[tableIndex].toPath();
+      Path staged = new File(staging, tables[tableIndex].getName()).toPath();
+      boolean linked = false;
+      try {
+        Files.getAttribute(table, "unix:nlink");
+        Files.createLink(staged, table);
+        linked = true;
+      } catch (UnsupportedOperationException | IllegalArgumentException | IOException exception) {
+        // NOTE: Without link counts a rewrite cannot tell it must copy first, so the table is copied now.
+      }
+      if (!linked) {
+        Files.copy(table, staged, StandardCopyOption.REPLACE_EXISTING);
+      }
+      lengths[tableIndex] = Files.size(staged);
+    }
+    return lengths;
+  }
+
+  /*
+  Function: logChanges
+  Purpose: The purpose of logChanges() is to append the tables written by a commit to the change log, with the time of
+  the commit, while the caller holds the commit lock so the log follows the order of the commits. Nothing is logged
+  until a replica follows the database. A log grown past its capacity is started over with a new generation, which
+  tells the replicas to copy the whole database again.
+  - Parameters:
+  1. tables: Collection<String>
+  - Return Type: void
+   */
+  private void logChanges(Collection<String> tables) throws Exception {
+    if (!new File(directory, "replicated").exists()) {
+      return;
+    }
+    File location = new File(directory, "changes.txt");
+    boolean restart = location.length() == 0 || location.length() > changeLog_capacity;
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(location, !restart))) {
+      if (restart) {
+        writer.write(String.valueOf(System.currentTimeMillis() * 1000 + transactionCount.incrementAndGet() % 1000));
+        writer.newLine();
+      }
+      if (!tables.isEmpty()) {
+        writer.write(String.valueOf(System.currentTimeMillis()));
+        for (String table : tables) {
+          writer.write(separator + table);
+        }
+        writer.newLine();
+      }
+    }
+  }
+
+  /*
+  Function: recordChanges
+  Purpose: The purpose of recordChanges() is to log tables changed outside of a commit, such as tables created,
+  altered or dropped, taking the commit lock to do so.
+  - Parameters:
+  1. tables: String...
+  - Return Type: void
+   */
+  public void recordChanges(String... tables) throws Exception {
+    FileLock lock = lock();
+    try {
+      logChanges(Arrays.asList(tables));
+    } finally {
+      unlock(lock);
+    }
+  }
+
+  /*
+  Function: ship
+  Purpose: The purpose of ship() is to bring the copy of the database kept by a replica in the destination directory
+  up to date with the change log. While holding the commit lock, the change log is read from the position the replica
+  reached and the tables named by the changes after it are staged. When the generation of the log is not the one the
+  replica followed, every table is staged instead and tables the database no longer has are removed from the copy.
+  After the lock is released each staged table replaces its copy by moving a copy of it over the old one, so readers
+  of the replica see either version, and tables dropped since are removed. The first shipment makes the database
+  replicated so its commits are logged from then on.
+  - Parameters:
+  1. generation: long
+  2. position: long
+  3. destination: File
+  - Return Type: Shipment
+   */
+  public Shipment ship(long generation, long position, File destination) throws Exception {
+    File staging = new File(new File(directory, "backup"), ProcessHandle.current().pid() + "-"
+        + transactionCount.incrementAndGet());
+    Shipment shipment = new Shipment();
+    TreeSet<String> changed = new TreeSet<>();
+    File[] tables;
+    long[] lengths;
+    FileLock lock = lock();
+    try {
+      new File(directory, "replicated").createNewFile();
+      File location = new File(directory, "changes.txt");
+      if (location.length() == 0) {
+        logChanges(List.of());
+      }
+      try (RandomAccessFile log = new RandomAccessFile(location, "r")) {
+        shipment.generation = Long.parseLong(log.readLine());
+        shipment.full = shipment.generation != generation || position > log.length();
+        if (!shipment.full) {
+          log.seek(position);
+          for (String line = log.readLine(); line != null; line = log.readLine()) {
+            String[] fields = line.split(separator);
+            shipment.changes++;
+            shipment.oldest = shipment.oldest == 0 ? Long.parseLong(fields[0]) : shipment.oldest;
+            changed.addAll(Arrays.asList(fields).subList(1, fields.length));
+          }
+        }
+        shipment.position = log.length();
+      }
+      if (shipment.full) {
+        tables = new File(databasePath).listFiles((parent, name) -> name.endsWith(".txt"));
+        for (File table : tables == null ? new File[0] : tables) {
+          changed.add(table.getName().substring(0, table.getName().length() - 4));
+        }
+      }
+      ArrayList<File> existing = new ArrayList<>();
+      for (String table : new ArrayList<>(changed)) {
+        File file = new File(databasePath + table + ".txt");
+        if (file.exists()) {
+          existing.add(file);
+          changed.remove(table);
+        }
+      }
+      tables = existing.toArray(new File[0]);
+      staging.mkdirs();
+      lengths = link(tables, staging);
+    } finally {
+      unlock(lock);
+    }
+    try {
+      destination.mkdirs();
+      // NOTE: What is left of the changed tables are the tables dropped since, and for a full shipment every copy
+      // without a table is dropped as well.
+      if (shipment.full) {
+        File[] copies = destination.listFiles((parent, name) -> name.endsWith(".txt"));
+        for (File copy : copies == null ? new File[0] : copies) {
+          if (!new File(databasePath + copy.getName()).exists()) {
+            changed.add(copy.getName().substring(0, copy.getName().length() - 4));
+          }
+        }
+      }
+      for (String table : changed) {
+        new File(destination, table + ".txt").delete();
+      }
+      for (int tableIndex = 0; tableIndex < tables.length; tableIndex++) {
+        File staged = new File(staging, tables[tableIndex].getName());
+        File temporary = new File(destination, staged.getName() + ".ship");
+        try (FileChannel source = FileChannel.open(staged.toPath(), StandardOpenOption.READ);
+            FileChannel target = FileChannel.open(temporary.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+          for (long offset = 0; offset < lengths[tableIndex]; ) {
+            offset += source.transferTo(offset, lengths[tableIndex] - offset, target);
+          }
+        }
+        Files.move(temporary.toPath(), new File(destination, staged.getName()).toPath(),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      return shipment;
+    } finally {
+      File[] staged = staging.listFiles();
+      if (staged != null) {
+        for (File file : staged) {
+          file.delete();
+        }
+      }
+      staging.delete();
+    }
+  }
+
+  /*
+  Function: breakLink
+  Purpose: The purpose of breakLink() is to give a table file linked by a running backup a copy of its own before it
+  is written, so the backup keeps the version it linked. The copy replaces the table file the same way a commit
+  does. Files that are not linked, and file systems without link counts, are left alone.
+  - Parameters:
+  1. table: String
+  - Return Type: void
+   */
+  private void breakLink(String table) throws Exception {
+    Path location = new File(databasePath + table + ".txt").toPath();
+    int links;
+    try {
+      links = (Integer) Files.getAttribute(location, "unix:nlink");
+    } catch (UnsupportedOperationException | IllegalArgumentException | IOException exception) {
+      return;
+    }
+    if (links > 1) {
+      Path temporary = new File(databasePath + table + ".txt.commit").toPath();
+      Files.copy(location, temporary, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(temporary, location, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+  }
+
+  /*
+  Function: readRows
+  Purpose: The purpose of readRows() is to read the rows of a table file. Rows are padded with empty values to the
+  width of the schema so versions of the same row always compare equal.
+  - Parameters:
+  1. table: String
+  - Return Type: ArrayList<String[]>
+   */
+  ArrayList<String[]> readRows(String table) throws Exception {
+    return readRows(new File(databasePath + table + ".txt"));
+  }
+
+  private static ArrayList<String[]> readRows(File location) throws Exception {
+    ArrayList<String[]> rows = new ArrayList<>();
+    if (!location.exists()) {
+      return rows;
+    }
+    try (BufferedReader reader = new BufferedReader(new FileReader(location))) {
+      String header = reader.readLine();
+      int width = header == null ? 0 : header.split("\t").length;
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        if (!line.isEmpty()) {
+          rows.add(Arrays.copyOf(line.split("\t"), Math.max(width, line.split("\t").length)));
+        }
+      }
+    }
+    for (String[] row : rows) {
+      for (int columnIndex = 0; columnIndex < row.length; columnIndex++) {
+        if (row[columnIndex] == null) {
+          row[columnIndex] = "";
+        }
+      }
+    }
+    return rows;
+  }
+
+  /*
+  Function: writeRows
+  Purpose: The purpose of writeRows() is to write the new rows of a table file to a temporary file, which is returned.
+  The caller moves it over the table file so readers see either the old or the new version of the table.
+  - Parameters:
+  1. table: String
+  2. rows: ArrayList<String[]>
+  3. format: RowFormat
+  - Return Type: File
+   */
+  private File writeRows(String table, ArrayList<String[]> rows, RowFormat format) throws Exception {
+    File location = new File(databasePath + table + ".txt");
+    String header;
+    try (BufferedReader reader = new BufferedReader(new FileReader(location))) {
+      header = reader.readLine();
+    }
+    File temporary = new File(databasePath + table + ".txt.commit");
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(temporary, false))) {
+      writer.write(header == null ? "" : header);
+      for (String[] row : rows) {
+        writer.newLine();
+        writer.write(format.format(table, row));
+      }
+    }
+    return temporary;
+  }
+
+  /*
+  Function: readLog
+  Purpose: The purpose of readLog() is to read the changes logged by commits after a commit sequence number, and up to
+  another, in the order they were committed. Each change is returned as the sequence number and table, the before
+  image and the after image, where a missing image denotes an added or removed row. A line still being appended is
+  skipped.
+  - Parameters:
+  1. after: long
+  2. upTo: long
+  - Return Type: ArrayList<String[][]>
+   */
+  private ArrayList<String[][]> readLog(long after, long upTo) throws Exception {
+    ArrayList<String[][]> log = new ArrayList<>();
+    File location = new File(directory, "log.txt");
+    if (!location.exists()) {
+      return log;
+    }
+    try (BufferedReader reader = new BufferedReader(new FileReader(location))) {
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        String[] fields = line.split(separator, -1);
+        if (fields.length == 4 && Long.parseLong(fields[0]) > after && Long.parseLong(fields[0]) <= upTo) {
+          log.add(new String[][]{{fields[0], fields[1]}, decode(fields[2]), decode(fields[3])});
+        }
+      }
+    }
+    return log;
+  }
+
+  private void appendLog(long sequence, String table, ArrayList<String[][]> changes) throws Exception {
+    directory.mkdirs();
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(directory, "log.txt"), true))) {
+      for (String[][] change : changes) {
+        writer.write(sequence + separator + table + separator + encode(change[0]) + separator + encode(change[1]));
+        writer.newLine();
+      }
+    }
+  }
+
+  /*
+  Function: pruneLog
+  Purpose: The purpose of pruneLog() is to drop the logged changes every active transaction can already see. The kept
+  changes are moved over the log so snapshots read without the commit lock see a whole log. When no transaction is
+  running the log is removed altogether.
+  - Parameters:
+  - Return Type: void
+   */
+  private void pruneLog() throws Exception {
+    File location = new File(directory, "log.txt");
+    if (!location.exists()) {
+      return;
+    }
+    ArrayList<Long> snapshots = activeSnapshots();
+    if (snapshots.isEmpty()) {
+      location.delete();
+      return;
+    }
+    long oldest = Long.MAX_VALUE;
+    for (long snapshot : snapshots) {
+      oldest = Math.min(oldest, snapshot);
+    }
+    ArrayList<String> kept = new ArrayList<>();
+    for (String line : Files.readAllLines(location.toPath())) {
+      if (Long.parseLong(line.split(separator, 2)[0]) > oldest) {
+        kept.add(line);
+      }
+    }
+    File temporary = new File(directory, "log.txt.prune");
+    Files.write(temporary.toPath(), kept);
+    Files.move(temporary.toPath(), location.toPath(), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /*
+  Function: activeSnapshots
+  Purpose: The purpose of activeSnapshots() is to return the snapshots of the transactions registered as active by
+  any process using the database. Transactions registered by a process that is no longer running were never ended,
+  so they are removed from the registry instead.
+  - Parameters:
+  - Return Type: ArrayList<Long>
+   */
+  private ArrayList<Long> activeSnapshots() throws Exception {
+    ArrayList<Long> snapshots = new ArrayList<>();
+    File[] active = new File(directory, "active").listFiles();
+    if (active != null) {
+      for (File transaction : active) {
+        String pid = transaction.getName().split("-", 2)[0];
+        if (pid.matches("[0-9]+") && ProcessHandle.of(Long.parseLong(pid)).isEmpty()) {
+          transaction.delete();
+          new File(new File(directory, "spill"), transaction.getName()).delete();
+          continue;
+        }
+        snapshots.add(Long.parseLong(Files.readString(transaction.toPath()).trim()));
+      }
+    }
+    return snapshots;
+  }
+
+  private long readSequence() throws Exception {
+    return Long.parseLong(readState()[0]);
+  }
+
+  private String[] readState() throws Exception {
+    File location = new File(directory, "sequence");
+    return location.exists() ? Files.readString(location.toPath()).trim().split("\t") : new String[]{"0"};
+  }
+
+  /*
+  Function: writeState
+  Purpose: The purpose of writeState() is to publish the state of the store read by snapshots, being the last commit
+  sequence number, a generation increased by every write and the tables being written, while the caller holds the
+  commit lock. The state is moved over the old one so it is always read whole.
+  - Parameters:
+  1. sequence: long
+  2. writing: Collection<String>
+  - Return Type: void
+   */
+  private void writeState(long sequence, Collection<String> writing) throws Exception {
+    String[] state = readState();
+    StringBuilder line = new StringBuilder(sequence + "\t" + ((state.length > 1 ? Long.parseLong(state[1]) : 0) + 1));
+    for (String table : writing) {
+      line.append("\t").append(table);
+    }
+    directory.mkdirs();
+    File temporary = new File(directory, "sequence.tmp");
+    Files.writeString(temporary.toPath(), line.toString());
+    Files.move(temporary.toPath(), new File(directory, "sequence").toPath(), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /*
+  Function: stage
+  Purpose: The purpose of stage() is to keep the last committed version of tables about to be written in the "stable"
+  directory of the store, where snapshots read them until the write is finished. Tables replaced by a commit are
+  linked, while tables written in place are copied.
+  - Parameters:
+  1. tables: Collection<String>
+  2. copy: boolean
+  - Return Type: void
+   */
+  private void stage(Collection<String> tables, boolean copy) throws Exception {
+    File stable = new File(directory, "stable");
+    stable.mkdirs();
+    ArrayList<File> linked = new ArrayList<>();
+    for (String table : tables) {
+      File location = new File(databasePath + table + ".txt");
+      Path staged = new File(stable, location.getName()).toPath();
+      Files.deleteIfExists(staged);
+      if (copy) {
+        Files.copy(location.toPath(), staged);
+      } else {
+        linked.add(location);
+      }
+    }
+    link(linked.toArray(new File[0]), stable);
+  }
+
+  private void unstage(Collection<String> tables) {
+    for (String table : tables) {
+      new File(new File(directory, "stable"), table + ".txt").delete();
+    }
+  }
+
+  static String encode(String[] row) {
+    return row == null ? "-" : "+" + String.join("\t", row);
+  }
+
+  static String[] decode(String field) {
+    return field.equals("-") ? null : field.substring(1).split("\t", -1);
+  }
+
+  /*
+  Function: indexOf
+  Purpose: The purpose of indexOf() is to find the first row equal to a version of a row that has not been matched
+  already. Rows past the end of the matched flags were added by the caller and are not searched.
+  - Parameters:
+  1. rows: ArrayList<String[]>
+  2. row: String[]
+  3. matched: boolean[]
+  - Return Type: int
+   */
+  private static int indexOf(ArrayList<String[]> rows, String[] row, boolean[] matched) {
+    int limit = matched == null ? rows.size() : Math.min(rows.size(), matched.length);
+    for (int rowIndex = 0; rowIndex < limit; rowIndex++) {
+      if ((matched == null || !matched[rowIndex]) && Arrays.equals(rows.get(rowIndex), row)) {
+        return rowIndex;
+      }
+    }
+    return -1;
+  }
+
+  /*
+  Function: drop
+  Purpose: The purpose of drop() is to delete the store once its database holds no tables, so the directory of the
+  database can be deleted. The store is deleted while holding the commit lock, and an exception is thrown instead if a
+  transaction of the database is still running.
+  - Parameters:
+  - Return Type: void
+   */
+  public void drop() throws Exception {
+    if (!directory.exists()) {
+      return;
+    }
+    FileLock lock = lock();
+    try {
+      if (!activeSnapshots().isEmpty()) {
+        throw new Exception("USER EXCEPTION - drop: a transaction of the database is still running.");
+      }
+      try (Stream<Path> files = Files.walk(directory.toPath())) {
+        files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+      }
+    } finally {
+      unlock(lock);
+    }
+  }
+
+  /*
+  Function: lock
+  Purpose: The purpose of lock() is to acquire the commit lock of the database. Threads of this process are ordered by
+  a lock within the process and other processes by an exclusive lock on the "lock" file of the store, which the
+  operating system releases if the process holding it ends.
+  - Parameters:
+  - Return Type: FileLock
+   */
+  private FileLock lock() throws Exception {
+    ReentrantLock processLock = processLocks.computeIfAbsent(lockKey, path -> new ReentrantLock());
+    processLock.lock();
+    try {
+      directory.mkdirs();
+      FileChannel channel = FileChannel.open(new File(directory, "lock").toPath(), StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE);
+      return channel.lock();
+    } catch (Exception exception) {
+      processLock.unlock();
+      throw exception;
+    }
+  }
+
+  private void unlock(FileLock lock) throws Exception {
+    try {
+      lock.release();
+      lock.channel().close();
+    } finally {
+      processLocks.get(lockKey).unlock();
+    }
+  }
+}
@@ -16,11 +16,11 @@ USE CS457_PA4;
 select * from Flights;
 begin transaction;
 update flights set status = 1 where seat = 22;
-commit; --there should be nothing to commit; it's an "abort"
+commit; --P2 commits first, so its change to seat 22 wins
 select * from Flights;
 
 -- On P1:
-commit; --persist the change to disk
+commit; --seat 22 was changed by P2 after P1 began; it's an "abort"
 select * from Flights;
 
 -- On P2:
@@ -38,7 +38,7 @@ select * from Flights;
 -- 1 new record inserted.
 -- Transaction starts.
 -- 1 record modified.
--- Transaction committed.
+-- Transaction abort.
 -- seat int|status int
 -- 22|1
 -- 23|1
@@ -50,10 +50,10 @@ select * from Flights;
 -- 22|0
 -- 23|1
 -- Transaction starts.
--- Error: Table Flights is locked!
--- Transaction abort.
+-- 1 record modified.
+-- Transaction committed.
 -- seat int|status int
--- 22|0
+-- 22|1
 -- 23|1
 -- seat int|status int
 -- 22|1
@@ -0,0 +1,36 @@
+--Backup test
+
+--Construct the database and table
+CREATE DATABASE backup_db;
+USE backup_db;
+create table Flights(seat int, status int);
+insert into Flights values(22,0);
+insert into Flights values(23,1);
+
+--The backup is a copy of the database usable as a databases' directory
+BACKUP DATABASE backup_db TO 'backups';
+BACKUP DATABASE missing_db TO 'backups';
+
+--Changes after the backup do not reach it
+update Flights set status = 1 where seat = 22;
+select * from Flights;
+
+--Clean up
+drop table Flights;
+.exit
+
+-- Expected output
+--
+-- Database backup_db created.
+-- Using database backup_db.
+-- Table Flights created.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- Database backup_db backed up to backups.
+-- !Failed to back up database missing_db because USER EXCEPTION - backupDatabase: database missing_db does not exist.
+-- 1 record modified.
+-- seat int|status int
+-- 22|1
+-- 23|1
+-- Table Flights deleted.
+-- All Done.
@@ -0,0 +1,70 @@
+--Bulk load test, run from the root of the project so the files of testing/ are found
+
+--Construct the database and table
+CREATE DATABASE copy_db;
+USE copy_db;
+create table Flights(seat int, price float, name varchar(10));
+
+--Rows of CSV and TSV files are loaded in bulk
+COPY Flights FROM 'testing/copy_flights.csv' FORMAT csv HEADER;
+COPY Flights FROM 'testing/copy_flights.tsv' FORMAT tsv;
+select * from Flights;
+
+--A row failing the schema fails the whole load
+COPY Flights FROM 'testing/copy_bad.csv';
+COPY Flights FROM 'testing/missing.csv';
+COPY Flights FROM 'testing/copy_flights.csv' FORMAT xml;
+select * from Flights;
+
+--Within a transaction the rows are only visible to the transaction until it commits
+BEGIN TRANSACTION;
+COPY Flights FROM 'testing/copy_flights.tsv' FORMAT tsv;
+select * from Flights;
+ROLLBACK;
+select * from Flights;
+
+--Clean up
+drop table Flights;
+.exit
+
+-- Expected output
+--
+-- Database copy_db created.
+-- Using database copy_db.
+-- Table Flights created.
+-- 3 records copied.
+-- 2 records copied.
+-- seat int|price float|name varchar(10)
+-- 22|1.5|Aisle, 1
+-- 23|2.0|Sam "J"
+-- 24|3.25|Window
+-- 30|9.5|Back\row
+-- 31|10.0|Exit
+-- !Failed to copy testing/copy_bad.csv into Flights because USER EXCEPTION - BulkLoader: row 2 has "cheap" for float column price.
+-- !Failed to copy testing/missing.csv into Flights because USER EXCEPTION - copyRows: file testing/missing.csv does not exist.
+-- !Failed to copy testing/copy_flights.csv into Flights because USER EXCEPTION - BulkLoader: format xml is not csv or tsv.
+-- seat int|price float|name varchar(10)
+-- 22|1.5|Aisle, 1
+-- 23|2.0|Sam "J"
+-- 24|3.25|Window
+-- 30|9.5|Back\row
+-- 31|10.0|Exit
+-- Transaction starts.
+-- 2 records copied.
+-- seat int|price float|name varchar(10)
+-- 22|1.5|Aisle, 1
+-- 23|2.0|Sam "J"
+-- 24|3.25|Window
+-- 30|9.5|Back\row
+-- 31|10.0|Exit
+-- 30|9.5|Back\row
+-- 31|10.0|Exit
+-- Transaction rolled back.
+-- seat int|price float|name varchar(10)
+-- 22|1.5|Aisle, 1
+-- 23|2.0|Sam "J"
+-- 24|3.25|Window
+-- 30|9.5|Back\row
+-- 31|10.0|Exit
+-- Table Flights deleted.
+-- All Done.
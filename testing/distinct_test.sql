@@ -0,0 +1,82 @@
+--Distinct and union test
+
+--Construct the database and tables
+CREATE DATABASE distinct_db;
+USE distinct_db;
+create table Employee(id int, name varchar(10));
+create table Sales(employeeID int, productID int);
+create table Returns(employeeID int, productID int);
+insert into Employee values(1,'Joe');
+insert into Employee values(2,'Jack');
+insert into Employee values(3,'Gill');
+insert into Sales values(1,344);
+insert into Sales values(1,355);
+insert into Sales values(2,544);
+insert into Returns values(1,344);
+insert into Returns values(3,100);
+
+--Duplicate rows are removed from the joined result
+select distinct E.name from Employee E, Sales S where E.id = S.employeeID;
+select distinct employeeID from Sales;
+
+--UNION removes duplicates across both selects while UNION ALL keeps every row
+select employeeID from Sales union select employeeID from Returns;
+select * from Sales union all select * from Returns;
+select * from Sales union select * from Returns union all select * from Returns;
+explain select employeeID from Sales union select employeeID from Returns;
+explain select * from Sales union all select * from Returns;
+select * from Sales union select id from Employee;
+
+.exit
+
+-- Expected output (planning times vary between runs)
+--
+-- Database distinct_db created.
+-- Using database distinct_db.
+-- Table Employee created.
+-- Table Sales created.
+-- Table Returns created.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- name varchar(10)
+-- Joe
+-- Jack
+-- employeeID int
+-- 1
+-- 2
+-- employeeID int
+-- 1
+-- 2
+-- 3
+-- employeeID int|productID int
+-- 1|344
+-- 1|355
+-- 2|544
+-- 1|344
+-- 3|100
+-- employeeID int|productID int
+-- 1|344
+-- 1|355
+-- 2|544
+-- 3|100
+-- 1|344
+-- 3|100
+-- Hash Union  (estimated rows=2)
+--   ->  Append  (estimated rows=2)
+--         ->  Project employeeID  (estimated rows=1)
+--               ->  Seq Scan on sales  (estimated rows=1)
+--         ->  Project employeeID  (estimated rows=1)
+--               ->  Seq Scan on returns  (estimated rows=1)
+-- Planning time: 0.909 ms
+-- Append  (estimated rows=2)
+--   ->  Seq Scan on sales  (estimated rows=1)
+--   ->  Seq Scan on returns  (estimated rows=1)
+-- Planning time: 0.425 ms
+-- !Failed to query because USER EXCEPTION - plan: each SELECT of a UNION must select the same number of columns.
+-- All Done.
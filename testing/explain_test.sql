@@ -0,0 +1,105 @@
+--Explain test
+
+--Construct the database and tables
+CREATE DATABASE explain_db;
+USE explain_db;
+create table Employee(id int, name varchar(10));
+create table Sales(employeeID int, productID int);
+insert into Employee values(1,'Joe');
+insert into Employee values(2,'Jack');
+insert into Employee values(3,'Gill');
+insert into Sales values(1,344);
+insert into Sales values(1,355);
+insert into Sales values(2,544);
+
+--Plans of queries; equality joins are hash joins and other joins are nested loop joins
+explain select * from Employee E, Sales S where E.id = S.employeeID;
+explain select * from Employee E left outer join Sales S on E.id = S.employeeID;
+explain select name from Employee where id > 1;
+explain select * from Employee E, Sales S where E.id < S.employeeID;
+
+--Measured plans; the counts of each operator are reported alongside its time
+explain analyze select * from Employee E inner join Sales S on E.id = S.employeeID;
+explain analyze update Employee set name = 'Jill' where id = 3;
+explain analyze delete from Sales where productID = 544;
+
+--Scans read ahead of the query report the time spent waiting for the table file
+SET prefetch_depth = 0;
+explain analyze select name from Employee where id > 1;
+SET prefetch_depth = 4;
+explain insert into Sales values(3, 600);
+explain insert into Sales values(3, 600), (3, 700);
+explain insert into Sales select * from Sales where productID > 350;
+explain create table Other(id int);
+select * from Employee;
+select * from Sales;
+
+.exit
+
+-- Expected output (times and memory vary between runs)
+--
+-- Database explain_db created.
+-- Using database explain_db.
+-- Table Employee created.
+-- Table Sales created.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- Hash Join (inner) on E.id = S.employeeID  (estimated rows=1)
+--   ->  Seq Scan on employee E  (estimated rows=1)
+--   ->  Seq Scan on sales S  (estimated rows=1)
+-- Planning time: 24.093 ms
+-- Hash Join (left outer) on E.id = S.employeeID  (estimated rows=1)
+--   ->  Seq Scan on employee E  (estimated rows=1)
+--   ->  Seq Scan on sales S  (estimated rows=1)
+-- Planning time: 1.644 ms
+-- Project name  (estimated rows=1)
+--   ->  Filter id > 1  (estimated rows=1)
+--         ->  Seq Scan on employee  (estimated rows=1)
+-- Planning time: 3.532 ms
+-- Nested Loop Join (inner) on E.id < S.employeeID  (estimated rows=1)
+--   ->  Seq Scan on employee E  (estimated rows=1)
+--   ->  Seq Scan on sales S  (estimated rows=1)
+-- Planning time: 1.926 ms
+-- Hash Join (inner) on E.id = S.employeeID  (estimated rows=1) (actual rows=3 time=3.875 ms bytes read=0 peak memory=348 bytes)
+--   ->  Seq Scan on employee E  (estimated rows=1) (actual rows=3 time=0.226 ms bytes read=48 peak memory=16384 bytes) (io wait=0.001 ms)
+--   ->  Seq Scan on sales S  (estimated rows=1) (actual rows=3 time=0.462 ms bytes read=51 peak memory=16384 bytes) (io wait=0.450 ms)
+-- Planning time: 0.591 ms
+-- Execution time: 3.890 ms
+-- Update on employee set name = Jill  (estimated rows=1) (actual rows=1 time=19.035 ms) (estimated bytes read=47 peak memory=94 bytes)
+--   ->  Filter id = 3  (estimated rows=1)
+--         ->  Seq Scan on employee  (estimated rows=1)
+-- Planning time: 0.649 ms
+-- Execution time: 19.051 ms
+-- Delete on sales  (estimated rows=1) (actual rows=1 time=7.080 ms) (estimated bytes read=50 peak memory=100 bytes)
+--   ->  Filter productID = 544  (estimated rows=1)
+--         ->  Seq Scan on sales  (estimated rows=1)
+-- Planning time: 0.358 ms
+-- Execution time: 7.083 ms
+-- Setting prefetch_depth = 0.
+-- Project name  (estimated rows=1) (actual rows=2 time=2.267 ms bytes read=0 peak memory=0 bytes)
+--   ->  Filter id > 1  (estimated rows=1) (actual rows=2 time=2.244 ms bytes read=0 peak memory=0 bytes)
+--         ->  Seq Scan on employee  (estimated rows=1) (actual rows=3 time=1.132 ms bytes read=48 peak memory=16384 bytes)
+-- Planning time: 0.363 ms
+-- Execution time: 2.271 ms
+-- Setting prefetch_depth = 4.
+-- Insert on sales values (1 row)  (estimated rows=1)
+-- Planning time: 0.165 ms
+-- Insert on sales values (2 rows)  (estimated rows=2)
+-- Planning time: 0.021 ms
+-- Insert on sales select  (estimated rows=1)
+--   ->  Filter productID > 350  (estimated rows=1)
+--         ->  Seq Scan on sales  (estimated rows=1)
+-- Planning time: 0.412 ms
+-- Utility statement CREATE_TABLE has no plan.
+-- id int|name varchar(10)
+-- 1|Joe
+-- 2|Jack
+-- 3|Jill
+-- employeeID int|productID int
+-- 1|344
+-- 1|355
+-- All Done.
@@ -0,0 +1,77 @@
+--Export test, the exported files are written into export_db as table files so the clean up drops them
+
+--Construct the database and table
+CREATE DATABASE export_db;
+USE export_db;
+create table Flights(seat int, price float, name varchar(10));
+insert into Flights values(22, 1.5, 'Aisle, 1'), (23, 2.0, 'Window'), (24, 3.25, 'Middle');
+
+--The native format is the table file itself, copied without being decoded
+EXPORT TABLE Flights TO STDOUT;
+EXPORT TABLE Flights TO 'databases/export_db/exported.txt';
+select * from Exported;
+
+--Other formats are encoded from the rows and can be loaded back with COPY
+EXPORT TABLE Flights TO 'databases/export_db/exported_csv.txt' FORMAT csv;
+EXPORT TABLE Flights TO STDOUT FORMAT jsonl;
+create table Copied(seat int, price float, name varchar(10));
+COPY Copied FROM 'databases/export_db/exported_csv.txt' FORMAT csv HEADER;
+select * from Copied;
+
+--Missing tables and unknown formats fail
+EXPORT TABLE Missing TO 'databases/export_db/missing.txt';
+EXPORT TABLE Flights TO STDOUT FORMAT xml;
+
+--Within a transaction the export sees the changes of the transaction
+BEGIN TRANSACTION;
+insert into Flights values(25, 4.0, 'Exit');
+EXPORT TABLE Flights TO STDOUT FORMAT csv;
+ROLLBACK;
+
+--Clean up
+drop table Flights;
+drop table Copied;
+drop table Exported;
+drop table Exported_csv;
+.exit
+
+-- Expected output
+--
+-- Database export_db created.
+-- Using database export_db.
+-- Table Flights created.
+-- 3 new records inserted.
+-- seat int	price float	name varchar(10)	
+-- 22	1.5	Aisle, 1	
+-- 23	2.0	Window	
+-- 24	3.25	Middle	
+-- Table Flights exported to databases/export_db/exported.txt (86 bytes).
+-- seat int|price float|name varchar(10)
+-- 22|1.5|Aisle, 1
+-- 23|2.0|Window
+-- 24|3.25|Middle
+-- Table Flights exported to databases/export_db/exported_csv.txt (63 bytes).
+-- {"seat":22,"price":1.5,"name":"Aisle, 1"}
+-- {"seat":23,"price":2.0,"name":"Window"}
+-- {"seat":24,"price":3.25,"name":"Middle"}
+-- Table Copied created.
+-- 3 records copied.
+-- seat int|price float|name varchar(10)
+-- 22|1.5|Aisle, 1
+-- 23|2.0|Window
+-- 24|3.25|Middle
+-- !Failed to export Missing because USER EXCEPTION - executeExport: table Missing does not exist.
+-- !Failed to export Flights because USER EXCEPTION - executeExport: format xml is not native, pipe, csv, tsv, jsonl, binary.
+-- Transaction starts.
+-- 1 new record inserted.
+-- seat,price,name
+-- 22,1.5,"Aisle, 1"
+-- 23,2.0,Window
+-- 24,3.25,Middle
+-- 25,4.0,Exit
+-- Transaction rolled back.
+-- Table Flights deleted.
+-- Table Copied deleted.
+-- Table Exported deleted.
+-- Table Exported_csv deleted.
+-- All Done.
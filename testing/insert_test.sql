@@ -0,0 +1,82 @@
+--Multi-row INSERT test
+
+--Construct the database and tables
+CREATE DATABASE insert_db;
+USE insert_db;
+create table Flights(seat int, status int);
+create table Archive(seat int, status int);
+
+--Several rows are inserted by one statement
+insert into Flights values(22, 0), (23, 1), (24, 1);
+insert into Flights values(25, 0);
+select * from Flights;
+
+--A row failing the schema fails the whole statement
+insert into Flights values(26, 0), (27, 'full');
+insert into Flights values(26, 0), (27);
+select * from Flights;
+
+--The rows of a SELECT are inserted, including from the table itself
+insert into Archive select * from Flights where status = 1;
+insert into Archive select * from Archive;
+insert into Archive select * from Missing;
+select * from Archive;
+
+--Within a transaction the rows are only kept if it commits
+BEGIN TRANSACTION;
+insert into Flights values(30, 0), (31, 0);
+select * from Flights;
+ROLLBACK;
+select * from Flights;
+
+--Clean up
+drop table Flights;
+drop table Archive;
+.exit
+
+-- Expected output
+--
+-- Database insert_db created.
+-- Using database insert_db.
+-- Table Flights created.
+-- Table Archive created.
+-- 3 new records inserted.
+-- 1 new record inserted.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- 24|1
+-- 25|0
+-- !Failed to insert into Flights because USER EXCEPTION - BulkLoader: row 2 has "full" for int column status.
+-- !Failed to insert into Flights because USER EXCEPTION - BulkLoader: row 2 has 1 values but the table has 2 columns.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- 24|1
+-- 25|0
+-- 2 new records inserted.
+-- 2 new records inserted.
+-- !Failed to insert into Archive because USER EXCEPTION - query: table Missing does not exist.
+-- seat int|status int
+-- 23|1
+-- 24|1
+-- 23|1
+-- 24|1
+-- Transaction starts.
+-- 2 new records inserted.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- 24|1
+-- 25|0
+-- 30|0
+-- 31|0
+-- Transaction rolled back.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- 24|1
+-- 25|0
+-- Table Flights deleted.
+-- Table Archive deleted.
+-- All Done.
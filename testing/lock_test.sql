@@ -0,0 +1,62 @@
+--Lock test
+
+--Construct the database and table
+CREATE DATABASE lock_db;
+USE lock_db;
+create table Flights(seat int, status int);
+insert into Flights values(22,0);
+insert into Flights values(23,1);
+
+--The lock timeout of the session is set in milliseconds
+SET lock_timeout = 100;
+SET lock_timeout = soon;
+SET isolation = serializable;
+
+--A transaction locks the rows it updates until it commits
+begin transaction;
+update Flights set status = 1 where seat = 22;
+select * from Flights;
+commit;
+select * from Flights;
+
+--Optimistic transactions take no locks and are validated when they commit
+SET isolation = optimistic;
+begin transaction;
+update Flights set status = 0 where seat = 22;
+select * from Flights;
+commit;
+SET isolation = snapshot;
+
+--Clean up
+drop table Flights;
+.exit
+
+-- Expected output
+--
+-- Database lock_db created.
+-- Using database lock_db.
+-- Table Flights created.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- Setting lock_timeout = 100.
+-- !Failed to set lock_timeout because soon is not a valid value.
+-- !Failed to set isolation because serializable is not a valid value.
+-- Transaction starts.
+-- 1 record modified.
+-- seat int|status int
+-- 22|1
+-- 23|1
+-- Transaction committed.
+-- seat int|status int
+-- 22|1
+-- 23|1
+-- Setting isolation = optimistic.
+-- Transaction starts.
+-- 1 record modified.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- Transaction committed.
+-- Setting isolation = snapshot.
+-- Table Flights deleted.
+-- All Done.
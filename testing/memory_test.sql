@@ -0,0 +1,150 @@
+--Memory table test, run from the root of the project so the files of testing/ are found
+
+--Construct the database, a memory table and a table file to join it with
+CREATE DATABASE memory_db;
+USE memory_db;
+create table Fares(seat int, price float, name varchar(10)) engine = memory;
+create table Seats(seat int, class varchar(8));
+insert into Fares values(5, 1.5, 'A');
+insert into Fares values(12, 2, 'B'), (19, 2.5, 'C'), (20, 3.0, 'D');
+insert into Seats values(5, 'first'), (19, 'coach'), (20, 'coach');
+
+--A memory table is queried like any other table
+select * from Fares;
+select name, price from Fares where price > 2;
+select F.name, S.class from Fares F inner join Seats S on F.seat = S.seat where S.class = 'coach';
+select distinct class from Seats where seat in (select seat from Fares where price < 3);
+EXPLAIN select * from Fares where seat = 12;
+
+--Values must fit the fixed-width slots of their column
+insert into Fares values('x', 1.0, 'E');
+insert into Fares values(7, 1.0, 'name too long');
+insert into Fares values(7, 1.0, 'E'), (8, 'y', 'F');
+update Fares set price = 'free' where seat = 5;
+select * from Fares;
+
+--Memory tables are loaded and exported in bulk
+COPY Fares FROM 'testing/copy_flights.csv' FORMAT csv HEADER;
+COPY Fares FROM 'testing/copy_bad.csv';
+select * from Fares where seat > 20;
+
+--Updates, deletes, altered schemas and INSERT SELECT
+update Fares set price = 9.5 where seat = 12;
+delete from Fares where seat = 20;
+delete from Fares where name = 'Aisle, 1';
+delete from Fares where price > 9;
+alter table Fares add gate int;
+insert into Fares values(30, 4.0, 'G', 7);
+insert into Fares select * from Fares where seat = 30;
+EXPORT TABLE Fares TO STDOUT;
+select * from Fares;
+
+--Memory tables are not versioned, so they cannot be written within a transaction
+BEGIN TRANSACTION;
+delete from Fares where gate = 7;
+insert into Fares values(31, 4.5, 'H', 7);
+select seat from Fares where gate = 7;
+ROLLBACK;
+select seat, gate from Fares where seat = 30;
+
+--The snapshot is only written by CHECKPOINT, and only for tables that changed
+CHECKPOINT;
+CHECKPOINT;
+
+--Names are shared with table files and unknown engines are refused
+create table Fares(seat int) engine = memory;
+create table Seats(seat int) engine = memory;
+create table Fares(seat int);
+create table Bad(seat int) engine = heap;
+create table Bad(seat int) engine = memory partition by hash(seat) partitions 2;
+create table Bad(seat text) engine = memory;
+
+--Tear down
+drop table Fares;
+select * from Fares;
+drop table Seats;
+.exit
+
+-- Expected output
+-- Database memory_db created.
+-- Using database memory_db.
+-- Table Fares created.
+-- Table Seats created.
+-- 1 new record inserted.
+-- 3 new records inserted.
+-- 3 new records inserted.
+-- seat int|price float|name varchar(10)
+-- 5|1.5|A
+-- 12|2.0|B
+-- 19|2.5|C
+-- 20|3.0|D
+-- name varchar(10)|price float
+-- C|2.5
+-- D|3.0
+-- name varchar(10)|class varchar(8)
+-- C|coach
+-- D|coach
+-- class varchar(8)
+-- first
+-- coach
+-- Filter seat = 12  (estimated rows=1)
+--   ->  Seq Scan on fares  (estimated rows=4)
+-- Planning time: 0.622 ms
+-- 0 new record inserted.
+-- 0 new record inserted.
+-- !Failed to insert into Fares because USER EXCEPTION - BulkLoader: row 2 has "y" for float column price.
+-- 0 records modified.
+-- seat int|price float|name varchar(10)
+-- 5|1.5|A
+-- 12|2.0|B
+-- 19|2.5|C
+-- 20|3.0|D
+-- 3 records copied.
+-- !Failed to copy testing/copy_bad.csv into Fares because USER EXCEPTION - BulkLoader: row 2 has "cheap" for float column price.
+-- seat int|price float|name varchar(10)
+-- 22|1.5|Aisle, 1
+-- 23|2.0|Sam "J"
+-- 24|3.25|Window
+-- 1 record modified.
+-- 1 record deleted.
+-- 1 record deleted.
+-- 1 record deleted.
+-- Table Fares modified.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- seat int	price float	name varchar(10)	gate int	
+-- 5	1.5	A		
+-- 19	2.5	C		
+-- 23	2.0	Sam "J"		
+-- 24	3.25	Window		
+-- 30	4.0	G	7	
+-- 30	4.0	G	7	
+-- seat int|price float|name varchar(10)|gate int
+-- 5|1.5|A|
+-- 19|2.5|C|
+-- 23|2.0|Sam "J"|
+-- 24|3.25|Window|
+-- 30|4.0|G|7
+-- 30|4.0|G|7
+-- Transaction starts.
+-- !Failed to execute statement because USER EXCEPTION - execute: memory table Fares cannot be written within a transaction.
+-- !Failed to execute statement because USER EXCEPTION - execute: memory table Fares cannot be written within a transaction.
+-- seat int
+-- 30
+-- 30
+-- Transaction rolled back.
+-- seat int|gate int
+-- 30|7
+-- 30|7
+-- Checkpoint wrote 1 memory table.
+-- Checkpoint wrote 0 memory tables.
+-- !Failed to create table Fares because USER EXCEPTION - createMemoryTable: table Fares already exists.
+-- !Failed to create table Seats because USER EXCEPTION - createMemoryTable: table Seats already exists.
+-- !Failed to create database Fares because it already exists.
+-- !Failed to create table Bad because engine heap is not known.
+-- !Failed to create table Bad because a memory table cannot be partitioned.
+-- !Failed to create table Bad because USER EXCEPTION - Image: type text of column seat is not supported by memory tables.
+-- Table Fares deleted.
+-- !Failed to query table Fares because it does not exist
+-- Table Seats deleted.
+-- All Done.
@@ -0,0 +1,54 @@
+--Output format test
+
+--Construct the database and table
+CREATE DATABASE output_db;
+USE output_db;
+create table Flights(seat int, price float, name varchar(20));
+insert into Flights values(22, 1.5, 'Aisle, front');
+insert into Flights values(23, 2, 'Window');
+
+--Rows are printed with pipes by default
+select * from Flights;
+
+--Other formats are chosen for the session
+SET output = csv;
+select * from Flights;
+SET output = tsv;
+select seat, name from Flights;
+SET output = jsonl;
+select * from Flights;
+SET output = xml;
+SET output = pipe;
+select * from Flights where seat = 23;
+
+--Clean up
+drop table Flights;
+.exit
+
+-- Expected output
+--
+-- Database output_db created.
+-- Using database output_db.
+-- Table Flights created.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- seat int|price float|name varchar(20)
+-- 22|1.5|Aisle, front
+-- 23|2.0|Window
+-- Setting output = csv.
+-- seat,price,name
+-- 22,1.5,"Aisle, front"
+-- 23,2.0,Window
+-- Setting output = tsv.
+-- seat	name
+-- 22	Aisle, front
+-- 23	Window
+-- Setting output = jsonl.
+-- {"seat":22,"price":1.5,"name":"Aisle, front"}
+-- {"seat":23,"price":2.0,"name":"Window"}
+-- !Failed to set output because xml is not a valid value.
+-- Setting output = pipe.
+-- seat int|price float|name varchar(20)
+-- 23|2.0|Window
+-- Table Flights deleted.
+-- All Done.
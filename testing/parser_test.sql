@@ -0,0 +1,32 @@
+-- Parser test script
+
+CREATE DATABASE parser_db;
+USE parser_db;
+create table People (id int, name varchar(30), city VARCHAR(20));
+
+-- Quoted literals keep their spaces and commas, and '' stands for one quote
+insert into People values (1, 'Smith, John', 'New York');
+insert into People values (2, 'O''Brien', 'Reno');
+select * from People;
+
+-- Statements that do not follow the grammar are rejected
+select * from People where;
+update People set city = 'Reno' where id < 5;
+delete from People where id <> 1;
+
+.exit
+
+-- Expected output
+--
+-- Database parser_db created.
+-- Using database parser_db.
+-- Table People created.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- id int|name varchar(30)|city varchar(20)
+-- 1|Smith, John|New York
+-- 2|O'Brien|Reno
+-- !Failed to parse statement because USER EXCEPTION - parse: expected value but found ";" at position 26.
+-- !Failed to parse statement because USER EXCEPTION - parse: expected = but found "<" at position 41.
+-- !Failed to parse statement because USER EXCEPTION - parse: expected = or > but found "<>" at position 28.
+-- All Done.
@@ -0,0 +1,167 @@
+--Partitioning test, rows are spread over partitions and scans skip the partitions that cannot match
+
+--Construct the database and the partitioned tables
+CREATE DATABASE partition_db;
+USE partition_db;
+create table Flights(seat int, price float, name varchar(10)) partition by range(seat) partitions 3 values (10, 20);
+create table Guests(name varchar(10), seat int) partition by hash(name) partitions 4;
+insert into Flights values(5, 1.5, 'A'), (12, 2.0, 'B'), (19, 2.5, 'C'), (20, 3.0, 'D'), (31, 3.5, 'E');
+insert into Flights values(9, 4.0, 'F');
+insert into Guests values('Ann', 5), ('Bob', 12), ('Cat', 20), ('Dan', 31);
+
+--Every row is read back through its partition
+select * from Flights;
+select * from Flights where seat >= 12;
+select * from Flights where seat < 10;
+select * from Guests where name = 'Cat';
+
+--The plan shows the partitions left after pruning
+EXPLAIN select * from Flights where seat = 19;
+EXPLAIN select * from Flights where seat > 19;
+EXPLAIN select * from Flights where seat <= 10;
+EXPLAIN select * from Flights where price > 2;
+EXPLAIN select * from Guests where name = 'Cat';
+EXPLAIN select * from Flights F inner join Guests G on F.seat = G.seat where G.name = 'Dan';
+
+--Updates of the partition column move rows between partitions
+update Flights set seat = 25 where seat = 12;
+update Flights set price = 9.5 where seat = 25;
+select * from Flights where seat > 20;
+
+--A partitioned table is exported and loaded like any other table, the export being written into partition_db so the
+--clean up drops it
+EXPORT TABLE Flights TO STDOUT;
+EXPORT TABLE Flights TO 'databases/partition_db/exported.txt' FORMAT csv;
+create table Loaded(seat int, price float, name varchar(10)) partition by hash(seat) partitions 2;
+COPY Loaded FROM 'databases/partition_db/exported.txt' FORMAT csv HEADER;
+select * from Loaded where seat = 25;
+EXPLAIN select * from Loaded where seat = 25;
+
+--Deletes only rewrite the partitions that may hold a matching row
+delete from Flights where seat > 19;
+delete from Guests where name = 'Ann';
+select * from Flights;
+select * from Guests;
+
+--Within a transaction the changes of every partition commit or roll back together
+BEGIN TRANSACTION;
+insert into Flights values(15, 1.0, 'G'), (40, 1.0, 'H');
+update Flights set seat = 1 where seat = 15;
+select * from Flights;
+ROLLBACK;
+select * from Flights;
+
+--Partitionings that are not valid fail and leave no table behind
+create table Bad(seat int, name varchar(10)) partition by range(seat) partitions 3 values (20, 10);
+create table Bad(seat int, name varchar(10)) partition by range(name) partitions 2 values ('m');
+create table Bad(seat int, name varchar(10)) partition by hash(missing) partitions 2;
+create table Bad(seat int, name varchar(10)) partition by hash(seat) partitions 0;
+select * from Bad;
+
+--Clean up
+drop table Flights;
+drop table Guests;
+drop table Loaded;
+drop table Exported;
+.exit
+
+-- Expected output
+--
+-- Database partition_db created.
+-- Using database partition_db.
+-- Table Flights created.
+-- Table Guests created.
+-- 5 new records inserted.
+-- 1 new record inserted.
+-- 4 new records inserted.
+-- seat int|price float|name varchar(10)
+-- 5|1.5|A
+-- 9|4.0|F
+-- 12|2.0|B
+-- 19|2.5|C
+-- 20|3.0|D
+-- 31|3.5|E
+-- seat int|price float|name varchar(10)
+-- 12|2.0|B
+-- 19|2.5|C
+-- 20|3.0|D
+-- 31|3.5|E
+-- seat int|price float|name varchar(10)
+-- 5|1.5|A
+-- 9|4.0|F
+-- name varchar(10)|seat int
+-- Cat|20
+-- Filter seat = 19  (estimated rows=1)
+--   ->  Seq Scan on flights (range on seat, 1 of 3 partitions: p1)  (estimated rows=1)
+-- Planning time: 0.701 ms
+-- Filter seat > 19  (estimated rows=1)
+--   ->  Seq Scan on flights (range on seat, 2 of 3 partitions: p1, p2)  (estimated rows=2)
+-- Planning time: 0.725 ms
+-- Filter seat <= 10  (estimated rows=1)
+--   ->  Seq Scan on flights (range on seat, 2 of 3 partitions: p0, p1)  (estimated rows=1)
+-- Planning time: 0.498 ms
+-- Filter price > 2  (estimated rows=1)
+--   ->  Seq Scan on flights (range on seat, 3 of 3 partitions: p0, p1, p2)  (estimated rows=2)
+-- Planning time: 0.500 ms
+-- Filter name = Cat  (estimated rows=0)
+--   ->  Seq Scan on guests (hash on name, 1 of 4 partitions: p3)  (estimated rows=0)
+-- Planning time: 0.666 ms
+-- Filter G.name = Dan  (estimated rows=1)
+--   ->  Hash Join (inner) on F.seat = G.seat  (estimated rows=2)
+--         ->  Seq Scan on flights F (range on seat, 3 of 3 partitions: p0, p1, p2)  (estimated rows=2)
+--         ->  Seq Scan on guests G (hash on name, 1 of 4 partitions: p1)  (estimated rows=0)
+-- Planning time: 10.064 ms
+-- 1 record modified.
+-- 1 record modified.
+-- seat int|price float|name varchar(10)
+-- 31|3.5|E
+-- 25|9.5|B
+-- seat int	price float	name varchar(10)	
+-- 5	1.5	A	
+-- 9	4.0	F	
+-- 19	2.5	C	
+-- 20	3.0	D	
+-- 31	3.5	E	
+-- 25	9.5	B	
+-- Table Flights exported to databases/partition_db/exported.txt (68 bytes).
+-- Table Loaded created.
+-- 6 records copied.
+-- seat int|price float|name varchar(10)
+-- 25|9.5|B
+-- Filter seat = 25  (estimated rows=1)
+--   ->  Seq Scan on loaded (hash on seat, 1 of 2 partitions: p1)  (estimated rows=1)
+-- Planning time: 0.404 ms
+-- 3 records deleted.
+-- 1 record deleted.
+-- seat int|price float|name varchar(10)
+-- 5|1.5|A
+-- 9|4.0|F
+-- 19|2.5|C
+-- name varchar(10)|seat int
+-- Dan|31
+-- Bob|12
+-- Cat|20
+-- Transaction starts.
+-- 2 new records inserted.
+-- 1 record modified.
+-- seat int|price float|name varchar(10)
+-- 5|1.5|A
+-- 9|4.0|F
+-- 1|1.0|G
+-- 19|2.5|C
+-- 40|1.0|H
+-- Transaction rolled back.
+-- seat int|price float|name varchar(10)
+-- 5|1.5|A
+-- 9|4.0|F
+-- 19|2.5|C
+-- !Failed to create table Bad because USER EXCEPTION - partitionTable: bounds are not in ascending order.
+-- !Failed to create table Bad because USER EXCEPTION - partitionTable: RANGE column name is not int or float.
+-- !Failed to create table Bad because USER EXCEPTION - partitionTable: column missing does not exist.
+-- !Failed to create table Bad because USER EXCEPTION - partitionTable: the number of partitions must be between 1 and 1024.
+-- !Failed to query table Bad because it does not exist
+-- Table Flights deleted.
+-- Table Guests deleted.
+-- Table Loaded deleted.
+-- Table Exported deleted.
+-- All Done.
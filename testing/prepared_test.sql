@@ -0,0 +1,54 @@
+-- Prepared statements test script
+
+CREATE DATABASE prepared_db;
+USE prepared_db;
+create table Flights (seat int, status int);
+
+-- Placeholders are bound by EXECUTE in the order they appear
+PREPARE add_seat AS insert into Flights values (?, ?);
+EXECUTE add_seat(22, 0);
+EXECUTE add_seat(23, 1);
+EXECUTE add_seat(24);
+
+prepare book as update flights set status = ? where seat = ?;
+execute book(1, 22);
+
+-- The second select is answered from the statement cache
+select * from Flights;
+select * from Flights;
+
+DEALLOCATE book;
+EXECUTE book(1, 22);
+
+-- A prepared statement cannot prepare, execute or deallocate statements
+PREPARE again AS EXECUTE again;
+EXECUTE again;
+
+-- Placeholders outside of a prepared statement are never bound
+update Flights set status = ? where seat = 22;
+
+.exit
+
+-- Expected output
+--
+-- Database prepared_db created.
+-- Using database prepared_db.
+-- Table Flights created.
+-- Statement add_seat prepared.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- !Failed to execute add_seat because it expects 2 parameters.
+-- Statement book prepared.
+-- 1 record modified.
+-- seat int|status int
+-- 22|1
+-- 23|1
+-- seat int|status int
+-- 22|1
+-- 23|1
+-- Statement book deallocated.
+-- !Failed to execute book because it is not prepared.
+-- !Failed to parse statement because USER EXCEPTION - parse: expected statement other than PREPARE, EXECUTE or DEALLOCATE but found "EXECUTE" at position 17.
+-- !Failed to execute again because it is not prepared.
+-- !Failed to execute statement because USER EXCEPTION - execute: parameter $1 is not bound.
+-- All Done.
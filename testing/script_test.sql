@@ -0,0 +1,34 @@
+--Script runner test, run with "--script testing/script_test.sql"
+
+--Construct the database and table
+CREATE DATABASE script_db; USE script_db;
+create table Notes(id int, body varchar(40)); -- comments may follow a statement
+insert into Notes values(1, 'semicolons; stay in strings');
+insert into Notes values(2, 'so do -- dashes');
+insert into Notes
+  values(3,
+         'across lines');
+
+--Statements that do not follow the grammar are reported and the script goes on
+select * from Notes where;
+select * from Notes;
+
+--Clean up
+drop table Notes;
+.exit
+
+-- Expected output
+--
+-- Database script_db created.
+-- Using database script_db.
+-- Table Notes created.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- !Failed to parse statement because USER EXCEPTION - parse: expected value but found ";" at position 25.
+-- id int|body varchar(40)
+-- 1|semicolons; stay in strings
+-- 2|so do -- dashes
+-- 3|across lines
+-- Table Notes deleted.
+-- All Done.
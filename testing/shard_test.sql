@@ -0,0 +1,135 @@
+--Sharding test, run with "--coordinator 3 testing/shard_test.sql", rows are spread over three engine processes
+
+--Construct the database and the sharded tables, each sharded by its first column
+CREATE DATABASE shard_db;
+USE shard_db;
+create table Flights(seat int, price float, name varchar(10));
+create table Guests(seat int, name varchar(10));
+insert into Flights values(5, 1.5, 'A'), (12, 2.0, 'B'), (19, 2.5, 'C'), (20, 3.0, 'D'), (31, 3.5, 'E');
+insert into Flights values(9, 4.0, 'F');
+insert into Guests values(5, 'Ann'), (12, 'Bob'), (20, 'Cat'), (44, 'Dan');
+
+--Point queries go to the shard of their key, every other query to every shard
+select * from Flights where seat = 19;
+select * from Flights where price > 2;
+select distinct price from Flights where price < 3;
+select name from Flights union select name from Flights where seat > 12;
+EXPLAIN select * from Flights where seat = 19;
+EXPLAIN select * from Flights;
+
+--Joins on the shard keys are run by every shard, other queries are gathered to the coordinator
+select F.name, G.name from Flights F inner join Guests G on F.seat = G.seat;
+select F.name, G.name from Flights F left outer join Guests G on F.seat = G.seat;
+select F.price, G.name from Flights F, Guests G where F.seat = G.seat;
+select seat from Flights union all select seat from Guests;
+select F.name, G.name from Flights F inner join Guests G on F.name = G.name;
+select name from Guests where seat in (select seat from Flights where price > 2);
+EXPLAIN select name from Guests where seat in (select seat from Flights where price > 2);
+
+--Point changes go to one shard and the counts of the others are summed
+update Flights set price = 9.5 where seat = 12;
+update Flights set name = 'Z' where price = 3.5;
+update Flights set seat = 1 where seat = 5;
+delete from Guests where seat > 10;
+INSERT INTO Guests SELECT seat, name FROM Flights WHERE price > 3;
+select * from Guests;
+
+--Loading and exporting spread and gather the rows
+create table Loaded(seat int, price float, name varchar(10));
+COPY Loaded FROM 'testing/copy_flights.tsv' FORMAT tsv;
+SET output = csv;
+EXPORT TABLE Loaded TO STDOUT FORMAT csv;
+select * from Loaded where seat = 2;
+select * from Missing;
+.exit
+
+-- Expected output
+--
+-- Database shard_db created.
+-- Using database shard_db.
+-- Table Flights created.
+-- Table Guests created.
+-- 5 new records inserted.
+-- 1 new record inserted.
+-- 4 new records inserted.
+-- seat int|price float|name varchar(10)
+-- 19|2.5|C
+-- seat int|price float|name varchar(10)
+-- 9|4.0|F
+-- 20|3.0|D
+-- 19|2.5|C
+-- 31|3.5|E
+-- price float
+-- 2.0
+-- 1.5
+-- 2.5
+-- name varchar(10)
+-- B
+-- F
+-- A
+-- D
+-- C
+-- E
+-- Scatter Gather (1 of 3 shards: s2)
+--   ->  Filter seat = 19  (estimated rows=1)
+--         ->  Seq Scan on flights  (estimated rows=1)
+-- Planning time: 1.430 ms
+-- Scatter Gather (3 of 3 shards: s0, s1, s2)
+--   ->  Seq Scan on flights  (estimated rows=0)
+-- Planning time: 3.198 ms
+-- name varchar(10)|name varchar(10)
+-- B|Bob
+-- A|Ann
+-- D|Cat
+-- name varchar(10)|name varchar(10)
+-- B|Bob
+-- F|
+-- A|Ann
+-- D|Cat
+-- C|
+-- E|
+-- price float|name varchar(10)
+-- 2.0|Bob
+-- 1.5|Ann
+-- 3.0|Cat
+-- seat int
+-- 12
+-- 9
+-- 12
+-- 5
+-- 20
+-- 5
+-- 20
+-- 44
+-- 19
+-- 31
+-- name varchar(10)|name varchar(10)
+-- name varchar(10)
+-- Cat
+-- Gather on Coordinator (guests, flights from 3 shards)
+--   ->  Project name  (estimated rows=1)
+--         ->  Hash Semi Join on seat IN (subquery)  (estimated rows=1)
+--               ->  Seq Scan on guests  (estimated rows=2)
+--               ->  Project seat  (estimated rows=1)
+--                     ->  Filter price > 2  (estimated rows=1)
+--                           ->  Seq Scan on flights  (estimated rows=2)
+-- Planning time: 1.128 ms
+-- 1 record modified.
+-- 1 record modified.
+-- !Failed to execute statement because USER EXCEPTION - executeModify: the shard key seat cannot be updated.
+-- 3 records deleted.
+-- 3 new records inserted.
+-- seat int|name varchar(10)
+-- 12|B
+-- 9|F
+-- 5|Ann
+-- 31|Z
+-- Table Loaded created.
+-- 2 records copied.
+-- Setting output = csv.
+-- seat,price,name
+-- 30,9.5,Back\row
+-- 31,10.0,Exit
+-- seat,price,name
+-- !Failed to query table missing because it does not exist
+-- All Done.
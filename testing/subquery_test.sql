@@ -0,0 +1,85 @@
+--Subquery test
+
+--Construct the database and tables
+CREATE DATABASE subquery_db;
+USE subquery_db;
+create table Employee(id int, name varchar(10));
+create table Sales(employeeID int, productID int);
+insert into Employee values(1,'Joe');
+insert into Employee values(2,'Jack');
+insert into Employee values(3,'Gill');
+insert into Sales values(1,344);
+insert into Sales values(1,355);
+insert into Sales values(2,544);
+
+--Employees with sales are listed once even though Joe has two sales
+select * from Employee where id in (select employeeID from Sales);
+select name from Employee E where exists (select * from Sales S where S.employeeID = E.id);
+
+--Employees without sales
+select * from Employee where id not in (select employeeID from Sales);
+select * from Employee E where not exists (select * from Sales S where S.employeeID = E.id);
+
+--An uncorrelated EXISTS keeps every row while the subquery has a row
+select name from Employee where exists (select * from Sales where productID > 500);
+select name from Employee where exists (select * from Sales where productID > 600);
+
+--The subqueries are run as hash semi and anti joins
+explain select * from Employee E where exists (select * from Sales S where S.employeeID = E.id);
+explain select * from Employee where id not in (select employeeID from Sales);
+select * from Employee where id in (select * from Sales);
+select * from Employee where id in (select id from Missing);
+
+--Numbers match by value in subqueries and joins, as they do in a WHERE comparison
+create table Bonus(employeeID float, amount int);
+insert into Bonus values(2.0, 10);
+select * from Employee where id in (select employeeID from Bonus);
+select * from Employee E inner join Bonus B on E.id = B.employeeID;
+
+.exit
+
+-- Expected output (planning times vary between runs)
+--
+-- Database subquery_db created.
+-- Using database subquery_db.
+-- Table Employee created.
+-- Table Sales created.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- id int|name varchar(10)
+-- 1|Joe
+-- 2|Jack
+-- name varchar(10)
+-- Joe
+-- Jack
+-- id int|name varchar(10)
+-- 3|Gill
+-- id int|name varchar(10)
+-- 3|Gill
+-- name varchar(10)
+-- Joe
+-- Jack
+-- Gill
+-- name varchar(10)
+-- Hash Semi Join on E.id = S.employeeID  (estimated rows=1)
+--   ->  Seq Scan on employee E  (estimated rows=1)
+--   ->  Seq Scan on sales S  (estimated rows=1)
+-- Planning time: 0.733 ms
+-- Hash Anti Join on id NOT IN (subquery)  (estimated rows=1)
+--   ->  Seq Scan on employee  (estimated rows=1)
+--   ->  Project employeeID  (estimated rows=1)
+--         ->  Seq Scan on sales  (estimated rows=1)
+-- Planning time: 0.650 ms
+-- !Failed to query because USER EXCEPTION - semiJoin: subquery of IN must select one column.
+-- !Failed to query table Missing because it does not exist
+-- Table Bonus created.
+-- 1 new record inserted.
+-- id int|name varchar(10)
+-- 2|Jack
+-- id int|name varchar(10)|employeeID float|amount int
+-- 2|Jack|2.0|10
+-- All Done.
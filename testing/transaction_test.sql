@@ -0,0 +1,103 @@
+--Transaction test
+
+--Construct the database and table
+CREATE DATABASE transaction_db;
+USE transaction_db;
+create table Flights(seat int, status int);
+insert into Flights values(21,0);
+insert into Flights values(22,0);
+insert into Flights values(23,1);
+
+--Inserts and deletes of a transaction are only seen by the transaction until it commits
+begin transaction;
+insert into Flights values(24,0);
+delete from Flights where seat = 21;
+update Flights set status = 1 where seat = 24;
+select * from Flights;
+commit;
+select * from Flights;
+
+--A rolled back transaction leaves the table unchanged
+begin transaction;
+delete from Flights where seat > 22;
+insert into Flights values(25,1);
+select * from Flights;
+rollback;
+select * from Flights;
+rollback;
+
+--Inserted rows past the spill threshold are spilled to disk and read back
+SET spill_threshold = 2;
+begin transaction;
+insert into Flights values(30,0);
+insert into Flights values(31,0);
+insert into Flights values(32,0);
+insert into Flights values(33,0);
+delete from Flights where seat = 31;
+update Flights set status = 1 where seat = 30;
+select * from Flights;
+commit;
+select * from Flights;
+
+--Clean up
+drop table Flights;
+.exit
+
+-- Expected output
+--
+-- Database transaction_db created.
+-- Using database transaction_db.
+-- Table Flights created.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- Transaction starts.
+-- 1 new record inserted.
+-- 1 record deleted.
+-- 1 record modified.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- 24|1
+-- Transaction committed.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- 24|1
+-- Transaction starts.
+-- 2 records deleted.
+-- 1 new record inserted.
+-- seat int|status int
+-- 22|0
+-- 25|1
+-- Transaction rolled back.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- 24|1
+-- !Failed to roll back because no transaction is running.
+-- Setting spill_threshold = 2.
+-- Transaction starts.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 new record inserted.
+-- 1 record deleted.
+-- 1 record modified.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- 24|1
+-- 30|1
+-- 32|0
+-- 33|0
+-- Transaction committed.
+-- seat int|status int
+-- 22|0
+-- 23|1
+-- 24|1
+-- 30|1
+-- 32|0
+-- 33|0
+-- Table Flights deleted.
+-- All Done.